@@ -0,0 +1,12 @@
+package com.mycard.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 배치 작업 활성화 (회원 탈퇴 확정, 포인트 원장 파티션/아카이브 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -6,6 +6,7 @@ import com.mycard.api.security.JwtAuthenticationFilter;
 import com.mycard.api.security.JwtTokenProvider;
 import com.mycard.api.security.SecondAuthEnforcementFilter;
 import com.mycard.api.repository.RefreshTokenRepository;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -81,6 +82,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // CORS preflight (OPTIONS) - 인증 없이 허용하여 PATCH/POST 등이 차단되지 않도록
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // SSE 등 비동기 응답의 재디스패치 - 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         // Public endpoints
                         .requestMatchers(
                                 "/auth/login",
@@ -8,6 +8,7 @@ import com.mycard.api.entity.Attachment;
 import com.mycard.api.repository.*;
 import com.mycard.api.repository.EventParticipationRepository;
 import com.mycard.api.security.UserPrincipal;
+import com.mycard.api.exception.BadRequestException;
 import com.mycard.api.exception.ResourceNotFoundException;
 import com.mycard.api.service.*;
 import com.mycard.api.util.MaskingUtils;
@@ -21,14 +22,21 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -57,19 +65,30 @@ public class AdminController {
     private final MerchantService merchantService;
     private final PointPolicyService pointPolicyService;
     private final CardApplicationService cardApplicationService;
+    private final CardApplicationBulkDecisionService cardApplicationBulkDecisionService;
     private final UserRepository userRepository;
     private final InquiryRepository inquiryRepository;
     private final DocumentRepository documentRepository;
     private final AttachmentRepository attachmentRepository;
     private final MessageRepository messageRepository;
     private final EventRepository eventRepository;
-    private final AuditLogRepository auditLogRepository;
     private final LoanService loanService;
     private final InquiryService inquiryService;
     private final CardRepository cardRepository;
     private final EventService eventService;
     private final EventParticipationRepository participationRepository;
     private final PointService pointService;
+    private final PointBalanceSnapshotService pointBalanceSnapshotService;
+    private final CouponService couponService;
+    private final BroadcastMessageService broadcastMessageService;
+    private final MessageService messageService;
+    private final CouponCatalogCache couponCatalogCache;
+    private final AdminMetricsService adminMetricsService;
+    private final UserDirectoryService userDirectoryService;
+    private final AuditLogSearchService auditLogSearchService;
+    private final AuditLogArchiveService auditLogArchiveService;
+    private final UploadLayoutMigrationService uploadLayoutMigrationService;
+    private final UploadOrphanReconciler uploadOrphanReconciler;
     private final PasswordEncoder passwordEncoder;
 
     private void verifyAdminSecondaryPassword(UserPrincipal adminUser, String rawPassword) {
@@ -92,66 +111,32 @@ public class AdminController {
     @Operation(summary = "대시보드 통계", description = "관리자 대시보드용 통계를 조회합니다.")
     @GetMapping("/dashboard")
     public ResponseEntity<Map<String, Object>> getDashboard() {
-        // 오늘 문의 수
-        long todayInquiries = inquiryRepository.count();
+        // 운영 지표는 AdminMetricsService가 메모리에 유지하는 값
+        Map<AdminMetricsService.Metric, Long> metrics = adminMetricsService.snapshot();
 
-        // 대기중인 문서 수
-        long pendingDocuments = 0;
-        try {
-            Page<Document> pendingDocs = documentRepository.findPendingDocuments(PageRequest.of(0, 1));
-            pendingDocuments = pendingDocs.getTotalElements();
-        } catch (Exception e) {
-            // ignore
-        }
+        // 오늘 문의 수 (created_at 범위 조회)
+        long todayInquiries = inquiryRepository.countByCreatedAtGreaterThanEqual(LocalDate.now().atStartOfDay());
 
-        // 전체 메시지 수
-        long unreadMessages = messageRepository.count();
-
-        // 잠긴 사용자 수
-        long lockedUsers = 0;
-        try {
-            lockedUsers = userRepository.findAll().stream()
-                    .filter(u -> Boolean.TRUE.equals(u.getLocked()))
-                    .count();
-        } catch (Exception e) {
-            // ignore
-        }
-
-        // 최근 문의 목록 - 단순화
         List<Map<String, Object>> recentInquiries = new ArrayList<>();
-        try {
-            Page<Inquiry> recentInquiriesPage = inquiryRepository.findAll(
-                    PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
-
-            for (Inquiry i : recentInquiriesPage.getContent()) {
-                Map<String, Object> map = new HashMap<>();
-                map.put("id", i.getId());
-                map.put("title", i.getTitle() != null ? i.getTitle() : "");
-                map.put("status", i.getStatus() != null ? i.getStatus().name() : "OPEN");
-                // assignee 접근 시 안전하게 처리
-                String assignee = "";
-                try {
-                    if (i.getAssignedOperator() != null) {
-                        assignee = i.getAssignedOperator().getFullName();
-                    }
-                } catch (Exception e) {
-                    // LazyInitializationException 방지
-                }
-                map.put("assignee", assignee);
-                map.put("createdAt",
-                        i.getCreatedAt() != null ? i.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
-                                : "");
-                recentInquiries.add(map);
-            }
-        } catch (Exception e) {
-            // ignore
+        for (Inquiry i : inquiryRepository.findRecentWithOperator(PageRequest.of(0, 10))) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("id", i.getId());
+            map.put("title", i.getTitle() != null ? i.getTitle() : "");
+            map.put("status", i.getStatus() != null ? i.getStatus().name() : "OPEN");
+            map.put("assignee", i.getAssignedOperator() != null ? i.getAssignedOperator().getFullName() : "");
+            map.put("createdAt",
+                    i.getCreatedAt() != null ? i.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))
+                            : "");
+            recentInquiries.add(map);
         }
 
         Map<String, Object> response = new HashMap<>();
         response.put("todayInquiries", todayInquiries);
-        response.put("pendingDocuments", pendingDocuments);
-        response.put("unreadMessages", unreadMessages);
-        response.put("lockedUsers", lockedUsers);
+        response.put("openInquiries", metrics.get(AdminMetricsService.Metric.OPEN_INQUIRIES));
+        response.put("pendingDocuments", metrics.get(AdminMetricsService.Metric.PENDING_DOCUMENTS));
+        response.put("pendingCardApplications", metrics.get(AdminMetricsService.Metric.PENDING_CARD_APPLICATIONS));
+        response.put("unreadMessages", metrics.get(AdminMetricsService.Metric.UNREAD_MESSAGES));
+        response.put("lockedUsers", metrics.get(AdminMetricsService.Metric.LOCKED_USERS));
         response.put("recentInquiries", recentInquiries);
 
         return ResponseEntity.ok(response);
@@ -160,28 +145,52 @@ public class AdminController {
     // ===================== 사용자 관리 =====================
 
     /**
-     * 사용자 목록 조회
+     * 사용자 목록 조회 (키셋 페이징)
      */
-    @Operation(summary = "사용자 목록 조회", description = "전체 사용자 목록을 조회합니다.")
+    @Operation(summary = "사용자 목록 조회",
+            description = "상태/잠금/마지막 로그인 기간/역할로 필터링한 사용자 목록을 회원 ID 내림차순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @PreAuthorize("hasAnyRole('MASTER_ADMIN', 'REVIEW_ADMIN', 'OPERATOR')")
     @GetMapping("/users")
-    public ResponseEntity<List<Map<String, Object>>> getUsers() {
-        List<User> users = userRepository.findAll();
-        List<Map<String, Object>> result = users.stream()
-                .map(u -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("id", u.getId());
-                    map.put("name", MaskingUtils.maskName(u.getFullName() != null ? u.getFullName() : u.getEmail()));
-                    map.put("email", MaskingUtils.maskEmail(u.getEmail()));
-                    map.put("status", u.isWithdrawalPending() ? "WITHDRAWAL_PENDING"
-                            : u.isWithdrawn() ? "WITHDRAWN"
-                            : (Boolean.TRUE.equals(u.getLocked()) ? "LOCKED"
-                            : (Boolean.TRUE.equals(u.getEnabled()) ? "ACTIVE" : "INACTIVE")));
-                    map.put("lastLoginAt", u.getLastLoginAt() != null ? u.getLastLoginAt().toString() : null);
-                    return map;
-                })
-                .toList();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<Map<String, Object>> getUsers(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean locked,
+            @RequestParam(required = false) LocalDate lastLoginFrom,
+            @RequestParam(required = false) LocalDate lastLoginTo,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        UserDirectoryService.Filter filter =
+                new UserDirectoryService.Filter(status, locked, lastLoginFrom, lastLoginTo, role, keyword);
+        return ResponseEntity.ok(userDirectoryService.getPage(filter, cursor, size));
+    }
+
+    /**
+     * 사용자 목록 내보내기 (마스킹, 스트리밍)
+     */
+    @Operation(summary = "사용자 목록 내보내기", description = "필터에 맞는 전체 사용자를 마스킹하여 NDJSON 또는 CSV로 내려받습니다.")
+    @PreAuthorize("hasRole('MASTER_ADMIN')")
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean locked,
+            @RequestParam(required = false) LocalDate lastLoginFrom,
+            @RequestParam(required = false) LocalDate lastLoginTo,
+            @RequestParam(required = false) String role) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            throw new com.mycard.api.exception.BadRequestException("format은 ndjson 또는 csv만 지원합니다.");
+        }
+        UserDirectoryService.Filter filter =
+                new UserDirectoryService.Filter(status, locked, lastLoginFrom, lastLoginTo, role, null);
+        String fileName = "users-" + LocalDate.now() + (csv ? ".csv" : ".ndjson");
+        StreamingResponseBody body = out -> userDirectoryService.export(filter, format, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8))
+                .body(body);
     }
 
     /**
@@ -310,6 +319,16 @@ public class AdminController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 포인트 잔액 감사 (최근 스냅샷 + 이후 원장 합계 = 현재 잔액 여부)
+     */
+    @Operation(summary = "사용자 포인트 잔액 감사", description = "최근 잔액 스냅샷과 이후 원장만으로 현재 잔액을 검증합니다.")
+    @PreAuthorize("hasRole('MASTER_ADMIN')")
+    @GetMapping("/users/{userId}/points/audit")
+    public ResponseEntity<com.mycard.api.dto.point.PointBalanceAuditResponse> auditUserPoints(@PathVariable Long userId) {
+        return ResponseEntity.ok(pointBalanceSnapshotService.auditBalance(userId));
+    }
+
     // ===================== 상담원/문의 배정 관리 =====================
 
     /**
@@ -694,6 +713,7 @@ public class AdminController {
         String rejectionReason = request.get("rejectionReason");
         Document document = documentRepository.findById(documentId)
                 .orElseThrow(() -> new RuntimeException("문서를 찾을 수 없습니다."));
+        boolean wasAwaitingReview = document.isAwaitingReview();
 
         if ("APPROVED".equals(status)) {
             document.setStatus(Document.DocumentStatus.APPROVED);
@@ -708,6 +728,7 @@ public class AdminController {
         }
 
         documentRepository.save(document);
+        adminMetricsService.transition(AdminMetricsService.Metric.PENDING_DOCUMENTS, wasAwaitingReview, document.isAwaitingReview());
 
         Map<String, Object> result = new HashMap<>();
         result.put("id", document.getId());
@@ -782,8 +803,8 @@ public class AdminController {
                 });
 
         try {
-            Message message = new Message(sender, recipient, Message.MessageType.SYSTEM, "관리자 메시지", content);
-            messageRepository.save(message);
+            Message message = messageService.send(
+                    new Message(sender, recipient, Message.MessageType.SYSTEM, "관리자 메시지", content));
             log.info("[Admin-Message] 발송 성공 - MessageID: {}", message.getId());
 
             Map<String, Object> result = new HashMap<>();
@@ -800,6 +821,61 @@ public class AdminController {
 
     // ===================== 포인트 정책 관리 =====================
 
+    /**
+     * 세그먼트 브로드캐스트 발송 (수신자별 행을 만들지 않고 한 건만 저장)
+     * segmentType: ALL / ACTIVE_CARD / CARD_PRODUCT(segmentValue=상품명) / USER_LIST(file=회원 ID 목록)
+     */
+    @Operation(summary = "브로드캐스트 메시지 발송", description = "세그먼트 대상 공지 메시지를 발송합니다.")
+    @PreAuthorize("hasAnyRole('OPERATOR', 'MASTER_ADMIN')")
+    @PostMapping(value = "/messages/broadcasts", consumes = {"multipart/form-data", "application/x-www-form-urlencoded"})
+    @Transactional
+    public ResponseEntity<Map<String, Object>> sendBroadcast(
+            @AuthenticationPrincipal UserPrincipal adminUser,
+            @RequestParam BroadcastMessage.SegmentType segmentType,
+            @RequestParam(required = false) String segmentValue,
+            @RequestParam(required = false) String title,
+            @RequestParam String content,
+            @RequestParam(required = false) MultipartFile file) {
+
+        BroadcastMessage broadcast = broadcastMessageService.send(
+                adminUser.getId(), segmentType, segmentValue, title, content, file);
+        return ResponseEntity.ok(toBroadcastMap(broadcast));
+    }
+
+    /**
+     * 브로드캐스트 발송 이력
+     */
+    @Operation(summary = "브로드캐스트 발송 이력", description = "세그먼트 공지 발송 이력을 조회합니다.")
+    @PreAuthorize("hasAnyRole('OPERATOR', 'MASTER_ADMIN')")
+    @GetMapping("/messages/broadcasts")
+    public ResponseEntity<Map<String, Object>> getBroadcasts(
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        Page<BroadcastMessage> page = broadcastMessageService.getBroadcasts(pageable);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", page.getContent().stream().map(this::toBroadcastMap).toList());
+        response.put("totalElements", page.getTotalElements());
+        response.put("totalPages", page.getTotalPages());
+        response.put("number", page.getNumber());
+        response.put("size", page.getSize());
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<String, Object> toBroadcastMap(BroadcastMessage broadcast) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", broadcast.getId());
+        map.put("segmentType", broadcast.getSegmentType().name());
+        map.put("segmentValue", broadcast.getSegmentValue());
+        map.put("title", broadcast.getTitle());
+        map.put("content", broadcast.getContent());
+        map.put("recipientCount", broadcast.getRecipientCount());
+        map.put("sentAt",
+                broadcast.getCreatedAt() != null
+                        ? broadcast.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"))
+                        : LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
+        return map;
+    }
+
     /**
      * 포인트 정책 목록 조회
      */
@@ -818,23 +894,13 @@ public class AdminController {
     @PreAuthorize("hasRole('MASTER_ADMIN')")
     @GetMapping("/policies/points")
     public ResponseEntity<Map<String, Object>> getPointPolicy() {
-        List<PointPolicyResponse> policies = pointPolicyService.getAllPolicies();
+        PointPolicyCache.Snapshot policy = pointPolicyService.getActiveSnapshot();
 
         Map<String, Object> response = new HashMap<>();
-        response.put("feeRate", 2.5);
-        response.put("dailyLimit", 500000);
-
-        if (!policies.isEmpty()) {
-            policies.stream()
-                    .filter(p -> "FEE_RATE".equals(p.getPolicyKey()))
-                    .findFirst()
-                    .ifPresent(p -> response.put("feeRate", p.getPolicyValue()));
-
-            policies.stream()
-                    .filter(p -> "DAILY_LIMIT".equals(p.getPolicyKey()))
-                    .findFirst()
-                    .ifPresent(p -> response.put("dailyLimit", p.getPolicyValue()));
-        }
+        // 화면은 수수료를 % 단위로 다룬다 (DB는 0.0250 형태의 비율)
+        response.put("feeRate", policy.feeRate().multiply(BigDecimal.valueOf(100)).stripTrailingZeros());
+        response.put("dailyLimit", policy.dailyWithdrawalLimitPoints());
+        response.put("version", policy.version());
 
         return ResponseEntity.ok(response);
     }
@@ -845,8 +911,24 @@ public class AdminController {
     @Operation(summary = "포인트 정책 업데이트", description = "포인트 정책을 업데이트합니다.")
     @PreAuthorize("hasRole('MASTER_ADMIN')")
     @PutMapping("/policies/points")
+    @Transactional
     public ResponseEntity<Map<String, Object>> updatePointPolicy(
-            @RequestBody Map<String, Object> request) {
+            @RequestBody Map<String, Object> request,
+            @AuthenticationPrincipal UserPrincipal adminUser) {
+
+        BigDecimal feeRatePercent = toBigDecimal(request.get("feeRate"));
+        BigDecimal dailyLimit = toBigDecimal(request.get("dailyLimit"));
+        if (feeRatePercent != null && (feeRatePercent.signum() < 0 || feeRatePercent.compareTo(BigDecimal.valueOf(100)) > 0)) {
+            throw new com.mycard.api.exception.BadRequestException("수수료는 0~100% 사이로 입력해주세요.");
+        }
+        if (dailyLimit != null && dailyLimit.compareTo(BigDecimal.valueOf(1000)) < 0) {
+            throw new com.mycard.api.exception.BadRequestException("1일 한도는 1000 이상이어야 합니다.");
+        }
+
+        pointPolicyService.updateActivePolicy(
+                feeRatePercent != null ? feeRatePercent.movePointLeft(2) : null,
+                dailyLimit != null ? dailyLimit.longValue() : null,
+                adminUser.getId());
 
         Map<String, Object> response = new HashMap<>();
         response.put("feeRate", request.get("feeRate"));
@@ -855,12 +937,68 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 쿠폰 재고 현황 (남은 재고는 마지막 캐시 갱신 시점의 DB 판매량 기준, nodeLeased는 이 노드가 임대받아 아직 팔지 않은 수량)
+     */
+    @Operation(summary = "쿠폰 재고 현황", description = "쿠폰별 한정 수량과 남은 재고를 조회합니다.")
+    @PreAuthorize("hasAnyRole('OPERATOR', 'MASTER_ADMIN')")
+    @GetMapping("/coupons/stock")
+    public ResponseEntity<List<Map<String, Object>>> getCouponStock() {
+        List<Map<String, Object>> result = couponCatalogCache.all().stream()
+                .sorted(Comparator.comparing(CouponCatalogCache.Item::id))
+                .map(item -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("couponId", item.id());
+                    map.put("pointCost", item.pointCost());
+                    map.put("active", item.active());
+                    map.put("stockLimit", item.stockLimit());
+                    map.put("remaining", item.remaining());
+                    map.put("nodeLeased", item.isLimited() ? item.stock().local().remaining() : null);
+                    map.put("soldOut", item.isLimited() && (item.remaining() == 0 || item.stock().isExhausted()));
+                    return map;
+                })
+                .toList();
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 쿠폰 한정 수량 변경 (stockLimit이 비어 있으면 무제한)
+     */
+    @Operation(summary = "쿠폰 한정 수량 변경", description = "쿠폰의 한정 수량을 설정합니다.")
+    @PreAuthorize("hasRole('MASTER_ADMIN')")
+    @PutMapping("/coupons/{couponId}/stock")
+    @Transactional
+    public ResponseEntity<Map<String, Object>> updateCouponStock(
+            @PathVariable Long couponId,
+            @RequestBody Map<String, Object> request) {
+        BigDecimal stockLimit = toBigDecimal(request.get("stockLimit"));
+        couponService.updateStockLimit(couponId, stockLimit != null ? stockLimit.longValue() : null);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("couponId", couponId);
+        response.put("stockLimit", stockLimit);
+        response.put("message", "쿠폰 한정 수량이 변경되었습니다.");
+        return ResponseEntity.ok(response);
+    }
+
+    private BigDecimal toBigDecimal(Object value) {
+        if (value == null || value.toString().isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new com.mycard.api.exception.BadRequestException("숫자 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
     /**
      * 포인트 정책 값 변경
      */
     @Operation(summary = "포인트 정책 값 변경", description = "포인트 정책의 값을 변경합니다.")
     @PreAuthorize("hasRole('MASTER_ADMIN')")
     @PatchMapping("/point-policies/{policyId}")
+    @Transactional
     public ResponseEntity<PointPolicyResponse> updatePointPolicyValue(
             @PathVariable Long policyId,
             @RequestBody Map<String, BigDecimal> request) {
@@ -876,6 +1014,7 @@ public class AdminController {
     @Operation(summary = "포인트 정책 상태 토글", description = "포인트 정책을 활성화/비활성화합니다.")
     @PreAuthorize("hasRole('MASTER_ADMIN')")
     @PostMapping("/point-policies/{policyId}/toggle")
+    @Transactional
     public ResponseEntity<PointPolicyResponse> togglePointPolicy(@PathVariable Long policyId) {
         PointPolicyResponse policy = pointPolicyService.togglePolicyStatus(policyId);
         return ResponseEntity.ok(policy);
@@ -886,12 +1025,16 @@ public class AdminController {
     /**
      * 감사로그 조회
      */
-    @Operation(summary = "감사로그 조회", description = "감사로그를 조회합니다.")
+    @Operation(summary = "감사로그 조회", description = "감사로그를 조회합니다. 기간 미지정 시 최근 90일을 조회합니다.")
     @PreAuthorize("hasRole('MASTER_ADMIN')")
     @GetMapping("/audit-logs")
     public ResponseEntity<Map<String, Object>> getAuditLogs(
             @RequestParam(required = false) String action,
-            @RequestParam(required = false) String actor,
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) String targetType,
+            @RequestParam(required = false) Long targetId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
@@ -899,14 +1042,11 @@ public class AdminController {
         List<Map<String, Object>> content = new ArrayList<>();
 
         try {
-            Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-            Page<AuditLog> auditLogs;
-
-            if (action != null && !action.isEmpty()) {
-                auditLogs = auditLogRepository.findByAction(action, pageable);
-            } else {
-                auditLogs = auditLogRepository.findAllOrderByCreatedAtDesc(pageable);
-            }
+            Page<AuditLog> auditLogs = auditLogSearchService.search(
+                    new AuditLogSearchService.Criteria(actorId, targetType, targetId, action,
+                            from != null ? from.atStartOfDay() : null,
+                            to != null ? to.plusDays(1).atStartOfDay() : null),
+                    page, size);
 
             for (AuditLog log : auditLogs.getContent()) {
                 Map<String, Object> map = new HashMap<>();
@@ -927,6 +1067,8 @@ public class AdminController {
             response.put("totalPages", auditLogs.getTotalPages());
             response.put("number", auditLogs.getNumber());
             response.put("size", auditLogs.getSize());
+        } catch (BadRequestException e) {
+            throw e;
         } catch (Exception e) {
             // 에러 로깅
             log.error("Audit log query failed", e);
@@ -940,6 +1082,93 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 아카이브 감사로그 조회 (핫 보관 기간이 지나 세그먼트 파일로 옮겨진 기간)
+     */
+    @Operation(summary = "아카이브 감사로그 조회", description = "아카이브 세그먼트에서 조건에 맞는 감사로그를 최신순으로 조회합니다.")
+    @PreAuthorize("hasRole('MASTER_ADMIN')")
+    @GetMapping("/audit-logs/archive")
+    public ResponseEntity<Map<String, Object>> scanArchivedAuditLogs(
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) Long actorId,
+            @RequestParam(required = false) String targetType,
+            @RequestParam(required = false) Long targetId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        AuditLogArchiveService.ScanResult result = auditLogArchiveService.scan(new AuditLogArchiveService.ArchiveQuery(
+                actorId, targetType, targetId, action,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                limit));
+
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (AuditLogArchiveService.ArchivedAuditEntry entry : result.content()) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("id", entry.id());
+            map.put("occurredAt", entry.createdAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")));
+            map.put("actor", entry.actorRole() != null ? entry.actorRole() : "system");
+            map.put("actorId", entry.actorId());
+            map.put("action", entry.action());
+            map.put("target", (entry.targetType() != null ? entry.targetType() : "") +
+                    (entry.targetId() != null ? "=" + entry.targetId() : ""));
+            map.put("diff", entry.diffJson());
+            content.add(map);
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", content);
+        response.put("size", content.size());
+        response.put("scannedSegments", result.scannedSegments());
+        response.put("skippedSegments", result.skippedSegments());
+        response.put("corruptSegments", result.corruptSegments().stream().map(String::valueOf).toList());
+        return ResponseEntity.ok(response);
+    }
+
+    // ===================== 업로드 저장소 관리 =====================
+
+    /**
+     * 평면 업로드 경로의 기존 파일을 해시 디렉터리로 이전 (행 단위 커밋, 재실행 시 이어서 처리)
+     */
+    @Operation(summary = "업로드 경로 이전", description = "이전 방식 첨부와 이벤트 이미지를 2단계 해시 디렉터리로 옮깁니다.")
+    @PreAuthorize("hasRole('MASTER_ADMIN')")
+    @PostMapping("/storage/layout-migration")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<Map<String, Object>> migrateUploadLayout() {
+        UploadLayoutMigrationService.MigrationReport report = uploadLayoutMigrationService.migrate();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("attachmentsMigrated", report.attachmentsMigrated());
+        response.put("attachmentBytes", report.attachmentBytes());
+        response.put("attachmentsMissing", report.attachmentsMissing());
+        response.put("attachmentsSkipped", report.attachmentsSkipped());
+        response.put("eventImagesMigrated", report.eventImagesMigrated());
+        response.put("eventImagesMissing", report.eventImagesMissing());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * DB가 참조하지 않는 업로드/blob 파일 격리 및 보관 기간이 지난 격리 파일 삭제
+     */
+    @Operation(summary = "업로드 고아 파일 정리", description = "참조가 없는 파일을 격리하고 회수한 용량을 보고합니다. dryRun이면 집계만 합니다.")
+    @PreAuthorize("hasRole('MASTER_ADMIN')")
+    @PostMapping("/storage/reconcile")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<Map<String, Object>> reconcileUploads(@RequestParam(defaultValue = "true") boolean dryRun) {
+        UploadOrphanReconciler.ReconcileReport report = uploadOrphanReconciler.reconcile(dryRun);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("dryRun", report.dryRun());
+        response.put("scannedFiles", report.scannedFiles());
+        response.put("orphanFiles", report.orphanFiles());
+        response.put("orphanBytes", report.orphanBytes());
+        response.put("purgedFiles", report.purgedFiles());
+        response.put("reclaimedBytes", report.reclaimedBytes());
+        response.put("elapsedMs", report.elapsedMs());
+        return ResponseEntity.ok(response);
+    }
+
     // ===================== 카드 신청 관리 =====================
 
     /**
@@ -1043,6 +1272,52 @@ public class AdminController {
         return ResponseEntity.ok(Map.of("count", count));
     }
 
+    /**
+     * 카드 신청 일괄 심사 접수 (승인/거절/심사 시작)
+     */
+    @Operation(summary = "카드 신청 일괄 심사", description = "여러 신청을 청크 단위로 병렬 처리하는 작업을 접수하고 작업 ID를 반환합니다.")
+    @PreAuthorize("hasRole('REVIEW_ADMIN')")
+    @PostMapping("/card-applications/bulk-decisions")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<Map<String, Object>> submitBulkDecision(
+            @Valid @RequestBody CardApplicationBulkDecisionRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        CardApplicationBulkDecisionService.JobSnapshot job =
+                cardApplicationBulkDecisionService.submit(currentUser.getId(), request);
+        return ResponseEntity.accepted().body(toBulkJobMap(job));
+    }
+
+    /**
+     * 카드 신청 일괄 심사 진행 상황
+     */
+    @Operation(summary = "카드 신청 일괄 심사 진행 상황", description = "작업 진행률과 (includeResults=true면) 신청별 처리 결과를 조회합니다.")
+    @PreAuthorize("hasRole('REVIEW_ADMIN')")
+    @GetMapping("/card-applications/bulk-decisions/{jobId}")
+    public ResponseEntity<Map<String, Object>> getBulkDecision(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "true") boolean includeResults,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(toBulkJobMap(
+                cardApplicationBulkDecisionService.get(currentUser.getId(), jobId, includeResults)));
+    }
+
+    private Map<String, Object> toBulkJobMap(CardApplicationBulkDecisionService.JobSnapshot job) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("jobId", job.jobId());
+        response.put("decision", job.decision());
+        response.put("status", job.status());
+        response.put("total", job.total());
+        response.put("processed", job.processed());
+        response.put("succeeded", job.succeeded());
+        response.put("failed", job.failed());
+        response.put("createdAt", job.createdAt());
+        response.put("finishedAt", job.finishedAt());
+        if (job.results() != null) {
+            response.put("results", job.results());
+        }
+        return response;
+    }
+
     // ===================== 재발급 신청 관리 =====================
 
     @Operation(summary = "재발급 신청 목록", description = "상태가 재발급 신청(REISSUE_REQUESTED)인 카드 목록을 조회합니다.")
@@ -8,10 +8,14 @@ import com.mycard.api.security.UserPrincipal;
 import com.mycard.api.service.BankAccountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/bank-accounts")
@@ -66,4 +70,19 @@ public class BankAccountController {
             @PathVariable Long accountId) {
         return ResponseEntity.ok(bankAccountService.setDefaultAccount(currentUser, accountId));
     }
+
+    /**
+     * 특정 시점 계좌 잔액 조회 (at 생략 시 현재)
+     */
+    @GetMapping("/{accountId}/balance")
+    public ResponseEntity<Map<String, Object>> getBalanceAt(
+            @CurrentUser UserPrincipal currentUser,
+            @PathVariable Long accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("accountId", accountId);
+        response.put("at", at);
+        response.put("balance", bankAccountService.getBalanceAt(currentUser, accountId, at));
+        return ResponseEntity.ok(response);
+    }
 }
@@ -8,12 +8,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "문의게시판", description = "문의게시판 API")
 @RestController
 @RequestMapping("/board")
@@ -22,13 +23,14 @@ public class BoardController {
 
     private final BoardService boardService;
 
-    @Operation(summary = "게시글 목록 조회")
+    @Operation(summary = "게시글 목록 조회", description = "검색어가 있으면 관련도순, 없으면 최신순으로 조회합니다.")
     @GetMapping
-    public ResponseEntity<List<BoardResponse>> getAllBoards(
+    public ResponseEntity<Page<BoardResponse>> getAllBoards(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String category,
+            @PageableDefault(size = 20) Pageable pageable,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        return ResponseEntity.ok(boardService.findAll(keyword, category, userPrincipal));
+        return ResponseEntity.ok(boardService.findAll(keyword, category, userPrincipal, pageable));
     }
 
     @Operation(summary = "게시글 상세 조회")
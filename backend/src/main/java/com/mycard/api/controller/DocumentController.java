@@ -5,17 +5,16 @@ import com.mycard.api.entity.Attachment;
 import com.mycard.api.entity.Document;
 import com.mycard.api.security.UserPrincipal;
 import com.mycard.api.service.DocumentService;
-import com.mycard.api.service.FileStorageService;
+import com.mycard.api.service.FileDownloadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,8 +24,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 
 @Tag(name = "Documents", description = "문서 API")
 @RestController
@@ -36,7 +34,7 @@ import java.nio.charset.StandardCharsets;
 public class DocumentController {
 
     private final DocumentService documentService;
-    private final FileStorageService fileStorageService;
+    private final FileDownloadService fileDownloadService;
 
     @Operation(summary = "문서 목록 조회")
     @GetMapping
@@ -62,24 +60,17 @@ public class DocumentController {
         return ResponseEntity.ok(document);
     }
 
-    @Operation(summary = "문서 다운로드", description = "Owner/Staff 권한 검증 후 다운로드")
+    @Operation(summary = "문서 다운로드", description = "Owner/Staff 권한 검증 후 다운로드 (Range, 조건부 요청 지원)")
     @GetMapping("/{documentId}/download")
     @PreAuthorize("hasAnyRole('USER','OPERATOR','REVIEW_ADMIN','MASTER_ADMIN')")
-    public ResponseEntity<Resource> downloadDocument(
+    public void downloadDocument(
             @PathVariable Long documentId,
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
 
         log.info("문서 다운로드 요청: id={}, user={}", documentId, currentUser.getUsername());
         Attachment attachment = documentService.getDocumentAttachmentForDownload(documentId, currentUser);
-        Resource resource = fileStorageService.loadFileAsResource(attachment.getId(), currentUser);
-
-        String encodedFilename = URLEncoder.encode(attachment.getOriginalFilename(), StandardCharsets.UTF_8)
-                .replaceAll("\\+", "%20");
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(attachment.getContentType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + encodedFilename + "\"; filename*=UTF-8''" + encodedFilename)
-                .body(resource);
+        fileDownloadService.send(attachment, request, response);
     }
 }
@@ -0,0 +1,53 @@
+package com.mycard.api.controller;
+
+import com.mycard.api.service.EventImageDerivativeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 이벤트 이미지 서빙 (/uploads/events/ab/cd/{파일명}?w=폭)
+ * 해시 디렉터리에 저장된 이미지는 정적 리소스 핸들러보다 먼저 이 컨트롤러가 받아 폭에 맞는 파생본을 내려 준다.
+ * (이전 평면 경로 /uploads/events/{파일명}은 기존처럼 정적 리소스로 서빙)
+ */
+@Tag(name = "Event Images", description = "이벤트 이미지 API")
+@RestController
+@RequestMapping("/uploads/events")
+@RequiredArgsConstructor
+public class EventImageController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl PENDING = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+
+    private final EventImageDerivativeService eventImageDerivativeService;
+
+    @Operation(summary = "이벤트 이미지 조회", description = "w를 주면 그 폭 이상인 가장 작은 축소본을 반환합니다.")
+    @GetMapping("/{shard1:[0-9a-f]{2}}/{shard2:[0-9a-f]{2}}/{filename:.+}")
+    public ResponseEntity<Resource> getImage(
+            @PathVariable String shard1,
+            @PathVariable String shard2,
+            @PathVariable String filename,
+            @RequestParam(required = false) Integer w) {
+
+        EventImageDerivativeService.Variant variant =
+                eventImageDerivativeService.resolve(shard1 + "/" + shard2 + "/" + filename, w);
+        FileSystemResource resource = new FileSystemResource(variant.path());
+        return ResponseEntity.ok()
+                .cacheControl(variant.immutable() ? IMMUTABLE : PENDING)
+                .contentType(MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .body(resource);
+    }
+}
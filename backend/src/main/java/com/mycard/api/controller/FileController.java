@@ -3,12 +3,13 @@ package com.mycard.api.controller;
 import com.mycard.api.dto.file.AttachmentResponse;
 import com.mycard.api.entity.Attachment;
 import com.mycard.api.security.UserPrincipal;
+import com.mycard.api.service.FileDownloadService;
 import com.mycard.api.service.FileStorageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -16,8 +17,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 
 @Tag(name = "파일", description = "파일 업로드/다운로드 API")
 @RestController
@@ -27,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 public class FileController {
 
     private final FileStorageService fileStorageService;
+    private final FileDownloadService fileDownloadService;
 
     @Operation(summary = "파일 업로드")
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -37,22 +38,15 @@ public class FileController {
         return ResponseEntity.ok(toResponse(attachment));
     }
 
-    @Operation(summary = "파일 다운로드")
+    @Operation(summary = "파일 다운로드", description = "Range(이어받기), If-None-Match/If-Modified-Since(304) 지원")
     @GetMapping("/{attachmentId}/download")
-    public ResponseEntity<Resource> downloadFile(
+    public void downloadFile(
             @PathVariable Long attachmentId,
-            @AuthenticationPrincipal UserPrincipal currentUser) {
-        Resource resource = fileStorageService.loadFileAsResource(attachmentId, currentUser);
-        Attachment attachment = fileStorageService.getAttachment(attachmentId);
-
-        String encodedFilename = URLEncoder.encode(attachment.getOriginalFilename(), StandardCharsets.UTF_8)
-                .replaceAll("\\+", "%20");
-
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(attachment.getContentType()))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + encodedFilename + "\"; filename*=UTF-8''" + encodedFilename)
-                .body(resource);
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Attachment attachment = fileStorageService.getAccessibleAttachment(attachmentId, currentUser);
+        fileDownloadService.send(attachment, request, response);
     }
 
     @Operation(summary = "파일 삭제")
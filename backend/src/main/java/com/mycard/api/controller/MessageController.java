@@ -55,6 +55,19 @@ public class MessageController {
         return ResponseEntity.ok(Map.of("count", count));
     }
 
+    /**
+     * 브로드캐스트 알림 상세 조회
+     */
+    @Operation(summary = "브로드캐스트 알림 상세 조회", description = "세그먼트 공지를 조회하고 읽음 처리합니다.")
+    @GetMapping("/broadcasts/{broadcastId}")
+    @PreAuthorize("hasAnyRole('USER', 'OPERATOR', 'REVIEW_ADMIN', 'MASTER_ADMIN')")
+    public ResponseEntity<MessageResponse> getBroadcast(
+            @PathVariable Long broadcastId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        return ResponseEntity.ok(messageService.getBroadcast(broadcastId, userPrincipal.getId()));
+    }
+
     /**
      * 알림 상세 조회
      */
@@ -0,0 +1,43 @@
+package com.mycard.api.controller;
+
+import com.mycard.api.security.UserPrincipal;
+import com.mycard.api.service.NotificationStreamRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실시간 알림 스트림 API 컨트롤러
+ */
+@Tag(name = "Notifications", description = "실시간 알림 스트림 API")
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationStreamRegistry notificationStreamRegistry;
+
+    /**
+     * 알림 스트림 구독 (Server-Sent Events)
+     * 이벤트: connected, message(새 알림), application-status(카드 신청 상태 변경)
+     */
+    @Operation(summary = "알림 스트림 구독",
+            description = "새 알림과 카드 신청 상태 변경을 SSE로 전달합니다. Authorization 헤더가 필요하므로 fetch 기반 SSE 클라이언트로 연결하세요.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'OPERATOR', 'REVIEW_ADMIN', 'MASTER_ADMIN')")
+    public SseEmitter stream(@AuthenticationPrincipal UserPrincipal userPrincipal,
+                             HttpServletResponse response) {
+        // nginx 응답 버퍼링 비활성화
+        response.setHeader("X-Accel-Buffering", "no");
+        response.setHeader("Cache-Control", "no-cache");
+        return notificationStreamRegistry.subscribe(userPrincipal.getId());
+    }
+}
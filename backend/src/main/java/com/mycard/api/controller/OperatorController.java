@@ -6,12 +6,13 @@ import com.mycard.api.dto.inquiry.InquiryDetailResponse;
 import com.mycard.api.dto.inquiry.InquiryListResponse;
 import com.mycard.api.dto.inquiry.InquiryReplyRequest;
 import com.mycard.api.entity.AuditLog;
-import com.mycard.api.entity.Inquiry;
-import com.mycard.api.repository.AuditLogRepository;
 import com.mycard.api.repository.InquiryRepository;
 import com.mycard.api.security.UserPrincipal;
+import com.mycard.api.service.AuditLogSearchService;
+import com.mycard.api.service.InquiryAutoAssignmentService;
 import com.mycard.api.service.InquiryService;
 import com.mycard.api.service.UserAdminService;
+import com.mycard.api.service.UserDirectoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -31,6 +32,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -44,8 +46,10 @@ import java.util.Map;
 public class OperatorController {
 
     private final UserAdminService userAdminService;
-    private final AuditLogRepository auditLogRepository;
+    private final UserDirectoryService userDirectoryService;
+    private final AuditLogSearchService auditLogSearchService;
     private final InquiryService inquiryService;
+    private final InquiryAutoAssignmentService inquiryAutoAssignmentService;
     private final InquiryRepository inquiryRepository;
 
     // ===================== 대시보드 =====================
@@ -56,13 +60,13 @@ public class OperatorController {
             @AuthenticationPrincipal UserPrincipal currentUser) {
         Map<String, Object> dashboard = new HashMap<>();
 
-        // 미배정 문의 수
-        long unassignedCount = inquiryRepository.countUnassigned();
-        dashboard.put("unassignedInquiries", unassignedCount);
-
-        // 내 배정 문의 수 (진행 중)
-        long myInquiries = inquiryRepository.countByAssignedOperatorIdAndNotResolved(currentUser.getId());
-        dashboard.put("myInquiries", myInquiries);
+        // 미배정 문의 수 / 내 배정 문의 수 (진행 중) - 자동 배정 대기열의 메모리 값
+        dashboard.put("unassignedInquiries", inquiryAutoAssignmentService.queueDepth());
+        Integer myLoad = inquiryAutoAssignmentService.currentLoad(currentUser.getId());
+        dashboard.put("myInquiries", myLoad != null
+                ? myLoad
+                : inquiryRepository.countByAssignedOperatorIdAndNotResolved(currentUser.getId()));
+        dashboard.put("assignmentQueue", inquiryAutoAssignmentService.stats());
 
         // 전체 대기 중 문의 수
         long openCount = inquiryRepository.countByStatusOpen();
@@ -75,17 +79,15 @@ public class OperatorController {
         // 최근 미배정 문의 목록
         List<Map<String, Object>> recentUnassigned = new ArrayList<>();
         try {
-            Page<Inquiry> unassigned = inquiryRepository.findUnassignedInquiries(PageRequest.of(0, 5));
-            for (Inquiry inquiry : unassigned.getContent()) {
+            Page<InquiryListResponse> unassigned = inquiryRepository.findUnassignedList(PageRequest.of(0, 5));
+            for (InquiryListResponse inquiry : unassigned.getContent()) {
                 Map<String, Object> item = new HashMap<>();
                 item.put("id", inquiry.getId());
                 item.put("title", inquiry.getTitle());
                 item.put("status", inquiry.getStatus().name());
                 item.put("category", inquiry.getCategory() != null ? inquiry.getCategory().name() : null);
                 item.put("createdAt", inquiry.getCreatedAt() != null ? inquiry.getCreatedAt().toString() : null);
-                if (inquiry.getUser() != null) {
-                    item.put("userName", inquiry.getUser().getName());
-                }
+                item.put("userName", inquiry.getUserName());
                 recentUnassigned.add(item);
             }
         } catch (Exception e) {
@@ -96,18 +98,16 @@ public class OperatorController {
         // 내 최근 배정 문의 목록
         List<Map<String, Object>> myRecentInquiries = new ArrayList<>();
         try {
-            Page<Inquiry> myAssigned = inquiryRepository.findByAssignedOperatorId(currentUser.getId(),
+            Page<InquiryListResponse> myAssigned = inquiryRepository.findListByAssignedOperatorId(currentUser.getId(),
                     PageRequest.of(0, 5));
-            for (Inquiry inquiry : myAssigned.getContent()) {
+            for (InquiryListResponse inquiry : myAssigned.getContent()) {
                 Map<String, Object> item = new HashMap<>();
                 item.put("id", inquiry.getId());
                 item.put("title", inquiry.getTitle());
                 item.put("status", inquiry.getStatus().name());
                 item.put("category", inquiry.getCategory() != null ? inquiry.getCategory().name() : null);
                 item.put("createdAt", inquiry.getCreatedAt() != null ? inquiry.getCreatedAt().toString() : null);
-                if (inquiry.getUser() != null) {
-                    item.put("userName", inquiry.getUser().getName());
-                }
+                item.put("userName", inquiry.getUserName());
                 myRecentInquiries.add(item);
             }
         } catch (Exception e) {
@@ -118,19 +118,20 @@ public class OperatorController {
         return ResponseEntity.ok(dashboard);
     }
 
-    @Operation(summary = "사용자 목록 조회")
+    @Operation(summary = "사용자 목록 조회", description = "키셋 페이징 - 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @GetMapping("/users")
-    public ResponseEntity<Page<UserAdminResponse>> getUsers(
+    public ResponseEntity<Map<String, Object>> getUsers(
             @RequestParam(required = false) String keyword,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-
-        Page<UserAdminResponse> users;
-        if (keyword != null && !keyword.isEmpty()) {
-            users = userAdminService.searchUsers(keyword, pageable);
-        } else {
-            users = userAdminService.getUsers(pageable);
-        }
-        return ResponseEntity.ok(users);
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Boolean locked,
+            @RequestParam(required = false) LocalDate lastLoginFrom,
+            @RequestParam(required = false) LocalDate lastLoginTo,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        UserDirectoryService.Filter filter =
+                new UserDirectoryService.Filter(status, locked, lastLoginFrom, lastLoginTo, role, keyword);
+        return ResponseEntity.ok(userDirectoryService.getPage(filter, cursor, size));
     }
 
     @Operation(summary = "사용자 상세 조회")
@@ -191,21 +192,22 @@ public class OperatorController {
         return ResponseEntity.ok(inquiryService.resolveInquiry(inquiryId, currentUser));
     }
 
-    @Operation(summary = "감사로그 조회")
+    @Operation(summary = "감사로그 조회", description = "기간 미지정 시 최근 90일을 조회합니다.")
     @GetMapping("/audit-logs")
     public ResponseEntity<Page<AuditLogResponse>> getAuditLogs(
             @RequestParam(required = false) Long userId,
             @RequestParam(required = false) String action,
-            @PageableDefault(size = 50, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-
-        Page<AuditLog> logs;
-        if (userId != null) {
-            logs = auditLogRepository.findByUserId(userId, pageable);
-        } else if (action != null && !action.isEmpty()) {
-            logs = auditLogRepository.findByAction(action, pageable);
-        } else {
-            logs = auditLogRepository.findAllOrderByCreatedAtDesc(pageable);
-        }
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(required = false) Long resourceId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @PageableDefault(size = 50) Pageable pageable) {
+
+        Page<AuditLog> logs = auditLogSearchService.search(
+                new AuditLogSearchService.Criteria(userId, resourceType, resourceId, action,
+                        from != null ? from.atStartOfDay() : null,
+                        to != null ? to.plusDays(1).atStartOfDay() : null),
+                pageable.getPageNumber(), pageable.getPageSize());
 
         Page<AuditLogResponse> response = logs.map(this::toAuditLogResponse);
         return ResponseEntity.ok(response);
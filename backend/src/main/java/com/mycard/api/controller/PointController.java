@@ -15,6 +15,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @Tag(name = "포인트", description = "포인트 관리 API")
 @RestController
 @RequestMapping("/points")
@@ -31,19 +33,14 @@ public class PointController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "포인트 내역 조회")
+    @Operation(summary = "포인트 내역 조회", description = "키셋 페이징 - 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @GetMapping("/ledger")
-    public ResponseEntity<Page<PointLedgerResponse>> getLedger(
+    public ResponseEntity<Map<String, Object>> getLedger(
             @AuthenticationPrincipal UserPrincipal currentUser,
             @RequestParam(required = false) PointLedger.TransactionType type,
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<PointLedgerResponse> response;
-        if (type != null) {
-            response = pointService.getLedgerByType(currentUser, type, pageable);
-        } else {
-            response = pointService.getLedger(currentUser, pageable);
-        }
-        return ResponseEntity.ok(response);
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(pointService.getLedger(currentUser, type, cursor, size));
     }
 
     @Operation(summary = "포인트 전환 (현금화)")
@@ -1,18 +1,25 @@
 package com.mycard.api.controller;
 
+import com.mycard.api.dto.file.ChunkedUploadRequest;
+import com.mycard.api.dto.file.UploadSessionResponse;
 import com.mycard.api.entity.Attachment;
 import com.mycard.api.entity.Document;
+import com.mycard.api.entity.UploadSession;
 import com.mycard.api.entity.User;
 import com.mycard.api.repository.AttachmentRepository;
 import com.mycard.api.repository.DocumentRepository;
 import com.mycard.api.repository.UserRepository;
 import com.mycard.api.security.UserPrincipal;
+import com.mycard.api.service.AdminMetricsService;
+import com.mycard.api.service.AttachmentBlobStore;
+import com.mycard.api.service.ChunkedUploadService;
 import com.mycard.api.service.UploadValidationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -25,10 +32,6 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
@@ -36,6 +39,7 @@ import java.util.*;
  * 사용자용 문서함 API (/docs)
  * - 내 문서 목록 조회
  * - 문서 제출 (파일 업로드)
+ * - 분할 업로드 (세션 생성 -> 청크 PUT -> 확정, 끊기면 받은 청크 이후부터 이어서 전송)
  */
 @Tag(name = "User Documents", description = "사용자 문서함 API")
 @RestController
@@ -49,9 +53,9 @@ public class UserDocumentController {
     private final AttachmentRepository attachmentRepository;
     private final UserRepository userRepository;
     private final UploadValidationService uploadValidationService;
-
-    @Value("${file.upload-dir:uploads}")
-    private String uploadDir;
+    private final AdminMetricsService adminMetricsService;
+    private final AttachmentBlobStore attachmentBlobStore;
+    private final ChunkedUploadService chunkedUploadService;
 
     @Operation(summary = "내 문서 목록 조회")
     @GetMapping
@@ -107,28 +111,13 @@ public class UserDocumentController {
         }
 
         document = documentRepository.save(document);
+        adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_DOCUMENTS, 1);
 
-        // 2. 파일을 디스크에 저장
-        String storedFilename = UUID.randomUUID() + "_" + originalFilename;
-        Path uploadPath = Paths.get(uploadDir);
-        Path targetPath = uploadPath.resolve(storedFilename);
-
-        try {
-            Files.createDirectories(targetPath.getParent());
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            log.error("파일 저장 실패: {}", originalFilename, e);
-            throw new RuntimeException("파일 저장에 실패했습니다.");
-        }
+        // 2. 내용 주소 저장소에 저장 (같은 내용이면 기존 파일 공유)
+        AttachmentBlobStore.StoredBlob blob = attachmentBlobStore.store(file);
 
         // 3. Attachment 생성 (document_id를 포함하여 CHECK 제약 조건 충족)
-        Attachment attachment = new Attachment(
-                user,
-                originalFilename,
-                storedFilename,
-                targetPath.toString(),
-                file.getContentType(),
-                file.getSize());
+        Attachment attachment = blob.toAttachment(user, originalFilename, file.getContentType());
         attachment.setDocument(document);
         attachmentRepository.save(attachment);
 
@@ -141,4 +130,66 @@ public class UserDocumentController {
 
         return ResponseEntity.ok(result);
     }
+
+    // ===================== 분할 업로드 (이어받기) =====================
+
+    @Operation(summary = "분할 업로드 세션 생성", description = "파일명/형식/크기를 검증하고 청크 크기와 청크 수를 알려 줍니다.")
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionResponse> createUploadSession(
+            @Valid @RequestBody ChunkedUploadRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        UploadSession session = chunkedUploadService.create(currentUser.getId(), new ChunkedUploadService.CreateCommand(
+                request.getFilename(), request.getContentType(), request.getSize(), request.getSha256(),
+                request.getDocType()));
+        return ResponseEntity.ok(UploadSessionResponse.from(session));
+    }
+
+    @Operation(summary = "분할 업로드 세션 조회", description = "받은 청크 번호를 확인해 끊긴 업로드를 이어서 보낼 수 있습니다.")
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> getUploadSession(
+            @PathVariable Long uploadId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(UploadSessionResponse.from(chunkedUploadService.get(currentUser.getId(), uploadId)));
+    }
+
+    @Operation(summary = "청크 업로드", description = "본문은 청크 바이트 그대로(application/octet-stream), X-Chunk-Sha256 헤더에 청크의 SHA-256을 보냅니다.")
+    @PutMapping("/uploads/{uploadId}/chunks/{index}")
+    public ResponseEntity<UploadSessionResponse> uploadChunk(
+            @PathVariable Long uploadId,
+            @PathVariable int index,
+            @RequestHeader(value = "X-Chunk-Sha256", required = false) String checksum,
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            HttpServletRequest request) throws IOException {
+
+        UploadSession session = chunkedUploadService.writeChunk(currentUser.getId(), uploadId, index,
+                request.getContentLengthLong(), checksum, request.getInputStream());
+        return ResponseEntity.ok(UploadSessionResponse.from(session));
+    }
+
+    @Operation(summary = "분할 업로드 확정", description = "모든 청크를 받은 세션을 문서로 제출합니다.")
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<Map<String, Object>> completeUploadSession(
+            @PathVariable Long uploadId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        Attachment attachment = chunkedUploadService.complete(currentUser.getId(), uploadId);
+        Document document = attachment.getDocument();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("id", document.getId());
+        result.put("name", attachment.getOriginalFilename());
+        result.put("docType", document.getDocumentType().name());
+        result.put("status", document.getStatus().name());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "분할 업로드 취소")
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> abortUploadSession(
+            @PathVariable Long uploadId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        chunkedUploadService.abort(currentUser.getId(), uploadId);
+        return ResponseEntity.noContent().build();
+    }
 }
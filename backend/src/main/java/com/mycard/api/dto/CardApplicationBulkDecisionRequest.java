@@ -0,0 +1,37 @@
+package com.mycard.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 카드 신청 일괄 심사 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardApplicationBulkDecisionRequest {
+
+    /** APPROVE, REJECT, START_REVIEW */
+    @NotNull
+    private String decision;
+
+    @NotEmpty
+    private List<Long> applicationIds;
+
+    /** 승인 한도 (만원, 비우면 신청별 희망 한도) */
+    @Positive
+    private BigDecimal creditLimit;
+
+    /** 거절 사유 (REJECT 필수) */
+    private String reason;
+
+    /** 2차 비밀번호 (APPROVE 필수) */
+    private String secondaryPassword;
+}
@@ -0,0 +1,40 @@
+package com.mycard.api.dto;
+
+import com.mycard.api.entity.CardApplication;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 카드 신청 심사 큐 행 - CardApplicationRepository에서 JPQL 생성자 표현식으로 바로 조회한다. (필드 순서 = 생성자 인자 순서)
+ * 목록 화면에 쓰지 않는 암호화 컬럼(주민번호, 연소득)은 읽지 않으므로 행마다 복호화하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class CardApplicationQueueRow {
+
+    private Long id;
+    private String fullName;
+    private String phone;
+    private String email;
+    private CardApplication.EmploymentType employmentType;
+    private String cardType;
+    private String cardProduct;
+    private BigDecimal requestedCreditLimit;
+    private CardApplication.ApplicationStatus status;
+    private LocalDateTime reviewedAt;
+    private String rejectionReason;
+    private BigDecimal approvedCreditLimit;
+    private LocalDateTime retentionUntil;
+    private Long linkedBankAccountId;
+    private String linkedBankName;
+    private String linkedAccountNumberMasked;
+    private String userName;
+    private String userEmail;
+    private String reviewerName;
+    private Long issuedCardId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class MessageResponse {
     private Long id;
+    private String source;      // DIRECT(개별 메시지) / BROADCAST(세그먼트 공지, id는 브로드캐스트 ID)
     private String category;
     private String title;
     private String content;
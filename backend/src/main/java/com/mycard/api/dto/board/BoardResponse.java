@@ -34,13 +34,20 @@ public class BoardResponse {
     }
 
     public static BoardResponse from(Board board) {
+        return from(board, null);
+    }
+
+    /**
+     * @param allowedUsers 열람 허용 대상 이름 (쉼표 구분, board_acl 기준)
+     */
+    public static BoardResponse from(Board board, String allowedUsers) {
         return BoardResponse.builder()
                 .id(board.getId())
                 .title(escapeHtml(board.getTitle()))
                 .content(escapeHtml(board.getContent()))
                 .authorName(escapeHtml(board.getAuthorName()))
                 .category(board.getCategory())
-                .allowedUsers(escapeHtml(board.getAllowedUsers()))
+                .allowedUsers(escapeHtml(allowedUsers))
                 .answer(escapeHtml(board.getAnswer()))
                 .answerAuthorName(escapeHtml(board.getAnswerAuthorName()))
                 .isPrivate(board.isPrivate())
@@ -0,0 +1,30 @@
+package com.mycard.api.dto.file;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분할 업로드 세션 생성 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkedUploadRequest {
+
+    @NotBlank
+    private String filename;
+
+    @NotBlank
+    private String contentType;
+
+    @Positive
+    private long size;
+
+    /** 전체 파일 SHA-256 (선택, 확정 시 검증) */
+    private String sha256;
+
+    private String docType;
+}
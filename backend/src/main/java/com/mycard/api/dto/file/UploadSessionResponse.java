@@ -0,0 +1,38 @@
+package com.mycard.api.dto.file;
+
+import com.mycard.api.entity.UploadSession;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분할 업로드 세션 상태 (이어받기 시 receivedChunks에 없는 청크만 다시 보낸다)
+ */
+@Getter
+@Builder
+public class UploadSessionResponse {
+
+    private Long uploadId;
+    private String filename;
+    private String status;
+    private Long totalSize;
+    private Integer chunkSize;
+    private Integer chunkCount;
+    private List<Integer> receivedChunks;
+    private LocalDateTime expiresAt;
+
+    public static UploadSessionResponse from(UploadSession session) {
+        return UploadSessionResponse.builder()
+                .uploadId(session.getId())
+                .filename(session.getOriginalFilename())
+                .status(session.getStatus().name())
+                .totalSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .chunkCount(session.getChunkCount())
+                .receivedChunks(session.getReceivedIndexes())
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
@@ -1,20 +1,28 @@
 package com.mycard.api.dto.inquiry;
 
 import com.mycard.api.entity.Inquiry;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 
+/**
+ * 문의 목록 행 - InquiryRepository에서 JPQL 생성자 표현식으로 바로 조회한다. (필드 순서 = 생성자 인자 순서)
+ */
 @Getter
 @Builder
+@AllArgsConstructor
 public class InquiryListResponse {
 
     private Long id;
     private Inquiry.InquiryCategory category;
     private String title;
     private Inquiry.InquiryStatus status;
+    private String userName;
     private String assignee;
     private boolean hasStaffReply;
+    private int replyCount;
+    private LocalDateTime lastReplyAt;
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,20 @@
+package com.mycard.api.dto.point;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PointBalanceAuditResponse {
+
+    private Long userId;
+    private Long currentBalance;
+    private Long snapshotBalance;
+    private LocalDateTime snapshotAt;
+    private Long lastSnapshotLedgerId;
+    private Long ledgerDeltaSinceSnapshot;
+    private Long expectedBalance;
+    private boolean consistent;
+}
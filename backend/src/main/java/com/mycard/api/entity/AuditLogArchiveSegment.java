@@ -0,0 +1,122 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 월 단위 감사로그 아카이브 세그먼트 (gzip NDJSON 파일)
+ * WRITING -> SEALED(파일 기록 및 체크섬 검증 완료) -> PURGED(핫 파티션에서 삭제 완료)
+ * min/max 값은 세그먼트 안의 created_at, actor_id, target_type 범위로, 조회 시 세그먼트 건너뛰기에 쓴다.
+ */
+@Entity
+@Table(name = "audit_log_archive_segments")
+@Getter
+@Setter
+@NoArgsConstructor
+public class AuditLogArchiveSegment {
+
+    public enum SegmentStatus {
+        WRITING, SEALED, PURGED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "period_start", nullable = false, unique = true)
+    private LocalDate periodStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SegmentStatus status = SegmentStatus.WRITING;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount = 0L;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes = 0L;
+
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(name = "min_created_at")
+    private LocalDateTime minCreatedAt;
+
+    @Column(name = "max_created_at")
+    private LocalDateTime maxCreatedAt;
+
+    @Column(name = "min_actor_id")
+    private Long minActorId;
+
+    @Column(name = "max_actor_id")
+    private Long maxActorId;
+
+    @Column(name = "min_target_type", length = 40)
+    private String minTargetType;
+
+    @Column(name = "max_target_type", length = 40)
+    private String maxTargetType;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sealed_at")
+    private LocalDateTime sealedAt;
+
+    @Column(name = "purged_at")
+    private LocalDateTime purgedAt;
+
+    public AuditLogArchiveSegment(YearMonth period, String fileName) {
+        this.periodStart = period.atDay(1);
+        this.fileName = fileName;
+    }
+
+    public YearMonth getPeriod() {
+        return YearMonth.from(periodStart);
+    }
+
+    public void seal(long rowCount, long sizeBytes, String sha256) {
+        this.rowCount = rowCount;
+        this.sizeBytes = sizeBytes;
+        this.sha256 = sha256;
+        this.status = SegmentStatus.SEALED;
+        this.sealedAt = LocalDateTime.now();
+    }
+
+    public void markPurged() {
+        this.status = SegmentStatus.PURGED;
+        this.purgedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 조건에 맞는 행이 이 세그먼트에 있을 수 있는지 (min/max 범위 밖이면 false)
+     *
+     * @param from 시작 시각 (포함)
+     * @param to   종료 시각 (제외)
+     */
+    public boolean mayContain(Long actorId, String targetType, LocalDateTime from, LocalDateTime to) {
+        if (from != null && maxCreatedAt != null && maxCreatedAt.isBefore(from)) {
+            return false;
+        }
+        if (to != null && minCreatedAt != null && !minCreatedAt.isBefore(to)) {
+            return false;
+        }
+        if (actorId != null && (minActorId == null
+                || actorId < minActorId || actorId > maxActorId)) {
+            return false;
+        }
+        return targetType == null || (minTargetType != null
+                && targetType.compareTo(minTargetType) >= 0 && targetType.compareTo(maxTargetType) <= 0);
+    }
+}
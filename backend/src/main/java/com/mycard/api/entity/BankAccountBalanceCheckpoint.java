@@ -0,0 +1,43 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 은행 계좌 잔액 체크포인트.
+ * seq 시점의 잔액이며, 이후 seq 거래 합계를 더하면 임의 시점 잔액이 된다.
+ */
+@Entity
+@Table(name = "bank_account_balance_checkpoints")
+@Getter
+@NoArgsConstructor
+public class BankAccountBalanceCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bank_account_id", nullable = false)
+    private Long bankAccountId;
+
+    @Column(nullable = false)
+    private Long seq;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal balance;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public BankAccountBalanceCheckpoint(Long bankAccountId, Long seq, BigDecimal balance) {
+        this.bankAccountId = bankAccountId;
+        this.seq = seq;
+        this.balance = balance;
+    }
+}
@@ -10,7 +10,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bank_account_transactions")
+@Table(name = "bank_account_transactions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bank_account_transactions_seq", columnNames = {"bank_account_id", "seq"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,6 +29,10 @@ public class BankAccountTransaction {
     @JoinColumn(name = "bank_account_id", nullable = false)
     private UserBankAccount bankAccount;
 
+    /** 계좌별 단조 증가 순번 (user_bank_accounts.last_seq에서 발급) */
+    @Column(nullable = false, updatable = false)
+    private Long seq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "loan_id")
     private Loan loan;
@@ -51,6 +56,7 @@ public class BankAccountTransaction {
 
     public BankAccountTransaction(
             UserBankAccount bankAccount,
+            Long seq,
             Loan loan,
             TransactionType transactionType,
             BigDecimal amount,
@@ -58,6 +64,7 @@ public class BankAccountTransaction {
             String description
     ) {
         this.bankAccount = bankAccount;
+        this.seq = seq;
         this.loan = loan;
         this.transactionType = transactionType;
         this.amount = amount;
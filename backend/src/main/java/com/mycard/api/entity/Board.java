@@ -36,9 +36,6 @@ public class Board {
     @Column
     private String category;
 
-    @Column(name = "allowed_users")
-    private String allowedUsers;
-
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,47 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 비공개 게시글 열람 허용 대상 (게시글 x 회원)
+ */
+@Entity
+@Table(name = "board_acl")
+@IdClass(BoardAcl.Key.class)
+@Getter
+@NoArgsConstructor
+public class BoardAcl {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public BoardAcl(Long boardId, Long userId) {
+        this.boardId = boardId;
+        this.userId = userId;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long boardId;
+        private Long userId;
+    }
+}
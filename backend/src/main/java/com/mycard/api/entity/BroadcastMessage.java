@@ -0,0 +1,65 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세그먼트 대상 브로드캐스트 메시지.
+ * 수신자별 행 없이 한 건만 저장하고, 사용자 알림함 조회 시 세그먼트 조건으로 직접 메시지와 합친다.
+ */
+@Entity
+@Table(name = "broadcast_messages")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BroadcastMessage {
+
+    public enum SegmentType {
+        ALL,            // 전체 회원
+        ACTIVE_CARD,    // 정상(ACTIVE) 카드 보유 회원
+        CARD_PRODUCT,   // 특정 카드 상품 승인 회원 (segmentValue = 상품명)
+        USER_LIST       // 업로드한 회원 ID 목록
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sender_id", nullable = false)
+    private User sender;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "segment_type", nullable = false, length = 20)
+    private SegmentType segmentType;
+
+    @Column(name = "segment_value", length = 100)
+    private String segmentValue;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    /** USER_LIST 세그먼트의 실제 수신자 수 */
+    @Column(name = "recipient_count")
+    private Long recipientCount;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public BroadcastMessage(User sender, SegmentType segmentType, String segmentValue, String title, String content) {
+        this.sender = sender;
+        this.segmentType = segmentType;
+        this.segmentValue = segmentValue;
+        this.title = title;
+        this.content = content;
+    }
+}
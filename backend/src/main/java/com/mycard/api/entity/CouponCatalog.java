@@ -22,6 +22,18 @@ public class CouponCatalog {
     @Column(nullable = false)
     private Boolean active = true;
 
+    /** 한정 수량 (null이면 무제한) */
+    @Column(name = "stock_limit")
+    private Long stockLimit;
+
+    /** 저널에서 정산된 누적 판매량 */
+    @Column(name = "sold_count", nullable = false)
+    private Long soldCount = 0L;
+
+    /** 노드들에 임대된 누적 수량 (CouponCatalogCache가 JDBC로만 증감한다) */
+    @Column(name = "stock_leased", nullable = false, updatable = false)
+    private Long stockLeased = 0L;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -63,6 +75,26 @@ public class CouponCatalog {
         this.active = active;
     }
 
+    public Long getStockLimit() {
+        return stockLimit;
+    }
+
+    public void setStockLimit(Long stockLimit) {
+        this.stockLimit = stockLimit;
+    }
+
+    public Long getSoldCount() {
+        return soldCount;
+    }
+
+    public void setSoldCount(Long soldCount) {
+        this.soldCount = soldCount;
+    }
+
+    public Long getStockLeased() {
+        return stockLeased;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,38 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한정 수량 쿠폰 판매 기록.
+ * 구매 트랜잭션과 함께 커밋되므로 재시작 시 sold_count + 미정산 저널 합계로 재고를 정확히 복원할 수 있다.
+ */
+@Entity
+@Table(name = "coupon_stock_journal")
+@Getter
+@NoArgsConstructor
+public class CouponStockJournal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public CouponStockJournal(Long couponId, Integer quantity) {
+        this.couponId = couponId;
+        this.quantity = quantity;
+    }
+}
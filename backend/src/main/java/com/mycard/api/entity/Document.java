@@ -110,6 +110,10 @@ public class Document {
         return this.user != null && this.user.getId().equals(userId);
     }
 
+    public boolean isAwaitingReview() {
+        return this.status == DocumentStatus.SUBMITTED || this.status == DocumentStatus.UNDER_REVIEW;
+    }
+
     public boolean canTransitionTo(DocumentStatus newStatus) {
         return switch (this.status) {
             case SUBMITTED -> newStatus == DocumentStatus.UNDER_REVIEW;
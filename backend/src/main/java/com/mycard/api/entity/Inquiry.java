@@ -61,6 +61,20 @@ public class Inquiry {
     @Transient
     private LocalDateTime resolvedAt;
 
+    // 목록 조회용 답변 통계 (답변 컬렉션을 로딩하지 않도록 답변 등록 시 함께 갱신)
+    // 동시 답변에서 읽고-쓰기로 건수가 유실되지 않도록 DB 값은 InquiryRepository.recordReply의 원자적 UPDATE로만 바꾼다.
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    private int replyCount;
+
+    @Column(name = "has_staff_reply", nullable = false, updatable = false)
+    private boolean hasStaffReply;
+
+    @Column(name = "last_reply_at", updatable = false)
+    private LocalDateTime lastReplyAt;
+
+    @Column(name = "last_staff_reply_at", updatable = false)
+    private LocalDateTime lastStaffReplyAt;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -76,9 +90,23 @@ public class Inquiry {
         this.content = content;
     }
 
-    public void addReply(InquiryReply reply) {
+    /**
+     * 답변을 추가하고 답변 통계를 메모리에 반영한다. (응답 조립용 - DB 반영은 InquiryRepository.recordReply)
+     *
+     * @return 답변 시각
+     */
+    public LocalDateTime addReply(InquiryReply reply) {
         replies.add(reply);
         reply.setInquiry(this);
+
+        LocalDateTime repliedAt = reply.getCreatedAt() != null ? reply.getCreatedAt() : LocalDateTime.now();
+        replyCount++;
+        lastReplyAt = repliedAt;
+        if (Boolean.TRUE.equals(reply.getIsStaffReply())) {
+            hasStaffReply = true;
+            lastStaffReplyAt = repliedAt;
+        }
+        return repliedAt;
     }
 
     public void addAttachment(Attachment attachment) {
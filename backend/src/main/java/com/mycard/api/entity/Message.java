@@ -20,7 +20,11 @@ public class Message {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 일괄 승인 시 JDBC 배치 INSERT가 가능하도록 IDENTITY 대신 pooled 테이블 시퀀스 사용 (V62)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "message_id")
+    @TableGenerator(name = "message_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "messages", allocationSize = 1000)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,36 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 포인트 잔액 스냅샷.
+ * 스냅샷 잔액 + (last_ledger_id 이후 원장 합계) 가 현재 잔액과 같아야 한다.
+ */
+@Entity
+@Table(name = "point_balance_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PointBalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Column(name = "last_ledger_id", nullable = false)
+    private Long lastLedgerId = 0L;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
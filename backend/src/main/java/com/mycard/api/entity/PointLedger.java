@@ -24,8 +24,9 @@ public class PointLedger {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // point_ledger는 월별 파티션 테이블이라 외래키를 둘 수 없다 (V44)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Enumerated(EnumType.STRING)
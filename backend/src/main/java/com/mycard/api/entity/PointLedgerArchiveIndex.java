@@ -0,0 +1,35 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 아카이브 세그먼트별 사용자/거래유형 건수
+ */
+@Entity
+@Table(name = "point_ledger_archive_index")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PointLedgerArchiveIndex {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "segment_id", nullable = false)
+    private PointLedgerArchiveSegment segment;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private PointLedger.TransactionType entryType;
+
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount;
+}
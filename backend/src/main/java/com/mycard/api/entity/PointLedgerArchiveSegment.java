@@ -0,0 +1,82 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 월 단위 포인트 원장 아카이브 세그먼트 (gzip NDJSON 파일)
+ * WRITING -> SEALED(파일 기록 및 체크섬 검증 완료) -> PURGED(핫 파티션에서 삭제 완료)
+ */
+@Entity
+@Table(name = "point_ledger_archive_segments")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PointLedgerArchiveSegment {
+
+    public enum SegmentStatus {
+        WRITING, SEALED, PURGED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "period_start", nullable = false, unique = true)
+    private LocalDate periodStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SegmentStatus status = SegmentStatus.WRITING;
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;
+
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount = 0L;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes = 0L;
+
+    @Column(length = 64)
+    private String sha256;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sealed_at")
+    private LocalDateTime sealedAt;
+
+    @Column(name = "purged_at")
+    private LocalDateTime purgedAt;
+
+    public PointLedgerArchiveSegment(YearMonth period, String fileName) {
+        this.periodStart = period.atDay(1);
+        this.fileName = fileName;
+    }
+
+    public YearMonth getPeriod() {
+        return YearMonth.from(periodStart);
+    }
+
+    public void seal(long rowCount, long sizeBytes, String sha256) {
+        this.rowCount = rowCount;
+        this.sizeBytes = sizeBytes;
+        this.sha256 = sha256;
+        this.status = SegmentStatus.SEALED;
+        this.sealedAt = LocalDateTime.now();
+    }
+
+    public void markPurged() {
+        this.status = SegmentStatus.PURGED;
+        this.purgedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,37 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정책 종류별 버전 (노드 간 정책 캐시 무효화용)
+ */
+@Entity
+@Table(name = "policy_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+public class PolicyVersion {
+
+    public static final String POINT_POLICY = "POINT_POLICY";
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private Long version = 1L;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public PolicyVersion(String name) {
+        this.name = name;
+    }
+}
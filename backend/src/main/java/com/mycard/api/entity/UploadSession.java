@@ -0,0 +1,209 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이어받기 가능한 분할 업로드 세션
+ * UPLOADING -> COMPLETED(문서/첨부로 확정) 또는 ABORTED(취소/만료)
+ * 청크 i는 미리 할당한 임시 파일의 [i * chunkSize, min((i + 1) * chunkSize, totalSize)) 구간에 쓰이며,
+ * 수신한 청크는 비트맵(received_chunks)으로 기록해 끊긴 뒤에도 남은 청크만 다시 보낼 수 있다.
+ * 쓰는 중인 청크는 별도 비트맵(in_flight_chunks)으로 선점해 같은 청크의 동시 쓰기와 전송 중 확정을 막는다.
+ */
+@Entity
+@Table(name = "upload_sessions")
+@Getter
+@Setter
+@NoArgsConstructor
+public class UploadSession {
+
+    /** 비트맵 컬럼 크기(1024바이트)로 정해지는 최대 청크 수 */
+    public static final int MAX_CHUNKS = 8192;
+
+    public enum SessionStatus {
+        UPLOADING, COMPLETED, ABORTED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "original_filename", nullable = false, length = 255)
+    private String originalFilename;
+
+    @Column(name = "content_type", nullable = false, length = 120)
+    private String contentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "doc_type", nullable = false, length = 30)
+    private Document.DocumentType documentType = Document.DocumentType.OTHER;
+
+    @Column(name = "total_size", nullable = false)
+    private Long totalSize;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount;
+
+    @Column(name = "received_chunks", nullable = false, length = MAX_CHUNKS / 8)
+    private byte[] receivedChunks;
+
+    @Column(name = "received_count", nullable = false)
+    private Integer receivedCount = 0;
+
+    @Column(name = "in_flight_chunks", length = MAX_CHUNKS / 8)
+    private byte[] inFlightChunks;
+
+    @Column(name = "in_flight_since")
+    private LocalDateTime inFlightSince;
+
+    @Column(name = "expected_sha256", length = 64)
+    private String expectedSha256;
+
+    @Column(name = "temp_path", nullable = false, length = 500)
+    private String tempPath;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SessionStatus status = SessionStatus.UPLOADING;
+
+    @Column(name = "document_id")
+    private Long documentId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public UploadSession(User user, String originalFilename, String contentType, long totalSize, int chunkSize,
+                         String tempPath, LocalDateTime expiresAt) {
+        this.user = user;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.totalSize = totalSize;
+        this.chunkSize = chunkSize;
+        this.chunkCount = (int) ((totalSize + chunkSize - 1) / chunkSize);
+        this.receivedChunks = new byte[(chunkCount + 7) / 8];
+        this.tempPath = tempPath;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isOwnedBy(Long userId) {
+        return user != null && user.getId().equals(userId);
+    }
+
+    public long offsetOf(int index) {
+        return (long) index * chunkSize;
+    }
+
+    /**
+     * 청크 i의 바이트 수 (마지막 청크만 짧을 수 있다)
+     */
+    public long lengthOf(int index) {
+        return Math.min(chunkSize, totalSize - offsetOf(index));
+    }
+
+    public boolean isReceived(int index) {
+        return (receivedChunks[index >> 3] & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * @return 새로 받은 청크이면 true (같은 청크 재전송이면 false)
+     */
+    public boolean markReceived(int index) {
+        if (isReceived(index)) {
+            return false;
+        }
+        // 바이트 배열은 제자리 변경을 더티 체크가 놓칠 수 있어 새 배열로 바꾼다
+        byte[] updated = receivedChunks.clone();
+        updated[index >> 3] |= (byte) (1 << (index & 7));
+        this.receivedChunks = updated;
+        this.receivedCount = receivedCount + 1;
+        return true;
+    }
+
+    /**
+     * 청크 쓰기 선점 (세션 행 잠금 안에서 호출)
+     * 마지막 선점이 staleBefore보다 오래되었으면 남은 표시는 중단된 요청의 것으로 보고 지운다.
+     *
+     * @return 다른 요청이 같은 청크를 쓰는 중이면 false
+     */
+    public boolean claimChunk(int index, LocalDateTime now, LocalDateTime staleBefore) {
+        byte[] claimed = hasChunksInFlight(staleBefore) ? inFlightChunks.clone() : new byte[receivedChunks.length];
+        if ((claimed[index >> 3] & (1 << (index & 7))) != 0) {
+            return false;
+        }
+        claimed[index >> 3] |= (byte) (1 << (index & 7));
+        this.inFlightChunks = claimed;
+        this.inFlightSince = now;
+        return true;
+    }
+
+    public void releaseChunk(int index) {
+        if (inFlightChunks == null) {
+            return;
+        }
+        byte[] claimed = inFlightChunks.clone();
+        claimed[index >> 3] &= (byte) ~(1 << (index & 7));
+        this.inFlightChunks = claimed;
+    }
+
+    public boolean hasChunksInFlight(LocalDateTime staleBefore) {
+        if (inFlightChunks == null || inFlightSince == null || inFlightSince.isBefore(staleBefore)) {
+            return false;
+        }
+        for (byte bits : inFlightChunks) {
+            if (bits != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isAllReceived() {
+        return receivedCount.equals(chunkCount);
+    }
+
+    public List<Integer> getReceivedIndexes() {
+        List<Integer> indexes = new ArrayList<>(receivedCount);
+        for (int i = 0; i < chunkCount; i++) {
+            if (isReceived(i)) {
+                indexes.add(i);
+            }
+        }
+        return indexes;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public void complete(Long documentId) {
+        this.documentId = documentId;
+        this.status = SessionStatus.COMPLETED;
+    }
+
+    public void abort() {
+        this.status = SessionStatus.ABORTED;
+    }
+}
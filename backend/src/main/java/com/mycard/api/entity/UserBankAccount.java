@@ -48,9 +48,17 @@ public class UserBankAccount {
     @Column(name = "is_default", nullable = false)
     private Boolean isDefault = false;
 
-    @Column(name = "current_balance", nullable = false, precision = 12, scale = 2)
+    /**
+     * 잔액은 BankAccountLedgerService의 원자적 증감 UPDATE로만 바뀐다.
+     * 엔티티 flush가 오래된 잔액으로 덮어쓰지 않도록 updatable = false.
+     */
+    @Column(name = "current_balance", nullable = false, updatable = false, precision = 12, scale = 2)
     private BigDecimal currentBalance = BigDecimal.ZERO;
 
+    /** 마지막으로 발급한 원장 seq (잔액과 같은 UPDATE에서 증가) */
+    @Column(name = "last_seq", nullable = false, updatable = false)
+    private Long lastSeq = 0L;
+
     @Column(name = "verified_at")
     private LocalDateTime verifiedAt;
 
@@ -84,20 +92,6 @@ public class UserBankAccount {
         this.isDefault = false;
     }
 
-    public void deposit(BigDecimal amount) {
-        if (amount == null) {
-            return;
-        }
-        this.currentBalance = getCurrentBalance().add(amount);
-    }
-
-    public void withdraw(BigDecimal amount) {
-        if (amount == null) {
-            return;
-        }
-        this.currentBalance = getCurrentBalance().subtract(amount);
-    }
-
     public BigDecimal getCurrentBalance() {
         return currentBalance != null ? currentBalance : BigDecimal.ZERO;
     }
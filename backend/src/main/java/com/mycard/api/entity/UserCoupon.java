@@ -7,7 +7,6 @@ import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Entity
 @Table(name = "user_coupons")
@@ -22,8 +21,12 @@ public class UserCoupon {
         EXPIRED
     }
 
+    // 대량 발급 시 JDBC 배치 INSERT가 가능하도록 IDENTITY 대신 pooled 테이블 시퀀스 사용 (V46)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_coupon_id")
+    @TableGenerator(name = "user_coupon_id", table = "id_sequences",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "user_coupons", allocationSize = 1000)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -43,18 +46,18 @@ public class UserCoupon {
     @Column(name = "valid_until", nullable = false)
     private LocalDateTime validUntil;
 
-    @Column(name = "pin_code", nullable = false, length = 32)
+    @Column(name = "pin_code", nullable = false, unique = true, length = 32)
     private String pinCode;
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    public UserCoupon(User user, Long couponId, LocalDateTime purchasedAt, LocalDateTime validUntil) {
+    public UserCoupon(User user, Long couponId, LocalDateTime purchasedAt, LocalDateTime validUntil, String pinCode) {
         this.user = user;
         this.couponId = couponId;
         this.purchasedAt = purchasedAt;
         this.validUntil = validUntil;
-        this.pinCode = UUID.randomUUID().toString().replaceAll("-", "").substring(0, 16).toUpperCase();
+        this.pinCode = pinCode;
     }
 }
@@ -0,0 +1,31 @@
+package com.mycard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 미읽음 직접 메시지 수 (증감은 UserMessageCounterRepository의 원자적 UPDATE로만 한다)
+ */
+@Entity
+@Table(name = "user_message_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserMessageCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount = 0L;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
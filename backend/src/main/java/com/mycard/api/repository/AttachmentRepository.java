@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -18,4 +19,7 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
     List<Attachment> findByDocumentId(Long documentId);
 
     Optional<Attachment> findFirstByDocumentId(Long documentId);
+
+    @Query("SELECT a FROM Attachment a WHERE a.document.id IN :documentIds ORDER BY a.id")
+    List<Attachment> findByDocumentIdIn(@Param("documentIds") Collection<Long> documentIds);
 }
@@ -0,0 +1,20 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.AuditLogArchiveSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AuditLogArchiveSegmentRepository extends JpaRepository<AuditLogArchiveSegment, Long> {
+
+    Optional<AuditLogArchiveSegment> findByPeriodStart(LocalDate periodStart);
+
+    List<AuditLogArchiveSegment> findByStatus(AuditLogArchiveSegment.SegmentStatus status);
+
+    List<AuditLogArchiveSegment> findByStatusInOrderByPeriodStartDesc(Collection<AuditLogArchiveSegment.SegmentStatus> statuses);
+}
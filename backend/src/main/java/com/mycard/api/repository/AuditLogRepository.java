@@ -30,18 +30,4 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
 
     @Query("SELECT al FROM AuditLog al WHERE CAST(al.actionType AS string) = :action ORDER BY al.createdAt DESC")
     Page<AuditLog> findByAction(@Param("action") String action, Pageable pageable);
-
-    @Query("SELECT al FROM AuditLog al WHERE " +
-            "(:userId IS NULL OR al.userId = :userId) AND " +
-            "(:resourceType IS NULL OR al.resourceType = :resourceType) AND " +
-            "(:actionType IS NULL OR al.actionType = :actionType) AND " +
-            "al.createdAt BETWEEN :start AND :end " +
-            "ORDER BY al.createdAt DESC")
-    Page<AuditLog> searchAuditLogs(
-            @Param("userId") Long userId,
-            @Param("resourceType") String resourceType,
-            @Param("actionType") AuditLog.ActionType actionType,
-            @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end,
-            Pageable pageable);
 }
@@ -0,0 +1,15 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.BankAccountBalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface BankAccountBalanceCheckpointRepository extends JpaRepository<BankAccountBalanceCheckpoint, Long> {
+
+    Optional<BankAccountBalanceCheckpoint> findFirstByBankAccountIdAndCreatedAtLessThanEqualOrderBySeqDesc(
+            Long bankAccountId, LocalDateTime at);
+}
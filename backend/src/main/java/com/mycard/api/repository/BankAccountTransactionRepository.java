@@ -2,12 +2,27 @@ package com.mycard.api.repository;
 
 import com.mycard.api.entity.BankAccountTransaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface BankAccountTransactionRepository extends JpaRepository<BankAccountTransaction, Long> {
 
     List<BankAccountTransaction> findTop5ByBankAccountIdOrderByCreatedAtDesc(Long bankAccountId);
+
+    /**
+     * afterSeq 이후, at 시점까지의 거래 합계 (출금은 음수)
+     */
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.transactionType = :withdrawal THEN -t.amount ELSE t.amount END), 0) " +
+           "FROM BankAccountTransaction t " +
+           "WHERE t.bankAccount.id = :accountId AND t.seq > :afterSeq AND t.createdAt <= :at")
+    BigDecimal sumSignedAmountAfterSeq(@Param("accountId") Long accountId,
+                                       @Param("afterSeq") Long afterSeq,
+                                       @Param("at") LocalDateTime at,
+                                       @Param("withdrawal") BankAccountTransaction.TransactionType withdrawal);
 }
@@ -0,0 +1,31 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.BoardAcl;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BoardAclRepository extends JpaRepository<BoardAcl, BoardAcl.Key> {
+
+    boolean existsByBoardIdAndUserId(Long boardId, Long userId);
+
+    @Query("SELECT a.userId FROM BoardAcl a WHERE a.boardId = :boardId")
+    List<Long> findUserIdsByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 게시글별 열람 허용 대상 (boardId, userId, 이름) 목록
+     */
+    @Query("SELECT a.boardId, a.userId, u.fullName FROM BoardAcl a, User u WHERE u.id = a.userId AND a.boardId IN :boardIds " +
+           "ORDER BY a.boardId, u.fullName")
+    List<Object[]> findEntriesByBoardIds(@Param("boardIds") Collection<Long> boardIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM board_acl WHERE board_id = :boardId", nativeQuery = true)
+    int deleteByBoardId(@Param("boardId") Long boardId);
+}
@@ -0,0 +1,92 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.BroadcastMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BroadcastMessageRepository extends JpaRepository<BroadcastMessage, Long> {
+
+    /**
+     * 사용자에게 보이는 브로드캐스트 조건 (가입 이후 발송분 + 세그먼트 일치)
+     * products는 비어 있으면 안 되므로 호출 측에서 빈 목록 대신 더미 값을 넘긴다.
+     */
+    String VISIBLE = "FROM broadcast_messages b " +
+            "WHERE b.created_at >= :since " +
+            "AND (b.segment_type = 'ALL' " +
+            "  OR (b.segment_type = 'ACTIVE_CARD' AND :hasActiveCard = TRUE) " +
+            "  OR (b.segment_type = 'CARD_PRODUCT' AND b.segment_value IN (:products)) " +
+            "  OR (b.segment_type = 'USER_LIST' AND EXISTS (" +
+            "      SELECT 1 FROM broadcast_message_recipients r WHERE r.broadcast_id = b.id AND r.user_id = :userId))) ";
+
+    @Query(value = "SELECT b.* " + VISIBLE + "ORDER BY b.id DESC LIMIT :limit", nativeQuery = true)
+    List<BroadcastMessage> findVisible(@Param("userId") Long userId,
+                                       @Param("since") LocalDateTime since,
+                                       @Param("hasActiveCard") boolean hasActiveCard,
+                                       @Param("products") Collection<String> products,
+                                       @Param("limit") int limit);
+
+    @Query(value = "SELECT b.* " + VISIBLE + "AND b.id = :broadcastId", nativeQuery = true)
+    Optional<BroadcastMessage> findVisibleById(@Param("broadcastId") Long broadcastId,
+                                               @Param("userId") Long userId,
+                                               @Param("since") LocalDateTime since,
+                                               @Param("hasActiveCard") boolean hasActiveCard,
+                                               @Param("products") Collection<String> products);
+
+    @Query(value = "SELECT COUNT(*) " + VISIBLE, nativeQuery = true)
+    long countVisible(@Param("userId") Long userId,
+                      @Param("since") LocalDateTime since,
+                      @Param("hasActiveCard") boolean hasActiveCard,
+                      @Param("products") Collection<String> products);
+
+    /**
+     * 워터마크보다 새롭고 개별 읽음 기록도 없는 브로드캐스트 수
+     */
+    @Query(value = "SELECT COUNT(*) " + VISIBLE +
+                   "AND b.id > :watermark " +
+                   "AND NOT EXISTS (SELECT 1 FROM broadcast_message_reads rd WHERE rd.user_id = :userId AND rd.broadcast_id = b.id)",
+           nativeQuery = true)
+    long countUnread(@Param("userId") Long userId,
+                     @Param("since") LocalDateTime since,
+                     @Param("hasActiveCard") boolean hasActiveCard,
+                     @Param("products") Collection<String> products,
+                     @Param("watermark") long watermark);
+
+    @Query(value = "SELECT broadcast_id FROM broadcast_message_reads WHERE user_id = :userId AND broadcast_id IN (:ids)",
+           nativeQuery = true)
+    List<Long> findReadIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO broadcast_message_reads (user_id, broadcast_id) VALUES (:userId, :broadcastId)",
+           nativeQuery = true)
+    int insertRead(@Param("userId") Long userId, @Param("broadcastId") Long broadcastId);
+
+    @Modifying
+    @Query(value = "DELETE FROM broadcast_message_reads WHERE user_id = :userId AND broadcast_id <= :watermark",
+           nativeQuery = true)
+    int deleteReadsUpTo(@Param("userId") Long userId, @Param("watermark") long watermark);
+
+    @Query(value = "SELECT COALESCE(broadcast_read_id, 0) FROM message_read_watermarks WHERE user_id = :userId",
+           nativeQuery = true)
+    Optional<Long> findWatermark(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO message_read_watermarks (user_id, broadcast_read_id) VALUES (:userId, :watermark) " +
+                   "ON DUPLICATE KEY UPDATE broadcast_read_id = GREATEST(broadcast_read_id, VALUES(broadcast_read_id))",
+           nativeQuery = true)
+    int advanceWatermark(@Param("userId") Long userId, @Param("watermark") long watermark);
+
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM BroadcastMessage b")
+    long findMaxId();
+
+    @Query(value = "SELECT COUNT(*) FROM broadcast_message_recipients WHERE broadcast_id = :broadcastId", nativeQuery = true)
+    long countRecipients(@Param("broadcastId") Long broadcastId);
+}
@@ -1,14 +1,18 @@
 package com.mycard.api.repository;
 
+import com.mycard.api.dto.CardApplicationQueueRow;
 import com.mycard.api.entity.CardApplication;
 import com.mycard.api.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +41,10 @@ public interface CardApplicationRepository extends JpaRepository<CardApplication
     // 사용자별 신청 조회 (소유권 확인용)
     Optional<CardApplication> findByIdAndUser(Long id, User user);
 
+    // 승인된 카드 상품명 (브로드캐스트 CARD_PRODUCT 세그먼트 판정용)
+    @Query("SELECT DISTINCT c.cardProduct FROM CardApplication c WHERE c.user.id = :userId AND c.status = 'APPROVED'")
+    List<String> findApprovedCardProductsByUserId(@Param("userId") Long userId);
+
     List<CardApplication> findByUserIdAndBankAccount_Id(Long userId, Long bankAccountId);
     
     // 전체 목록 (관리자용)
@@ -45,6 +53,37 @@ public interface CardApplicationRepository extends JpaRepository<CardApplication
            "c.createdAt DESC")
     Page<CardApplication> findAllForAdmin(Pageable pageable);
     
+    // 심사 큐 목록 (관리자용) - DTO로 바로 투영해 회원/심사자/계좌 지연 로딩과 암호화 컬럼 복호화를 건너뛴다
+    String QUEUE_ROW_SELECT = "SELECT new com.mycard.api.dto.CardApplicationQueueRow(" +
+            "c.id, c.fullName, c.phone, c.email, c.employmentType, c.cardType, c.cardProduct, c.requestedCreditLimit, " +
+            "c.status, c.reviewedAt, c.rejectionReason, c.approvedCreditLimit, c.retentionUntil, " +
+            "b.id, b.bankName, b.accountNumberMasked, u.fullName, u.email, r.fullName, c.issuedCard.id, c.createdAt, c.updatedAt) " +
+            "FROM CardApplication c JOIN c.user u LEFT JOIN c.bankAccount b LEFT JOIN c.reviewedBy r ";
+
+    @Query(value = QUEUE_ROW_SELECT + "ORDER BY " +
+           "CASE c.status WHEN 'PENDING' THEN 1 WHEN 'REVIEWING' THEN 2 ELSE 3 END, " +
+           "c.createdAt DESC",
+           countQuery = "SELECT COUNT(c) FROM CardApplication c")
+    Page<CardApplicationQueueRow> findQueueForAdmin(Pageable pageable);
+
+    @Query(value = QUEUE_ROW_SELECT + "WHERE c.status = :status ORDER BY c.createdAt DESC",
+           countQuery = "SELECT COUNT(c) FROM CardApplication c WHERE c.status = :status")
+    Page<CardApplicationQueueRow> findQueueByStatus(@Param("status") CardApplication.ApplicationStatus status,
+                                                    Pageable pageable);
+    
+    // 일괄 심사 청크 조회 (신청자와 권한까지 한 번에 - 카드 발급/알림 수신자로 쓴다)
+    @Query("SELECT DISTINCT c FROM CardApplication c JOIN FETCH c.user u LEFT JOIN FETCH u.roles WHERE c.id IN :ids")
+    List<CardApplication> findAllByIdInWithUser(@Param("ids") Collection<Long> ids);
+    
+    // 심사 대상 행 잠금 (겹치는 일괄 작업/단건 심사가 같은 신청을 두 번 처리하지 않도록, ID 순서로 잠가 교착을 피한다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CardApplication c WHERE c.id IN :ids ORDER BY c.id")
+    List<CardApplication> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CardApplication c WHERE c.id = :id")
+    Optional<CardApplication> findByIdForUpdate(@Param("id") Long id);
+    
     // 검색 (관리자용)
     @Query("SELECT c FROM CardApplication c WHERE " +
            "c.fullName LIKE %:keyword% OR " +
@@ -30,4 +30,6 @@ public interface CardRepository extends JpaRepository<Card, Long> {
     List<Card> findByUserIdAndBankAccount_Id(Long userId, Long bankAccountId);
 
     boolean existsByCardNumber(String cardNumber);
+
+    boolean existsByUserIdAndStatus(Long userId, Card.CardStatus status);
 }
@@ -2,11 +2,27 @@ package com.mycard.api.repository;
 
 import com.mycard.api.entity.CouponCatalog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CouponCatalogRepository extends JpaRepository<CouponCatalog, Long> {
     Optional<CouponCatalog> findByIdAndActiveTrue(Long id);
+
+    /**
+     * 카탈로그와 현재 판매량(정산분 + 미정산 저널)을 한 문장으로 읽는다.
+     * 한 문장 안에서는 정산 배치가 저널을 sold_count로 옮기는 중이어도 이중 집계나 누락이 없다.
+     */
+    @Query("SELECT c, c.soldCount + COALESCE((SELECT SUM(j.quantity) FROM CouponStockJournal j WHERE j.couponId = c.id), 0) " +
+           "FROM CouponCatalog c")
+    List<Object[]> findAllWithSoldTotal();
+
+    @Modifying
+    @Query("UPDATE CouponCatalog c SET c.soldCount = c.soldCount + :quantity WHERE c.id = :couponId")
+    int addSoldCount(@Param("couponId") Long couponId, @Param("quantity") long quantity);
 }
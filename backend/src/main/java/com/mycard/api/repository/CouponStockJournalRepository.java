@@ -0,0 +1,29 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.CouponStockJournal;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CouponStockJournalRepository extends JpaRepository<CouponStockJournal, Long> {
+
+    /**
+     * 정산할 저널 묶음을 잠그고 가져온다. (잠금 읽기라 합계와 삭제가 같은 행 집합을 본다)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM CouponStockJournal j ORDER BY j.id")
+    List<CouponStockJournal> findOldestForUpdate(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM CouponStockJournal j WHERE j.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
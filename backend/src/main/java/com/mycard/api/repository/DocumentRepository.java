@@ -1,13 +1,17 @@
 package com.mycard.api.repository;
 
 import com.mycard.api.entity.Document;
+import com.mycard.api.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -37,6 +41,26 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     @Query("SELECT d FROM Document d WHERE d.cardApplication.id = :cardApplicationId ORDER BY d.createdAt DESC")
     List<Document> findByCardApplicationIdOrderByCreatedAtDesc(@Param("cardApplicationId") Long cardApplicationId);
 
+    // 심사 큐 한 페이지의 증빙서류를 한 번에 조회
+    @Query("SELECT d FROM Document d WHERE d.cardApplication.id IN :cardApplicationIds ORDER BY d.createdAt DESC")
+    List<Document> findByCardApplicationIdIn(@Param("cardApplicationIds") Collection<Long> cardApplicationIds);
+
+    // 일괄 심사 전 연결 서류 수와 그중 심사 대기(SUBMITTED/UNDER_REVIEW) 수 [total, awaiting]
+    @Query("SELECT COUNT(d), COALESCE(SUM(CASE WHEN d.status IN (:awaiting) THEN 1 ELSE 0 END), 0) " +
+           "FROM Document d WHERE d.cardApplication.id IN :cardApplicationIds")
+    List<Object[]> countLinkedDocuments(@Param("cardApplicationIds") Collection<Long> cardApplicationIds,
+                                        @Param("awaiting") Collection<Document.DocumentStatus> awaiting);
+
+    // 일괄 심사 시 연결 서류 상태를 한 문장으로 갱신
+    @Modifying
+    @Query("UPDATE Document d SET d.status = :status, d.reviewedBy = :reviewer, d.reviewedAt = :reviewedAt, " +
+           "d.reviewComment = :reason WHERE d.cardApplication.id IN :cardApplicationIds")
+    int updateStatusByCardApplicationIds(@Param("cardApplicationIds") Collection<Long> cardApplicationIds,
+                                         @Param("status") Document.DocumentStatus status,
+                                         @Param("reason") String reason,
+                                         @Param("reviewer") User reviewer,
+                                         @Param("reviewedAt") LocalDateTime reviewedAt);
+
     default Page<Document> findByIsPublicTrueAndCategory(Document.DocumentCategory category, Pageable pageable) {
         return findByIsPublicTrue(pageable);
     }
@@ -1,20 +1,28 @@
 package com.mycard.api.repository;
 
+import com.mycard.api.dto.inquiry.InquiryListResponse;
 import com.mycard.api.entity.Inquiry;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
 
-    @Query("SELECT i FROM Inquiry i WHERE i.user.id = :userId ORDER BY i.createdAt DESC")
-    Page<Inquiry> findByUserId(@Param("userId") Long userId, Pageable pageable);
+    // 목록 조회는 DTO로 바로 투영 (답변 컬렉션/회원/담당자 지연 로딩 없이 내용 1회 + 건수 1회)
+    @Query(value = "SELECT new com.mycard.api.dto.inquiry.InquiryListResponse(" +
+            "i.id, i.category, i.title, i.status, u.fullName, o.fullName, i.hasStaffReply, i.replyCount, i.lastReplyAt, i.createdAt) " +
+            "FROM Inquiry i JOIN i.user u LEFT JOIN i.assignedOperator o WHERE i.user.id = :userId ORDER BY i.createdAt DESC",
+            countQuery = "SELECT COUNT(i) FROM Inquiry i WHERE i.user.id = :userId")
+    Page<InquiryListResponse> findListByUserId(@Param("userId") Long userId, Pageable pageable);
 
     @Query("SELECT i FROM Inquiry i LEFT JOIN FETCH i.replies r LEFT JOIN FETCH r.author WHERE i.id = :id AND i.user.id = :userId")
     Optional<Inquiry> findByIdAndUserIdWithDetails(@Param("id") Long id, @Param("userId") Long userId);
@@ -24,26 +32,52 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
 
     Page<Inquiry> findByStatus(Inquiry.InquiryStatus status, Pageable pageable);
 
-    @Query("SELECT i FROM Inquiry i WHERE i.assignedOperator.id = :operatorId ORDER BY i.createdAt DESC")
-    Page<Inquiry> findByAssignedOperatorId(@Param("operatorId") Long operatorId, Pageable pageable);
+    @Query(value = "SELECT new com.mycard.api.dto.inquiry.InquiryListResponse(" +
+            "i.id, i.category, i.title, i.status, u.fullName, o.fullName, i.hasStaffReply, i.replyCount, i.lastReplyAt, i.createdAt) " +
+            "FROM Inquiry i JOIN i.user u LEFT JOIN i.assignedOperator o WHERE i.assignedOperator.id = :operatorId ORDER BY i.createdAt DESC",
+            countQuery = "SELECT COUNT(i) FROM Inquiry i WHERE i.assignedOperator.id = :operatorId")
+    Page<InquiryListResponse> findListByAssignedOperatorId(@Param("operatorId") Long operatorId, Pageable pageable);
 
-    @Query("SELECT i FROM Inquiry i WHERE i.assignedOperator IS NULL AND i.status = 'OPEN' ORDER BY i.createdAt ASC")
-    Page<Inquiry> findUnassignedInquiries(Pageable pageable);
-
-    // 대시보드용 count 쿼리
-    @Query("SELECT COUNT(i) FROM Inquiry i WHERE i.assignedOperator IS NULL AND i.status = 'OPEN'")
-    long countUnassigned();
+    @Query(value = "SELECT new com.mycard.api.dto.inquiry.InquiryListResponse(" +
+            "i.id, i.category, i.title, i.status, u.fullName, o.fullName, i.hasStaffReply, i.replyCount, i.lastReplyAt, i.createdAt) " +
+            "FROM Inquiry i JOIN i.user u LEFT JOIN i.assignedOperator o WHERE i.assignedOperator IS NULL AND i.status = 'OPEN' ORDER BY i.createdAt ASC",
+            countQuery = "SELECT COUNT(i) FROM Inquiry i WHERE i.assignedOperator IS NULL AND i.status = 'OPEN'")
+    Page<InquiryListResponse> findUnassignedList(Pageable pageable);
 
+    // 대시보드용 count 쿼리 (자동 배정 대상이 아닌 관리자 계정용)
     @Query("SELECT COUNT(i) FROM Inquiry i WHERE i.assignedOperator.id = :operatorId AND i.status != 'RESOLVED'")
     long countByAssignedOperatorIdAndNotResolved(@Param("operatorId") Long operatorId);
 
     @Query("SELECT COUNT(i) FROM Inquiry i WHERE i.status = 'OPEN'")
     long countByStatusOpen();
 
+    long countByCreatedAtGreaterThanEqual(LocalDateTime from);
+
+    // 관리자 대시보드 최근 문의 (담당자 이름까지 한 번에 조회, 건수 쿼리 없음)
+    @Query("SELECT i FROM Inquiry i LEFT JOIN FETCH i.assignedOperator ORDER BY i.createdAt DESC")
+    List<Inquiry> findRecentWithOperator(Pageable pageable);
+
     @Query("SELECT COUNT(i) FROM Inquiry i WHERE i.status = 'IN_PROGRESS'")
     long countByStatusInProgress();
 
     // 문의 큐 - 전체 조회 (완료 포함)
-    @Query("SELECT i FROM Inquiry i ORDER BY i.createdAt DESC")
-    Page<Inquiry> findAllInquiries(Pageable pageable);
+    @Query(value = "SELECT new com.mycard.api.dto.inquiry.InquiryListResponse(" +
+            "i.id, i.category, i.title, i.status, u.fullName, o.fullName, i.hasStaffReply, i.replyCount, i.lastReplyAt, i.createdAt) " +
+            "FROM Inquiry i JOIN i.user u LEFT JOIN i.assignedOperator o ORDER BY i.createdAt DESC",
+            countQuery = "SELECT COUNT(i) FROM Inquiry i")
+    Page<InquiryListResponse> findAllList(Pageable pageable);
+
+    /**
+     * 답변 통계 원자적 갱신 (동시 답변에서도 건수 유실 없음, 마지막 답변 시각은 더 늦은 값 유지)
+     */
+    @Modifying
+    @Query("UPDATE Inquiry i SET i.replyCount = i.replyCount + 1, " +
+           "i.lastReplyAt = CASE WHEN i.lastReplyAt IS NULL OR i.lastReplyAt < :repliedAt THEN :repliedAt ELSE i.lastReplyAt END, " +
+           "i.hasStaffReply = CASE WHEN :staffReply = true THEN true ELSE i.hasStaffReply END, " +
+           "i.lastStaffReplyAt = CASE WHEN :staffReply = true AND (i.lastStaffReplyAt IS NULL OR i.lastStaffReplyAt < :repliedAt) " +
+           "THEN :repliedAt ELSE i.lastStaffReplyAt END " +
+           "WHERE i.id = :inquiryId")
+    int recordReply(@Param("inquiryId") Long inquiryId,
+                    @Param("repliedAt") LocalDateTime repliedAt,
+                    @Param("staffReply") boolean staffReply);
 }
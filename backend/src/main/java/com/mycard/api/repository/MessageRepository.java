@@ -1,9 +1,11 @@
 package com.mycard.api.repository;
 
 import com.mycard.api.entity.Message;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,7 +28,17 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     @Query("SELECT COUNT(m) FROM Message m WHERE m.recipient.id = :userId AND m.readAt IS NULL")
     long countByUserIdAndIsReadFalse(@Param("userId") Long userId);
 
+    /**
+     * 읽음/삭제 처리용 잠금 조회 (동시에 같은 메시지를 읽어도 미읽음 카운터가 한 번만 줄도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Message m WHERE m.id = :id")
+    Optional<Message> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * @return 실제로 읽음 처리된 건수 (미읽음 카운터 차감량)
+     */
     @Modifying
     @Query("UPDATE Message m SET m.readAt = CURRENT_TIMESTAMP WHERE m.recipient.id = :userId AND m.readAt IS NULL")
-    void markAllAsReadByUserId(@Param("userId") Long userId);
+    int markAllAsReadByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,13 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.PointBalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PointBalanceSnapshotRepository extends JpaRepository<PointBalanceSnapshot, Long> {
+
+    Optional<PointBalanceSnapshot> findFirstByUserIdOrderBySnapshotAtDesc(Long userId);
+}
@@ -0,0 +1,48 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.PointLedgerArchiveIndex;
+import com.mycard.api.entity.PointLedgerArchiveSegment.SegmentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PointLedgerArchiveIndexRepository extends JpaRepository<PointLedgerArchiveIndex, Long> {
+
+    /**
+     * 특정 상태 세그먼트의 사용자 인덱스 조회 (최신 월 우선)
+     */
+    @Query("SELECT i FROM PointLedgerArchiveIndex i JOIN FETCH i.segment s " +
+           "WHERE i.userId = :userId AND s.status = :status " +
+           "ORDER BY s.periodStart DESC")
+    List<PointLedgerArchiveIndex> findByUserIdAndSegmentStatus(@Param("userId") Long userId,
+                                                               @Param("status") SegmentStatus status);
+
+    /**
+     * 핫 파티션에서 삭제가 끝난(PURGED) 세그먼트의 인덱스만 조회 (최신 월 우선)
+     */
+    default List<PointLedgerArchiveIndex> findPurgedByUserId(Long userId) {
+        return findByUserIdAndSegmentStatus(userId, SegmentStatus.PURGED);
+    }
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO point_ledger_archive_index (segment_id, user_id, entry_type, row_count) " +
+                   "SELECT :segmentId, user_id, entry_type, COUNT(*) FROM point_ledger " +
+                   "WHERE created_at >= :fromInclusive AND created_at < :toExclusive " +
+                   "GROUP BY user_id, entry_type", nativeQuery = true)
+    int insertFromHotRange(@Param("segmentId") Long segmentId,
+                           @Param("fromInclusive") LocalDateTime fromInclusive,
+                           @Param("toExclusive") LocalDateTime toExclusive);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PointLedgerArchiveIndex i WHERE i.segment.id = :segmentId")
+    int deleteBySegmentId(@Param("segmentId") Long segmentId);
+}
@@ -0,0 +1,17 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.PointLedgerArchiveSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PointLedgerArchiveSegmentRepository extends JpaRepository<PointLedgerArchiveSegment, Long> {
+
+    Optional<PointLedgerArchiveSegment> findByPeriodStart(LocalDate periodStart);
+
+    List<PointLedgerArchiveSegment> findByStatus(PointLedgerArchiveSegment.SegmentStatus status);
+}
@@ -1,22 +1,32 @@
 package com.mycard.api.repository;
 
 import com.mycard.api.entity.PointLedger;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PointLedgerRepository extends JpaRepository<PointLedger, Long> {
 
-    @Query("SELECT pl FROM PointLedger pl WHERE pl.user.id = :userId ORDER BY pl.createdAt DESC")
-    Page<PointLedger> findByUserId(@Param("userId") Long userId, Pageable pageable);
+    /**
+     * 키셋 페이지 (beforeId보다 작은 ID, 최신순) - idx_point_ledger_user_id(user_id, id) 범위 스캔
+     */
+    @Query("SELECT pl FROM PointLedger pl WHERE pl.user.id = :userId AND pl.id < :beforeId ORDER BY pl.id DESC")
+    List<PointLedger> findPageByUserId(@Param("userId") Long userId,
+                                       @Param("beforeId") Long beforeId,
+                                       Pageable pageable);
+
+    @Query("SELECT pl FROM PointLedger pl WHERE pl.user.id = :userId AND pl.transactionType = :type " +
+           "AND pl.id < :beforeId ORDER BY pl.id DESC")
+    List<PointLedger> findPageByUserIdAndTransactionType(@Param("userId") Long userId,
+                                                         @Param("type") PointLedger.TransactionType type,
+                                                         @Param("beforeId") Long beforeId,
+                                                         Pageable pageable);
 
-    @Query("SELECT pl FROM PointLedger pl WHERE pl.user.id = :userId AND pl.transactionType = :type ORDER BY pl.createdAt DESC")
-    Page<PointLedger> findByUserIdAndTransactionType(
-            @Param("userId") Long userId,
-            @Param("type") PointLedger.TransactionType type,
-            Pageable pageable);
+    @Query("SELECT COALESCE(SUM(pl.amount), 0) FROM PointLedger pl WHERE pl.user.id = :userId AND pl.id > :afterId")
+    Long sumAmountByUserIdAfterId(@Param("userId") Long userId, @Param("afterId") Long afterId);
 }
@@ -0,0 +1,22 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.PolicyVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PolicyVersionRepository extends JpaRepository<PolicyVersion, String> {
+
+    @Query("SELECT v.version FROM PolicyVersion v WHERE v.name = :name")
+    Optional<Long> findVersion(@Param("name") String name);
+
+    @Modifying
+    @Query(value = "INSERT INTO policy_versions (name, version) VALUES (:name, 2) " +
+                   "ON DUPLICATE KEY UPDATE version = version + 1", nativeQuery = true)
+    int bump(@Param("name") String name);
+}
@@ -0,0 +1,29 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.UploadSession;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UploadSessionRepository extends JpaRepository<UploadSession, Long> {
+
+    /**
+     * 청크 수신 기록/확정용 잠금 조회 (병렬로 도착한 청크가 비트맵을 덮어쓰지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UploadSession s WHERE s.id = :id")
+    Optional<UploadSession> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT s FROM UploadSession s WHERE s.status = :status AND s.expiresAt < :now ORDER BY s.id")
+    List<UploadSession> findByStatusAndExpiresAtBefore(@Param("status") UploadSession.SessionStatus status,
+                                                       @Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,5 +27,28 @@ public interface UserBankAccountRepository extends JpaRepository<UserBankAccount
     @Query("UPDATE UserBankAccount a SET a.isDefault = false WHERE a.user.id = :userId AND a.id != :accountId")
     void clearDefaultExcept(@Param("userId") Long userId, @Param("accountId") Long accountId);
 
+    /**
+     * 잔액 원자적 증감 + seq 발급. 행 잠금은 트랜잭션 끝까지 유지되므로 같은 계좌의 거래는 seq 순서대로 직렬화된다.
+     * 출금으로 잔액이 음수가 되면 0건 갱신.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user_bank_accounts " +
+                   "SET current_balance = current_balance + :delta, last_seq = last_seq + 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE id = :accountId AND current_balance + :delta >= 0", nativeQuery = true)
+    int applyBalanceDelta(@Param("accountId") Long accountId, @Param("delta") BigDecimal delta);
+
+    /**
+     * 같은 트랜잭션에서 applyBalanceDelta 직후 호출하면 방금 반영한 잔액과 seq를 읽는다.
+     */
+    @Query(value = "SELECT current_balance AS balance, last_seq AS seq FROM user_bank_accounts WHERE id = :accountId",
+           nativeQuery = true)
+    LedgerPosition findLedgerPosition(@Param("accountId") Long accountId);
+
+    interface LedgerPosition {
+        BigDecimal getBalance();
+
+        Long getSeq();
+    }
+
     boolean existsByUserIdAndBankCodeAndAccountNumber(Long userId, String bankCode, String accountNumber);
 }
@@ -0,0 +1,27 @@
+package com.mycard.api.repository;
+
+import com.mycard.api.entity.UserMessageCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserMessageCounterRepository extends JpaRepository<UserMessageCounter, Long> {
+
+    @Query("SELECT c.unreadCount FROM UserMessageCounter c WHERE c.userId = :userId")
+    Optional<Long> findUnreadCount(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_message_counters (user_id, unread_count) VALUES (:userId, :delta) " +
+                   "ON DUPLICATE KEY UPDATE unread_count = unread_count + VALUES(unread_count)", nativeQuery = true)
+    int increment(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE user_message_counters SET unread_count = GREATEST(unread_count - :delta, 0) " +
+                   "WHERE user_id = :userId", nativeQuery = true)
+    int decrement(@Param("userId") Long userId, @Param("delta") long delta);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +28,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Page<User> findByEmailContainingOrFullNameContaining(String email, String fullName, Pageable pageable);
 
+    @Query("SELECT u.id, u.fullName FROM User u WHERE u.fullName IN :names")
+    List<Object[]> findIdAndNameByFullNameIn(@Param("names") Collection<String> names);
+
     default Optional<User> findByUsername(String username) {
         return findByEmail(username);
     }
@@ -0,0 +1,167 @@
+package com.mycard.api.service;
+
+import com.mycard.api.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 대시보드 운영 지표
+ * 서비스 쓰기 경로가 커밋될 때 증감분을 노드 메모리에 모으고, 주기적으로 admin_metric_snapshots에 더한 뒤
+ * 전체 노드의 합산 값을 다시 읽어 둔다. 조회는 (마지막 합산 값 + 아직 반영 안 된 로컬 증감분)으로 메모리에서 응답한다.
+ * 종료 전 반영하지 못한 증감분이나 누락된 쓰기 경로로 생긴 오차는 야간 재집계로 보정한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminMetricsService {
+
+    public enum Metric {
+        LOCKED_USERS("SELECT COUNT(*) FROM users WHERE status = 'LOCKED'"),
+        PENDING_DOCUMENTS("SELECT COUNT(*) FROM documents WHERE status IN ('SUBMITTED', 'UNDER_REVIEW')"),
+        OPEN_INQUIRIES("SELECT COUNT(*) FROM inquiries WHERE status IN ('OPEN', 'ASSIGNED')"),
+        PENDING_CARD_APPLICATIONS("SELECT COUNT(*) FROM card_applications WHERE status IN ('PENDING', 'REVIEWING')"),
+        UNREAD_MESSAGES("SELECT COUNT(*) FROM messages WHERE read_at IS NULL");
+
+        private final String countSql;
+
+        Metric(String countSql) {
+            this.countSql = countSql;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Metric, AtomicLong> totals = newCounters();
+    private final Map<Metric, AtomicLong> pending = newCounters();
+
+    /**
+     * 지표 증감. 트랜잭션 안에서 호출되면 커밋된 경우에만 반영한다.
+     */
+    public void adjust(Metric metric, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> pending.get(metric).addAndGet(delta));
+    }
+
+    /**
+     * 상태 전이에 따른 증감. (조건을 벗어나면 -1, 새로 만족하면 +1)
+     */
+    public void transition(Metric metric, boolean before, boolean after) {
+        if (before != after) {
+            adjust(metric, after ? 1 : -1);
+        }
+    }
+
+    public long get(Metric metric) {
+        return Math.max(0, totals.get(metric).get() + pending.get(metric).get());
+    }
+
+    public Map<Metric, Long> snapshot() {
+        Map<Metric, Long> values = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            values.put(metric, get(metric));
+        }
+        return values;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            for (Metric metric : Metric.values()) {
+                // 마이그레이션 이후 추가된 지표는 한 번 전체 집계로 시작한다
+                jdbcTemplate.update(
+                        "INSERT IGNORE INTO admin_metric_snapshots (metric_key, metric_value) SELECT ?, (" + metric.countSql + ")",
+                        metric.name());
+            }
+            reloadTotals();
+        } catch (Exception e) {
+            log.warn("관리자 지표 초기 적재 실패 (다음 반영 주기에 재시도)", e);
+        }
+    }
+
+    /**
+     * 로컬 증감분을 스냅샷 테이블에 더하고 합산 값을 다시 읽는다.
+     */
+    @Scheduled(fixedDelayString = "${app.admin.metrics.flush-ms:5000}")
+    public void flush() {
+        try {
+            for (Metric metric : Metric.values()) {
+                long delta = pending.get(metric).getAndSet(0);
+                if (delta == 0) {
+                    continue;
+                }
+                try {
+                    jdbcTemplate.update(
+                            "UPDATE admin_metric_snapshots SET metric_value = metric_value + ? WHERE metric_key = ?",
+                            delta, metric.name());
+                } catch (RuntimeException e) {
+                    pending.get(metric).addAndGet(delta);
+                    throw e;
+                }
+            }
+            reloadTotals();
+        } catch (Exception e) {
+            log.error("관리자 지표 스냅샷 반영 실패", e);
+        }
+    }
+
+    /**
+     * 원본 테이블 기준 재집계. 집계와 겹친 다른 노드의 미반영 증감분만큼은 다음 재집계까지 오차로 남을 수 있다.
+     */
+    @Scheduled(cron = "${app.admin.metrics.recount-cron:0 40 4 * * *}")
+    public void recount() {
+        try {
+            flush();
+            Map<String, Object> changed = new LinkedHashMap<>();
+            for (Metric metric : Metric.values()) {
+                Long actual = jdbcTemplate.queryForObject(metric.countSql, Long.class);
+                long value = actual != null ? actual : 0;
+                int updated = jdbcTemplate.update(
+                        "UPDATE admin_metric_snapshots SET metric_value = ? WHERE metric_key = ? AND metric_value <> ?",
+                        value, metric.name(), value);
+                if (updated > 0) {
+                    changed.put(metric.name(), value);
+                }
+            }
+            reloadTotals();
+            log.info("관리자 지표 재집계 완료 - corrected={}", changed);
+        } catch (Exception e) {
+            log.error("관리자 지표 재집계 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void reloadTotals() {
+        jdbcTemplate.query("SELECT metric_key, metric_value FROM admin_metric_snapshots", rs -> {
+            try {
+                totals.get(Metric.valueOf(rs.getString("metric_key"))).set(rs.getLong("metric_value"));
+            } catch (IllegalArgumentException e) {
+                // 더 이상 쓰지 않는 지표 키
+            }
+        });
+    }
+
+    private static Map<Metric, AtomicLong> newCounters() {
+        Map<Metric, AtomicLong> counters = new EnumMap<>(Metric.class);
+        for (Metric metric : Metric.values()) {
+            counters.put(metric, new AtomicLong());
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,338 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.Attachment;
+import com.mycard.api.entity.User;
+import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.util.AfterCommit;
+import com.mycard.api.util.ShardedPaths;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 첨부파일 내용 주소 저장소
+ * 업로드 스트림을 임시 파일로 쓰면서 SHA-256을 계산하고, blobs/ab/cd/{sha256} 경로로 원자적 rename 한다.
+ * 같은 내용이 이미 있으면 임시 파일을 버리고 기존 blob의 참조 수만 올린다.
+ *
+ * 참조 수(file_blobs.ref_count)는 업로드/첨부 삭제 시 증감하고, 수거 배치가 attachments 기준으로 다시 세어 보정한다.
+ * 수거는 blob 행을 FOR UPDATE로 잠근 채 파일을 지우므로, 같은 내용을 동시에 올리는 업로드는 잠금이 풀린 뒤
+ * 행을 새로 만들고 파일이 없으면 자기 임시 파일을 옮겨 놓는다.
+ * 업로드 트랜잭션이 롤백되면 행 없는 파일만 남을 수 있으며, 이는 UploadOrphanReconciler가 격리한다.
+ */
+@Slf4j
+@Service
+public class AttachmentBlobStore {
+
+    private static final long INGEST_WINDOW = 64L * 1024 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path baseDir;
+    private final Path tempDir;
+    private final Duration gcGrace;
+
+    private final AtomicLong logicalBytes = new AtomicLong();
+    private final AtomicLong physicalBytes = new AtomicLong();
+    private final Counter dedupedCounter;
+    private final Counter reclaimedBytesCounter;
+
+    public AttachmentBlobStore(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.upload.blobs.base-path:/var/lib/mycard/blobs}") String basePath,
+                               @Value("${app.upload.blobs.gc-grace-minutes:60}") long gcGraceMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.baseDir = Paths.get(basePath).toAbsolutePath().normalize();
+        this.tempDir = baseDir.resolve("tmp");
+        this.gcGrace = Duration.ofMinutes(gcGraceMinutes);
+
+        Gauge.builder("attachment.blob.dedupe.ratio", this, AttachmentBlobStore::dedupeRatio)
+                .description("첨부 논리 용량 / 실제 저장 용량")
+                .register(meterRegistry);
+        Gauge.builder("attachment.blob.logical.bytes", logicalBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("attachment.blob.physical.bytes", physicalBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.dedupedCounter = meterRegistry.counter("attachment.blob.deduplicated");
+        this.reclaimedBytesCounter = meterRegistry.counter("attachment.blob.reclaimed.bytes");
+    }
+
+    /**
+     * 업로드 내용을 저장하고 참조 수를 1 올린다. 호출자 트랜잭션 안에서 실행해야 참조와 첨부 행이 함께 커밋된다.
+     */
+    public StoredBlob store(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return write(in);
+        } catch (IOException e) {
+            log.error("첨부파일 저장 실패: {}", file.getOriginalFilename(), e);
+            throw new BadRequestException("파일 저장에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 이미 디스크에 있는 파일(이전 방식 첨부)을 blob으로 복사해 들인다. 원본은 호출자가 커밋 후 지운다.
+     */
+    public StoredBlob adopt(Path source) throws IOException {
+        try (InputStream in = Files.newInputStream(source)) {
+            return write(in);
+        }
+    }
+
+    private StoredBlob write(InputStream source) throws IOException {
+        Path temp = null;
+        try {
+            temp = createTempFile("upload-");
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size;
+            try (InputStream in = new DigestInputStream(source, digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+
+            StoredBlob blob = place(temp, sha256, size);
+            temp = null;
+            return blob;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("임시 업로드 파일 삭제 실패: {}", temp, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 분할 업로드처럼 호출자가 직접 채우는 임시 파일 (blob과 같은 파일 시스템이라 확정 시 rename으로 옮겨진다)
+     */
+    public Path createTempFile(String prefix) throws IOException {
+        Files.createDirectories(tempDir);
+        return Files.createTempFile(tempDir, prefix, ".part");
+    }
+
+    /**
+     * createTempFile로 만든 파일을 해시를 계산해 blob으로 옮긴다. (복사 없이 rename, 같은 내용이 있으면 파일은 지운다)
+     * 내용은 메모리 매핑으로 읽어 힙 버퍼를 거치지 않는다.
+     *
+     * @param expectedSha256 클라이언트가 알려 준 전체 해시 (없으면 null)
+     */
+    public StoredBlob ingest(Path file, String expectedSha256) throws IOException {
+        String sha256;
+        long size;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            size = channel.size();
+            for (long position = 0; position < size; position += INGEST_WINDOW) {
+                digest.update(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(INGEST_WINDOW, size - position)));
+            }
+            sha256 = HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        if (expectedSha256 != null && !expectedSha256.equalsIgnoreCase(sha256)) {
+            throw new BadRequestException("파일 체크섬이 일치하지 않습니다.");
+        }
+        return place(file, sha256, size);
+    }
+
+    /**
+     * 참조 수를 올리고 임시 파일을 blob 경로로 옮긴다. 같은 내용이 이미 있으면 임시 파일을 지운다.
+     */
+    private StoredBlob place(Path temp, String sha256, long size) throws IOException {
+        // 행 잠금(신규 INSERT 또는 기존 행 UPDATE) 이후에 파일 존재를 확인해야 수거 배치와 엇갈리지 않는다.
+        int affected = jdbcTemplate.update(
+                "INSERT INTO file_blobs (sha256, size_bytes, ref_count, created_at, last_referenced_at) "
+                        + "VALUES (?, ?, 1, NOW(), NOW()) "
+                        + "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, last_referenced_at = NOW()",
+                sha256, size);
+        boolean existingRow = affected == 2;
+
+        Path target = pathOf(sha256);
+        boolean deduplicated = Files.exists(target);
+        if (deduplicated) {
+            Files.delete(temp);
+            dedupedCounter.increment();
+        } else {
+            Files.createDirectories(target.getParent());
+            moveIntoPlace(temp, target);
+        }
+
+        logicalBytes.addAndGet(size);
+        if (!existingRow) {
+            physicalBytes.addAndGet(size);
+        }
+        return new StoredBlob(sha256, target, size, deduplicated);
+    }
+
+    /**
+     * 첨부 삭제 시 파일 정리 - blob 참조면 참조 수만 내리고(실제 삭제는 수거 배치), 이전 방식 파일은 커밋 후 지운다.
+     * (트랜잭션이 롤백되면 첨부 행이 남으므로 파일도 남겨 둔다)
+     */
+    public void discard(Attachment attachment) {
+        if (isBlob(attachment)) {
+            jdbcTemplate.update("UPDATE file_blobs SET ref_count = ref_count - 1 WHERE sha256 = ? AND ref_count > 0",
+                    attachment.getChecksum());
+            logicalBytes.addAndGet(-attachment.getFileSize());
+            return;
+        }
+        Path path = Paths.get(attachment.getFilePath());
+        AfterCommit.run(() -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("첨부파일 삭제 실패: {}", path, e);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${app.upload.blobs.gc-cron:0 30 4 * * *}")
+    public void collectGarbage() {
+        try {
+            int recounted = recountReferences();
+            long reclaimed = collectUnreferenced();
+            refreshStats();
+            log.info("첨부 blob 수거 완료 - recounted={}, reclaimedBytes={}", recounted, reclaimed);
+        } catch (Exception e) {
+            log.error("첨부 blob 수거 실패", e);
+        }
+    }
+
+    /**
+     * FK CASCADE 등 discard를 거치지 않은 삭제를 반영한다. (유예 시간 안에 업로드된 blob은 제외)
+     */
+    public int recountReferences() {
+        return jdbcTemplate.update(
+                "UPDATE file_blobs b "
+                        + "LEFT JOIN (SELECT checksum_sha256, COUNT(*) AS cnt FROM attachments "
+                        + "           WHERE checksum_sha256 = stored_filename GROUP BY checksum_sha256) a "
+                        + "       ON a.checksum_sha256 = b.sha256 "
+                        + "SET b.ref_count = COALESCE(a.cnt, 0) "
+                        + "WHERE b.last_referenced_at < ? AND b.ref_count <> COALESCE(a.cnt, 0)",
+                Timestamp.valueOf(LocalDateTime.now().minus(gcGrace)));
+    }
+
+    /**
+     * @return 회수한 바이트 수
+     */
+    public long collectUnreferenced() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(gcGrace));
+        List<String> candidates = jdbcTemplate.queryForList(
+                "SELECT sha256 FROM file_blobs WHERE ref_count = 0 AND last_referenced_at < ?", String.class, cutoff);
+
+        long reclaimed = 0;
+        for (String sha256 : candidates) {
+            Long size = transactionTemplate.execute(status -> {
+                List<Long> locked = jdbcTemplate.queryForList(
+                        "SELECT size_bytes FROM file_blobs WHERE sha256 = ? AND ref_count = 0 AND last_referenced_at < ? "
+                                + "FOR UPDATE",
+                        Long.class, sha256, cutoff);
+                if (locked.isEmpty()) {
+                    return 0L;
+                }
+                try {
+                    Files.deleteIfExists(pathOf(sha256));
+                } catch (IOException e) {
+                    log.warn("첨부 blob 삭제 실패: {}", sha256, e);
+                    return 0L;
+                }
+                jdbcTemplate.update("DELETE FROM file_blobs WHERE sha256 = ?", sha256);
+                return locked.get(0);
+            });
+            reclaimed += size != null ? size : 0;
+        }
+        reclaimedBytesCounter.increment(reclaimed);
+        return reclaimed;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.upload.blobs.stats-ms:300000}", initialDelayString = "${app.upload.blobs.stats-ms:300000}")
+    public void refreshStats() {
+        try {
+            jdbcTemplate.query(
+                    "SELECT COALESCE(SUM(size_bytes * ref_count), 0), COALESCE(SUM(size_bytes), 0) FROM file_blobs",
+                    rs -> {
+                        logicalBytes.set(rs.getLong(1));
+                        physicalBytes.set(rs.getLong(2));
+                    });
+        } catch (Exception e) {
+            log.warn("첨부 blob 통계 갱신 실패", e);
+        }
+    }
+
+    public double dedupeRatio() {
+        long physical = physicalBytes.get();
+        return physical > 0 ? (double) logicalBytes.get() / physical : 1.0;
+    }
+
+    /**
+     * blob 첨부는 stored_filename이 내용 해시다. (이전 방식 첨부는 UUID 파일명)
+     */
+    public boolean isBlob(Attachment attachment) {
+        return StringUtils.hasText(attachment.getChecksum())
+                && attachment.getChecksum().equals(attachment.getStoredFilename());
+    }
+
+    Path pathOf(String sha256) {
+        return ShardedPaths.resolve(baseDir, sha256, sha256);
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 저장된 blob
+     *
+     * @param deduplicated 같은 내용이 이미 있어 새로 쓰지 않았는지
+     */
+    public record StoredBlob(String sha256, Path path, long size, boolean deduplicated) {
+
+        public Attachment toAttachment(User uploadedBy, String originalFilename, String contentType) {
+            Attachment attachment = new Attachment(uploadedBy, originalFilename, sha256, path.toString(),
+                    contentType != null ? contentType : "application/octet-stream", size);
+            attachment.setChecksum(sha256);
+            return attachment;
+        }
+    }
+}
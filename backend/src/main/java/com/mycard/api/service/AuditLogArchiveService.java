@@ -0,0 +1,507 @@
+package com.mycard.api.service;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycard.api.entity.AuditLogArchiveSegment;
+import com.mycard.api.repository.AuditLogArchiveSegmentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 감사로그 콜드 아카이브
+ * - 핫 보관 기간이 지난 월을 created_at 순 gzip NDJSON 세그먼트로 내보내고 SHA-256 체크섬과
+ *   created_at / actor_id / target_type의 min/max를 기록한 뒤 핫 파티션에서 제거한다.
+ * - 아카이브 조회는 min/max로 걸러낸 세그먼트만 전용 ForkJoinPool에서 나눠 읽고, 세그먼트별 최신 N건을 병합한다.
+ *   읽는 동안 압축 바이트의 체크섬을 다시 계산하여 봉인 값과 다르면 해당 세그먼트 결과를 버린다.
+ */
+@Slf4j
+@Service
+public class AuditLogArchiveService {
+
+    public static final int MAX_SCAN_LIMIT = 1000;
+
+    private static final String TABLE_NAME = "audit_logs";
+    private static final int PURGE_BATCH_SIZE = 5000;
+    private static final long STALE_WRITING_HOURS = 6;
+    private static final Comparator<ArchivedAuditEntry> NEWEST_FIRST =
+            Comparator.comparing(ArchivedAuditEntry::createdAt).thenComparing(ArchivedAuditEntry::id).reversed();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditLogArchiveSegmentRepository segmentRepository;
+    private final AuditLogPartitionService auditLogPartitionService;
+    private final ForkJoinPool scanPool;
+
+    private final String archiveBasePath;
+    private final int hotRetentionMonths;
+
+    public AuditLogArchiveService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            AuditLogArchiveSegmentRepository segmentRepository,
+            AuditLogPartitionService auditLogPartitionService,
+            @Value("${app.archive.base-path:/var/lib/mycard/archive}") String archiveBasePath,
+            @Value("${app.audit.archive.hot-retention-months:12}") int hotRetentionMonths,
+            @Value("${app.audit.archive.scan-parallelism:4}") int scanParallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.segmentRepository = segmentRepository;
+        this.auditLogPartitionService = auditLogPartitionService;
+        this.archiveBasePath = archiveBasePath;
+        this.hotRetentionMonths = hotRetentionMonths;
+        // 세그먼트 읽기는 디스크 I/O가 섞이므로 공용 풀을 막지 않도록 전용 풀을 쓴다
+        this.scanPool = new ForkJoinPool(Math.max(1, scanParallelism));
+    }
+
+    /**
+     * 아카이브 조회 조건 (모두 선택, limit은 최신순 최대 건수)
+     *
+     * @param from 시작 시각 (포함)
+     * @param to   종료 시각 (제외)
+     */
+    public record ArchiveQuery(Long actorId, String targetType, Long targetId, String action,
+                               LocalDateTime from, LocalDateTime to, int limit) {
+    }
+
+    /**
+     * @param scannedSegments 실제로 읽은 세그먼트 수
+     * @param skippedSegments min/max 범위로 건너뛴 세그먼트 수
+     * @param corruptSegments 체크섬이 맞지 않아 결과에서 제외한 세그먼트 기간
+     */
+    public record ScanResult(List<ArchivedAuditEntry> content, int scannedSegments, int skippedSegments,
+                             List<YearMonth> corruptSegments) {
+    }
+
+    // ===================== 아카이브 =====================
+
+    /**
+     * 핫 보관 기간이 지난 월을 세그먼트 파일로 내보내고 핫 파티션에서 제거한다.
+     *
+     * @return 이번 실행에서 PURGED 처리된 세그먼트 수
+     */
+    public int archiveExpiredMonths() {
+        int purged = 0;
+
+        // 이전 실행이 SEALED 이후 중단된 세그먼트는 삭제 단계부터 재개
+        for (AuditLogArchiveSegment sealed : segmentRepository.findByStatus(AuditLogArchiveSegment.SegmentStatus.SEALED)) {
+            purgeHotRows(sealed);
+            purged++;
+        }
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM " + TABLE_NAME, LocalDateTime.class);
+        if (oldest == null) {
+            return purged;
+        }
+
+        YearMonth cutoff = YearMonth.now().minusMonths(hotRetentionMonths);
+        for (YearMonth month = YearMonth.from(oldest); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            AuditLogArchiveSegment segment = claimSegment(month);
+            if (segment == null) {
+                continue;
+            }
+            try {
+                if (writeAndSeal(segment)) {
+                    purgeHotRows(segment);
+                    purged++;
+                }
+            } catch (IOException | UncheckedIOException e) {
+                log.error("감사로그 아카이브 실패 - period={}", month, e);
+                return purged;
+            }
+        }
+        return purged;
+    }
+
+    // ===================== 조회 =====================
+
+    /**
+     * 봉인된 세그먼트에서 조건에 맞는 감사로그를 최신순으로 최대 limit 건 찾는다.
+     */
+    public ScanResult scan(ArchiveQuery query) {
+        int limit = Math.max(1, Math.min(query.limit(), MAX_SCAN_LIMIT));
+        String targetType = query.targetType() == null || query.targetType().isBlank() ? null : query.targetType().trim();
+        String action = query.action() == null || query.action().isBlank() ? null : query.action().trim().toUpperCase();
+        ArchiveQuery normalized = new ArchiveQuery(query.actorId(), targetType, query.targetId(), action,
+                query.from(), query.to(), limit);
+
+        List<AuditLogArchiveSegment> candidates = new ArrayList<>();
+        int skipped = 0;
+        for (AuditLogArchiveSegment segment : segmentRepository.findByStatusInOrderByPeriodStartDesc(
+                EnumSet.of(AuditLogArchiveSegment.SegmentStatus.SEALED, AuditLogArchiveSegment.SegmentStatus.PURGED))) {
+            if (segment.mayContain(query.actorId(), targetType, query.from(), query.to())) {
+                candidates.add(segment);
+            } else {
+                skipped++;
+            }
+        }
+        if (candidates.isEmpty()) {
+            return new ScanResult(List.of(), 0, skipped, List.of());
+        }
+
+        Queue<YearMonth> corrupt = new ConcurrentLinkedQueue<>();
+        List<ArchivedAuditEntry> content = scanPool.invoke(new SegmentScanTask(candidates, 0, candidates.size(), normalized, corrupt));
+        List<YearMonth> corruptSegments = new ArrayList<>(corrupt);
+        Collections.sort(corruptSegments);
+        return new ScanResult(content, candidates.size(), skipped, corruptSegments);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scanPool.shutdownNow();
+    }
+
+    // ===================== 내부 구현 =====================
+
+    private AuditLogArchiveSegment claimSegment(YearMonth month) {
+        Optional<AuditLogArchiveSegment> existing = segmentRepository.findByPeriodStart(month.atDay(1));
+        if (existing.isPresent()) {
+            AuditLogArchiveSegment segment = existing.get();
+            boolean stale = segment.getStatus() == AuditLogArchiveSegment.SegmentStatus.WRITING
+                    && segment.getCreatedAt().isBefore(LocalDateTime.now().minusHours(STALE_WRITING_HOURS));
+            if (!stale) {
+                return null;
+            }
+            log.warn("중단된 감사로그 아카이브 세그먼트를 재작성합니다 - period={}", month);
+            return segment;
+        }
+
+        try {
+            return segmentRepository.saveAndFlush(new AuditLogArchiveSegment(month, segmentFileName(month)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 월을 선점함
+            return null;
+        }
+    }
+
+    private boolean writeAndSeal(AuditLogArchiveSegment segment) throws IOException {
+        YearMonth month = segment.getPeriod();
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        Path target = segmentPath(segment);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        SegmentWriter writer = new SegmentWriter(temp);
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        "SELECT id, actor_id, actor_role, action, target_type, target_id, diff_json, request_id, ip, "
+                                + "user_agent, created_at FROM " + TABLE_NAME
+                                + " WHERE created_at >= ? AND created_at < ? ORDER BY created_at, id",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // MySQL Connector/J 스트리밍 모드 (행 단위 전송)
+                ps.setFetchSize(Integer.MIN_VALUE);
+                ps.setTimestamp(1, Timestamp.valueOf(from));
+                ps.setTimestamp(2, Timestamp.valueOf(to));
+                return ps;
+            }, rs -> {
+                writer.append(new ArchivedAuditEntry(
+                        rs.getLong("id"),
+                        rs.getObject("actor_id", Long.class),
+                        rs.getString("actor_role"),
+                        rs.getString("action"),
+                        rs.getString("target_type"),
+                        rs.getObject("target_id", Long.class),
+                        rs.getString("diff_json"),
+                        rs.getString("request_id"),
+                        rs.getString("ip"),
+                        rs.getString("user_agent"),
+                        rs.getTimestamp("created_at").toLocalDateTime()));
+            });
+            writer.close();
+        } catch (RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+
+        Long hotCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE created_at >= ? AND created_at < ?",
+                Long.class, from, to);
+        if (hotCount == null || hotCount != writer.rowCount) {
+            Files.deleteIfExists(temp);
+            throw new IOException("감사로그 아카이브 건수 불일치 - period=" + month + ", written=" + writer.rowCount + ", hot=" + hotCount);
+        }
+
+        if (writer.rowCount == 0) {
+            Files.deleteIfExists(temp);
+            segmentRepository.delete(segment);
+            return false;
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        String checksum = writer.checksum();
+        Files.writeString(target.resolveSibling(target.getFileName() + ".sha256"),
+                checksum + "  " + target.getFileName() + "\n", StandardCharsets.UTF_8);
+
+        // 디스크에 기록된 파일을 다시 읽어 체크섬이 일치할 때만 봉인
+        if (!checksum.equals(sha256Of(target))) {
+            throw new IOException("감사로그 아카이브 체크섬 불일치 - period=" + month);
+        }
+
+        segment.setMinCreatedAt(writer.minCreatedAt);
+        segment.setMaxCreatedAt(writer.maxCreatedAt);
+        segment.setMinActorId(writer.minActorId);
+        segment.setMaxActorId(writer.maxActorId);
+        segment.setMinTargetType(writer.minTargetType);
+        segment.setMaxTargetType(writer.maxTargetType);
+        segment.seal(writer.rowCount, Files.size(target), checksum);
+        segmentRepository.save(segment);
+        log.info("감사로그 세그먼트 봉인 - period={}, rows={}, bytes={}", month, writer.rowCount, segment.getSizeBytes());
+        return true;
+    }
+
+    private void purgeHotRows(AuditLogArchiveSegment segment) {
+        YearMonth month = segment.getPeriod();
+
+        if (!auditLogPartitionService.dropMonthPartition(month)) {
+            // p_legacy처럼 여러 달을 담은 파티션이거나 비파티션 테이블이면 배치 삭제
+            LocalDateTime from = month.atDay(1).atStartOfDay();
+            LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update("DELETE FROM " + TABLE_NAME
+                        + " WHERE created_at >= ? AND created_at < ? LIMIT " + PURGE_BATCH_SIZE, from, to);
+            } while (deleted == PURGE_BATCH_SIZE);
+        }
+
+        segment.markPurged();
+        segmentRepository.save(segment);
+        log.info("감사로그 핫 데이터 삭제 완료 - period={}", month);
+    }
+
+    /**
+     * 세그먼트 하나를 끝까지 읽으며 조건에 맞는 최신 limit 건을 모으고, 읽은 바이트의 체크섬을 확인한다.
+     */
+    List<ArchivedAuditEntry> scanSegment(AuditLogArchiveSegment segment, ArchiveQuery query) {
+        PriorityQueue<ArchivedAuditEntry> newest = new PriorityQueue<>(NEWEST_FIRST.reversed());
+        MessageDigest digest = newSha256();
+        try (InputStream raw = new DigestInputStream(
+                new BufferedInputStream(Files.newInputStream(segmentPath(segment)), 64 * 1024), digest)) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(raw, 64 * 1024), StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ArchivedAuditEntry entry = objectMapper.readValue(line, ArchivedAuditEntry.class);
+                if (entry.matches(query)) {
+                    newest.add(entry);
+                    if (newest.size() > query.limit()) {
+                        newest.poll();
+                    }
+                }
+            }
+            raw.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사로그 세그먼트 읽기 실패 - period=" + segment.getPeriod(), e);
+        }
+
+        if (!HexFormat.of().formatHex(digest.digest()).equals(segment.getSha256())) {
+            return null;
+        }
+        List<ArchivedAuditEntry> result = new ArrayList<>(newest);
+        result.sort(NEWEST_FIRST);
+        return result;
+    }
+
+    private static List<ArchivedAuditEntry> mergeNewest(List<ArchivedAuditEntry> left, List<ArchivedAuditEntry> right, int limit) {
+        List<ArchivedAuditEntry> merged = new ArrayList<>(Math.min(limit, left.size() + right.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < left.size() || j < right.size())) {
+            if (j >= right.size() || (i < left.size() && NEWEST_FIRST.compare(left.get(i), right.get(j)) <= 0)) {
+                merged.add(left.get(i++));
+            } else {
+                merged.add(right.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private String segmentFileName(YearMonth month) {
+        return "audit-logs-" + month + ".ndjson.gz";
+    }
+
+    private Path segmentPath(AuditLogArchiveSegment segment) {
+        return Paths.get(archiveBasePath).toAbsolutePath().normalize()
+                .resolve("audit-logs")
+                .resolve(String.valueOf(segment.getPeriodStart().getYear()))
+                .resolve(segment.getFileName());
+    }
+
+    private static String sha256Of(Path path) throws IOException {
+        MessageDigest digest = newSha256();
+        try (InputStream in = new DigestInputStream(new BufferedInputStream(Files.newInputStream(path)), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 세그먼트 목록을 절반씩 나눠 병렬로 읽고 최신순 상위 limit 건으로 병합한다.
+     */
+    private final class SegmentScanTask extends RecursiveTask<List<ArchivedAuditEntry>> {
+
+        private final List<AuditLogArchiveSegment> segments;
+        private final int start;
+        private final int end;
+        private final ArchiveQuery query;
+        private final Queue<YearMonth> corrupt;
+
+        SegmentScanTask(List<AuditLogArchiveSegment> segments, int start, int end, ArchiveQuery query,
+                        Queue<YearMonth> corrupt) {
+            this.segments = segments;
+            this.start = start;
+            this.end = end;
+            this.query = query;
+            this.corrupt = corrupt;
+        }
+
+        @Override
+        protected List<ArchivedAuditEntry> compute() {
+            if (end - start == 1) {
+                AuditLogArchiveSegment segment = segments.get(start);
+                List<ArchivedAuditEntry> rows = scanSegment(segment, query);
+                if (rows == null) {
+                    log.error("감사로그 세그먼트 체크섬 불일치, 조회 결과에서 제외 - period={}", segment.getPeriod());
+                    corrupt.add(segment.getPeriod());
+                    return List.of();
+                }
+                return rows;
+            }
+            int mid = (start + end) >>> 1;
+            SegmentScanTask left = new SegmentScanTask(segments, start, mid, query, corrupt);
+            SegmentScanTask right = new SegmentScanTask(segments, mid, end, query, corrupt);
+            left.fork();
+            List<ArchivedAuditEntry> rightRows = right.compute();
+            return mergeNewest(left.join(), rightRows, query.limit());
+        }
+    }
+
+    /**
+     * 세그먼트 한 줄 (audit_logs 한 행)
+     */
+    @JsonPropertyOrder({"id", "actorId", "actorRole", "action", "targetType", "targetId", "diffJson",
+            "requestId", "ip", "userAgent", "createdAt"})
+    public record ArchivedAuditEntry(Long id, Long actorId, String actorRole, String action, String targetType,
+                                     Long targetId, String diffJson, String requestId, String ip, String userAgent,
+                                     LocalDateTime createdAt) {
+
+        boolean matches(ArchiveQuery query) {
+            return (query.actorId() == null || query.actorId().equals(actorId))
+                    && (query.targetType() == null || query.targetType().equals(targetType))
+                    && (query.targetId() == null || query.targetId().equals(targetId))
+                    && (query.action() == null || query.action().equals(action))
+                    && (query.from() == null || !createdAt.isBefore(query.from()))
+                    && (query.to() == null || createdAt.isBefore(query.to()));
+        }
+    }
+
+    /**
+     * 단일 gzip 스트림으로 세그먼트를 기록하면서 압축 바이트의 SHA-256과 min/max 값을 함께 계산한다.
+     */
+    private final class SegmentWriter {
+
+        private final Path path;
+        private final MessageDigest digest = newSha256();
+        private final GZIPOutputStream out;
+        private long rowCount;
+        private LocalDateTime minCreatedAt;
+        private LocalDateTime maxCreatedAt;
+        private Long minActorId;
+        private Long maxActorId;
+        private String minTargetType;
+        private String maxTargetType;
+
+        SegmentWriter(Path path) throws IOException {
+            this.path = path;
+            this.out = new GZIPOutputStream(new DigestOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                            StandardOpenOption.WRITE), 256 * 1024), digest), 64 * 1024);
+        }
+
+        void append(ArchivedAuditEntry entry) {
+            try {
+                out.write(objectMapper.writeValueAsBytes(entry));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rowCount++;
+            // created_at 순으로 읽으므로 첫 행이 최소, 마지막 행이 최대
+            if (minCreatedAt == null) {
+                minCreatedAt = entry.createdAt();
+            }
+            maxCreatedAt = entry.createdAt();
+            if (entry.actorId() != null) {
+                minActorId = minActorId == null ? entry.actorId() : Math.min(minActorId, entry.actorId());
+                maxActorId = maxActorId == null ? entry.actorId() : Math.max(maxActorId, entry.actorId());
+            }
+            if (entry.targetType() != null) {
+                if (minTargetType == null || entry.targetType().compareTo(minTargetType) < 0) {
+                    minTargetType = entry.targetType();
+                }
+                if (maxTargetType == null || entry.targetType().compareTo(maxTargetType) > 0) {
+                    maxTargetType = entry.targetType();
+                }
+            }
+        }
+
+        void close() throws IOException {
+            out.finish();
+            out.close();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+
+        void abort() {
+            try {
+                out.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("임시 감사로그 세그먼트 정리 실패 - path={}", path, e);
+            }
+        }
+
+        String checksum() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mycard.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 감사로그 파티션 유지보수 배치
+ * - 매일: 다음 몇 달치 월 파티션 선생성
+ * - 매월 1일: 핫 보관 기간 경과 월 아카이브 (세그먼트 봉인 후 파티션 삭제)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogMaintenanceScheduler {
+
+    private final AuditLogPartitionService auditLogPartitionService;
+    private final AuditLogArchiveService auditLogArchiveService;
+
+    @Scheduled(cron = "${app.audit.partitions.partition-cron:0 15 3 * * *}")
+    public void ensurePartitions() {
+        try {
+            auditLogPartitionService.ensureFuturePartitions();
+        } catch (Exception e) {
+            log.error("감사로그 파티션 생성 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.audit.archive.archive-cron:0 45 4 1 * *}")
+    public void archiveExpiredMonths() {
+        try {
+            int archived = auditLogArchiveService.archiveExpiredMonths();
+            log.info("감사로그 아카이브 완료 - segments={}", archived);
+        } catch (Exception e) {
+            log.error("감사로그 아카이브 실패", e);
+        }
+    }
+}
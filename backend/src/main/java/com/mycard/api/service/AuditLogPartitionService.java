@@ -0,0 +1,97 @@
+package com.mycard.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 감사로그 월별 파티션 순환
+ * - 현재 월부터 future-partitions 개월 뒤까지의 월 파티션을 pmax 분할로 미리 만들어 둔다.
+ * - 아카이브가 끝난 월 파티션은 DELETE 없이 DROP PARTITION으로 한 번에 제거한다. (AuditLogArchiveService)
+ * 파티셔닝되지 않은 환경(V53 미적용)에서는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditLogPartitionService {
+
+    private static final String TABLE_NAME = "audit_logs";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.audit.partitions.future-partitions:3}")
+    private int futurePartitions;
+
+    /**
+     * @return 새로 만든 파티션 수
+     */
+    public int ensureFuturePartitions() {
+        Set<String> partitions = listPartitions();
+        if (!partitions.contains(MAX_PARTITION)) {
+            return 0;
+        }
+
+        YearMonth current = YearMonth.now();
+        YearMonth next = partitions.stream()
+                .map(this::parsePartitionMonth)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .map(latest -> latest.plusMonths(1))
+                .orElse(current);
+        YearMonth last = current.plusMonths(futurePartitions);
+
+        int created = 0;
+        for (YearMonth month = next; !month.isAfter(last); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + "PARTITION " + partitionName(month) + " VALUES LESS THAN (TO_DAYS('" + month.plusMonths(1).atDay(1) + "')), "
+                    + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+            created++;
+            log.info("감사로그 파티션 추가 - partition={}", partitionName(month));
+        }
+        return created;
+    }
+
+    /**
+     * 해당 월 파티션이 있으면 DROP PARTITION으로 제거한다.
+     *
+     * @return 월 파티션이 없어(p_legacy 또는 비파티션 테이블) 제거하지 못했으면 false
+     */
+    public boolean dropMonthPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (!listPartitions().contains(partition)) {
+            return false;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + partition);
+        log.info("감사로그 파티션 삭제 - partition={}", partition);
+        return true;
+    }
+
+    private Set<String> listPartitions() {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT partition_name FROM information_schema.partitions "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL",
+                String.class, TABLE_NAME));
+    }
+
+    private YearMonth parsePartitionMonth(String partition) {
+        if (partition == null || !partition.matches("p\\d{6}")) {
+            return null;
+        }
+        return YearMonth.parse(partition.substring(1), PARTITION_SUFFIX);
+    }
+
+    private String partitionName(YearMonth month) {
+        return "p" + month.format(PARTITION_SUFFIX);
+    }
+}
@@ -0,0 +1,167 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.AuditLog;
+import com.mycard.api.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사로그 검색
+ * 넘어온 조건만으로 WHERE 절을 만들고, 조건 조합에 맞는 (조건 컬럼, created_at) 복합 인덱스를 골라
+ * 필터와 최신순 정렬을 인덱스 한 번의 역방향 범위 탐색으로 끝낸다.
+ * 조회 기간은 항상 한정하여(기본 최근 default-range-days일) 월 파티션 프루닝이 걸리게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditLogSearchService {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, actor_id, actor_role, action, target_type, target_id, diff_json, request_id, ip, user_agent, created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.audit.search.default-range-days:90}")
+    private int defaultRangeDays = 90;
+
+    @Value("${app.audit.search.max-range-days:366}")
+    private int maxRangeDays = 366;
+
+    /**
+     * 검색 조건 (모두 선택)
+     *
+     * @param userId       행위자 ID (actor_id)
+     * @param resourceType 대상 유형 (target_type)
+     * @param resourceId   대상 ID (target_id), resourceType과 함께 줄 때만 대상 인덱스를 끝까지 사용
+     * @param action       액션 (AuditLog.ActionType 이름)
+     * @param from         시작 시각 (포함), 없으면 to 기준 default-range-days일 전
+     * @param to           종료 시각 (제외), 없으면 현재
+     */
+    public record Criteria(Long userId, String resourceType, Long resourceId, String action,
+                           LocalDateTime from, LocalDateTime to) {
+    }
+
+    /**
+     * 조건별 실행 계획 (FORCE INDEX 대상 + SQL)
+     */
+    record Query(String index, String where, List<Object> args) {
+    }
+
+    public Page<AuditLog> search(Criteria criteria, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        Query query = plan(criteria, LocalDateTime.now());
+
+        String from = " FROM audit_logs FORCE INDEX (" + query.index() + ")" + query.where();
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + from, Long.class, query.args().toArray());
+        long totalElements = total != null ? total : 0;
+
+        List<AuditLog> content = List.of();
+        long offset = (long) pageNumber * pageSize;
+        if (offset < totalElements) {
+            List<Object> args = new ArrayList<>(query.args());
+            args.add(pageSize);
+            args.add(offset);
+            content = jdbcTemplate.query(SELECT_COLUMNS + from + " ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?",
+                    (rs, rowNum) -> toAuditLog(rs), args.toArray());
+        }
+        return new PageImpl<>(content, PageRequest.of(pageNumber, pageSize), totalElements);
+    }
+
+    Query plan(Criteria criteria, LocalDateTime now) {
+        LocalDateTime to = criteria.to() != null ? criteria.to() : now;
+        LocalDateTime from = criteria.from() != null ? criteria.from() : to.minusDays(defaultRangeDays);
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("조회 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        if (Duration.between(from, to).toDays() > maxRangeDays) {
+            throw new BadRequestException("감사로그 조회 기간은 최대 " + maxRangeDays + "일입니다.");
+        }
+
+        String resourceType = trimToNull(criteria.resourceType());
+        String action = trimToNull(criteria.action());
+
+        StringBuilder where = new StringBuilder(" WHERE ");
+        List<Object> args = new ArrayList<>();
+        // 인덱스 선두 컬럼 순서대로 조건을 붙인다
+        String index;
+        if (resourceType != null && criteria.resourceId() != null) {
+            index = "idx_audit_target_time";
+        } else if (criteria.userId() != null) {
+            index = "idx_audit_actor_time";
+        } else if (action != null) {
+            index = "idx_audit_action_time";
+        } else if (resourceType != null) {
+            index = "idx_audit_target_time";
+        } else {
+            index = "idx_audit_time";
+        }
+
+        if (resourceType != null) {
+            where.append("target_type = ? AND ");
+            args.add(resourceType);
+            if (criteria.resourceId() != null) {
+                where.append("target_id = ? AND ");
+                args.add(criteria.resourceId());
+            }
+        }
+        if (criteria.userId() != null) {
+            where.append("actor_id = ? AND ");
+            args.add(criteria.userId());
+        }
+        if (action != null) {
+            where.append("action = ? AND ");
+            args.add(action.toUpperCase());
+        }
+        where.append("created_at >= ? AND created_at < ?");
+        args.add(from);
+        args.add(to);
+        return new Query(index, where.toString(), args);
+    }
+
+    private static AuditLog toAuditLog(ResultSet rs) throws SQLException {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setId(rs.getLong("id"));
+        long actorId = rs.getLong("actor_id");
+        auditLog.setUserId(rs.wasNull() ? null : actorId);
+        auditLog.setActorRole(rs.getString("actor_role"));
+        auditLog.setActionType(toActionType(rs.getString("action")));
+        auditLog.setResourceType(rs.getString("target_type"));
+        long targetId = rs.getLong("target_id");
+        auditLog.setResourceId(rs.wasNull() ? null : targetId);
+        auditLog.setDiffJson(rs.getString("diff_json"));
+        auditLog.setRequestId(rs.getString("request_id"));
+        auditLog.setIpAddress(rs.getString("ip"));
+        auditLog.setUserAgent(rs.getString("user_agent"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        auditLog.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        return auditLog;
+    }
+
+    private static AuditLog.ActionType toActionType(String action) {
+        try {
+            return action != null ? AuditLog.ActionType.valueOf(action) : null;
+        } catch (IllegalArgumentException e) {
+            // 엔티티에 없는 과거 액션 값
+            return null;
+        }
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
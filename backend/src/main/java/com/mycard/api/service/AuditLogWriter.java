@@ -0,0 +1,427 @@
+package com.mycard.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycard.api.entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 비동기 배치 기록기
+ * 호출 스레드는 요청 문맥을 담은 레코드를 고정 크기 링 버퍼에 넣기만 하고, 전용 스레드 하나가 버퍼를 모아 JDBC 배치 INSERT 한다.
+ * 버퍼가 가득 차면 정책에 따라 호출자를 잠시 대기시키거나(BLOCK) 로컬 파일에 적재(SPILL)하며,
+ * 적재 파일과 DB 기록 실패분은 버퍼가 한가할 때 다시 기록한다. 종료 시 남은 레코드를 모두 기록한다.
+ * DB 장애(연결/일시 오류)로 실패한 배치는 통째로 적재하고, 그 밖의 실패는 행 단위로 다시 기록해
+ * 기록할 수 없는 행만 dead-letter 파일로 보낸다. (dead-letter는 자동 재기록하지 않으며, 원인을 고친 뒤 적재 파일로 옮기면 다시 기록된다)
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    public enum Backpressure {
+        BLOCK, SPILL
+    }
+
+    /**
+     * audit_logs 한 행 (호출 스레드에서 확정된 값)
+     */
+    public record Entry(Long actorId, String actorRole, String action, String targetType, Long targetId,
+                        String diffJson, String requestId, String ip, String userAgent, LocalDateTime createdAt) {
+
+        public static Entry of(AuditLog auditLog) {
+            return new Entry(auditLog.getUserId(), auditLog.getActorRole(), auditLog.getAction(),
+                    auditLog.getResourceType(), auditLog.getResourceId(), auditLog.getDiffJson(),
+                    auditLog.getRequestId(), auditLog.getIpAddress(), truncate(auditLog.getUserAgent(), 255),
+                    auditLog.getCreatedAt() != null ? auditLog.getCreatedAt() : LocalDateTime.now());
+        }
+    }
+
+    private record Pending(Entry entry, long enqueuedAtNanos) {
+    }
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (actor_id, actor_role, action, target_type, target_id, diff_json, "
+                    + "request_id, ip, user_agent, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SPILL_FILE = "audit-spill.ndjson";
+    private static final String REPLAYING_FILE = SPILL_FILE + ".replaying";
+    private static final String CHECKPOINT_FILE = REPLAYING_FILE + ".offset";
+    private static final String DEAD_LETTER_FILE = "audit-dead-letter.ndjson";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<Pending> buffer;
+    private final int batchSize;
+    private final long pollMs;
+    private final Backpressure backpressure;
+    private final long blockTimeoutMs;
+    private final Path spillDir;
+
+    private final Counter writtenCounter;
+    private final Counter spilledCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer batchTimer;
+
+    private final long replayIntervalMs;
+    private long lastReplayAt;
+
+    private volatile boolean running;
+    private volatile long lastWriteLagMs;
+    private Thread worker;
+    private final Object spillLock = new Object();
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.audit.writer.capacity:8192}") int capacity,
+                          @Value("${app.audit.writer.batch-size:500}") int batchSize,
+                          @Value("${app.audit.writer.poll-ms:200}") long pollMs,
+                          @Value("${app.audit.writer.backpressure:SPILL}") Backpressure backpressure,
+                          @Value("${app.audit.writer.block-timeout-ms:2000}") long blockTimeoutMs,
+                          @Value("${app.audit.writer.spill-path:/var/lib/mycard/audit-spill}") String spillPath,
+                          @Value("${app.audit.writer.replay-interval-ms:30000}") long replayIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.pollMs = pollMs;
+        this.backpressure = backpressure;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.spillDir = Paths.get(spillPath);
+        this.replayIntervalMs = replayIntervalMs;
+
+        Gauge.builder("audit.writer.queue.size", buffer, BlockingQueue::size)
+                .description("기록 대기 중인 감사 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("audit.writer.queue.lag", this, AuditLogWriter::currentLagMs)
+                .description("가장 오래 대기 중인 감사 로그의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("audit.writer.write.lag", this, writer -> writer.lastWriteLagMs)
+                .description("마지막 배치의 enqueue -> DB 기록 지연")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.writtenCounter = meterRegistry.counter("audit.writer.written");
+        this.spilledCounter = meterRegistry.counter("audit.writer.spilled");
+        this.failedCounter = meterRegistry.counter("audit.writer.failed");
+        this.deadLetteredCounter = meterRegistry.counter("audit.writer.dead_lettered");
+        this.batchTimer = meterRegistry.timer("audit.writer.batch");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 레코드를 버퍼에 넣는다. 호출 스레드의 트랜잭션/커넥션과 무관하다.
+     */
+    public void enqueue(Entry entry) {
+        Pending pending = new Pending(entry, System.nanoTime());
+        if (buffer.offer(pending)) {
+            return;
+        }
+        if (backpressure == Backpressure.BLOCK) {
+            try {
+                if (buffer.offer(pending, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("감사 로그 버퍼 대기 시간 초과 - 로컬 파일에 적재");
+        }
+        spill(List.of(entry));
+    }
+
+    public int getQueueSize() {
+        return buffer.size();
+    }
+
+    /**
+     * 종료 시 버퍼를 모두 기록한다. 기록하지 못한 레코드는 파일에 남아 다음 기동 때 다시 기록된다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Entry> remaining = new ArrayList<>();
+        drainTo(remaining, Integer.MAX_VALUE);
+        if (!remaining.isEmpty()) {
+            writeOrSpill(remaining);
+        }
+    }
+
+    private void run() {
+        replaySpill();
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = buffer.poll(pollMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    // 한가할 때 적재 파일을 다시 기록한다
+                    replaySpill();
+                    continue;
+                }
+                batch.add(first.entry());
+                lastWriteLagMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - first.enqueuedAtNanos());
+                drainTo(batch, batchSize - 1);
+                writeOrSpill(batch);
+            } catch (InterruptedException e) {
+                // shutdown()이 깨운 경우 - 루프 조건에서 종료
+            } catch (Exception e) {
+                log.error("감사 로그 기록 스레드 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void drainTo(List<Entry> batch, int max) {
+        List<Pending> drained = new ArrayList<>();
+        buffer.drainTo(drained, max);
+        for (Pending pending : drained) {
+            batch.add(pending.entry());
+        }
+    }
+
+    /**
+     * 배치를 기록한다. DB 장애로 기록하지 못한 행은 적재 파일로, 행 자체의 문제로 기록할 수 없는 행은 dead-letter로 보낸다.
+     *
+     * @return DB 장애로 적재했으면 false
+     */
+    private boolean writeOrSpill(List<Entry> batch) {
+        try {
+            batchTimer.record(() -> insert(batch));
+            writtenCounter.increment(batch.size());
+            return true;
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                failedCounter.increment(batch.size());
+                log.error("감사 로그 배치 기록 실패 - {}건을 로컬 파일에 적재", batch.size(), e);
+                spill(batch);
+                return false;
+            }
+            log.warn("감사 로그 배치 기록 실패 - {}건을 행 단위로 다시 기록", batch.size(), e);
+            return insertEachOrDeadLetter(batch);
+        }
+    }
+
+    /**
+     * 행 단위 재기록. 도중에 DB 장애가 나면 남은 행은 적재 파일로 보낸다.
+     */
+    private boolean insertEachOrDeadLetter(List<Entry> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            Entry entry = batch.get(i);
+            try {
+                insert(List.of(entry));
+                writtenCounter.increment();
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    List<Entry> rest = batch.subList(i, batch.size());
+                    failedCounter.increment(rest.size());
+                    log.error("감사 로그 행 기록 실패 - 남은 {}건을 로컬 파일에 적재", rest.size(), e);
+                    spill(rest);
+                    return false;
+                }
+                failedCounter.increment();
+                log.error("감사 로그 행 기록 불가 - dead-letter로 이동: {}", entry, e);
+                deadLetter(entry);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 실패(연결 불가, 잠금/타임아웃 등)인지
+     */
+    static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    void insert(List<Entry> batch) {
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            args.add(new Object[]{
+                    entry.actorId(), entry.actorRole(), entry.action(), entry.targetType(), entry.targetId(),
+                    entry.diffJson(), entry.requestId(), entry.ip(), entry.userAgent(),
+                    Timestamp.valueOf(entry.createdAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+
+    private void spill(List<Entry> entries) {
+        if (append(SPILL_FILE, entries)) {
+            spilledCounter.increment(entries.size());
+        }
+    }
+
+    private void deadLetter(Entry entry) {
+        if (append(DEAD_LETTER_FILE, List.of(entry))) {
+            deadLetteredCounter.increment();
+        }
+    }
+
+    private boolean append(String fileName, List<Entry> entries) {
+        synchronized (spillLock) {
+            try {
+                Files.createDirectories(spillDir);
+                try (BufferedWriter writer = Files.newBufferedWriter(spillDir.resolve(fileName), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (Entry entry : entries) {
+                        writer.write(objectMapper.writeValueAsString(entry));
+                        writer.newLine();
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                // 최후 수단: 애플리케이션 로그에라도 남긴다
+                log.error("감사 로그 파일 적재 실패({}) - 유실 {}건: {}", fileName, entries.size(), entries, e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 적재 파일을 옮겨 놓고 배치 단위로 다시 기록한다. 실패한 배치는 새 적재 파일로 돌아간다.
+     * 배치를 처리할 때마다 처리한 행 수를 체크포인트에 남기므로, 재기록 도중 중단되면 다음 재기록은 남은 행부터 이어 간다.
+     * (중단 시 다시 기록될 수 있는 행은 체크포인트 직전의 한 배치뿐이다) DB 장애로 배치를 적재하면 이번 재기록을 멈춘다.
+     */
+    void replaySpill() {
+        long now = System.currentTimeMillis();
+        if (now - lastReplayAt < replayIntervalMs) {
+            return;
+        }
+        lastReplayAt = now;
+
+        Path replaying = spillDir.resolve(REPLAYING_FILE);
+        Path checkpoint = spillDir.resolve(CHECKPOINT_FILE);
+        synchronized (spillLock) {
+            Path spillFile = spillDir.resolve(SPILL_FILE);
+            if (!Files.exists(replaying)) {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+                try {
+                    // 이전 재기록 파일을 지운 뒤 남은 체크포인트는 새 파일에 맞지 않는다
+                    Files.deleteIfExists(checkpoint);
+                    Files.move(spillFile, replaying, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    log.warn("감사 로그 적재 파일 이동 실패", e);
+                    return;
+                }
+            }
+        }
+
+        long processedLines = readCheckpoint(checkpoint);
+        long lineNo = 0;
+        int replayed = 0;
+        try (BufferedReader reader = Files.newBufferedReader(replaying, StandardCharsets.UTF_8)) {
+            List<Entry> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (lineNo <= processedLines || line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(objectMapper.readValue(line, Entry.class));
+                } catch (IOException e) {
+                    log.error("감사 로그 적재 파일의 손상된 행 - {}", line, e);
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    boolean written = writeOrSpill(batch);
+                    replayed += batch.size();
+                    batch.clear();
+                    writeCheckpoint(checkpoint, lineNo);
+                    if (!written) {
+                        log.warn("감사 로그 재기록 중단 - DB 장애, {}행까지 처리", lineNo);
+                        return;
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeOrSpill(batch);
+                replayed += batch.size();
+                writeCheckpoint(checkpoint, lineNo);
+            }
+        } catch (IOException e) {
+            log.error("감사 로그 적재 파일 재기록 실패 - {}", replaying, e);
+            return;
+        }
+        try {
+            Files.delete(replaying);
+            Files.deleteIfExists(checkpoint);
+        } catch (IOException e) {
+            log.error("감사 로그 적재 파일 삭제 실패 - {}", replaying, e);
+        }
+        log.info("감사 로그 적재 파일 재기록 - {}건", replayed);
+    }
+
+    private long readCheckpoint(Path checkpoint) {
+        try {
+            return Files.exists(checkpoint) ? Long.parseLong(Files.readString(checkpoint).trim()) : 0;
+        } catch (IOException | NumberFormatException e) {
+            log.warn("감사 로그 재기록 체크포인트 읽기 실패 - 처음부터 재기록", e);
+            return 0;
+        }
+    }
+
+    private void writeCheckpoint(Path checkpoint, long lines) throws IOException {
+        Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        Files.writeString(tmp, Long.toString(lines), StandardCharsets.UTF_8);
+        Files.move(tmp, checkpoint, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private double currentLagMs() {
+        Pending oldest = buffer.peek();
+        return oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedAtNanos());
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null) {
+            return null;
+        }
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -9,7 +9,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -24,27 +23,28 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class AuditService {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
     private final ObjectMapper objectMapper;
 
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * 요청 문맥(사용자, IP, 요청 ID)은 호출 스레드에서 확정하고, DB 기록은 AuditLogWriter가 배치로 처리한다.
+     * 호출자 트랜잭션과 별개로 기록되며 커넥션을 추가로 점유하지 않는다.
+     */
     public void log(AuditLog.ActionType actionType, String resourceType, Long resourceId, String description) {
         try {
             AuditLog auditLog = buildAuditLog(actionType, resourceType, resourceId, description, null);
-            auditLogRepository.save(auditLog);
+            auditLogWriter.enqueue(AuditLogWriter.Entry.of(auditLog));
         } catch (Exception e) {
             log.error("Failed to save audit log", e);
         }
     }
 
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void logWithDiff(AuditLog.ActionType actionType, String resourceType, Long resourceId,
                             String description, Object oldValue, Object newValue) {
         try {
             String diffJson = createDiffJson(oldValue, newValue);
             AuditLog auditLog = buildAuditLog(actionType, resourceType, resourceId, description, diffJson);
-            auditLogRepository.save(auditLog);
+            auditLogWriter.enqueue(AuditLogWriter.Entry.of(auditLog));
         } catch (Exception e) {
             log.error("Failed to save audit log", e);
         }
@@ -70,6 +70,7 @@ public class AuthService {
     private final EmailService emailService;
     private final LoginSecurityService loginSecurityService;
     private final TotpService totpService;
+    private final AdminMetricsService adminMetricsService;
 
     @Value("${app.security.login-lockout-duration-minutes:30}")
     private int lockoutDurationMinutes;
@@ -634,6 +635,7 @@ public class AuthService {
         user.setLockExpiryTime(null);
         user.setLastFailedLoginAt(null);
         userRepository.save(user);
+        adminMetricsService.adjust(AdminMetricsService.Metric.LOCKED_USERS, -1);
     }
 
     private LoginBlockedException buildLoginBlockedException(String code, String message, long retryAfterSeconds) {
@@ -1,35 +1,85 @@
 package com.mycard.api.service;
 
+import com.mycard.api.entity.BankAccountBalanceCheckpoint;
 import com.mycard.api.entity.BankAccountTransaction;
 import com.mycard.api.entity.Loan;
 import com.mycard.api.entity.UserBankAccount;
+import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.repository.BankAccountBalanceCheckpointRepository;
 import com.mycard.api.repository.BankAccountTransactionRepository;
 import com.mycard.api.repository.UserBankAccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
+/**
+ * 은행 계좌 원장 (append-only)
+ * - 잔액은 엔티티에서 더하지 않고 UPDATE current_balance = current_balance + ? 로 DB에서 원자적으로 증감한다.
+ *   같은 계좌의 동시 입금(포인트 전환, 대출 실행)은 행 잠금으로 직렬화되어 갱신이 유실되지 않는다.
+ * - 같은 UPDATE에서 last_seq를 올려 거래마다 계좌별 단조 증가 seq를 발급하고, (계좌, seq) UNIQUE로 원장 순서를 보장한다.
+ * - checkpoint-interval 거래마다 잔액 체크포인트를 남겨 과거 시점 잔액을 최대 interval건 합산으로 계산한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class BankAccountLedgerService {
 
     private final UserBankAccountRepository userBankAccountRepository;
     private final BankAccountTransactionRepository bankAccountTransactionRepository;
+    private final BankAccountBalanceCheckpointRepository checkpointRepository;
+
+    @Value("${app.bank.ledger.checkpoint-interval:100}")
+    private long checkpointInterval;
 
     @Transactional
     public BankAccountTransaction deposit(UserBankAccount account, Loan loan, BigDecimal amount, String description) {
-        account.deposit(amount);
-        userBankAccountRepository.save(account);
-        BankAccountTransaction transaction = new BankAccountTransaction(
+        return append(account, loan, BankAccountTransaction.TransactionType.DEPOSIT, amount, description);
+    }
+
+    /**
+     * at 시점의 계좌 잔액 (직전 체크포인트 + 이후 거래 합계)
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getBalanceAt(Long accountId, LocalDateTime at) {
+        return checkpointRepository.findFirstByBankAccountIdAndCreatedAtLessThanEqualOrderBySeqDesc(accountId, at)
+                .map(checkpoint -> checkpoint.getBalance().add(sumAfter(accountId, checkpoint.getSeq(), at)))
+                .orElseGet(() -> sumAfter(accountId, 0L, at));
+    }
+
+    private BankAccountTransaction append(UserBankAccount account, Loan loan,
+                                          BankAccountTransaction.TransactionType type,
+                                          BigDecimal amount, String description) {
+        if (amount == null || amount.signum() < 0) {
+            throw new BadRequestException("거래 금액이 올바르지 않습니다.");
+        }
+        BigDecimal delta = type == BankAccountTransaction.TransactionType.WITHDRAWAL ? amount.negate() : amount;
+        if (userBankAccountRepository.applyBalanceDelta(account.getId(), delta) == 0) {
+            throw new BadRequestException("계좌 잔액이 부족합니다.");
+        }
+        UserBankAccountRepository.LedgerPosition position = userBankAccountRepository.findLedgerPosition(account.getId());
+        // 호출자가 들고 있는 엔티티도 최신 잔액을 보도록 맞춘다 (컬럼은 updatable = false라 다시 쓰이지 않는다)
+        account.setCurrentBalance(position.getBalance());
+
+        BankAccountTransaction transaction = bankAccountTransactionRepository.save(new BankAccountTransaction(
                 account,
+                position.getSeq(),
                 loan,
-                BankAccountTransaction.TransactionType.DEPOSIT,
+                type,
                 amount,
-                account.getCurrentBalance(),
+                position.getBalance(),
                 description
-        );
-        return bankAccountTransactionRepository.save(transaction);
+        ));
+        if (position.getSeq() % checkpointInterval == 0) {
+            checkpointRepository.save(new BankAccountBalanceCheckpoint(account.getId(), position.getSeq(), position.getBalance()));
+        }
+        return transaction;
+    }
+
+    private BigDecimal sumAfter(Long accountId, Long afterSeq, LocalDateTime at) {
+        return bankAccountTransactionRepository.sumSignedAmountAfterSeq(
+                accountId, afterSeq, at, BankAccountTransaction.TransactionType.WITHDRAWAL);
     }
 }
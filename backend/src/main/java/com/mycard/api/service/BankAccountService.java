@@ -25,7 +25,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Collections;
 
@@ -44,6 +46,7 @@ public class BankAccountService {
     private final CardApplicationRepository cardApplicationRepository;
     private final BankAccountTransactionRepository bankAccountTransactionRepository;
     private final AuditService auditService;
+    private final BankAccountLedgerService bankAccountLedgerService;
 
     /**
      * 사용 가능한 은행 목록 조회
@@ -217,6 +220,15 @@ public class BankAccountService {
                 .orElseThrow(() -> new ResourceNotFoundException("계좌를 찾을 수 없습니다."));
     }
 
+    /**
+     * 특정 시점 잔액 조회 (본인 계좌만)
+     */
+    @Transactional(readOnly = true)
+    public BigDecimal getBalanceAt(UserPrincipal currentUser, Long accountId, LocalDateTime at) {
+        UserBankAccount account = getAccountById(currentUser.getId(), accountId);
+        return bankAccountLedgerService.getBalanceAt(account.getId(), at != null ? at : LocalDateTime.now());
+    }
+
     private BankAccountResponse toResponse(UserBankAccount account) {
         return BankAccountResponse.builder()
                 .id(account.getId())
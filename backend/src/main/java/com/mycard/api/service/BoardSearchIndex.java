@@ -0,0 +1,344 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.Board;
+import com.mycard.api.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 게시판 메모리 전문 검색 인덱스
+ * 제목/본문을 소문자 바이그램(연속 두 글자)으로 쪼갠 역색인으로, 형태소 분석기 없이도 한글 부분 일치 검색이 된다.
+ * 검색어를 공백으로 나눈 각 단어의 바이그램 목록을 교집합하여 후보를 좁히고, 원문 포함 여부를 확인한 뒤
+ * 제목 일치에 가중치를 준 출현 횟수로 순위를 매긴다. 공개 여부/열람 허용 대상(board_acl) 확인도 페이지를 자르기 전에 한다.
+ * 이 노드의 쓰기는 커밋 직후 반영하고, 다른 노드의 쓰기는 updated_at 기준 주기적 증분 동기화로, 삭제는 정기 재구축으로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndex {
+
+    private static final int TITLE_WEIGHT = 5;
+    private static final int MAX_CONTENT_HITS = 10;
+    // 증분 동기화 시 같은 초에 커밋된 행을 놓치지 않도록 워터마크를 조금 겹쳐 읽는다
+    private static final long REFRESH_OVERLAP_SECONDS = 2;
+    private static final int ACL_BATCH_SIZE = 500;
+    private static final String SELECT_COLUMNS =
+            "SELECT id, title, content, author_name, is_private, category, updated_at FROM boards";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private volatile Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile boolean built;
+    private volatile LocalDateTime watermark;
+
+    /**
+     * 인덱스에 담는 게시글 (검색어 비교용 소문자 제목/본문과 열람 권한 판단에 필요한 값)
+     */
+    record Doc(long id, String title, String content, String authorName, boolean isPrivate, String category,
+               Set<Long> allowedUserIds, LocalDateTime updatedAt) {
+
+        static Doc of(Board board, Set<Long> allowedUserIds) {
+            return new Doc(board.getId(), lower(board.getTitle()), lower(board.getContent()), board.getAuthorName(),
+                    board.isPrivate(), board.getCategory(), Set.copyOf(allowedUserIds), board.getUpdatedAt());
+        }
+    }
+
+    /**
+     * @param ids   현재 페이지 게시글 ID (순위순)
+     * @param total 조건과 열람 권한을 모두 만족하는 전체 건수
+     */
+    public record SearchResult(List<Long> ids, long total) {
+    }
+
+    private record Ranked(long id, int score) {
+    }
+
+    public SearchResult search(String keyword, String category, Predicate<Doc> visible, long offset, int limit) {
+        ensureBuilt();
+        List<String> terms = keyword == null ? List.of() : Arrays.stream(lower(keyword).split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+
+        List<Ranked> ranked = new ArrayList<>();
+        for (Long id : candidates(terms)) {
+            Doc doc = docs.get(id);
+            if (doc == null || (category != null && !category.equals(doc.category())) || !visible.test(doc)) {
+                continue;
+            }
+            int score = score(doc, terms);
+            if (score > 0 || terms.isEmpty()) {
+                ranked.add(new Ranked(doc.id(), score));
+            }
+        }
+        ranked.sort(Comparator.comparingInt(Ranked::score).reversed().thenComparing(Ranked::id, Comparator.reverseOrder()));
+
+        int from = (int) Math.min(offset, ranked.size());
+        int to = (int) Math.min(offset + limit, ranked.size());
+        return new SearchResult(ranked.subList(from, to).stream().map(Ranked::id).toList(), ranked.size());
+    }
+
+    /**
+     * 게시글 추가/수정 반영. 트랜잭션 안에서 호출되면 커밋된 경우에만 반영한다.
+     *
+     * @param allowedUserIds board_acl 열람 허용 회원 ID
+     */
+    public void put(Board board, Set<Long> allowedUserIds) {
+        AfterCommit.run(() -> index(Doc.of(board, allowedUserIds)));
+    }
+
+    public void remove(Long boardId) {
+        AfterCommit.run(() -> unindex(boardId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            ensureBuilt();
+        } catch (Exception e) {
+            log.warn("게시판 검색 인덱스 초기 적재 실패 (첫 검색 시 재시도)", e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 작성/수정된 게시글 반영
+     */
+    @Scheduled(fixedDelayString = "${app.board.search.refresh-ms:10000}")
+    public void refresh() {
+        LocalDateTime since = watermark;
+        if (!built || since == null) {
+            return;
+        }
+        try {
+            Map<Long, Doc> changed = new LinkedHashMap<>();
+            scan(" WHERE updated_at >= ?", Timestamp.valueOf(since.minusSeconds(REFRESH_OVERLAP_SECONDS)),
+                    doc -> changed.put(doc.id(), doc));
+            if (changed.isEmpty()) {
+                return;
+            }
+            loadAcl(changed);
+            LocalDateTime latest = since;
+            for (Doc doc : changed.values()) {
+                index(doc);
+                latest = max(latest, doc.updatedAt());
+            }
+            watermark = latest;
+        } catch (Exception e) {
+            log.error("게시판 검색 인덱스 증분 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 삭제된 게시글까지 맞추기 위한 전체 재구축
+     */
+    @Scheduled(cron = "${app.board.search.rebuild-cron:0 0 * * * *}")
+    public void scheduledRebuild() {
+        if (!built) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("게시판 검색 인덱스 재구축 실패", e);
+        }
+    }
+
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        synchronized (this) {
+            if (!built) {
+                rebuild();
+                built = true;
+            }
+        }
+    }
+
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        Map<Long, Doc> newDocs = new ConcurrentHashMap<>();
+        Map<String, Set<Long>> newPostings = new ConcurrentHashMap<>();
+        LocalDateTime[] latest = {null};
+        scan("", null, doc -> {
+            newDocs.put(doc.id(), doc);
+            addPostings(newPostings, doc);
+            latest[0] = max(latest[0], doc.updatedAt());
+        });
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement("SELECT board_id, user_id FROM board_acl",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, rs -> {
+            Doc doc = newDocs.get(rs.getLong("board_id"));
+            if (doc != null) {
+                doc.allowedUserIds().add(rs.getLong("user_id"));
+            }
+        });
+        synchronized (this) {
+            docs = newDocs;
+            postings = newPostings;
+            // 스캔 중 커밋된 변경은 다음 증분 동기화에서 다시 읽는다
+            watermark = latest[0] != null ? latest[0] : LocalDateTime.now();
+        }
+        log.info("게시판 검색 인덱스 구축 완료 - docs={}, terms={}, elapsedMs={}",
+                newDocs.size(), newPostings.size(), System.currentTimeMillis() - started);
+    }
+
+    private void scan(String where, Timestamp since, Consumer<Doc> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_COLUMNS + where,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL Connector/J 스트리밍 모드 (행 단위 전송)
+            ps.setFetchSize(Integer.MIN_VALUE);
+            if (since != null) {
+                ps.setTimestamp(1, since);
+            }
+            return ps;
+        }, rs -> {
+            consumer.accept(toDoc(rs));
+        });
+    }
+
+    private void loadAcl(Map<Long, Doc> docsById) {
+        List<Long> ids = new ArrayList<>(docsById.keySet());
+        for (int from = 0; from < ids.size(); from += ACL_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + ACL_BATCH_SIZE, ids.size()));
+            String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+            jdbcTemplate.query("SELECT board_id, user_id FROM board_acl WHERE board_id IN (" + placeholders + ")",
+                    rs -> {
+                        docsById.get(rs.getLong("board_id")).allowedUserIds().add(rs.getLong("user_id"));
+                    }, batch.toArray());
+        }
+    }
+
+    synchronized void index(Doc doc) {
+        Doc previous = docs.put(doc.id(), doc);
+        if (previous != null) {
+            removePostings(previous);
+        }
+        addPostings(postings, doc);
+    }
+
+    synchronized void unindex(Long boardId) {
+        Doc previous = docs.remove(boardId);
+        if (previous != null) {
+            removePostings(previous);
+        }
+    }
+
+    private Collection<Long> candidates(List<String> terms) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String term : terms) {
+            for (String gram : bigrams(term)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return List.of();
+                }
+                lists.add(ids);
+            }
+        }
+        if (lists.isEmpty()) {
+            // 검색어 없음 또는 한 글자 단어뿐이면 전체 문서가 후보
+            return docs.keySet();
+        }
+        // 가장 짧은 목록에서 시작하여 나머지에 모두 있는 ID만 남긴다
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static int score(Doc doc, List<String> terms) {
+        int score = 0;
+        for (String term : terms) {
+            int titleHits = occurrences(doc.title(), term);
+            int contentHits = occurrences(doc.content(), term);
+            if (titleHits == 0 && contentHits == 0) {
+                // 바이그램은 모두 있지만 이어진 부분 문자열은 아님
+                return 0;
+            }
+            score += titleHits * TITLE_WEIGHT + Math.min(contentHits, MAX_CONTENT_HITS);
+        }
+        return score;
+    }
+
+    private static int occurrences(String text, String term) {
+        int count = 0;
+        for (int at = text.indexOf(term); at >= 0; at = text.indexOf(term, at + term.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static void addPostings(Map<String, Set<Long>> target, Doc doc) {
+        for (String gram : docBigrams(doc)) {
+            target.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(doc.id());
+        }
+    }
+
+    private void removePostings(Doc doc) {
+        for (String gram : docBigrams(doc)) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(doc.id());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static Set<String> docBigrams(Doc doc) {
+        Set<String> grams = bigrams(doc.title());
+        grams.addAll(bigrams(doc.content()));
+        return grams;
+    }
+
+    static Set<String> bigrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            char first = text.charAt(i);
+            char second = text.charAt(i + 1);
+            if (!Character.isWhitespace(first) && !Character.isWhitespace(second)) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static Doc toDoc(ResultSet rs) throws SQLException {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        // 열람 허용 대상은 board_acl을 따로 읽어 채운다
+        return new Doc(rs.getLong("id"), lower(rs.getString("title")), lower(rs.getString("content")),
+                rs.getString("author_name"), rs.getBoolean("is_private"), rs.getString("category"),
+                new HashSet<>(), updatedAt != null ? updatedAt.toLocalDateTime() : null);
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+}
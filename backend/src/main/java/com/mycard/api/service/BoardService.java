@@ -3,20 +3,35 @@ package com.mycard.api.service;
 import com.mycard.api.dto.board.BoardRequest;
 import com.mycard.api.dto.board.BoardResponse;
 import com.mycard.api.entity.Board;
+import com.mycard.api.entity.BoardAcl;
 import com.mycard.api.exception.AccessDeniedException;
 import com.mycard.api.exception.BadRequestException;
 import com.mycard.api.exception.ResourceNotFoundException;
+import com.mycard.api.repository.BoardAclRepository;
 import com.mycard.api.repository.BoardRepository;
+import com.mycard.api.repository.UserRepository;
 import com.mycard.api.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -35,8 +50,12 @@ public class BoardService {
     private static final int MAX_TITLE_LENGTH = 255;
     private static final int MAX_CONTENT_LENGTH = 5000;
     private static final int MAX_ANSWER_LENGTH = 5000;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final BoardRepository boardRepository;
+    private final BoardAclRepository boardAclRepository;
+    private final UserRepository userRepository;
+    private final BoardSearchIndex boardSearchIndex;
 
     private boolean isStaff(UserPrincipal userPrincipal) {
         return userPrincipal != null && userPrincipal.isStaff();
@@ -49,30 +68,41 @@ public class BoardService {
         return userPrincipal.getFullName().trim();
     }
 
+    /**
+     * 게시글 검색 (메모리 바이그램 인덱스에서 순위/열람 권한/페이지를 정한 뒤 해당 ID만 조회)
+     */
     @Transactional(readOnly = true)
-    public List<BoardResponse> findAll(String keyword, String category, UserPrincipal userPrincipal) {
+    public Page<BoardResponse> findAll(String keyword, String category, UserPrincipal userPrincipal, Pageable pageable) {
         String normalizedKeyword = normalizeSearchKeyword(keyword);
         String normalizedCategory = normalizeCategoryFilter(category);
-        String userName = currentUserName(userPrincipal);
-
-        List<Board> boards;
-        if (isStaff(userPrincipal)) {
-            boards = boardRepository.searchAll(normalizedKeyword, normalizedCategory);
-        } else if (!StringUtils.hasText(userName)) {
-            boards = boardRepository.searchPublic(normalizedKeyword, normalizedCategory);
-        } else {
-            boards = boardRepository.searchVisibleToUser(normalizedKeyword, normalizedCategory, userName);
+        int pageSize = Math.min(pageable.getPageSize(), MAX_PAGE_SIZE);
+
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search(normalizedKeyword, normalizedCategory,
+                doc -> canView(doc.isPrivate(), doc.authorName(), userPrincipal, doc.allowedUserIds()::contains),
+                (long) pageable.getPageNumber() * pageSize, pageSize);
+
+        Map<Long, Board> boardsById = boardRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+        Map<Long, Acl> aclByBoardId = loadAcl(boardsById.keySet());
+        List<BoardResponse> content = new ArrayList<>(result.ids().size());
+        for (Long boardId : result.ids()) {
+            Board board = boardsById.get(boardId);
+            if (board == null) {
+                // 다른 노드에서 삭제되어 아직 인덱스에 남은 글
+                boardSearchIndex.remove(boardId);
+                continue;
+            }
+            Acl acl = aclByBoardId.getOrDefault(boardId, Acl.EMPTY);
+            if (canView(board.isPrivate(), board.getAuthorName(), userPrincipal, acl.userIds()::contains)) {
+                content.add(BoardResponse.from(board, acl.names()));
+            }
         }
-
-        return boards.stream()
-                .filter(board -> canView(board, userPrincipal))
-                .map(BoardResponse::from)
-                .collect(Collectors.toList());
+        return new PageImpl<>(content, PageRequest.of(pageable.getPageNumber(), pageSize), result.total());
     }
 
     @Transactional(readOnly = true)
     public BoardResponse findById(String id, UserPrincipal userPrincipal) {
-        return BoardResponse.from(getAccessibleBoard(id, userPrincipal));
+        return toResponse(getAccessibleBoard(id, userPrincipal));
     }
 
     @Transactional
@@ -82,11 +112,14 @@ public class BoardService {
                 .content(normalizeRequiredText(request.getContent(), "내용", MAX_CONTENT_LENGTH))
                 .authorName(normalizeUserName(authorName, "작성자 이름이 올바르지 않습니다."))
                 .category(normalizeCategoryValue(request.getCategory()))
-                .allowedUsers(normalizeAllowedUsers(request.getAllowedUsers()))
                 .isPrivate(request.isPrivate())
                 .build();
+        Set<Long> allowedUserIds = resolveAllowedUsers(request.getAllowedUsers());
 
-        return BoardResponse.from(boardRepository.save(board));
+        Board saved = boardRepository.save(board);
+        boardAclRepository.saveAll(allowedUserIds.stream().map(userId -> new BoardAcl(saved.getId(), userId)).toList());
+        boardSearchIndex.put(saved, allowedUserIds);
+        return toResponse(saved);
     }
 
     @Transactional
@@ -101,14 +134,22 @@ public class BoardService {
         board.setTitle(normalizeRequiredText(request.getTitle(), "제목", MAX_TITLE_LENGTH));
         board.setContent(normalizeRequiredText(request.getContent(), "내용", MAX_CONTENT_LENGTH));
         board.setCategory(normalizeCategoryValue(request.getCategory()));
-        board.setAllowedUsers(normalizeAllowedUsers(request.getAllowedUsers()));
         board.setPrivate(request.isPrivate());
+        Set<Long> allowedUserIds = resolveAllowedUsers(request.getAllowedUsers());
+        if (!allowedUserIds.equals(new HashSet<>(boardAclRepository.findUserIdsByBoardId(board.getId())))) {
+            boardAclRepository.deleteByBoardId(board.getId());
+            boardAclRepository.saveAll(allowedUserIds.stream().map(userId -> new BoardAcl(board.getId(), userId)).toList());
+            // 열람 대상만 바뀐 경우에도 다른 노드의 검색 인덱스가 updated_at으로 변경을 감지하도록 갱신
+            board.setUpdatedAt(LocalDateTime.now());
+        }
 
         if (isStaff(userPrincipal)) {
             applyAnswer(board, request.getAnswer(), userName);
         }
 
-        return BoardResponse.from(boardRepository.save(board));
+        Board saved = boardRepository.save(board);
+        boardSearchIndex.put(saved, allowedUserIds);
+        return toResponse(saved);
     }
 
     @Transactional
@@ -121,6 +162,7 @@ public class BoardService {
         }
 
         boardRepository.delete(board);
+        boardSearchIndex.remove(board.getId());
     }
 
     private Board getAccessibleBoard(String id, UserPrincipal userPrincipal) {
@@ -135,7 +177,16 @@ public class BoardService {
     }
 
     private boolean canView(Board board, UserPrincipal userPrincipal) {
-        if (!board.isPrivate() || isStaff(userPrincipal)) {
+        return canView(board.isPrivate(), board.getAuthorName(), userPrincipal,
+                userId -> boardAclRepository.existsByBoardIdAndUserId(board.getId(), userId));
+    }
+
+    /**
+     * @param isAllowedUser 회원 ID가 board_acl 열람 허용 대상인지
+     */
+    private boolean canView(boolean isPrivate, String authorName, UserPrincipal userPrincipal,
+                            Predicate<Long> isAllowedUser) {
+        if (!isPrivate || isStaff(userPrincipal)) {
             return true;
         }
 
@@ -144,18 +195,8 @@ public class BoardService {
             return false;
         }
 
-        return userName.equals(board.getAuthorName()) || isAllowedUser(board.getAllowedUsers(), userName);
-    }
-
-    private boolean isAllowedUser(String allowedUsers, String userName) {
-        if (!StringUtils.hasText(allowedUsers)) {
-            return false;
-        }
-
-        return Arrays.stream(allowedUsers.split(","))
-                .map(String::trim)
-                .filter(StringUtils::hasText)
-                .anyMatch(userName::equals);
+        return userName.equals(authorName)
+                || (userPrincipal.getId() != null && isAllowedUser.test(userPrincipal.getId()));
     }
 
     private void applyAnswer(Board board, String answer, String answerAuthorName) {
@@ -206,9 +247,15 @@ public class BoardService {
         return normalized;
     }
 
-    private String normalizeAllowedUsers(String allowedUsers) {
+    /**
+     * 쉼표로 구분된 열람 허용 대상 이름을 회원 ID로 바꾼다. (같은 이름의 회원이 여럿이면 모두 허용)
+     */
+    private Set<Long> resolveAllowedUsers(String allowedUsers) {
         if (!StringUtils.hasText(allowedUsers)) {
-            return null;
+            return Set.of();
+        }
+        if (allowedUsers.length() > MAX_ALLOWED_USERS_LENGTH) {
+            throw new BadRequestException("열람 허용 대상자 목록이 너무 깁니다.");
         }
 
         List<String> normalizedUsers = Arrays.stream(allowedUsers.split(","))
@@ -218,16 +265,53 @@ public class BoardService {
                 .collect(Collectors.toList());
 
         if (normalizedUsers.isEmpty()) {
-            return null;
+            return Set.of();
         }
 
         normalizedUsers.forEach(userName -> normalizeUserName(userName, "열람 허용 대상자 이름 형식이 올바르지 않습니다."));
 
-        String normalized = String.join(",", normalizedUsers);
-        if (normalized.length() > MAX_ALLOWED_USERS_LENGTH) {
-            throw new BadRequestException("열람 허용 대상자 목록이 너무 깁니다.");
+        Set<Long> userIds = new LinkedHashSet<>();
+        Set<String> foundNames = new HashSet<>();
+        for (Object[] row : userRepository.findIdAndNameByFullNameIn(normalizedUsers)) {
+            userIds.add((Long) row[0]);
+            foundNames.add((String) row[1]);
         }
-        return normalized;
+        for (String userName : normalizedUsers) {
+            if (!foundNames.contains(userName)) {
+                throw new BadRequestException("존재하지 않는 열람 허용 대상자입니다: " + userName);
+            }
+        }
+        return userIds;
+    }
+
+    private BoardResponse toResponse(Board board) {
+        return BoardResponse.from(board, loadAcl(List.of(board.getId())).getOrDefault(board.getId(), Acl.EMPTY).names());
+    }
+
+    private Map<Long, Acl> loadAcl(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Set<Long>> userIds = new HashMap<>();
+        Map<Long, List<String>> names = new HashMap<>();
+        for (Object[] row : boardAclRepository.findEntriesByBoardIds(boardIds)) {
+            Long boardId = (Long) row[0];
+            userIds.computeIfAbsent(boardId, key -> new HashSet<>()).add((Long) row[1]);
+            List<String> boardNames = names.computeIfAbsent(boardId, key -> new ArrayList<>());
+            if (!boardNames.contains((String) row[2])) {
+                boardNames.add((String) row[2]);
+            }
+        }
+        Map<Long, Acl> result = new HashMap<>();
+        userIds.forEach((boardId, ids) -> result.put(boardId, new Acl(ids, String.join(",", names.get(boardId)))));
+        return result;
+    }
+
+    /**
+     * 게시글 열람 허용 대상 (회원 ID와 화면 표시용 이름)
+     */
+    private record Acl(Set<Long> userIds, String names) {
+        static final Acl EMPTY = new Acl(Set.of(), null);
     }
 
     private String normalizeRequiredText(String value, String fieldName, int maxLength) {
@@ -0,0 +1,122 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.AuditLog;
+import com.mycard.api.entity.BroadcastMessage;
+import com.mycard.api.entity.User;
+import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.exception.ResourceNotFoundException;
+import com.mycard.api.repository.BroadcastMessageRepository;
+import com.mycard.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 브로드캐스트 메시지 발송
+ * 세그먼트 조건과 본문만 한 건 저장한다. (USER_LIST만 수신자 ID를 별도 테이블에 배치 적재)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BroadcastMessageService {
+
+    private static final int RECIPIENT_BATCH_SIZE = 1000;
+
+    private final BroadcastMessageRepository broadcastMessageRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditService auditService;
+
+    @Transactional
+    public BroadcastMessage send(Long senderId, BroadcastMessage.SegmentType segmentType, String segmentValue,
+                                 String title, String content, MultipartFile userIdFile) {
+        if (segmentType == null) {
+            throw new BadRequestException("발송 대상 세그먼트가 누락되었습니다.");
+        }
+        if (content == null || content.isBlank()) {
+            throw new BadRequestException("메시지 내용을 입력해주세요.");
+        }
+        if (segmentType == BroadcastMessage.SegmentType.CARD_PRODUCT && (segmentValue == null || segmentValue.isBlank())) {
+            throw new BadRequestException("카드 상품명을 입력해주세요.");
+        }
+        if (segmentType == BroadcastMessage.SegmentType.USER_LIST && (userIdFile == null || userIdFile.isEmpty())) {
+            throw new BadRequestException("수신자 ID 파일을 첨부해주세요.");
+        }
+
+        User sender = userRepository.findById(senderId)
+                .orElseThrow(() -> new ResourceNotFoundException("관리자 정보를 찾을 수 없습니다."));
+        String value = segmentType == BroadcastMessage.SegmentType.CARD_PRODUCT ? segmentValue.trim() : null;
+        BroadcastMessage broadcast = broadcastMessageRepository.save(
+                new BroadcastMessage(sender, segmentType, value, title, content));
+
+        if (segmentType == BroadcastMessage.SegmentType.USER_LIST) {
+            loadRecipients(broadcast.getId(), userIdFile);
+            broadcast.setRecipientCount(broadcastMessageRepository.countRecipients(broadcast.getId()));
+        }
+
+        auditService.log(AuditLog.ActionType.MESSAGE_SEND, "BroadcastMessage", broadcast.getId(),
+                "브로드캐스트 발송: segment=" + segmentType + (value != null ? "(" + value + ")" : "")
+                        + (broadcast.getRecipientCount() != null ? ", recipients=" + broadcast.getRecipientCount() : ""));
+        log.info("[Admin-Broadcast] 발송 - id={}, segment={}, recipients={}",
+                broadcast.getId(), segmentType, broadcast.getRecipientCount());
+        return broadcast;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<BroadcastMessage> getBroadcasts(Pageable pageable) {
+        return broadcastMessageRepository.findAll(pageable);
+    }
+
+    /**
+     * 줄바꿈/쉼표/공백으로 구분된 회원 ID 파일을 스트리밍으로 읽어 배치 INSERT한다. 존재하지 않는 ID는 건너뛴다.
+     */
+    private void loadRecipients(Long broadcastId, MultipartFile file) {
+        List<Object[]> batch = new ArrayList<>(RECIPIENT_BATCH_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                for (String token : line.split("[,\\s]+")) {
+                    if (token.isBlank()) {
+                        continue;
+                    }
+                    batch.add(new Object[]{broadcastId, parseUserId(token)});
+                    if (batch.size() == RECIPIENT_BATCH_SIZE) {
+                        insertRecipients(batch);
+                        batch.clear();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new BadRequestException("수신자 ID 파일을 읽을 수 없습니다.");
+        }
+        if (!batch.isEmpty()) {
+            insertRecipients(batch);
+        }
+    }
+
+    private void insertRecipients(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO broadcast_message_recipients (broadcast_id, user_id) " +
+                "SELECT ?, id FROM users WHERE id = ?", batch);
+    }
+
+    private Long parseUserId(String token) {
+        try {
+            return Long.parseLong(token.trim().replace("\uFEFF", ""));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("수신자 ID 형식이 올바르지 않습니다: " + token);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.mycard.api.service;
+
+import com.mycard.api.dto.CardApplicationBulkDecisionRequest;
+import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카드 신청 일괄 심사 작업
+ * - 관리자 확인(2차 비밀번호 포함)은 작업 접수 시 한 번만 하고, 신청 ID는 청크로 나눠 작업 풀에서 병렬 처리한다.
+ * - 청크 하나가 한 트랜잭션이다. (CardApplicationService.decideChunk) 청크가 실패하면 그 청크 항목만 실패로 기록한다.
+ * - 진행 상황과 항목별 결과는 작업 ID로 조회하며, 끝난 작업은 보관 시간이 지나면 메모리에서 지운다.
+ */
+@Slf4j
+@Service
+public class CardApplicationBulkDecisionService {
+
+    private final CardApplicationService cardApplicationService;
+    private final int chunkSize;
+    private final int maxApplications;
+    private final long retentionMinutes;
+    private final ThreadPoolExecutor workers;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public CardApplicationBulkDecisionService(CardApplicationService cardApplicationService,
+                                              @Value("${app.card-application.bulk.chunk-size:200}") int chunkSize,
+                                              @Value("${app.card-application.bulk.workers:4}") int workers,
+                                              @Value("${app.card-application.bulk.max-applications:10000}") int maxApplications,
+                                              @Value("${app.card-application.bulk.retention-minutes:60}") long retentionMinutes) {
+        this.cardApplicationService = cardApplicationService;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxApplications = maxApplications;
+        this.retentionMinutes = retentionMinutes;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(Math.max(1, workers), Math.max(1, workers), 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "card-app-bulk-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 일괄 심사 작업 접수 (검증 실패는 즉시 예외, 처리는 비동기)
+     */
+    public JobSnapshot submit(Long adminId, CardApplicationBulkDecisionRequest request) {
+        CardApplicationService.BulkDecision decision = parseDecision(request.getDecision());
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getApplicationIds()));
+        ids.removeIf(id -> id == null);
+        if (ids.isEmpty()) {
+            throw new BadRequestException("처리할 신청을 선택해주세요.");
+        }
+        if (ids.size() > maxApplications) {
+            throw new BadRequestException("한 번에 최대 " + maxApplications + "건까지 처리할 수 있습니다.");
+        }
+        String reason = request.getReason() != null ? request.getReason().trim() : null;
+        if (decision == CardApplicationService.BulkDecision.REJECT && (reason == null || reason.isEmpty())) {
+            throw new BadRequestException("거절 사유를 입력해주세요.");
+        }
+        cardApplicationService.verifyReviewer(adminId, decision, request.getSecondaryPassword());
+
+        Job job = new Job(UUID.randomUUID().toString(), decision, adminId, ids.size());
+        jobs.put(job.id, job);
+        BigDecimal creditLimit = request.getCreditLimit();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(List.copyOf(ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+        // 먼저 끝난 청크가 작업을 완료로 오인하지 않도록 청크 수를 먼저 정한다
+        job.pendingChunks.set(chunks.size());
+        for (List<Long> chunk : chunks) {
+            workers.execute(() -> runChunk(job, chunk, creditLimit, reason));
+        }
+        log.info("카드 신청 일괄 심사 접수 - 작업: {}, 처리: {}, 관리자 ID: {}, 건수: {}", job.id, decision, adminId, ids.size());
+        return job.snapshot(false);
+    }
+
+    /**
+     * 작업 진행 상황 (includeResults면 항목별 결과 포함)
+     * 작업을 접수한 관리자만 조회할 수 있다. (다른 관리자에게는 작업이 없는 것처럼 응답)
+     */
+    public JobSnapshot get(Long adminId, String jobId, boolean includeResults) {
+        Job job = jobs.get(jobId);
+        if (job == null || !job.adminId.equals(adminId)) {
+            throw new ResourceNotFoundException("일괄 심사 작업을 찾을 수 없습니다.");
+        }
+        return job.snapshot(includeResults);
+    }
+
+    private void runChunk(Job job, List<Long> chunk, BigDecimal creditLimit, String reason) {
+        List<CardApplicationService.BulkItemResult> results;
+        try {
+            results = cardApplicationService.decideChunk(chunk, job.decision, job.adminId, creditLimit, reason);
+        } catch (Exception e) {
+            log.error("카드 신청 일괄 심사 청크 실패 - 작업: {}, 첫 신청 ID: {}", job.id, chunk.get(0), e);
+            String error = e instanceof BadRequestException ? e.getMessage() : "처리 중 오류가 발생했습니다.";
+            results = chunk.stream().map(id -> CardApplicationService.BulkItemResult.fail(id, error)).toList();
+        }
+        job.record(results);
+        if (job.pendingChunks.decrementAndGet() == 0) {
+            job.finishedAt = LocalDateTime.now();
+            log.info("카드 신청 일괄 심사 완료 - 작업: {}, 성공: {}, 실패: {}", job.id, job.succeeded.get(), job.failed.get());
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 완료 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${app.card-application.bulk.cleanup-ms:600000}")
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static CardApplicationService.BulkDecision parseDecision(String decision) {
+        try {
+            return CardApplicationService.BulkDecision.valueOf(decision.trim().toUpperCase());
+        } catch (RuntimeException e) {
+            throw new BadRequestException("지원하지 않는 심사 처리입니다: " + decision);
+        }
+    }
+
+    public record JobSnapshot(String jobId, String decision, String status, int total, int processed,
+                              int succeeded, int failed, LocalDateTime createdAt, LocalDateTime finishedAt,
+                              List<CardApplicationService.BulkItemResult> results) {
+    }
+
+    private static final class Job {
+        private final String id;
+        private final CardApplicationService.BulkDecision decision;
+        private final Long adminId;
+        private final int total;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicInteger pendingChunks = new AtomicInteger();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<CardApplicationService.BulkItemResult> results = Collections.synchronizedList(new ArrayList<>());
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String id, CardApplicationService.BulkDecision decision, Long adminId, int total) {
+            this.id = id;
+            this.decision = decision;
+            this.adminId = adminId;
+            this.total = total;
+        }
+
+        private void record(List<CardApplicationService.BulkItemResult> chunkResults) {
+            results.addAll(chunkResults);
+            for (CardApplicationService.BulkItemResult result : chunkResults) {
+                (result.success() ? succeeded : failed).incrementAndGet();
+            }
+        }
+
+        private JobSnapshot snapshot(boolean includeResults) {
+            List<CardApplicationService.BulkItemResult> copy;
+            synchronized (results) {
+                copy = includeResults ? List.copyOf(results) : null;
+            }
+            int ok = succeeded.get();
+            int ng = failed.get();
+            return new JobSnapshot(id, decision.name(), finishedAt != null ? "COMPLETED" : "RUNNING", total,
+                    ok + ng, ok, ng, createdAt, finishedAt, copy);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.mycard.api.service;
 
 import com.mycard.api.dto.CardApplicationDocumentResponse;
+import com.mycard.api.dto.CardApplicationQueueRow;
 import com.mycard.api.dto.CardApplicationRequest;
 import com.mycard.api.dto.CardApplicationResponse;
 import com.mycard.api.entity.Attachment;
@@ -16,12 +17,11 @@ import com.mycard.api.repository.AttachmentRepository;
 import com.mycard.api.repository.CardApplicationRepository;
 import com.mycard.api.repository.CardRepository;
 import com.mycard.api.repository.DocumentRepository;
-import com.mycard.api.repository.MessageRepository;
 import com.mycard.api.repository.UserRepository;
 import com.mycard.api.util.MaskingUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -29,18 +29,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.math.BigDecimal;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -56,12 +53,13 @@ public class CardApplicationService {
     private final BankAccountService bankAccountService;
     private final DocumentRepository documentRepository;
     private final AttachmentRepository attachmentRepository;
-    private final MessageRepository messageRepository;
+    private final MessageService messageService;
     private final UploadValidationService uploadValidationService;
+    private final AttachmentBlobStore attachmentBlobStore;
     private final PasswordEncoder passwordEncoder;
-
-    @Value("${app.upload.base-path:uploads}")
-    private String uploadDir;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdminMetricsService adminMetricsService;
+    private final CardNumberAllocator cardNumberAllocator;
 
     /**
      * 카드 신청
@@ -113,6 +111,8 @@ public class CardApplicationService {
         }
 
         CardApplication saved = cardApplicationRepository.save(application);
+        adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_CARD_APPLICATIONS, 1);
+        publishStatusChange(saved);
         sendUserNotification(user,
                 "카드 신청이 접수되었습니다.",
                 getApplicationDisplayName(saved) + " 카드 신청이 접수되었습니다. 증빙 서류가 필요하다면 신청 상세에서 업로드해 주세요.");
@@ -176,6 +176,7 @@ public class CardApplicationService {
             document.setDocumentType(Document.DocumentType.OTHER);
         }
         document = documentRepository.save(document);
+        adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_DOCUMENTS, 1);
 
         Attachment attachment = storeAttachment(file, application.getUser(), document);
         sendUserNotification(application.getUser(),
@@ -205,6 +206,7 @@ public class CardApplicationService {
 
         deleteDocumentFiles(document);
         documentRepository.delete(document);
+        adminMetricsService.transition(AdminMetricsService.Metric.PENDING_DOCUMENTS, document.isAwaitingReview(), false);
         log.info("카드 신청 증빙 서류 삭제 - appId={}, docId={}", applicationId, documentId);
     }
 
@@ -223,12 +225,13 @@ public class CardApplicationService {
             throw new BadRequestException("대기중 상태의 신청만 취소할 수 있습니다.");
         }
 
-        documentRepository.findByCardApplicationIdOrderByCreatedAtDesc(applicationId)
-                .forEach(this::deleteDocumentFiles);
-        documentRepository.findByCardApplicationIdOrderByCreatedAtDesc(applicationId)
-                .forEach(documentRepository::delete);
+        List<Document> documents = documentRepository.findByCardApplicationIdOrderByCreatedAtDesc(applicationId);
+        documents.forEach(this::deleteDocumentFiles);
+        documents.forEach(documentRepository::delete);
+        adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_DOCUMENTS, -documents.stream().filter(Document::isAwaitingReview).count());
 
         cardApplicationRepository.delete(application);
+        adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_CARD_APPLICATIONS, -1);
         log.info("카드 신청 취소 - ID: {}, 사용자: {}", applicationId, user.getEmail());
     }
 
@@ -236,15 +239,13 @@ public class CardApplicationService {
 
     @Transactional(readOnly = true)
     public Page<CardApplicationResponse> getAllApplications(Pageable pageable) {
-        return cardApplicationRepository.findAllForAdmin(pageable)
-                .map(this::toAdminResponse);
+        return toQueuePage(cardApplicationRepository.findQueueForAdmin(pageable));
     }
 
     @Transactional(readOnly = true)
     public Page<CardApplicationResponse> getApplicationsByStatus(String status, Pageable pageable) {
         CardApplication.ApplicationStatus appStatus = CardApplication.ApplicationStatus.valueOf(status.toUpperCase());
-        return cardApplicationRepository.findByStatusOrderByCreatedAtDesc(appStatus, pageable)
-                .map(this::toAdminResponse);
+        return toQueuePage(cardApplicationRepository.findQueueByStatus(appStatus, pageable));
     }
 
     @Transactional(readOnly = true)
@@ -257,7 +258,7 @@ public class CardApplicationService {
 
     @Transactional
     public CardApplicationResponse approveApplication(Long applicationId, Long adminId, BigDecimal approvedLimit, String secondaryPassword) {
-        CardApplication application = cardApplicationRepository.findById(applicationId)
+        CardApplication application = cardApplicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("신청 정보를 찾을 수 없습니다."));
 
         if (!application.isPending()) {
@@ -266,19 +267,14 @@ public class CardApplicationService {
 
         User admin = userRepository.findById(adminId)
                 .orElseThrow(() -> new ResourceNotFoundException("관리자를 찾을 수 없습니다."));
-
-        if (admin.getSecondaryPassword() == null || admin.getSecondaryPassword().isBlank()) {
-            throw new BadRequestException("2차 비밀번호가 설정되어 있지 않습니다.");
-        }
-        if (!passwordEncoder.matches(secondaryPassword, admin.getSecondaryPassword())) {
-            throw new BadRequestException("2차 비밀번호가 일치하지 않습니다.");
-        }
+        checkSecondaryPassword(admin, secondaryPassword);
 
         BigDecimal creditLimitInWon = approvedLimit.multiply(BigDecimal.valueOf(10000));
         Card newCard = createCardFromApplication(application, creditLimitInWon);
         Card savedCard = cardRepository.save(newCard);
 
         application.setStatus(CardApplication.ApplicationStatus.APPROVED);
+        adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_CARD_APPLICATIONS, -1);
         application.setReviewedBy(admin);
         application.setReviewedAt(LocalDateTime.now());
         application.setApprovedCreditLimit(approvedLimit);
@@ -288,6 +284,7 @@ public class CardApplicationService {
         updateLinkedDocumentsStatus(application.getId(), Document.DocumentStatus.APPROVED, null, admin);
 
         CardApplication saved = cardApplicationRepository.save(application);
+        publishStatusChange(saved);
         sendUserNotification(application.getUser(),
                 "카드 신청이 승인되었습니다.",
                 getApplicationDisplayName(application) + " 카드 신청이 승인되었습니다.");
@@ -298,7 +295,7 @@ public class CardApplicationService {
 
     @Transactional
     public CardApplicationResponse rejectApplication(Long applicationId, Long adminId, String reason) {
-        CardApplication application = cardApplicationRepository.findById(applicationId)
+        CardApplication application = cardApplicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("신청 정보를 찾을 수 없습니다."));
 
         if (!application.isPending()) {
@@ -309,6 +306,7 @@ public class CardApplicationService {
                 .orElseThrow(() -> new ResourceNotFoundException("관리자를 찾을 수 없습니다."));
 
         application.setStatus(CardApplication.ApplicationStatus.REJECTED);
+        adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_CARD_APPLICATIONS, -1);
         application.setReviewedBy(admin);
         application.setReviewedAt(LocalDateTime.now());
         application.setRejectionReason(reason);
@@ -317,6 +315,7 @@ public class CardApplicationService {
         updateLinkedDocumentsStatus(application.getId(), Document.DocumentStatus.REJECTED, reason, admin);
 
         CardApplication saved = cardApplicationRepository.save(application);
+        publishStatusChange(saved);
         sendUserNotification(application.getUser(),
                 "카드 신청이 반려되었습니다.",
                 getApplicationDisplayName(application) + " 카드 신청이 반려되었습니다. 사유: " + reason);
@@ -327,7 +326,7 @@ public class CardApplicationService {
 
     @Transactional
     public CardApplicationResponse startReview(Long applicationId, Long adminId) {
-        CardApplication application = cardApplicationRepository.findById(applicationId)
+        CardApplication application = cardApplicationRepository.findByIdForUpdate(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("신청 정보를 찾을 수 없습니다."));
 
         if (application.getStatus() != CardApplication.ApplicationStatus.PENDING) {
@@ -341,10 +340,156 @@ public class CardApplicationService {
         updateLinkedDocumentsStatus(application.getId(), Document.DocumentStatus.UNDER_REVIEW, null, admin);
 
         CardApplication saved = cardApplicationRepository.save(application);
+        publishStatusChange(saved);
         log.info("카드 신청 심사 시작 - ID: {}", applicationId);
         return toAdminResponse(saved);
     }
 
+    // ==================== Bulk Decision ====================
+
+    public enum BulkDecision { APPROVE, REJECT, START_REVIEW }
+
+    /**
+     * 일괄 심사 항목 결과
+     */
+    public record BulkItemResult(Long applicationId, boolean success, Long issuedCardId, String error) {
+
+        static BulkItemResult ok(Long applicationId, Long issuedCardId) {
+            return new BulkItemResult(applicationId, true, issuedCardId, null);
+        }
+
+        static BulkItemResult fail(Long applicationId, String error) {
+            return new BulkItemResult(applicationId, false, null, error);
+        }
+    }
+
+    /**
+     * 일괄 심사 전 관리자 확인 (작업당 한 번, 승인은 2차 비밀번호까지)
+     */
+    @Transactional(readOnly = true)
+    public void verifyReviewer(Long adminId, BulkDecision decision, String secondaryPassword) {
+        User admin = userRepository.findById(adminId)
+                .orElseThrow(() -> new ResourceNotFoundException("관리자를 찾을 수 없습니다."));
+        if (decision == BulkDecision.APPROVE) {
+            checkSecondaryPassword(admin, secondaryPassword);
+        }
+    }
+
+    /**
+     * 신청 한 청크를 한 트랜잭션에서 일괄 처리한다.
+     * - 신청 행 잠금 1회(SELECT ... FOR UPDATE), 신청자 조회 1회, 카드는 pooled ID 배치 INSERT, 연결 서류는 집합 UPDATE 1회, 알림 메시지는 배치 발송
+     * - 처리할 수 없는 상태의 신청은 건너뛰고 항목 결과에 사유를 남긴다. (관리자 확인은 verifyReviewer에서 끝난 상태)
+     *
+     * @param approvedLimit 승인 한도(만원), null이면 신청별 희망 한도
+     */
+    @Transactional
+    public List<BulkItemResult> decideChunk(List<Long> applicationIds, BulkDecision decision, Long adminId,
+                                            BigDecimal approvedLimit, String reason) {
+        // 먼저 행을 잠가 최신 상태를 읽고(다른 작업/단건 심사가 끝날 때까지 대기), 잠긴 행만 처리한다
+        List<Long> locked = cardApplicationRepository.findAllByIdInForUpdate(applicationIds).stream()
+                .map(CardApplication::getId)
+                .toList();
+        Map<Long, CardApplication> found = locked.isEmpty() ? Map.of()
+                : cardApplicationRepository.findAllByIdInWithUser(locked).stream()
+                        .collect(Collectors.toMap(CardApplication::getId, app -> app));
+
+        List<BulkItemResult> results = new ArrayList<>(applicationIds.size());
+        List<CardApplication> targets = new ArrayList<>();
+        for (Long applicationId : applicationIds) {
+            CardApplication application = found.get(applicationId);
+            String error = application == null ? "신청 정보를 찾을 수 없습니다." : bulkRejection(application, decision, approvedLimit);
+            if (error != null) {
+                results.add(BulkItemResult.fail(applicationId, error));
+            } else {
+                targets.add(application);
+            }
+        }
+        if (targets.isEmpty()) {
+            return results;
+        }
+
+        User reviewer = userRepository.getReferenceById(adminId);
+        LocalDateTime now = LocalDateTime.now();
+        Document.DocumentStatus documentStatus;
+        switch (decision) {
+            case APPROVE -> {
+                List<Card> cards = new ArrayList<>(targets.size());
+                for (CardApplication application : targets) {
+                    BigDecimal limit = approvedLimit != null ? approvedLimit : application.getRequestedCreditLimit();
+                    cards.add(createCardFromApplication(application, limit.multiply(BigDecimal.valueOf(10000))));
+                    application.setApprovedCreditLimit(limit);
+                }
+                cardRepository.saveAll(cards);
+                for (int i = 0; i < targets.size(); i++) {
+                    CardApplication application = targets.get(i);
+                    application.setStatus(CardApplication.ApplicationStatus.APPROVED);
+                    application.setReviewedBy(reviewer);
+                    application.setReviewedAt(now);
+                    application.setIssuedCard(cards.get(i));
+                    application.setRetentionUntil(now.plusYears(5));
+                }
+                documentStatus = Document.DocumentStatus.APPROVED;
+            }
+            case REJECT -> {
+                for (CardApplication application : targets) {
+                    application.setStatus(CardApplication.ApplicationStatus.REJECTED);
+                    application.setReviewedBy(reviewer);
+                    application.setReviewedAt(now);
+                    application.setRejectionReason(reason);
+                    application.setRetentionUntil(now.plusMonths(1));
+                }
+                documentStatus = Document.DocumentStatus.REJECTED;
+            }
+            default -> {
+                for (CardApplication application : targets) {
+                    application.setStatus(CardApplication.ApplicationStatus.REVIEWING);
+                }
+                documentStatus = Document.DocumentStatus.UNDER_REVIEW;
+            }
+        }
+
+        List<Long> targetIds = targets.stream().map(CardApplication::getId).toList();
+        updateLinkedDocumentsStatus(targetIds, documentStatus, decision == BulkDecision.REJECT ? reason : null, reviewer, now);
+        if (decision != BulkDecision.START_REVIEW) {
+            adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_CARD_APPLICATIONS, -targets.size());
+        }
+
+        List<Message> messages = new ArrayList<>();
+        User sender = decision == BulkDecision.START_REVIEW ? null : userRepository.findById(1L).orElse(null);
+        for (CardApplication application : targets) {
+            publishStatusChange(application);
+            if (decision == BulkDecision.APPROVE) {
+                messages.add(notification(sender, application.getUser(), "카드 신청이 승인되었습니다.",
+                        getApplicationDisplayName(application) + " 카드 신청이 승인되었습니다."));
+            } else if (decision == BulkDecision.REJECT) {
+                messages.add(notification(sender, application.getUser(), "카드 신청이 반려되었습니다.",
+                        getApplicationDisplayName(application) + " 카드 신청이 반려되었습니다. 사유: " + reason));
+            }
+            results.add(BulkItemResult.ok(application.getId(),
+                    application.getIssuedCard() != null ? application.getIssuedCard().getId() : null));
+        }
+        messageService.sendAll(messages);
+
+        log.info("카드 신청 일괄 심사 - 처리: {}, 관리자 ID: {}, 건수: {}/{}", decision, adminId, targets.size(), applicationIds.size());
+        return results;
+    }
+
+    private String bulkRejection(CardApplication application, BulkDecision decision, BigDecimal approvedLimit) {
+        if (decision == BulkDecision.START_REVIEW) {
+            return application.getStatus() == CardApplication.ApplicationStatus.PENDING
+                    ? null : "대기중 상태의 신청만 심사를 시작할 수 있습니다.";
+        }
+        if (!application.isPending()) {
+            return decision == BulkDecision.APPROVE
+                    ? "대기중 또는 심사중 상태의 신청만 승인할 수 있습니다."
+                    : "대기중 또는 심사중 상태의 신청만 거절할 수 있습니다.";
+        }
+        if (decision == BulkDecision.APPROVE && approvedLimit == null && application.getRequestedCreditLimit() == null) {
+            return "승인 한도가 지정되지 않았습니다.";
+        }
+        return null;
+    }
+
     public long getPendingCount() {
         return cardApplicationRepository.countByStatus(CardApplication.ApplicationStatus.PENDING);
     }
@@ -360,24 +505,9 @@ public class CardApplicationService {
 
     private Attachment storeAttachment(MultipartFile file, User user, Document document) {
         String originalFilename = uploadValidationService.validateDefaultUpload(file);
-        String storedFilename = UUID.randomUUID() + "_" + originalFilename;
-        Path uploadPath = Paths.get(uploadDir);
-        Path targetPath = uploadPath.resolve(storedFilename);
+        AttachmentBlobStore.StoredBlob blob = attachmentBlobStore.store(file);
 
-        try {
-            Files.createDirectories(targetPath.getParent());
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
-        } catch (IOException e) {
-            throw new BadRequestException("파일 저장에 실패했습니다.");
-        }
-
-        Attachment attachment = new Attachment(
-                user,
-                originalFilename,
-                storedFilename,
-                targetPath.toString(),
-                file.getContentType() != null ? file.getContentType() : "application/octet-stream",
-                file.getSize());
+        Attachment attachment = blob.toAttachment(user, originalFilename, file.getContentType());
         attachment.setDocument(document);
         return attachmentRepository.save(attachment);
     }
@@ -385,11 +515,7 @@ public class CardApplicationService {
     private void deleteDocumentFiles(Document document) {
         List<Attachment> attachments = attachmentRepository.findByDocumentId(document.getId());
         for (Attachment attachment : attachments) {
-            try {
-                Files.deleteIfExists(Paths.get(attachment.getFilePath()));
-            } catch (IOException e) {
-                log.warn("증빙 파일 삭제 실패: {}", attachment.getFilePath(), e);
-            }
+            attachmentBlobStore.discard(attachment);
             attachmentRepository.delete(attachment);
         }
     }
@@ -401,7 +527,9 @@ public class CardApplicationService {
             User reviewer) {
         List<Document> documents = documentRepository.findByCardApplicationIdOrderByCreatedAtDesc(applicationId);
         for (Document document : documents) {
+            boolean wasAwaitingReview = document.isAwaitingReview();
             document.setStatus(status);
+            adminMetricsService.transition(AdminMetricsService.Metric.PENDING_DOCUMENTS, wasAwaitingReview, document.isAwaitingReview());
             document.setReviewedBy(reviewer);
             document.setReviewedAt(LocalDateTime.now());
             document.setReviewComment(reason);
@@ -409,9 +537,53 @@ public class CardApplicationService {
         }
     }
 
+    /**
+     * 여러 신청의 연결 서류 상태를 집합 UPDATE 한 번으로 바꾸고, 심사 대기 서류 지표는 변경 전 건수로 보정한다.
+     */
+    private void updateLinkedDocumentsStatus(
+            List<Long> applicationIds,
+            Document.DocumentStatus status,
+            String reason,
+            User reviewer,
+            LocalDateTime reviewedAt) {
+        List<Document.DocumentStatus> awaiting = List.of(Document.DocumentStatus.SUBMITTED, Document.DocumentStatus.UNDER_REVIEW);
+        Object[] counts = documentRepository.countLinkedDocuments(applicationIds, awaiting).get(0);
+        long total = ((Number) counts[0]).longValue();
+        if (total == 0) {
+            return;
+        }
+        long awaitingBefore = ((Number) counts[1]).longValue();
+        documentRepository.updateStatusByCardApplicationIds(applicationIds, status, reason, reviewer, reviewedAt);
+        long awaitingAfter = awaiting.contains(status) ? total : 0;
+        adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_DOCUMENTS, awaitingAfter - awaitingBefore);
+    }
+
+    private void checkSecondaryPassword(User admin, String secondaryPassword) {
+        if (admin.getSecondaryPassword() == null || admin.getSecondaryPassword().isBlank()) {
+            throw new BadRequestException("2차 비밀번호가 설정되어 있지 않습니다.");
+        }
+        if (!passwordEncoder.matches(secondaryPassword, admin.getSecondaryPassword())) {
+            throw new BadRequestException("2차 비밀번호가 일치하지 않습니다.");
+        }
+    }
+
+    /**
+     * 신청 상태 변경을 커밋 후 사용자 알림 스트림에 전달한다.
+     */
+    private void publishStatusChange(CardApplication application) {
+        eventPublisher.publishEvent(new UserNotificationEvent(
+                application.getUser().getId(),
+                UserNotificationEvent.TYPE_APPLICATION_STATUS,
+                Map.of("applicationId", application.getId(), "status", application.getStatus().name())));
+    }
+
     private void sendUserNotification(User recipient, String title, String content) {
         User sender = userRepository.findById(1L).orElse(recipient);
-        messageRepository.save(new Message(sender, recipient, Message.MessageType.SYSTEM, title, content));
+        messageService.send(notification(sender, recipient, title, content));
+    }
+
+    private Message notification(User sender, User recipient, String title, String content) {
+        return new Message(sender != null ? sender : recipient, recipient, Message.MessageType.SYSTEM, title, content);
     }
 
     private void validateDomesticPersonalInfo(CardApplicationRequest request) {
@@ -463,7 +635,7 @@ public class CardApplicationService {
         Card card = new Card();
         card.setUser(application.getUser());
 
-        String cardNumber = generateFullCardNumber(application.getCardType());
+        String cardNumber = cardNumberAllocator.next(application.getCardType());
         String last4 = cardNumber.substring(cardNumber.length() - 4);
 
         card.setCardNumber(cardNumber);
@@ -481,31 +653,6 @@ public class CardApplicationService {
         return card;
     }
 
-    private String generateFullCardNumber(String cardType) {
-        java.util.Random rand = new java.util.Random();
-        String prefix;
-
-        switch (cardType) {
-            case "VISA":
-                prefix = "4" + String.format("%03d", rand.nextInt(1000));
-                break;
-            case "MASTERCARD":
-                prefix = "5" + (1 + rand.nextInt(5)) + String.format("%02d", rand.nextInt(100));
-                break;
-            default:
-                prefix = "9" + String.format("%03d", rand.nextInt(1000));
-        }
-
-        StringBuilder sb = new StringBuilder(prefix);
-        for (int i = 0; i < 12; i++) {
-            sb.append(rand.nextInt(10));
-        }
-
-        String raw = sb.toString();
-        return raw.substring(0, 4) + "-" + raw.substring(4, 8) + "-" +
-                raw.substring(8, 12) + "-" + raw.substring(12, 16);
-    }
-
     private boolean isSimpleCardPassword(String value) {
         if (value == null || !value.matches("^\\d{4,6}$")) {
             return false;
@@ -604,6 +751,66 @@ public class CardApplicationService {
         return response;
     }
 
+    /**
+     * 심사 큐 한 페이지 변환 - 증빙서류와 첨부파일을 IN 조회로 한 번씩만 읽는다.
+     * (행 수와 무관하게 목록 + 건수 + 서류 + 첨부 4회, 주민번호/연소득은 상세 조회에서만 복호화)
+     */
+    private Page<CardApplicationResponse> toQueuePage(Page<CardApplicationQueueRow> rows) {
+        if (rows.isEmpty()) {
+            return rows.map(row -> toQueueResponse(row, List.of()));
+        }
+
+        List<Long> applicationIds = rows.getContent().stream().map(CardApplicationQueueRow::getId).toList();
+        List<Document> documents = documentRepository.findByCardApplicationIdIn(applicationIds);
+
+        Map<Long, Attachment> firstAttachments = new HashMap<>();
+        if (!documents.isEmpty()) {
+            List<Long> documentIds = documents.stream().map(Document::getId).toList();
+            for (Attachment attachment : attachmentRepository.findByDocumentIdIn(documentIds)) {
+                firstAttachments.putIfAbsent(attachment.getDocument().getId(), attachment);
+            }
+        }
+
+        Map<Long, List<CardApplicationDocumentResponse>> documentsByApplication = new HashMap<>();
+        for (Document document : documents) {
+            documentsByApplication
+                    .computeIfAbsent(document.getCardApplication().getId(), id -> new ArrayList<>())
+                    .add(toDocumentResponse(document, firstAttachments.get(document.getId())));
+        }
+
+        return rows.map(row -> toQueueResponse(row,
+                documentsByApplication.getOrDefault(row.getId(), List.of())));
+    }
+
+    private CardApplicationResponse toQueueResponse(CardApplicationQueueRow row,
+                                                    List<CardApplicationDocumentResponse> documents) {
+        CardApplicationResponse response = new CardApplicationResponse();
+        response.setId(row.getId());
+        response.setFullName(MaskingUtils.maskName(row.getFullName()));
+        response.setPhone(MaskingUtils.maskPhone(row.getPhone()));
+        response.setEmail(MaskingUtils.maskEmail(row.getEmail()));
+        response.setEmploymentType(row.getEmploymentType().name());
+        response.setCardType(row.getCardType());
+        response.setCardProduct(row.getCardProduct());
+        response.setRequestedCreditLimit(row.getRequestedCreditLimit());
+        response.setStatus(row.getStatus().name());
+        response.setReviewedAt(row.getReviewedAt());
+        response.setRejectionReason(row.getRejectionReason());
+        response.setApprovedCreditLimit(row.getApprovedCreditLimit());
+        response.setRetentionUntil(row.getRetentionUntil());
+        response.setLinkedBankAccountId(row.getLinkedBankAccountId());
+        response.setLinkedBankName(row.getLinkedBankName());
+        response.setLinkedAccountNumberMasked(row.getLinkedAccountNumberMasked());
+        response.setUserName(MaskingUtils.maskName(row.getUserName()));
+        response.setUserEmail(MaskingUtils.maskEmail(row.getUserEmail()));
+        response.setReviewerName(row.getReviewerName());
+        response.setIssuedCardId(row.getIssuedCardId());
+        response.setEvidenceDocuments(documents);
+        response.setCreatedAt(row.getCreatedAt());
+        response.setUpdatedAt(row.getUpdatedAt());
+        return response;
+    }
+
     private CardApplicationDocumentResponse toDocumentResponse(Document document) {
         Attachment attachment = attachmentRepository.findFirstByDocumentId(document.getId()).orElse(null);
         return toDocumentResponse(document, attachment);
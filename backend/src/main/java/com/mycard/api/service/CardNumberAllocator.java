@@ -0,0 +1,237 @@
+package com.mycard.api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카드번호 할당기
+ * - 카드번호 = BIN 6자리 + 계좌번호 9자리 + Luhn 검증번호 1자리
+ * - 노드는 card_number_ranges의 BIN별 최고 수위(next_block)를 별도 트랜잭션에서 올려 블록(연속 순번 구간)을 예약하고,
+ *   예약한 블록 안에서는 DB 없이 메모리에서 번호를 꺼낸다. (card_number_blocks에는 어느 노드가 어떤 블록을 가졌는지만 남긴다)
+ * - 순번은 BIN별 키로 섞는 Feistel 순열(10^9 범위 전단사)을 거쳐 계좌번호가 되므로 순서는 뒤섞이지만 서로 다른 순번은
+ *   절대 같은 번호가 되지 않는다. 블록끼리 순번 구간이 겹치지 않으니 노드 간에도 유일성 재시도가 필요 없다.
+ * - 노드가 블록을 다 쓰지 못하고 내려가면 남은 순번은 버린다. (번호 공간 10^9에 비해 무시할 수준)
+ */
+@Slf4j
+@Component
+public class CardNumberAllocator {
+
+    static final long ACCOUNT_SPACE = 1_000_000_000L;
+    private static final int IN_CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate reserveTemplate;
+    private final int blockSize;
+    private final String nodeId;
+    private final Map<String, String> binsByCardType;
+    private final String defaultBin;
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public CardNumberAllocator(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.card-number.block-size:1000}") int blockSize,
+                               @Value("${app.card-number.node-id:}") String nodeId,
+                               @Value("${app.card-number.bin.visa:453210}") String visaBin,
+                               @Value("${app.card-number.bin.mastercard:542591}") String mastercardBin,
+                               @Value("${app.card-number.bin.default:941000}") String defaultBin) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 예약은 신청 승인 트랜잭션과 분리해 바로 커밋 (승인이 롤백돼도 최고 수위는 되돌아가지 않아야 한다)
+        this.reserveTemplate = new TransactionTemplate(transactionManager);
+        this.reserveTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? hostname() : nodeId;
+        this.binsByCardType = Map.of("VISA", checkBin(visaBin), "MASTERCARD", checkBin(mastercardBin));
+        this.defaultBin = checkBin(defaultBin);
+    }
+
+    /**
+     * 카드 종류에 맞는 새 카드번호 (0000-0000-0000-0000 형식)
+     */
+    public String next(String cardType) {
+        return next(cardType, 1).get(0);
+    }
+
+    /**
+     * 카드 종류에 맞는 서로 다른 새 카드번호 count개 (일괄 승인용)
+     */
+    public List<String> next(String cardType, int count) {
+        String bin = binFor(cardType);
+        Block block = blocks.computeIfAbsent(bin, Block::new);
+        List<String> numbers = new ArrayList<>(count);
+        synchronized (block) {
+            while (numbers.size() < count) {
+                if (block.numbers.isEmpty()) {
+                    reserve(block);
+                }
+                numbers.add(block.numbers.poll());
+            }
+        }
+        return numbers;
+    }
+
+    String binFor(String cardType) {
+        return cardType == null ? defaultBin : binsByCardType.getOrDefault(cardType, defaultBin);
+    }
+
+    /**
+     * BIN의 다음 블록을 예약하고 블록의 번호를 미리 계산해 둔다.
+     * 할당기 도입 전 난수로 만든 카드번호와 겹치는 번호는 여기서 한 번에 걸러낸다.
+     */
+    private void reserve(Block block) {
+        long[] reserved = reserveTemplate.execute(status -> {
+            jdbcTemplate.update("INSERT IGNORE INTO card_number_ranges (bin, scramble_key, next_block) VALUES (?, ?, 0)",
+                    block.bin, random.nextLong());
+            Map<String, Object> range = jdbcTemplate.queryForMap(
+                    "SELECT scramble_key, next_block FROM card_number_ranges WHERE bin = ? FOR UPDATE", block.bin);
+            long key = ((Number) range.get("scramble_key")).longValue();
+            long blockNo = ((Number) range.get("next_block")).longValue();
+            if ((blockNo + 1) * blockSize > ACCOUNT_SPACE) {
+                throw new IllegalStateException("카드번호 대역이 소진되었습니다. BIN: " + block.bin);
+            }
+            jdbcTemplate.update("UPDATE card_number_ranges SET next_block = next_block + 1 WHERE bin = ?", block.bin);
+            jdbcTemplate.update("INSERT INTO card_number_blocks (bin, block_no, node_id, reserved_at) VALUES (?, ?, ?, NOW())",
+                    block.bin, blockNo, nodeId);
+            return new long[]{key, blockNo};
+        });
+
+        Permutation permutation = new Permutation(reserved[0]);
+        long start = reserved[1] * blockSize;
+        List<String> candidates = new ArrayList<>(blockSize);
+        for (long sequence = start; sequence < start + blockSize; sequence++) {
+            candidates.add(format(block.bin, permutation.apply(sequence)));
+        }
+        Set<String> taken = findExisting(candidates);
+        for (String candidate : candidates) {
+            if (!taken.contains(candidate)) {
+                block.numbers.add(candidate);
+            }
+        }
+        log.info("카드번호 블록 예약 - BIN: {}, 블록: {}, 노드: {}, 사용 가능: {}",
+                block.bin, reserved[1], nodeId, block.numbers.size());
+    }
+
+    private Set<String> findExisting(List<String> candidates) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += IN_CHUNK) {
+            List<String> chunk = candidates.subList(from, Math.min(from + IN_CHUNK, candidates.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            existing.addAll(jdbcTemplate.queryForList(
+                    "SELECT masked_pan FROM cards WHERE masked_pan IN (" + placeholders + ")",
+                    String.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    static String format(String bin, long account) {
+        String payload = bin + String.format("%09d", account);
+        String raw = payload + luhnCheckDigit(payload);
+        return raw.substring(0, 4) + "-" + raw.substring(4, 8) + "-" +
+                raw.substring(8, 12) + "-" + raw.substring(12, 16);
+    }
+
+    /**
+     * payload 뒤에 붙일 Luhn 검증번호 (검증번호 자리부터 세어 짝수 번째 자리를 두 배)
+     */
+    static int luhnCheckDigit(String payload) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = payload.length() - 1; i >= 0; i--) {
+            int digit = payload.charAt(i) - '0';
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private static String checkBin(String bin) {
+        if (bin == null || !bin.matches("\\d{6}")) {
+            throw new IllegalArgumentException("BIN은 숫자 6자리여야 합니다: " + bin);
+        }
+        return bin;
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    private static final class Block {
+        private final String bin;
+        private final ArrayDeque<String> numbers = new ArrayDeque<>();
+
+        private Block(String bin) {
+            this.bin = bin;
+        }
+    }
+
+    /**
+     * [0, 10^9) 위의 키 기반 순열
+     * 30bit(15bit + 15bit) Feistel 네트워크는 [0, 2^30)의 전단사이고, 결과가 10^9 이상이면 다시 적용하는 cycle-walking으로
+     * 정의역을 [0, 10^9)로 좁힌다. (2^30 / 10^9 ≈ 1.07 이라 평균 1회 남짓)
+     */
+    static final class Permutation {
+        private static final int HALF_BITS = 15;
+        private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+        private static final int ROUNDS = 6;
+
+        private final long key;
+
+        Permutation(long key) {
+            this.key = key;
+        }
+
+        long apply(long sequence) {
+            if (sequence < 0 || sequence >= ACCOUNT_SPACE) {
+                throw new IllegalArgumentException("순번 범위를 벗어났습니다: " + sequence);
+            }
+            long value = sequence;
+            do {
+                value = feistel(value);
+            } while (value >= ACCOUNT_SPACE);
+            return value;
+        }
+
+        private long feistel(long value) {
+            long left = value >>> HALF_BITS;
+            long right = value & HALF_MASK;
+            for (int round = 0; round < ROUNDS; round++) {
+                long next = left ^ (mix(key + round * 0x9E3779B97F4A7C15L + right) & HALF_MASK);
+                left = right;
+                right = next;
+            }
+            return (left << HALF_BITS) | right;
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.Attachment;
+import com.mycard.api.entity.Document;
+import com.mycard.api.entity.UploadSession;
+import com.mycard.api.entity.User;
+import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.exception.ResourceNotFoundException;
+import com.mycard.api.repository.AttachmentRepository;
+import com.mycard.api.repository.DocumentRepository;
+import com.mycard.api.repository.UploadSessionRepository;
+import com.mycard.api.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 이어받기 가능한 분할 업로드
+ * 세션 생성(파일명/형식/크기 검증, 임시 파일 미리 할당) -> 번호별 청크 PUT(SHA-256 검증) -> 확정(문서/첨부 생성).
+ * 청크 본문은 요청 스트림에서 FileChannel.transferFrom으로 해당 구간에 바로 쓰므로, 파일 전체를 메모리나
+ * 컨테이너 multipart 임시 파일에 모으지 않는다. 끊긴 업로드는 세션 조회로 받은 청크를 확인하고 나머지만 보내면 된다.
+ * 첫 청크가 도착하면 확장자에 맞는 파일 시그니처를 검사하고, 맞지 않으면 세션을 바로 취소한다.
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-fA-F]{64}");
+    /** 쓰기 제한 시간을 확인하는 단위 (한 번의 transferFrom으로 옮기는 최대 바이트) */
+    private static final long WRITE_SLICE = 256 * 1024;
+
+    private final UploadSessionRepository uploadSessionRepository;
+    private final UserRepository userRepository;
+    private final DocumentRepository documentRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final UploadValidationService uploadValidationService;
+    private final AttachmentBlobStore attachmentBlobStore;
+    private final AdminMetricsService adminMetricsService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration sessionTtl;
+    private final Duration chunkWriteTimeout;
+
+    public ChunkedUploadService(UploadSessionRepository uploadSessionRepository,
+                                UserRepository userRepository,
+                                DocumentRepository documentRepository,
+                                AttachmentRepository attachmentRepository,
+                                UploadValidationService uploadValidationService,
+                                AttachmentBlobStore attachmentBlobStore,
+                                AdminMetricsService adminMetricsService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.upload.chunked.chunk-size:5242880}") int chunkSize,
+                                @Value("${app.upload.chunked.session-ttl-hours:12}") long sessionTtlHours,
+                                @Value("${app.upload.chunked.chunk-write-timeout-seconds:600}") long chunkWriteTimeoutSeconds) {
+        this.uploadSessionRepository = uploadSessionRepository;
+        this.userRepository = userRepository;
+        this.documentRepository = documentRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.uploadValidationService = uploadValidationService;
+        this.attachmentBlobStore = attachmentBlobStore;
+        this.adminMetricsService = adminMetricsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.sessionTtl = Duration.ofHours(sessionTtlHours);
+        this.chunkWriteTimeout = Duration.ofSeconds(chunkWriteTimeoutSeconds);
+    }
+
+    /**
+     * @param sha256 전체 파일 SHA-256 (선택, 확정 시 검증)
+     */
+    public record CreateCommand(String filename, String contentType, long size, String sha256, String docType) {
+    }
+
+    public UploadSession create(Long userId, CreateCommand command) {
+        String originalFilename = uploadValidationService.validateChunkedUpload(
+                command.filename(), command.contentType(), command.size());
+        if ((command.size() + chunkSize - 1) / chunkSize > UploadSession.MAX_CHUNKS) {
+            throw new BadRequestException("파일 크기가 허용 범위를 초과했습니다.");
+        }
+        if (command.sha256() != null && !SHA256_HEX.matcher(command.sha256()).matches()) {
+            throw new BadRequestException("체크섬 형식이 올바르지 않습니다.");
+        }
+
+        Path file;
+        try {
+            file = attachmentBlobStore.createTempFile("session-");
+            // 미리 전체 길이로 늘려 두면 청크가 어떤 순서로 와도 제 위치에 쓸 수 있다 (대부분의 파일 시스템에서 희소 파일)
+            try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+                raf.setLength(command.size());
+            }
+        } catch (IOException e) {
+            log.error("분할 업로드 임시 파일 생성 실패", e);
+            throw new BadRequestException("파일 저장에 실패했습니다.");
+        }
+
+        UploadSession session = new UploadSession(userRepository.getReferenceById(userId), originalFilename,
+                command.contentType(), command.size(), chunkSize, file.toString(),
+                LocalDateTime.now().plus(sessionTtl));
+        session.setDocumentType(parseDocumentType(command.docType()));
+        session.setExpectedSha256(command.sha256() != null ? command.sha256().toLowerCase(Locale.ROOT) : null);
+        return uploadSessionRepository.save(session);
+    }
+
+    public UploadSession get(Long userId, Long sessionId) {
+        UploadSession session = uploadSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("업로드 세션", sessionId));
+        if (!session.isOwnedBy(userId)) {
+            throw new ResourceNotFoundException("업로드 세션", sessionId);
+        }
+        return session;
+    }
+
+    /**
+     * 청크를 임시 파일의 제 구간에 쓰고 체크섬을 검증한 뒤 수신 비트맵에 기록한다.
+     * 쓰기 전에 세션 행 잠금 안에서 청크를 선점해 같은 청크를 두 요청이 동시에 쓰지 않게 하고,
+     * 전송 중에는 행을 잠그지 않는다. (선점이 남아 있는 동안 complete는 임시 파일을 옮기지 않는다)
+     *
+     * @param contentLength 요청 Content-Length (알 수 없으면 -1)
+     */
+    public UploadSession writeChunk(Long userId, Long sessionId, int index, long contentLength,
+                                    String checksum, InputStream body) {
+        UploadSession session = get(userId, sessionId);
+        checkWritable(session);
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new BadRequestException("청크 번호가 올바르지 않습니다.");
+        }
+        if (checksum == null || !SHA256_HEX.matcher(checksum).matches()) {
+            throw new BadRequestException("청크 체크섬이 필요합니다.");
+        }
+        long length = session.lengthOf(index);
+        if (contentLength >= 0 && contentLength != length) {
+            throw new BadRequestException("청크 크기가 올바르지 않습니다. (기대값: " + length + ")");
+        }
+
+        // 쓰기 마감은 선점 시각 이전에 잡아, 선점이 만료로 간주되기 전에 이 요청의 쓰기가 먼저 끝나게 한다
+        long deadlineNanos = System.nanoTime() + chunkWriteTimeout.toNanos();
+        LocalDateTime claimedAt = LocalDateTime.now();
+        UploadSession claimed = transactionTemplate.execute(status -> {
+            UploadSession locked = uploadSessionRepository.findByIdForUpdate(sessionId)
+                    .orElseThrow(() -> new ResourceNotFoundException("업로드 세션", sessionId));
+            checkWritable(locked);
+            if (locked.isReceived(index)) {
+                // 응답을 못 받은 클라이언트의 재전송 - 이미 기록된 구간은 다시 쓰지 않는다
+                return null;
+            }
+            if (!locked.claimChunk(index, claimedAt, claimedAt.minus(chunkWriteTimeout))) {
+                throw new BadRequestException("같은 청크를 전송 중입니다. 잠시 후 다시 보내 주세요.");
+            }
+            return locked;
+        });
+        if (claimed == null) {
+            return get(userId, sessionId);
+        }
+
+        boolean recorded = false;
+        try {
+            writeClaimedChunk(session, index, checksum, body, deadlineNanos);
+            UploadSession result = transactionTemplate.execute(status -> {
+                UploadSession locked = uploadSessionRepository.findByIdForUpdate(sessionId)
+                        .orElseThrow(() -> new ResourceNotFoundException("업로드 세션", sessionId));
+                locked.releaseChunk(index);
+                checkWritable(locked);
+                locked.markReceived(index);
+                return locked;
+            });
+            recorded = true;
+            return result;
+        } finally {
+            if (!recorded) {
+                releaseClaim(sessionId, index);
+            }
+        }
+    }
+
+    /**
+     * 선점한 청크 구간을 쓴다. 쓰기 제한 시간이 지나면 선점이 만료된 것으로 보고 더 쓰지 않는다.
+     */
+    private void writeClaimedChunk(UploadSession session, int index, String checksum, InputStream body,
+                                   long deadlineNanos) {
+        long offset = session.offsetOf(index);
+        long length = session.lengthOf(index);
+        try (FileChannel channel = FileChannel.open(Paths.get(session.getTempPath()),
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ReadableByteChannel source = Channels.newChannel(body);
+            long written = 0;
+            while (written < length) {
+                if (System.nanoTime() - deadlineNanos > 0) {
+                    throw new BadRequestException("청크 전송 시간이 초과되었습니다. 같은 청크를 다시 보내 주세요.");
+                }
+                long transferred = channel.transferFrom(source, offset + written,
+                        Math.min(WRITE_SLICE, length - written));
+                if (transferred <= 0) {
+                    break;
+                }
+                written += transferred;
+            }
+            if (written < length) {
+                throw new BadRequestException("청크 전송이 중단되었습니다. 같은 청크를 다시 보내 주세요.");
+            }
+            if (!checksum.equalsIgnoreCase(sha256(channel, offset, length))) {
+                throw new BadRequestException("청크 체크섬이 일치하지 않습니다.");
+            }
+            if (index == 0) {
+                validateSignature(session, channel);
+            }
+        } catch (IOException e) {
+            log.warn("청크 저장 실패: sessionId={}, index={}", session.getId(), index, e);
+            throw new BadRequestException("청크 저장에 실패했습니다.");
+        }
+    }
+
+    private void releaseClaim(Long sessionId, int index) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    uploadSessionRepository.findByIdForUpdate(sessionId).ifPresent(s -> s.releaseChunk(index)));
+        } catch (RuntimeException e) {
+            // 풀지 못한 선점은 쓰기 제한 시간이 지나면 무시된다
+            log.warn("청크 선점 해제 실패: sessionId={}, index={}", sessionId, index, e);
+        }
+    }
+
+    /**
+     * 모든 청크를 받은 세션을 내용 주소 저장소로 옮기고 문서/첨부로 확정한다.
+     * 임시 파일을 blob으로 옮기는 일은 롤백되지 않으므로 실패할 수 있는 DB 작업(문서 저장)을 먼저 하고 옮긴다.
+     * 옮긴 뒤에 실패하면 같은 세션으로는 다시 확정할 수 없어 세션을 ABORTED로 닫는다.
+     * (커밋되지 않은 blob 파일은 참조 행이 없어 고아 파일 정리에서 격리된다)
+     */
+    public Attachment complete(Long userId, Long sessionId) {
+        Path[] tempPath = new Path[1];
+        try {
+            return transactionTemplate.execute(status -> {
+                UploadSession session = uploadSessionRepository.findByIdForUpdate(sessionId)
+                        .filter(s -> s.isOwnedBy(userId))
+                        .orElseThrow(() -> new ResourceNotFoundException("업로드 세션", sessionId));
+                checkWritable(session);
+                if (session.hasChunksInFlight(LocalDateTime.now().minus(chunkWriteTimeout))) {
+                    throw new BadRequestException("전송 중인 청크가 있습니다. 잠시 후 다시 시도해 주세요.");
+                }
+                if (!session.isAllReceived()) {
+                    throw new BadRequestException("아직 받지 못한 청크가 있습니다. ("
+                            + session.getReceivedCount() + "/" + session.getChunkCount() + ")");
+                }
+                tempPath[0] = Paths.get(session.getTempPath());
+
+                User user = session.getUser();
+                Document document = new Document();
+                document.setUser(user);
+                document.setStatus(Document.DocumentStatus.SUBMITTED);
+                document.setDocumentType(session.getDocumentType());
+                document = documentRepository.save(document);
+
+                AttachmentBlobStore.StoredBlob blob;
+                try {
+                    blob = attachmentBlobStore.ingest(tempPath[0], session.getExpectedSha256());
+                } catch (IOException e) {
+                    log.error("분할 업로드 확정 실패: sessionId={}", sessionId, e);
+                    throw new BadRequestException("파일 저장에 실패했습니다.");
+                }
+
+                Attachment attachment = blob.toAttachment(user, session.getOriginalFilename(), session.getContentType());
+                attachment.setDocument(document);
+                attachmentRepository.save(attachment);
+
+                session.complete(document.getId());
+                adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_DOCUMENTS, 1);
+                return attachment;
+            });
+        } catch (RuntimeException e) {
+            if (tempPath[0] == null || Files.exists(tempPath[0])) {
+                throw e;
+            }
+            log.error("분할 업로드 확정 실패(임시 파일 이동 후): sessionId={}", sessionId, e);
+            transactionTemplate.executeWithoutResult(status ->
+                    uploadSessionRepository.findByIdForUpdate(sessionId)
+                            .filter(s -> s.getStatus() == UploadSession.SessionStatus.UPLOADING)
+                            .ifPresent(UploadSession::abort));
+            throw new BadRequestException("업로드를 확정하지 못했습니다. 파일을 다시 업로드해 주세요.");
+        }
+    }
+
+    public void abort(Long userId, Long sessionId) {
+        UploadSession session = transactionTemplate.execute(status -> {
+            UploadSession locked = uploadSessionRepository.findByIdForUpdate(sessionId)
+                    .filter(s -> s.isOwnedBy(userId))
+                    .orElseThrow(() -> new ResourceNotFoundException("업로드 세션", sessionId));
+            if (locked.getStatus() == UploadSession.SessionStatus.UPLOADING) {
+                locked.abort();
+            }
+            return locked;
+        });
+        if (session.getStatus() == UploadSession.SessionStatus.ABORTED) {
+            deleteTempFile(session);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.upload.chunked.expiry-check-ms:600000}")
+    public void expireSessions() {
+        try {
+            List<UploadSession> expired;
+            do {
+                expired = uploadSessionRepository.findByStatusAndExpiresAtBefore(
+                        UploadSession.SessionStatus.UPLOADING, LocalDateTime.now(), PageRequest.of(0, 100));
+                for (UploadSession session : expired) {
+                    transactionTemplate.executeWithoutResult(status ->
+                            uploadSessionRepository.findByIdForUpdate(session.getId())
+                                    .filter(s -> s.getStatus() == UploadSession.SessionStatus.UPLOADING)
+                                    .ifPresent(UploadSession::abort));
+                    deleteTempFile(session);
+                }
+            } while (expired.size() == 100);
+        } catch (Exception e) {
+            log.error("만료된 분할 업로드 정리 실패", e);
+        }
+    }
+
+    private void validateSignature(UploadSession session, FileChannel channel) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate((int) Math.min(UploadValidationService.SIGNATURE_LENGTH, session.getTotalSize()));
+        int read;
+        do {
+            read = channel.read(head, head.position());
+        } while (read > 0 && head.hasRemaining());
+        try {
+            uploadValidationService.validateSignature(
+                    uploadValidationService.extractExtension(session.getOriginalFilename()), head.array());
+        } catch (BadRequestException e) {
+            transactionTemplate.executeWithoutResult(status ->
+                    uploadSessionRepository.findByIdForUpdate(session.getId()).ifPresent(UploadSession::abort));
+            deleteTempFile(session);
+            throw e;
+        }
+    }
+
+    /**
+     * 파일 구간의 SHA-256 (메모리 매핑으로 읽어 힙 버퍼에 복사하지 않는다)
+     */
+    private static String sha256(FileChannel channel, long offset, long length) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void checkWritable(UploadSession session) {
+        if (session.getStatus() != UploadSession.SessionStatus.UPLOADING || session.isExpired(LocalDateTime.now())) {
+            throw new BadRequestException("업로드 세션이 만료되었거나 이미 종료되었습니다.");
+        }
+    }
+
+    private static Document.DocumentType parseDocumentType(String docType) {
+        if (docType == null) {
+            return Document.DocumentType.OTHER;
+        }
+        try {
+            return Document.DocumentType.valueOf(docType.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Document.DocumentType.OTHER;
+        }
+    }
+
+    private static void deleteTempFile(UploadSession session) {
+        try {
+            Files.deleteIfExists(Paths.get(session.getTempPath()));
+        } catch (IOException e) {
+            log.warn("분할 업로드 임시 파일 삭제 실패: {}", session.getTempPath(), e);
+        }
+    }
+}
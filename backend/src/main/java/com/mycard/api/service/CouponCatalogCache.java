@@ -0,0 +1,286 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.CouponCatalog;
+import com.mycard.api.repository.CouponCatalogRepository;
+import com.mycard.api.util.AfterCommit;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 쿠폰 카탈로그 메모리 캐시 + 한정 수량 재고 카운터
+ * - 구매 경로는 DB 조회 없이 카탈로그를 읽고, 재고는 StripedStockCounter로 잠금 없이 예약한다.
+ * - 카운터에는 이 노드가 임대받은 수량만 들어 있다. 다 쓰면 coupon_catalog.stock_leased를 행 잠금 아래에서 늘려
+ *   lease-size 단위로 다시 받으므로, 모든 노드의 판매 합계가 stock_limit을 넘지 않는다.
+ * - 임대분은 종료 시와 한정 수량 변경 시 반납한다. 노드가 비정상 종료되면 그 노드의 미판매 임대분은 반납되지 않아
+ *   초과 판매 대신 덜 파는 쪽으로 어긋난다. (노드당 최대 lease-size)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCatalogCache {
+
+    /** 남은 미임대 수량의 이 비율까지만 한 번에 임대한다 (막바지 재고가 한 노드에 몰리지 않게) */
+    private static final int LEASE_SHARE_DIVISOR = 10;
+
+    private final CouponCatalogRepository couponCatalogRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.coupon.stock-lease-size:100}")
+    private int leaseSize;
+
+    private volatile Map<Long, Item> items;
+
+    public Optional<Item> find(Long couponId) {
+        Map<Long, Item> current = items;
+        if (current == null) {
+            current = reload();
+        }
+        return Optional.ofNullable(current.get(couponId));
+    }
+
+    public List<Item> all() {
+        Map<Long, Item> current = items;
+        return List.copyOf((current != null ? current : reload()).values());
+    }
+
+    /**
+     * 구매 트랜잭션 안에서 재고를 예약한다. 트랜잭션이 커밋되지 않으면 예약분을 이 노드의 임대분으로 되돌린다.
+     * 무제한 쿠폰은 항상 true.
+     */
+    public boolean reserve(Item item, int quantity) {
+        LeasedStock stock = item.stock();
+        if (stock == null) {
+            return true;
+        }
+        if (!stock.local().tryReserve(quantity) && !leaseAndReserve(stock, quantity)) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        stock.local().release(quantity);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 카탈로그 변경 트랜잭션 안에서 호출한다. 커밋 후 캐시를 다시 적재한다.
+     */
+    public void reloadAfterCommit() {
+        AfterCommit.run(this::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("쿠폰 카탈로그 캐시 초기 적재 실패 (첫 조회 시 재시도)", e);
+        }
+    }
+
+    /**
+     * 가격/활성 여부 변경을 주기적으로 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${app.coupon.catalog-refresh-ms:30000}")
+    public void refresh() {
+        if (items == null) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("쿠폰 카탈로그 캐시 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 종료 시 판매하지 않은 임대분을 반납한다.
+     */
+    @PreDestroy
+    public synchronized void returnLeases() {
+        Map<Long, Item> current = items;
+        if (current == null) {
+            return;
+        }
+        for (Item item : current.values()) {
+            if (item.stock() != null) {
+                try {
+                    returnLease(item.stock());
+                } catch (Exception e) {
+                    log.warn("쿠폰 재고 임대분 반납 실패 - couponId={}", item.id(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 기존 임대 카운터는 그대로 이어 쓴다. (이 노드의 미커밋 예약은 아직 판매량에 없으므로 DB 값으로 덮어쓰지 않는다)
+     * 한정 수량이 바뀌면 남은 임대분을 반납하고 다음 구매에서 새 한도 안에서 다시 임대한다.
+     */
+    public synchronized Map<Long, Item> reload() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        List<Object[]> rows = template.execute(status -> couponCatalogRepository.findAllWithSoldTotal());
+
+        Map<Long, Item> previous = items != null ? items : Map.of();
+        Map<Long, Item> next = new HashMap<>();
+        for (Object[] row : rows) {
+            CouponCatalog catalog = (CouponCatalog) row[0];
+            long soldTotal = ((Number) row[1]).longValue();
+            Item old = previous.get(catalog.getId());
+            next.put(catalog.getId(), new Item(catalog.getId(), catalog.getPointCost(),
+                    Boolean.TRUE.equals(catalog.getActive()), catalog.getStockLimit(), soldTotal,
+                    stockFor(catalog, old)));
+        }
+        items = Map.copyOf(next);
+        return items;
+    }
+
+    private LeasedStock stockFor(CouponCatalog catalog, Item old) {
+        Long stockLimit = catalog.getStockLimit();
+        LeasedStock stock = old != null ? old.stock() : null;
+        if (stockLimit == null) {
+            if (stock != null) {
+                returnLease(stock);
+            }
+            return null;
+        }
+        if (stock == null) {
+            return new LeasedStock(catalog.getId());
+        }
+        if (!stockLimit.equals(old.stockLimit())) {
+            long returned = returnLease(stock);
+            log.info("쿠폰 한정 수량 변경 - couponId={}, {} -> {}, 반납한 임대분={}",
+                    old.id(), old.stockLimit(), stockLimit, returned);
+        } else if (stock.exhausted && catalog.getStockLeased() < stockLimit) {
+            // 다른 노드가 반납한 임대분이 생겼다
+            stock.exhausted = false;
+        }
+        return stock;
+    }
+
+    /**
+     * 이 노드의 임대분이 모자랄 때 DB에서 더 임대받아 예약한다. 전체 미임대 수량이 없으면 다음 갱신까지 품절로 둔다.
+     */
+    private boolean leaseAndReserve(LeasedStock stock, int quantity) {
+        synchronized (stock) {
+            // 대기하는 동안 다른 스레드가 임대해 왔을 수 있다
+            if (stock.local().tryReserve(quantity)) {
+                return true;
+            }
+            if (stock.exhausted) {
+                return false;
+            }
+            long granted = claimLease(stock, quantity);
+            if (granted == 0) {
+                return false;
+            }
+            stock.local().adjust(granted);
+            return stock.local().tryReserve(quantity);
+        }
+    }
+
+    private long claimLease(LeasedStock stock, int quantity) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Long granted = template.execute(status -> {
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT stock_limit, stock_leased FROM coupon_catalog WHERE id = ? FOR UPDATE", stock.couponId);
+            Number stockLimit = (Number) row.get("stock_limit");
+            if (stockLimit == null) {
+                return 0L;
+            }
+            long unleased = stockLimit.longValue() - ((Number) row.get("stock_leased")).longValue();
+            if (unleased <= 0) {
+                stock.exhausted = true;
+                return 0L;
+            }
+            if (unleased < quantity) {
+                return 0L;
+            }
+            long grant = Math.min(unleased,
+                    Math.max(quantity, Math.min(leaseSize, Math.max(1, unleased / LEASE_SHARE_DIVISOR))));
+            jdbcTemplate.update("UPDATE coupon_catalog SET stock_leased = stock_leased + ? WHERE id = ?",
+                    grant, stock.couponId);
+            return grant;
+        });
+        return granted != null ? granted : 0L;
+    }
+
+    private long returnLease(LeasedStock stock) {
+        synchronized (stock) {
+            stock.exhausted = false;
+            long unused = stock.local().takeAll();
+            if (unused > 0) {
+                TransactionTemplate template = new TransactionTemplate(transactionManager);
+                template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                template.executeWithoutResult(status -> jdbcTemplate.update(
+                        "UPDATE coupon_catalog SET stock_leased = GREATEST(0, stock_leased - ?) WHERE id = ?",
+                        unused, stock.couponId));
+            }
+            return unused;
+        }
+    }
+
+    /**
+     * 캐시된 카탈로그 항목 (stock이 null이면 무제한, soldTotal은 마지막 갱신 시점의 DB 판매량)
+     */
+    public record Item(Long id, Long pointCost, boolean active, Long stockLimit, long soldTotal, LeasedStock stock) {
+
+        public boolean isLimited() {
+            return stock != null;
+        }
+
+        public Long remaining() {
+            return stock != null ? Math.max(0, stockLimit - soldTotal) : null;
+        }
+    }
+
+    /**
+     * 이 노드가 임대받아 아직 팔지 않은 수량
+     */
+    public static final class LeasedStock {
+
+        private final Long couponId;
+        private final StripedStockCounter local = new StripedStockCounter(0);
+        private volatile boolean exhausted;
+
+        LeasedStock(Long couponId) {
+            this.couponId = couponId;
+        }
+
+        public StripedStockCounter local() {
+            return local;
+        }
+
+        /** 전체 미임대 수량이 없어 더 임대받을 수 없는 상태 */
+        public boolean isExhausted() {
+            return exhausted;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.mycard.api.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 쿠폰 PIN 사전 생성 풀
+ * - 백그라운드 스레드가 큐가 가득 찰 때까지 PIN을 미리 만들어 두고, 발급 시에는 drainTo 한 번으로 N개를 꺼낸다.
+ * - PIN은 Crockford Base32 16자리(80bit 난수)라 발급량이 수십억 건이어도 충돌 확률이 무시할 수준이며,
+ *   최종 유일성은 user_coupons.pin_code UNIQUE 제약(V46)이 보장한다.
+ */
+@Slf4j
+@Component
+public class CouponPinPool {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    static final int PIN_LENGTH = 16;
+
+    private final SecureRandom random = new SecureRandom();
+    private final BlockingQueue<String> pool;
+    private Thread refiller;
+
+    public CouponPinPool(@Value("${app.coupon.pin-pool-size:20000}") int poolSize) {
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    @PostConstruct
+    public void start() {
+        refiller = new Thread(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    // 가득 차면 put에서 대기하다가 발급으로 자리가 나면 바로 채운다
+                    pool.put(generate());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "coupon-pin-refiller");
+        refiller.setDaemon(true);
+        refiller.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refiller != null) {
+            refiller.interrupt();
+        }
+    }
+
+    /**
+     * 서로 다른 PIN count개를 꺼낸다. 풀이 부족하면 부족분만 즉시 생성한다.
+     */
+    public List<String> take(int count) {
+        List<String> pins = new ArrayList<>(count);
+        pool.drainTo(pins, count);
+        if (pins.size() < count) {
+            Set<String> unique = new HashSet<>(pins);
+            while (unique.size() < count) {
+                String pin = generate();
+                if (unique.add(pin)) {
+                    pins.add(pin);
+                }
+            }
+        }
+        return pins;
+    }
+
+    public int available() {
+        return pool.size();
+    }
+
+    private String generate() {
+        byte[] bytes = new byte[10];
+        random.nextBytes(bytes);
+        char[] pin = new char[PIN_LENGTH];
+        long high = 0;
+        for (int i = 0; i < 5; i++) {
+            high = (high << 8) | (bytes[i] & 0xFF);
+        }
+        long low = 0;
+        for (int i = 5; i < 10; i++) {
+            low = (low << 8) | (bytes[i] & 0xFF);
+        }
+        // 40bit씩 5bit 단위로 8글자
+        for (int i = 7; i >= 0; i--) {
+            pin[i] = ALPHABET[(int) (high & 0x1F)];
+            high >>>= 5;
+            pin[i + 8] = ALPHABET[(int) (low & 0x1F)];
+            low >>>= 5;
+        }
+        return new String(pin);
+    }
+}
@@ -5,12 +5,15 @@ import com.mycard.api.dto.coupon.CouponPurchaseResponse;
 import com.mycard.api.dto.coupon.UserCouponResponse;
 import com.mycard.api.entity.AuditLog;
 import com.mycard.api.entity.CouponCatalog;
+import com.mycard.api.entity.CouponStockJournal;
 import com.mycard.api.entity.PointLedger;
 import com.mycard.api.entity.PointBalance;
 import com.mycard.api.entity.User;
 import com.mycard.api.entity.UserCoupon;
 import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.exception.ResourceNotFoundException;
 import com.mycard.api.repository.CouponCatalogRepository;
+import com.mycard.api.repository.CouponStockJournalRepository;
 import com.mycard.api.repository.PointBalanceRepository;
 import com.mycard.api.repository.PointLedgerRepository;
 import com.mycard.api.repository.UserCouponRepository;
@@ -37,6 +40,9 @@ public class CouponService {
     private final PointBalanceRepository pointBalanceRepository;
     private final PointLedgerRepository pointLedgerRepository;
     private final AuditService auditService;
+    private final CouponPinPool couponPinPool;
+    private final CouponCatalogCache couponCatalogCache;
+    private final CouponStockJournalRepository couponStockJournalRepository;
 
     @Transactional(readOnly = true)
     public Page<UserCouponResponse> getMyCoupons(UserPrincipal principal, Pageable pageable) {
@@ -49,10 +55,16 @@ public class CouponService {
         int quantity = request.getQuantity() == null ? 1 : request.getQuantity();
         Long couponId = request.getCoupon().getId();
 
-        CouponCatalog catalog = couponCatalogRepository.findByIdAndActiveTrue(couponId)
+        CouponCatalogCache.Item catalog = couponCatalogCache.find(couponId)
+                .filter(CouponCatalogCache.Item::active)
                 .orElseThrow(() -> new BadRequestException("유효하지 않은 쿠폰입니다."));
 
-        Long unitCost = catalog.getPointCost();
+        // 품절이면 포인트 잔액 행을 잠그기 전에 메모리에서 바로 거절한다
+        if (!couponCatalogCache.reserve(catalog, quantity)) {
+            throw new BadRequestException("쿠폰 재고가 모두 소진되었습니다.");
+        }
+
+        Long unitCost = catalog.pointCost();
         Long totalCost = unitCost * quantity;
 
         User user = userRepository.getReferenceById(principal.getId());
@@ -72,11 +84,10 @@ public class CouponService {
         LocalDateTime purchasedAt = LocalDateTime.now();
         LocalDateTime validUntil = purchasedAt.plusYears(1);
 
-        List<UserCoupon> userCoupons = new ArrayList<>();
-        for (int i = 0; i < quantity; i++) {
-            userCoupons.add(new UserCoupon(user, couponId, purchasedAt, validUntil));
+        List<UserCoupon> savedCoupons = issueCoupons(user, couponId, quantity, purchasedAt, validUntil);
+        if (catalog.isLimited()) {
+            couponStockJournalRepository.save(new CouponStockJournal(couponId, quantity));
         }
-        List<UserCoupon> savedCoupons = userCouponRepository.saveAll(userCoupons);
 
         Long referenceId = savedCoupons.isEmpty() ? null : savedCoupons.get(0).getId();
 
@@ -101,6 +112,36 @@ public class CouponService {
                 .build();
     }
 
+    /**
+     * 한정 수량 변경 (null이면 무제한)
+     */
+    @Transactional
+    public void updateStockLimit(Long couponId, Long stockLimit) {
+        if (stockLimit != null && stockLimit < 0) {
+            throw new BadRequestException("한정 수량은 0 이상이어야 합니다.");
+        }
+        CouponCatalog catalog = couponCatalogRepository.findById(couponId)
+                .orElseThrow(() -> new ResourceNotFoundException("CouponCatalog", "id", couponId));
+        catalog.setStockLimit(stockLimit);
+        couponCatalogRepository.save(catalog);
+        couponCatalogCache.reloadAfterCommit();
+    }
+
+    /**
+     * 쿠폰 대량 발급
+     * ID는 pooled 테이블 시퀀스에서 메모리로 할당되고 PIN은 사전 생성 풀에서 꺼내므로,
+     * 수량과 무관하게 flush 시 JDBC 배치 INSERT(rewriteBatchedStatements로 다중 행 INSERT) 몇 번으로 끝난다.
+     */
+    List<UserCoupon> issueCoupons(User user, Long couponId, int quantity,
+                                  LocalDateTime purchasedAt, LocalDateTime validUntil) {
+        List<String> pins = couponPinPool.take(quantity);
+        List<UserCoupon> userCoupons = new ArrayList<>(quantity);
+        for (String pin : pins) {
+            userCoupons.add(new UserCoupon(user, couponId, purchasedAt, validUntil, pin));
+        }
+        return userCouponRepository.saveAll(userCoupons);
+    }
+
     private UserCouponResponse toResponse(UserCoupon userCoupon) {
         return UserCouponResponse.builder()
                 .purchaseId(userCoupon.getId())
@@ -0,0 +1,82 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.CouponStockJournal;
+import com.mycard.api.repository.CouponCatalogRepository;
+import com.mycard.api.repository.CouponStockJournalRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 쿠폰 판매 저널 정산 배치
+ * 구매 트랜잭션은 저널에 행만 추가하고, 이 배치가 주기적으로 저널을 coupon_catalog.sold_count에 접어 넣는다.
+ * 카탈로그 행 갱신은 쿠폰당 배치 1회뿐이라 인기 쿠폰 행에 구매 트랜잭션이 줄을 서지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CouponStockReconciler {
+
+    private final CouponStockJournalRepository couponStockJournalRepository;
+    private final CouponCatalogRepository couponCatalogRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.coupon.stock-reconcile-batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.coupon.stock-reconcile-ms:1000}")
+    public void reconcile() {
+        try {
+            int folded;
+            do {
+                folded = reconcileBatch();
+            } while (folded == batchSize);
+        } catch (Exception e) {
+            log.error("쿠폰 판매 저널 정산 실패", e);
+        }
+    }
+
+    /**
+     * 저널 한 묶음을 잠그고 쿠폰별 합계를 sold_count에 더한 뒤 같은 행들을 삭제한다. (한 트랜잭션)
+     */
+    public int reconcileBatch() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Integer folded = template.execute(status -> {
+            List<CouponStockJournal> entries =
+                    couponStockJournalRepository.findOldestForUpdate(PageRequest.of(0, batchSize));
+            if (entries.isEmpty()) {
+                return 0;
+            }
+            // 쿠폰 ID 순서로 갱신하여 다른 노드의 정산 배치와 잠금 순서를 맞춘다
+            Map<Long, Long> soldByCoupon = new TreeMap<>();
+            List<Long> ids = new ArrayList<>(entries.size());
+            for (CouponStockJournal entry : entries) {
+                soldByCoupon.merge(entry.getCouponId(), entry.getQuantity().longValue(), Long::sum);
+                ids.add(entry.getId());
+            }
+            soldByCoupon.forEach(couponCatalogRepository::addSoldCount);
+            couponStockJournalRepository.deleteByIdIn(ids);
+            return entries.size();
+        });
+        return folded != null ? folded : 0;
+    }
+
+    /**
+     * 종료 시 남은 저널을 정산한다. (실패해도 저널은 남아 있으므로 재시작 시 판매량은 그대로 복원된다)
+     */
+    @PreDestroy
+    public void flush() {
+        reconcile();
+    }
+}
@@ -28,7 +28,7 @@ public class DashboardService {
     private final ApprovalRepository approvalRepository;
     private final StatementRepository statementRepository;
     private final PointBalanceRepository pointBalanceRepository;
-    private final MessageRepository messageRepository;
+    private final MessageService messageService;
 
     @Transactional(readOnly = true)
     public DashboardSummaryResponse getDashboardSummary(UserPrincipal currentUser) {
@@ -54,7 +54,7 @@ public class DashboardService {
                 .findTop5ByUserIdOrderByApprovedAtDesc(userId, PageRequest.of(0, 5));
 
         // 읽지 않은 메시지 수
-        long unreadMessageCount = messageRepository.countByUserIdAndIsReadFalse(userId);
+        long unreadMessageCount = messageService.getUnreadCount(userId);
 
         // 최근 6개월 월별 소비 집계
         List<DashboardSummaryResponse.MonthlySpend> monthlySpendList = getMonthlySpend(userId);
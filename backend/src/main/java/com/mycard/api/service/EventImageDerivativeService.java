@@ -0,0 +1,359 @@
+package com.mycard.api.service;
+
+import com.mycard.api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 이벤트 이미지 파생본(가로 폭별 축소본) 생성/선택
+ * 업로드 직후 제한된 작업 풀에서 원본을 한 번 디코딩해 설정된 폭마다 {이름}.w{폭}.{jpg|png}를 원본 옆에 만든다.
+ * 요청 폭(?w=) 이상인 가장 작은 파생본을 내려 주며, 파일명이 UUID라 내용이 바뀌지 않으므로 immutable 캐시를 쓴다.
+ * 파생본이 아직 없으면(큐 포화, 기능 도입 전 이미지) 생성을 다시 요청하고 원본을 짧은 캐시로 내려 준다.
+ * 원본 폭 이하로는 확대하지 않으며, 같은 형식이면 원본을 하드 링크해 둔다.
+ * 파생본을 만들 수 없는 원본(픽셀 수 초과, 디코딩 불가)은 기억해 두고 다시 맡기지 않는다.
+ */
+@Slf4j
+@Service
+public class EventImageDerivativeService {
+
+    private static final Pattern VARIANT = Pattern.compile("^(.+)\\.w(\\d+)\\.(jpg|png)$");
+
+    /** 원본 확장자 -> 파생본 형식 (webp 등 ImageIO가 읽지 못하는 형식은 원본만 서빙) */
+    private static final Map<String, String> VARIANT_FORMATS = Map.of(
+            "jpg", "jpg", "jpeg", "jpg", "png", "png", "gif", "png");
+
+    /** 파생본을 만들 수 없는 원본을 기억하는 최대 개수 (넘치면 오래된 것부터 잊고, 다음 요청 때 한 번 더 시도한다) */
+    private static final int UNPRODUCIBLE_LIMIT = 10_000;
+
+    private final Path eventsDir;
+    private final int[] widths;
+    private final long maxPixels;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor workers;
+    private final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+    private final Set<Path> unproducible = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Path, Boolean> eldest) {
+                    return size() > UNPRODUCIBLE_LIMIT;
+                }
+            }));
+    private final Counter generatedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    public EventImageDerivativeService(MeterRegistry meterRegistry,
+                                       @Value("${app.upload.base-path:/var/lib/mycard/uploads}") String uploadBasePath,
+                                       @Value("${app.upload.images.widths:320,640,1280}") String widths,
+                                       @Value("${app.upload.images.max-pixels:40000000}") long maxPixels,
+                                       @Value("${app.upload.images.jpeg-quality:0.82}") float jpegQuality,
+                                       @Value("${app.upload.images.workers:2}") int workers,
+                                       @Value("${app.upload.images.queue-capacity:200}") int queueCapacity) {
+        this.eventsDir = Paths.get(uploadBasePath, "events").toAbsolutePath().normalize();
+        this.widths = Arrays.stream(widths.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .sorted()
+                .distinct()
+                .toArray();
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+
+        // 디코딩한 원본이 통째로 힙에 올라가므로 동시 작업 수와 대기열을 모두 제한한다
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(Math.max(1, workers), Math.max(1, workers), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                    Thread thread = new Thread(runnable, "event-image-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.generatedCounter = meterRegistry.counter("event.image.derivatives.generated");
+        this.rejectedCounter = meterRegistry.counter("event.image.derivatives.rejected");
+        this.failedCounter = meterRegistry.counter("event.image.derivatives.failed");
+        Gauge.builder("event.image.derivatives.queue", this.workers, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서빙할 파일
+     *
+     * @param immutable 요청 폭에 맞는 최종 파일인지 (false면 파생본 생성 전 임시로 원본을 내려 주는 경우)
+     */
+    public record Variant(Path path, boolean immutable) {
+    }
+
+    /**
+     * 파생본 생성을 작업 풀에 맡긴다. 대기열이 차면 버리고, 첫 요청 시 다시 맡긴다.
+     */
+    public void submit(Path original) {
+        if (!VARIANT_FORMATS.containsKey(extensionOf(original)) || unproducible.contains(original)
+                || !inFlight.add(original)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    generate(original);
+                } catch (Exception e) {
+                    log.warn("이벤트 이미지 파생본 생성 실패: {}", original, e);
+                    markUnproducible(original);
+                } finally {
+                    inFlight.remove(original);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(original);
+            rejectedCounter.increment();
+        }
+    }
+
+    /**
+     * @param relativePath   events 디렉터리 기준 상대 경로 (ab/cd/{파일명})
+     * @param requestedWidth 요청 폭 (없으면 원본)
+     */
+    public Variant resolve(String relativePath, Integer requestedWidth) {
+        Path original = eventsDir.resolve(relativePath).normalize();
+        if (!original.startsWith(eventsDir) || !Files.isRegularFile(original)) {
+            throw new ResourceNotFoundException("이미지를 찾을 수 없습니다.");
+        }
+        if (requestedWidth == null || requestedWidth <= 0 || VARIANT.matcher(original.getFileName().toString()).matches()) {
+            return new Variant(original, true);
+        }
+        String format = VARIANT_FORMATS.get(extensionOf(original));
+        Integer width = closestWidth(requestedWidth);
+        if (format == null || width == null) {
+            return new Variant(original, true);
+        }
+        Path variant = variantPath(original, width, format);
+        if (Files.isRegularFile(variant)) {
+            return new Variant(variant, true);
+        }
+        submit(original);
+        return new Variant(original, false);
+    }
+
+    /**
+     * 설정된 폭마다 파생본을 만든다. (이미 있는 파생본은 건너뜀)
+     */
+    void generate(Path original) throws IOException {
+        String format = VARIANT_FORMATS.get(extensionOf(original));
+        if (format == null) {
+            return;
+        }
+        BufferedImage source = read(original);
+        if (source == null) {
+            markUnproducible(original);
+            return;
+        }
+        boolean sameFormat = format.equals(extensionOf(original)) || "jpeg".equals(extensionOf(original));
+        for (int width : widths) {
+            Path target = variantPath(original, width, format);
+            if (Files.exists(target)) {
+                continue;
+            }
+            if (width >= source.getWidth() && sameFormat) {
+                link(original, target);
+            } else {
+                write(width >= source.getWidth() ? source : scale(source, width, "png".equals(format)), format, target);
+            }
+            generatedCounter.increment();
+        }
+    }
+
+    private void markUnproducible(Path original) {
+        unproducible.add(original);
+        failedCounter.increment();
+    }
+
+    /**
+     * 업로드 정리 배치용 - 파생본 상대 경로이면 원본의 확장자 없는 경로, 아니면 null
+     */
+    public static String originalStem(String relativePath) {
+        Matcher matcher = VARIANT.matcher(relativePath);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    Integer closestWidth(int requested) {
+        for (int width : widths) {
+            if (width >= requested) {
+                return width;
+            }
+        }
+        return null;
+    }
+
+    static Path variantPath(Path original, int width, String format) {
+        String filename = original.getFileName().toString();
+        String stem = filename.substring(0, filename.lastIndexOf('.'));
+        return original.resolveSibling(stem + ".w" + width + "." + format);
+    }
+
+    /**
+     * 픽셀 수를 먼저 확인해 지나치게 큰 이미지는 디코딩하지 않는다.
+     */
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("이벤트 이미지가 너무 커 파생본을 만들지 않습니다: {} ({}px)", original, pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄여 가며 목표 폭에 맞춘다.
+     */
+    private static BufferedImage scale(BufferedImage source, int targetWidth, boolean keepAlpha) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        int type = keepAlpha && source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (type == BufferedImage.TYPE_INT_RGB) {
+                    // 투명 영역은 JPEG에서 검게 나오므로 흰 배경을 깐다
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, width, height);
+                }
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth);
+        return current;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 rename 하므로 요청이 반쯤 쓰인 파생본을 읽지 않는다.
+     */
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            if ("jpg".equals(format)) {
+                writeJpeg(toRgb(image), temp);
+            } else if (!ImageIO.write(image, format, temp.toFile())) {
+                throw new IOException("이미지 인코더가 없습니다: " + format);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path path) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(path.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    private static void link(Path original, Path target) throws IOException {
+        try {
+            Files.createLink(target, original);
+        } catch (FileAlreadyExistsException e) {
+            // 다른 작업이 먼저 만든 경우
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(original, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String extensionOf(Path path) {
+        String filename = path.getFileName().toString();
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,11 +1,11 @@
 package com.mycard.api.service;
 
 import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.util.ShardedPaths;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -20,7 +20,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ImageUploadService {
 
+    public static final String EVENT_IMAGE_URL_PREFIX = "/api/uploads/events/";
+
     private final UploadValidationService uploadValidationService;
+    private final EventImageDerivativeService eventImageDerivativeService;
 
     @Value("${app.upload.base-path:/var/lib/mycard/uploads}")
     private String uploadBasePath;
@@ -30,15 +33,17 @@ public class ImageUploadService {
         String extension = uploadValidationService.extractExtension(originalFilename);
 
         String storedFilename = UUID.randomUUID() + "." + extension;
-        // 이벤트를 위한 별도 폴더(events) 권장
-        Path uploadDir = Paths.get(uploadBasePath, "events").toAbsolutePath().normalize();
-        Path targetPath = uploadDir.resolve(storedFilename);
+        // 이벤트 이미지는 events/ab/cd/{파일명} 으로 분산 저장
+        Path eventsDir = Paths.get(uploadBasePath, "events").toAbsolutePath().normalize();
+        Path targetPath = ShardedPaths.resolve(eventsDir, storedFilename);
 
         try {
-            Files.createDirectories(uploadDir);
+            Files.createDirectories(targetPath.getParent());
             Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
             log.info("이벤트 이미지 저장 완료: {}", targetPath);
-            return "/api/uploads/events/" + storedFilename;
+            // 목록/상세 화면용 축소본은 작업 풀에서 비동기로 만든다
+            eventImageDerivativeService.submit(targetPath);
+            return EVENT_IMAGE_URL_PREFIX + ShardedPaths.relative(storedFilename);
         } catch (IOException e) {
             log.error("Failed to store image file: {}", originalFilename, e);
             throw new BadRequestException("이미지 저장에 실패했습니다.");
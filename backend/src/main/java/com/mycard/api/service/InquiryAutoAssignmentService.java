@@ -0,0 +1,349 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.AuditLog;
+import com.mycard.api.entity.Inquiry;
+import com.mycard.api.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문의 자동 배정
+ * 미배정 문의는 SLA 마감 시각 순 대기열(TreeSet)에, 상담원은 (진행 중 건수, 마지막 배정 순서) 순 TreeSet에
+ * 메모리로 유지한다.
+ * 주기 배정은 "마감이 가장 급한 문의 -> 가장 한가한 상담원"을 O(log n)으로 고르고, 조건부 UPDATE로 선점한다.
+ * (다른 노드/수동 배정과 겹치면 UPDATE 0건으로 건너뛴다)
+ * 상태는 기동 시와 주기적으로 DB에서 다시 구축하므로 노드 간 부하 수치 차이나 누락된 이벤트는 재구축 때 보정된다.
+ */
+@Service
+@Slf4j
+public class InquiryAutoAssignmentService {
+
+    private static final String OPERATOR_ROLE = "OPERATOR";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditService auditService;
+    private final boolean enabled;
+    private final Duration sla;
+    private final Duration urgentSla;
+    private final Set<String> urgentCategories;
+    private final int maxLoad;
+    private final int batchSize;
+
+    private final Object lock = new Object();
+    private final TreeSet<Pending> queue = new TreeSet<>(Pending.ORDER);
+    private final TreeSet<Pending> queueByAge = new TreeSet<>(Pending.AGE);
+    private final Map<Long, Pending> pendingById = new HashMap<>();
+    private final TreeSet<OperatorLoad> operators = new TreeSet<>(OperatorLoad.ORDER);
+    private final Map<Long, OperatorLoad> operatorsById = new HashMap<>();
+    private long assignSeq;
+    private volatile boolean ready;
+
+    private final Timer waitTimer;
+    private final Counter assignedCounter;
+    private final Counter conflictCounter;
+
+    public InquiryAutoAssignmentService(JdbcTemplate jdbcTemplate,
+                                        AuditService auditService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${app.inquiry.assignment.enabled:true}") boolean enabled,
+                                        @Value("${app.inquiry.assignment.sla-minutes:240}") long slaMinutes,
+                                        @Value("${app.inquiry.assignment.urgent-sla-minutes:60}") long urgentSlaMinutes,
+                                        @Value("${app.inquiry.assignment.urgent-categories:CARD,BILLING}") Set<String> urgentCategories,
+                                        @Value("${app.inquiry.assignment.max-load:10}") int maxLoad,
+                                        @Value("${app.inquiry.assignment.batch-size:50}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditService = auditService;
+        this.enabled = enabled;
+        this.sla = Duration.ofMinutes(slaMinutes);
+        this.urgentSla = Duration.ofMinutes(urgentSlaMinutes);
+        this.urgentCategories = Set.copyOf(urgentCategories);
+        this.maxLoad = maxLoad;
+        this.batchSize = batchSize;
+
+        Gauge.builder("inquiry.assignment.queue.depth", this, InquiryAutoAssignmentService::queueDepth)
+                .description("배정 대기 중인 문의 수")
+                .register(meterRegistry);
+        Gauge.builder("inquiry.assignment.queue.oldest.wait", this, service -> service.oldestWait().toSeconds())
+                .description("가장 오래 대기 중인 문의의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("inquiry.assignment.wait")
+                .description("문의 접수 -> 자동 배정까지 대기 시간")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+        this.assignedCounter = meterRegistry.counter("inquiry.assignment.assigned");
+        this.conflictCounter = meterRegistry.counter("inquiry.assignment.conflicts");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준 재구축 - 상담원 목록(권한 변경), 다른 노드의 배정/종료를 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${app.inquiry.assignment.rebuild-ms:300000}",
+            initialDelayString = "${app.inquiry.assignment.rebuild-ms:300000}")
+    public void rebuild() {
+        try {
+            Map<Long, Integer> loads = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT u.id FROM users u JOIN user_roles ur ON ur.user_id = u.id JOIN roles r ON r.id = ur.role_id "
+                            + "WHERE r.name = ? AND u.status = 'ACTIVE'",
+                    rs -> {
+                        loads.put(rs.getLong(1), 0);
+                    }, OPERATOR_ROLE);
+            jdbcTemplate.query(
+                    "SELECT assigned_operator_id, COUNT(*) FROM inquiries "
+                            + "WHERE status IN ('OPEN', 'ASSIGNED') AND assigned_operator_id IS NOT NULL "
+                            + "GROUP BY assigned_operator_id",
+                    rs -> {
+                        int assigned = rs.getInt(2);
+                        loads.computeIfPresent(rs.getLong(1), (id, load) -> load + assigned);
+                    });
+
+            List<Pending> pending = new ArrayList<>();
+            jdbcTemplate.query(
+                    "SELECT id, category, created_at FROM inquiries WHERE status = 'OPEN' AND assigned_operator_id IS NULL",
+                    rs -> {
+                        pending.add(toPending(rs.getLong(1), rs.getString(2),
+                                rs.getTimestamp(3).toLocalDateTime()));
+                    });
+
+            reset(loads, pending);
+            log.info("문의 배정 대기열 재구축 - operators={}, pending={}", loads.size(), pending.size());
+        } catch (Exception e) {
+            log.error("문의 배정 대기열 재구축 실패", e);
+        }
+    }
+
+    /**
+     * 대기열에서 마감이 급한 순으로 꺼내 가장 한가한 상담원에게 배정한다. (상담원이 모두 max-load면 대기)
+     */
+    @Scheduled(fixedDelayString = "${app.inquiry.assignment.interval-ms:5000}")
+    public void assignPending() {
+        if (!enabled || !ready) {
+            return;
+        }
+        try {
+            for (int i = 0; i < batchSize; i++) {
+                Pending inquiry;
+                OperatorLoad operator;
+                synchronized (lock) {
+                    if (queue.isEmpty() || operators.isEmpty() || operators.first().load() >= maxLoad) {
+                        return;
+                    }
+                    inquiry = queue.first();
+                    removePending(inquiry.inquiryId());
+                    operator = operators.first();
+                    // 선점 전에 부하를 먼저 올려 두고, 실패하면 되돌린다.
+                    replace(operator, new OperatorLoad(operator.operatorId(), operator.load() + 1, ++assignSeq));
+                }
+
+                if (claim(inquiry.inquiryId(), operator.operatorId())) {
+                    assignedCounter.increment();
+                    waitTimer.record(Duration.between(inquiry.createdAt(), LocalDateTime.now()));
+                    auditService.log(AuditLog.ActionType.UPDATE, "Inquiry", inquiry.inquiryId(),
+                            "문의 자동 배정: operatorId=" + operator.operatorId());
+                } else {
+                    conflictCounter.increment();
+                    adjustLoad(operator.operatorId(), -1);
+                }
+            }
+        } catch (Exception e) {
+            log.error("문의 자동 배정 실패", e);
+        }
+    }
+
+    /**
+     * 새 문의 접수 (커밋 후 대기열에 추가)
+     */
+    public void onCreated(Long inquiryId, Inquiry.InquiryCategory category, LocalDateTime createdAt) {
+        Pending pending = toPending(inquiryId, category.name(), createdAt != null ? createdAt : LocalDateTime.now());
+        AfterCommit.run(() -> {
+            synchronized (lock) {
+                addPending(pending);
+            }
+        });
+    }
+
+    /**
+     * 수동 배정/재배정 (커밋 후 대기열 제거, 상담원 부하 이동)
+     *
+     * @param previousOperatorId 진행 중이던 문의의 기존 담당자 (없으면 null)
+     */
+    public void onAssigned(Long inquiryId, Long previousOperatorId, Long operatorId) {
+        AfterCommit.run(() -> {
+            synchronized (lock) {
+                removePending(inquiryId);
+                if (previousOperatorId != null) {
+                    adjustLoad(previousOperatorId, -1);
+                }
+                adjustLoad(operatorId, 1);
+            }
+        });
+    }
+
+    /**
+     * 진행 중이던 문의가 답변/종료됨 (커밋 후 대기열 제거, 담당자 부하 감소)
+     */
+    public void onClosed(Long inquiryId, Long operatorId) {
+        AfterCommit.run(() -> {
+            synchronized (lock) {
+                removePending(inquiryId);
+                if (operatorId != null) {
+                    adjustLoad(operatorId, -1);
+                }
+            }
+        });
+    }
+
+    public int queueDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * @return 자동 배정 대상 상담원이 아니면 null
+     */
+    public Integer currentLoad(Long operatorId) {
+        synchronized (lock) {
+            OperatorLoad operator = operatorsById.get(operatorId);
+            return operator != null ? operator.load() : null;
+        }
+    }
+
+    /**
+     * 상담원 대시보드용 대기열 지표
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (lock) {
+            stats.put("queueDepth", queue.size());
+            stats.put("operators", operators.size());
+            stats.put("saturatedOperators", operators.stream().filter(operator -> operator.load() >= maxLoad).count());
+        }
+        stats.put("oldestWaitSeconds", oldestWait().toSeconds());
+        for (ValueAtPercentile percentile : waitTimer.takeSnapshot().percentileValues()) {
+            stats.put("waitP" + Math.round(percentile.percentile() * 100) + "Seconds",
+                    Math.round(percentile.value(TimeUnit.SECONDS)));
+        }
+        stats.put("assigned", (long) assignedCounter.count());
+        return stats;
+    }
+
+    void reset(Map<Long, Integer> operatorLoads, List<Pending> pending) {
+        synchronized (lock) {
+            queue.clear();
+            queueByAge.clear();
+            pendingById.clear();
+            pending.forEach(this::addPending);
+
+            Map<Long, OperatorLoad> previous = new HashMap<>(operatorsById);
+            operators.clear();
+            operatorsById.clear();
+            operatorLoads.forEach((operatorId, load) -> {
+                // 재구축 후에도 동률 상담원 간 순서(최근 배정 순)는 유지
+                OperatorLoad before = previous.get(operatorId);
+                OperatorLoad operator = new OperatorLoad(operatorId, load, before != null ? before.lastAssignedSeq() : 0);
+                operators.add(operator);
+                operatorsById.put(operatorId, operator);
+            });
+            ready = true;
+        }
+    }
+
+    Pending toPending(Long inquiryId, String category, LocalDateTime createdAt) {
+        Duration target = urgentCategories.contains(category) ? urgentSla : sla;
+        return new Pending(inquiryId, createdAt, createdAt.plus(target));
+    }
+
+    private boolean claim(Long inquiryId, Long operatorId) {
+        return jdbcTemplate.update(
+                "UPDATE inquiries SET assigned_operator_id = ?, status = 'ASSIGNED' "
+                        + "WHERE id = ? AND status = 'OPEN' AND assigned_operator_id IS NULL",
+                operatorId, inquiryId) == 1;
+    }
+
+    private Duration oldestWait() {
+        LocalDateTime oldest;
+        synchronized (lock) {
+            oldest = queueByAge.isEmpty() ? null : queueByAge.first().createdAt();
+        }
+        return oldest != null ? Duration.between(oldest, LocalDateTime.now()) : Duration.ZERO;
+    }
+
+    private void addPending(Pending pending) {
+        if (pendingById.putIfAbsent(pending.inquiryId(), pending) == null) {
+            queue.add(pending);
+            queueByAge.add(pending);
+        }
+    }
+
+    private void removePending(Long inquiryId) {
+        Pending pending = pendingById.remove(inquiryId);
+        if (pending != null) {
+            queue.remove(pending);
+            queueByAge.remove(pending);
+        }
+    }
+
+    private void adjustLoad(Long operatorId, int delta) {
+        synchronized (lock) {
+            OperatorLoad operator = operatorsById.get(operatorId);
+            if (operator != null) {
+                replace(operator, new OperatorLoad(operatorId, Math.max(0, operator.load() + delta), operator.lastAssignedSeq()));
+            }
+        }
+    }
+
+    private void replace(OperatorLoad before, OperatorLoad after) {
+        operators.remove(before);
+        operators.add(after);
+        operatorsById.put(after.operatorId(), after);
+    }
+
+    /**
+     * 배정 대기 문의 - SLA 마감이 빠른 순, 같으면 먼저 접수된 순
+     */
+    record Pending(Long inquiryId, LocalDateTime createdAt, LocalDateTime deadline) {
+        static final Comparator<Pending> ORDER = Comparator.comparing(Pending::deadline)
+                .thenComparing(Pending::createdAt)
+                .thenComparing(Pending::inquiryId);
+        static final Comparator<Pending> AGE = Comparator.comparing(Pending::createdAt)
+                .thenComparing(Pending::inquiryId);
+    }
+
+    /**
+     * 상담원 부하 - 진행 중 건수가 적은 순, 같으면 가장 오래전에 배정받은 순
+     */
+    record OperatorLoad(Long operatorId, int load, long lastAssignedSeq) {
+        static final Comparator<OperatorLoad> ORDER = Comparator.comparingInt(OperatorLoad::load)
+                .thenComparingLong(OperatorLoad::lastAssignedSeq)
+                .thenComparing(OperatorLoad::operatorId);
+    }
+}
@@ -33,11 +33,12 @@ public class InquiryService {
     private final UserRepository userRepository;
     private final OwnerCheckService ownerCheckService;
     private final AuditService auditService;
+    private final AdminMetricsService adminMetricsService;
+    private final InquiryAutoAssignmentService inquiryAutoAssignmentService;
 
     @Transactional(readOnly = true)
     public Page<InquiryListResponse> getMyInquiries(UserPrincipal currentUser, Pageable pageable) {
-        return inquiryRepository.findByUserId(currentUser.getId(), pageable)
-                .map(this::toListResponse);
+        return inquiryRepository.findListByUserId(currentUser.getId(), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -58,6 +59,8 @@ public class InquiryService {
 
         Inquiry inquiry = new Inquiry(user, request.getCategory(), request.getTitle(), request.getContent());
         inquiryRepository.save(inquiry);
+        adminMetricsService.adjust(AdminMetricsService.Metric.OPEN_INQUIRIES, 1);
+        inquiryAutoAssignmentService.onCreated(inquiry.getId(), inquiry.getCategory(), inquiry.getCreatedAt());
 
         auditService.log(AuditLog.ActionType.CREATE, "Inquiry", inquiry.getId(), "문의 생성: " + request.getTitle());
 
@@ -85,14 +88,21 @@ public class InquiryService {
 
         InquiryReply reply = new InquiryReply(inquiry, author, request.getContent(), isStaffReply);
         inquiryReplyRepository.save(reply);
-        inquiry.addReply(reply);
+        LocalDateTime repliedAt = inquiry.addReply(reply);
+        inquiryRepository.recordReply(inquiry.getId(), repliedAt, isStaffReply);
 
         if (isStaffReply) {
+            boolean wasOpen = isOpen(inquiry);
+            Long previousOperatorId = assignedOperatorId(inquiry);
             if (inquiry.getAssignedOperator() == null) {
                 inquiry.setAssignedOperator(author);
             }
             inquiry.setStatus(Inquiry.InquiryStatus.ANSWERED);
             inquiry.setResolvedAt(LocalDateTime.now());
+            adminMetricsService.transition(AdminMetricsService.Metric.OPEN_INQUIRIES, wasOpen, false);
+            if (wasOpen) {
+                inquiryAutoAssignmentService.onClosed(inquiry.getId(), previousOperatorId);
+            }
         }
 
         inquiryRepository.save(inquiry);
@@ -104,20 +114,17 @@ public class InquiryService {
 
     @Transactional(readOnly = true)
     public Page<InquiryListResponse> getUnassignedInquiries(Pageable pageable) {
-        return inquiryRepository.findUnassignedInquiries(pageable)
-                .map(this::toListResponse);
+        return inquiryRepository.findUnassignedList(pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<InquiryListResponse> getAllInquiries(Pageable pageable) {
-        return inquiryRepository.findAllInquiries(pageable)
-                .map(this::toListResponse);
+        return inquiryRepository.findAllList(pageable);
     }
 
     @Transactional(readOnly = true)
     public Page<InquiryListResponse> getMyAssignedInquiries(UserPrincipal currentUser, Pageable pageable) {
-        return inquiryRepository.findByAssignedOperatorId(currentUser.getId(), pageable)
-                .map(this::toListResponse);
+        return inquiryRepository.findListByAssignedOperatorId(currentUser.getId(), pageable);
     }
 
     @Transactional
@@ -129,10 +136,12 @@ public class InquiryService {
             throw new BadRequestException("OPEN 상태 문의만 배정할 수 있습니다.");
         }
 
+        Long previousOperatorId = assignedOperatorId(inquiry);
         User operator = userRepository.getReferenceById(currentUser.getId());
         inquiry.setAssignedOperator(operator);
         inquiry.setStatus(Inquiry.InquiryStatus.ASSIGNED);
         inquiryRepository.save(inquiry);
+        inquiryAutoAssignmentService.onAssigned(inquiry.getId(), previousOperatorId, operator.getId());
 
         auditService.log(AuditLog.ActionType.UPDATE, "Inquiry", inquiry.getId(), "문의 배정");
 
@@ -155,9 +164,13 @@ public class InquiryService {
             throw new BadRequestException("상담원 또는 관리자만 배정받을 수 있습니다.");
         }
 
+        boolean wasOpen = isOpen(inquiry);
+        Long previousOperatorId = wasOpen ? assignedOperatorId(inquiry) : null;
         inquiry.setAssignedOperator(operator);
         inquiry.setStatus(Inquiry.InquiryStatus.ASSIGNED);
         inquiryRepository.save(inquiry);
+        adminMetricsService.transition(AdminMetricsService.Metric.OPEN_INQUIRIES, wasOpen, true);
+        inquiryAutoAssignmentService.onAssigned(inquiry.getId(), previousOperatorId, operator.getId());
 
         auditService.log(AuditLog.ActionType.UPDATE, "Inquiry", inquiry.getId(), 
                 "문의 배정: " + operator.getName() + "에게 배정");
@@ -181,22 +194,21 @@ public class InquiryService {
         inquiry.setStatus(Inquiry.InquiryStatus.ANSWERED);
         inquiry.setResolvedAt(LocalDateTime.now());
         inquiryRepository.save(inquiry);
+        adminMetricsService.adjust(AdminMetricsService.Metric.OPEN_INQUIRIES, -1);
+        inquiryAutoAssignmentService.onClosed(inquiry.getId(), assignedOperatorId(inquiry));
 
         auditService.log(AuditLog.ActionType.UPDATE, "Inquiry", inquiry.getId(), "문의 종료 처리");
 
         return toDetailResponse(inquiry);
     }
 
-    private InquiryListResponse toListResponse(Inquiry inquiry) {
-        return InquiryListResponse.builder()
-                .id(inquiry.getId())
-                .category(inquiry.getCategory())
-                .title(inquiry.getTitle())
-                .status(inquiry.getStatus())
-                .assignee(inquiry.getAssignedOperator() != null ? inquiry.getAssignedOperator().getFullName() : null)
-                .hasStaffReply(inquiry.getReplies().stream().anyMatch(InquiryReply::getIsStaffReply))
-                .createdAt(inquiry.getCreatedAt())
-                .build();
+    private static Long assignedOperatorId(Inquiry inquiry) {
+        return inquiry.getAssignedOperator() != null ? inquiry.getAssignedOperator().getId() : null;
+    }
+
+    private static boolean isOpen(Inquiry inquiry) {
+        return inquiry.getStatus() == Inquiry.InquiryStatus.OPEN
+                || inquiry.getStatus() == Inquiry.InquiryStatus.ASSIGNED;
     }
 
     private InquiryDetailResponse toDetailResponse(Inquiry inquiry) {
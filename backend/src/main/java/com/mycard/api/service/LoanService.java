@@ -13,7 +13,6 @@ import com.mycard.api.exception.BadRequestException;
 import com.mycard.api.exception.ResourceNotFoundException;
 import com.mycard.api.repository.CardRepository;
 import com.mycard.api.repository.LoanRepository;
-import com.mycard.api.repository.MessageRepository;
 import com.mycard.api.repository.UserBankAccountRepository;
 import com.mycard.api.repository.UserRepository;
 import com.mycard.api.security.UserPrincipal;
@@ -37,7 +36,7 @@ public class LoanService {
     private final CardRepository cardRepository;
     private final UserBankAccountRepository userBankAccountRepository;
     private final BankAccountLedgerService bankAccountLedgerService;
-    private final MessageRepository messageRepository;
+    private final MessageService messageService;
     private final OwnerCheckService ownerCheckService;
 
     @Transactional(readOnly = true)
@@ -225,6 +224,6 @@ public class LoanService {
                         loan.getBankAccount().getBankName(),
                         loan.getBankAccount().getAccountNumberMasked()
                 );
-        messageRepository.save(new Message(sender, recipient, Message.MessageType.SYSTEM, "대출금이 입금되었습니다.", content));
+        messageService.send(new Message(sender, recipient, Message.MessageType.SYSTEM, "대출금이 입금되었습니다.", content));
     }
 }
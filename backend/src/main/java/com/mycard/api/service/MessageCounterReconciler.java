@@ -0,0 +1,87 @@
+package com.mycard.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 미읽음 메시지 카운터 보정 배치
+ * 사용자 ID 구간별로 카운터 행을 먼저 잠근 뒤 messages를 다시 세어 어긋난 값만 고친다.
+ * READ COMMITTED라 잠금을 얻은 뒤 실행하는 집계 문장은 그 사이 커밋된 메시지까지 본다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MessageCounterReconciler {
+
+    private static final long USER_ID_BATCH = 1_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Scheduled(cron = "${app.messages.counter-reconcile-cron:0 20 4 * * *}")
+    public void reconcileAll() {
+        try {
+            long fixed = reconcile();
+            log.info("미읽음 메시지 카운터 보정 완료 - fixed={}", fixed);
+        } catch (Exception e) {
+            log.error("미읽음 메시지 카운터 보정 실패", e);
+        }
+    }
+
+    /**
+     * @return 보정(수정 또는 생성)된 카운터 수
+     */
+    public long reconcile() {
+        Long maxUserId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+        if (maxUserId == null || maxUserId == 0) {
+            return 0;
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        long fixed = 0;
+        for (long from = 0; from < maxUserId; from += USER_ID_BATCH) {
+            long lower = from;
+            long upper = from + USER_ID_BATCH;
+            Integer changed = template.execute(status -> reconcileRange(lower, upper));
+            fixed += changed != null ? changed : 0;
+        }
+        return fixed;
+    }
+
+    private int reconcileRange(long lowerExclusive, long upperInclusive) {
+        // 진행 중인 발송/읽음 트랜잭션이 끝날 때까지 기다리고, 이후에는 새 증감이 끼어들지 못하게 한다
+        jdbcTemplate.queryForList(
+                "SELECT user_id FROM user_message_counters WHERE user_id > ? AND user_id <= ? FOR UPDATE",
+                Long.class, lowerExclusive, upperInclusive);
+
+        int updated = jdbcTemplate.update(
+                "UPDATE user_message_counters c "
+                        + "LEFT JOIN (SELECT to_user_id, COUNT(*) AS cnt FROM messages "
+                        + "           WHERE read_at IS NULL AND to_user_id > ? AND to_user_id <= ? "
+                        + "           GROUP BY to_user_id) m ON m.to_user_id = c.user_id "
+                        + "SET c.unread_count = COALESCE(m.cnt, 0) "
+                        + "WHERE c.user_id > ? AND c.user_id <= ? AND c.unread_count <> COALESCE(m.cnt, 0)",
+                lowerExclusive, upperInclusive, lowerExclusive, upperInclusive);
+
+        // 카운터 행이 없는 사용자 (마이그레이션 이전 데이터 등)
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO user_message_counters (user_id, unread_count) "
+                        + "SELECT to_user_id, COUNT(*) FROM messages "
+                        + "WHERE read_at IS NULL AND to_user_id > ? AND to_user_id <= ? "
+                        + "GROUP BY to_user_id",
+                lowerExclusive, upperInclusive);
+
+        if (updated + inserted > 0) {
+            log.warn("미읽음 메시지 카운터 드리프트 보정 - users ({}, {}], updated={}, inserted={}",
+                    lowerExclusive, upperInclusive, updated, inserted);
+        }
+        return updated + inserted;
+    }
+}
@@ -1,38 +1,175 @@
 package com.mycard.api.service;
 
 import com.mycard.api.dto.MessageResponse;
+import com.mycard.api.entity.BroadcastMessage;
+import com.mycard.api.entity.Card;
 import com.mycard.api.entity.Message;
+import com.mycard.api.entity.User;
 import com.mycard.api.exception.ResourceNotFoundException;
+import com.mycard.api.repository.BroadcastMessageRepository;
+import com.mycard.api.repository.CardApplicationRepository;
+import com.mycard.api.repository.CardRepository;
 import com.mycard.api.repository.MessageRepository;
+import com.mycard.api.repository.UserMessageCounterRepository;
+import com.mycard.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * 알림 메시지 서비스
+ * 알림함은 직접 메시지(messages)와 세그먼트 브로드캐스트(broadcast_messages)를 조회 시점에 합쳐 보여준다.
+ * 브로드캐스트 읽음 상태는 사용자별 워터마크(이하 전부 읽음) + 워터마크 위 개별 읽음 기록으로 관리한다.
  */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MessageService {
 
+    private static final String SOURCE_DIRECT = "DIRECT";
+    private static final String SOURCE_BROADCAST = "BROADCAST";
+    // IN () 는 문법 오류이므로 상품이 없을 때 넘기는 값
+    private static final List<String> NO_PRODUCTS = List.of("");
+
     private final MessageRepository messageRepository;
+    private final BroadcastMessageRepository broadcastMessageRepository;
+    private final UserRepository userRepository;
+    private final CardRepository cardRepository;
+    private final CardApplicationRepository cardApplicationRepository;
+    private final UserMessageCounterRepository userMessageCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdminMetricsService adminMetricsService;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 사용자의 알림 목록 조회
+     * 두 출처에서 각각 최신순으로 (offset + size)건만 읽어 병합한 뒤 해당 페이지를 잘라낸다.
      */
     public Page<MessageResponse> getMessages(Long userId, Pageable pageable) {
-        return messageRepository.findByUserId(userId, pageable)
-                .map(this::toResponse);
+        int window = (int) pageable.getOffset() + pageable.getPageSize();
+        Page<Message> direct = messageRepository.findByUserId(userId, PageRequest.of(0, window));
+
+        Audience audience = audienceOf(userId);
+        List<BroadcastMessage> broadcasts = broadcastMessageRepository.findVisible(
+                userId, audience.since(), audience.hasActiveCard(), audience.products(), window);
+        long broadcastTotal = broadcasts.size() < window && pageable.getOffset() == 0
+                ? broadcasts.size()
+                : broadcastMessageRepository.countVisible(userId, audience.since(), audience.hasActiveCard(), audience.products());
+
+        long watermark = broadcastMessageRepository.findWatermark(userId).orElse(0L);
+        Set<Long> readIds = broadcasts.isEmpty() ? Set.of()
+                : new HashSet<>(broadcastMessageRepository.findReadIds(userId,
+                        broadcasts.stream().map(BroadcastMessage::getId).toList()));
+
+        List<MessageResponse> merged = new ArrayList<>(direct.getNumberOfElements() + broadcasts.size());
+        direct.forEach(message -> merged.add(toResponse(message)));
+        broadcasts.forEach(broadcast -> merged.add(
+                toResponse(broadcast, broadcast.getId() <= watermark || readIds.contains(broadcast.getId()))));
+        merged.sort(Comparator.comparing(MessageResponse::getCreatedAt,
+                Comparator.nullsLast(Comparator.reverseOrder())));
+
+        int from = (int) Math.min(pageable.getOffset(), merged.size());
+        int to = Math.min(from + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(merged.subList(from, to), pageable, direct.getTotalElements() + broadcastTotal);
     }
 
     /**
-     * 읽지 않은 알림 개수 조회
+     * 읽지 않은 알림 개수 조회 (직접 메시지 + 브로드캐스트)
      */
     public long getUnreadCount(Long userId) {
-        return messageRepository.countByUserIdAndIsReadFalse(userId);
+        long direct = userMessageCounterRepository.findUnreadCount(userId).orElse(0L);
+        long watermark = broadcastMessageRepository.findWatermark(userId).orElse(0L);
+        // 워터마크 이후 발송된 브로드캐스트가 없으면 세그먼트 판정 없이 PK 조회만으로 끝난다
+        if (broadcastMessageRepository.findMaxId() <= watermark) {
+            return direct;
+        }
+        Audience audience = audienceOf(userId);
+        return direct + broadcastMessageRepository.countUnread(userId, audience.since(), audience.hasActiveCard(),
+                audience.products(), watermark);
+    }
+
+    /**
+     * 직접 메시지 발송 (미읽음 카운터를 같은 트랜잭션에서 증가하고, 커밋 후 실시간 알림 스트림에 전달)
+     */
+    @Transactional
+    public Message send(Message message) {
+        Message saved = messageRepository.save(message);
+        userMessageCounterRepository.increment(message.getRecipient().getId(), 1);
+        adminMetricsService.adjust(AdminMetricsService.Metric.UNREAD_MESSAGES, 1);
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", saved.getId());
+        data.put("messageType", saved.getMessageType().name());
+        data.put("title", saved.getTitle());
+        data.put("createdAt", saved.getCreatedAt());
+        eventPublisher.publishEvent(new UserNotificationEvent(
+                message.getRecipient().getId(), UserNotificationEvent.TYPE_MESSAGE, data));
+        return saved;
+    }
+
+    /**
+     * 직접 메시지 일괄 발송 (카드 신청 일괄 심사 등)
+     * 메시지는 pooled ID로 JDBC 배치 INSERT되고, 미읽음 카운터는 수신자별 증가분을 모아 배치 UPSERT 한 번으로 반영한다.
+     */
+    @Transactional
+    public List<Message> sendAll(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        List<Message> saved = messageRepository.saveAll(messages);
+
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (Message message : saved) {
+            deltas.merge(message.getRecipient().getId(), 1L, Long::sum);
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((userId, delta) -> args.add(new Object[]{userId, delta}));
+        jdbcTemplate.batchUpdate("INSERT INTO user_message_counters (user_id, unread_count) VALUES (?, ?) " +
+                "ON DUPLICATE KEY UPDATE unread_count = unread_count + VALUES(unread_count)", args);
+        adminMetricsService.adjust(AdminMetricsService.Metric.UNREAD_MESSAGES, saved.size());
+
+        for (Message message : saved) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("id", message.getId());
+            data.put("messageType", message.getMessageType().name());
+            data.put("title", message.getTitle());
+            data.put("createdAt", message.getCreatedAt());
+            eventPublisher.publishEvent(new UserNotificationEvent(
+                    message.getRecipient().getId(), UserNotificationEvent.TYPE_MESSAGE, data));
+        }
+        return saved;
+    }
+
+    /**
+     * 브로드캐스트 상세 조회 및 읽음 처리
+     */
+    @Transactional
+    public MessageResponse getBroadcast(Long broadcastId, Long userId) {
+        Audience audience = audienceOf(userId);
+        BroadcastMessage broadcast = broadcastMessageRepository.findVisibleById(
+                        broadcastId, userId, audience.since(), audience.hasActiveCard(), audience.products())
+                .orElseThrow(() -> new ResourceNotFoundException("알림", broadcastId));
+
+        long watermark = broadcastMessageRepository.findWatermark(userId).orElse(0L);
+        if (broadcast.getId() > watermark) {
+            broadcastMessageRepository.insertRead(userId, broadcast.getId());
+        }
+        return toResponse(broadcast, true);
     }
 
     /**
@@ -40,7 +177,7 @@ public class MessageService {
      */
     @Transactional
     public MessageResponse getMessage(Long messageId, Long userId) {
-        Message message = messageRepository.findById(messageId)
+        Message message = messageRepository.findByIdForUpdate(messageId)
                 .orElseThrow(() -> new ResourceNotFoundException("알림", messageId));
 
         if (!message.getUser().getId().equals(userId)) {
@@ -48,7 +185,11 @@ public class MessageService {
         }
 
         // 읽음 처리
-        message.markAsRead();
+        if (!message.getIsRead()) {
+            message.markAsRead();
+            userMessageCounterRepository.decrement(userId, 1);
+            adminMetricsService.adjust(AdminMetricsService.Metric.UNREAD_MESSAGES, -1);
+        }
 
         return toResponse(message);
     }
@@ -58,7 +199,17 @@ public class MessageService {
      */
     @Transactional
     public void markAllAsRead(Long userId) {
-        messageRepository.markAllAsReadByUserId(userId);
+        int marked = messageRepository.markAllAsReadByUserId(userId);
+        if (marked > 0) {
+            userMessageCounterRepository.decrement(userId, marked);
+            adminMetricsService.adjust(AdminMetricsService.Metric.UNREAD_MESSAGES, -marked);
+        }
+        // 현재까지 발송된 브로드캐스트 전체를 워터마크 아래로 내리고, 필요 없어진 개별 읽음 기록을 정리한다
+        long watermark = broadcastMessageRepository.findMaxId();
+        if (watermark > 0) {
+            broadcastMessageRepository.advanceWatermark(userId, watermark);
+            broadcastMessageRepository.deleteReadsUpTo(userId, watermark);
+        }
     }
 
     /**
@@ -66,13 +217,17 @@ public class MessageService {
      */
     @Transactional
     public void deleteMessage(Long messageId, Long userId) {
-        Message message = messageRepository.findById(messageId)
+        Message message = messageRepository.findByIdForUpdate(messageId)
                 .orElseThrow(() -> new ResourceNotFoundException("알림", messageId));
 
         if (!message.getUser().getId().equals(userId)) {
             throw new ResourceNotFoundException("알림", messageId);
         }
 
+        if (!message.getIsRead()) {
+            userMessageCounterRepository.decrement(userId, 1);
+            adminMetricsService.adjust(AdminMetricsService.Metric.UNREAD_MESSAGES, -1);
+        }
         messageRepository.delete(message);
     }
 
@@ -85,9 +240,38 @@ public class MessageService {
                 .orElse(null);
     }
 
+    /**
+     * 세그먼트 판정에 필요한 사용자 속성 (가입 시각, 정상 카드 보유 여부, 승인 카드 상품)
+     */
+    private Audience audienceOf(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+        List<String> products = cardApplicationRepository.findApprovedCardProductsByUserId(userId);
+        return new Audience(
+                user.getCreatedAt() != null ? user.getCreatedAt() : LocalDateTime.of(2000, 1, 1, 0, 0),
+                cardRepository.existsByUserIdAndStatus(userId, Card.CardStatus.ACTIVE),
+                products.isEmpty() ? NO_PRODUCTS : products);
+    }
+
+    private record Audience(LocalDateTime since, boolean hasActiveCard, List<String> products) {
+    }
+
+    private MessageResponse toResponse(BroadcastMessage broadcast, boolean read) {
+        return MessageResponse.builder()
+                .id(broadcast.getId())
+                .source(SOURCE_BROADCAST)
+                .category(Message.MessageType.NOTIFICATION.name())
+                .title(broadcast.getTitle())
+                .content(broadcast.getContent())
+                .isRead(read)
+                .createdAt(broadcast.getCreatedAt())
+                .build();
+    }
+
     private MessageResponse toResponse(Message message) {
         return MessageResponse.builder()
                 .id(message.getId())
+                .source(SOURCE_DIRECT)
                 .category(message.getCategory().name())
                 .title(message.getTitle())
                 .content(message.getContent())
@@ -0,0 +1,292 @@
+package com.mycard.api.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 SSE 구독 레지스트리 (노드 로컬, 메모리)
+ * 연결은 서블릿 비동기 요청으로 열어 두기만 하므로 유휴 연결은 스레드를 점유하지 않는다.
+ * 이벤트는 연결별 고정 크기 버퍼에 쌓이고, 소수의 전송 스레드가 버퍼를 비운다.
+ * 버퍼가 넘치는(읽지 않는) 연결과 send-timeout-ms 안에 한 건을 못 내보내는(소켓 쓰기가 막힌) 연결은 끊으며,
+ * 클라이언트는 재연결 후 목록/미읽음 수를 다시 조회한다.
+ */
+@Slf4j
+@Service
+public class NotificationStreamRegistry {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender;
+
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+    private final long sendTimeoutNanos;
+
+    public NotificationStreamRegistry(
+            @Value("${app.notifications.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.notifications.stream.buffer-size:32}") int bufferSize,
+            @Value("${app.notifications.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${app.notifications.stream.sender-threads:4}") int senderThreads,
+            @Value("${app.notifications.stream.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread thread = new Thread(r, "sse-sender-" + threadSeq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 구독 등록. 사용자당 연결 수를 넘으면 가장 먼저 열린 연결을 닫는다. (탭을 여러 개 연 경우)
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(userId, emitter, bufferSize);
+        // remove()가 빈 Set을 치우는 것과 겹치지 않도록 추가도 compute 안에서 한다
+        Set<Subscriber> userSubscribers = subscribers.compute(userId, (id, current) -> {
+            Set<Subscriber> set = current != null ? current : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+        connectionCount.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        if (userSubscribers.size() > maxConnectionsPerUser) {
+            userSubscribers.stream()
+                    .filter(s -> s != subscriber)
+                    .min((a, b) -> Long.compare(a.openedAt, b.openedAt))
+                    .ifPresent(this::close);
+        }
+
+        // 프록시가 응답 헤더를 바로 내려보내도록 첫 이벤트를 즉시 보낸다
+        enqueue(subscriber, SseEmitter.event().name("connected").data(Map.of("userId", userId)));
+        return emitter;
+    }
+
+    /**
+     * 알림을 만든 트랜잭션이 커밋된 뒤 해당 사용자의 모든 연결에 전달한다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 전달한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onNotification(UserNotificationEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+        if (userSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : userSubscribers) {
+            enqueue(subscriber, SseEmitter.event().name(event.type()).data(event.data()));
+        }
+    }
+
+    /**
+     * 하트비트 (SSE 주석 라인) - 프록시/로드밸런서의 유휴 타임아웃을 막고 끊긴 연결을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        try {
+            for (Set<Subscriber> userSubscribers : subscribers.values()) {
+                for (Subscriber subscriber : userSubscribers) {
+                    enqueue(subscriber, SseEmitter.event().comment("ping"));
+                }
+            }
+        } catch (Exception e) {
+            log.error("SSE 하트비트 전송 실패", e);
+        }
+    }
+
+    /**
+     * 전송 감시 - 한 건의 send가 send-timeout-ms를 넘긴 연결을 끊고 막힌 전송 스레드를 깨운다.
+     * 느린 클라이언트 하나가 공용 전송 스레드를 붙잡아 다른 사용자의 전달까지 멈추는 것을 막는다.
+     * 컨테이너의 소켓 쓰기가 인터럽트를 무시하더라도 그 스레드는 커넥터 쓰기 타임아웃 뒤 풀려나며, 그 사이 새 이벤트는 배정되지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.stream.send-watchdog-ms:1000}")
+    public void evictStalledSenders() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                long startedAt = subscriber.sendStartedAt;
+                if (startedAt != 0 && now - startedAt > sendTimeoutNanos) {
+                    log.warn("SSE 전송 지연으로 연결 종료 - userId={}, 경과={}ms",
+                            subscriber.userId, TimeUnit.NANOSECONDS.toMillis(now - startedAt));
+                    close(subscriber);
+                    subscriber.interruptSend(startedAt);
+                }
+            }
+        }
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(this::close));
+        sender.shutdown();
+        try {
+            sender.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(event)) {
+            log.warn("SSE 버퍼 초과로 연결 종료 - userId={}", subscriber.userId);
+            close(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    /**
+     * 연결 하나의 버퍼를 비운다. 연결당 동시에 하나의 drain만 돌아 이벤트 순서가 유지된다.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed.get() && (event = subscriber.buffer.poll()) != null) {
+                send(subscriber, event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 끊은 연결 (또는 전송 감시가 끊은 연결)
+            log.debug("SSE 전송 실패로 연결 정리 - userId={}", subscriber.userId);
+            remove(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (subscriber.completePending.getAndSet(false)) {
+            complete(subscriber);
+        }
+        // drain 종료 직전에 들어온 이벤트나 종료 요청을 놓치지 않도록 한 번 더 확인
+        if (subscriber.completePending.get() || (!subscriber.closed.get() && !subscriber.buffer.isEmpty())) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.beginSend();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.endSend();
+        }
+    }
+
+    /**
+     * 연결 종료. emitter.complete()는 send와 같은 잠금을 쓰므로 막힌 전송 뒤에서 호출자가 기다리지 않도록
+     * 완료 처리는 해당 연결의 drain에 맡긴다.
+     */
+    private void close(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.completePending.set(true);
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void complete(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (Exception e) {
+            log.debug("SSE 연결 종료 실패 - userId={}", subscriber.userId);
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriber.buffer.clear();
+        connectionCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        return true;
+    }
+
+    private static final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> buffer;
+        private final long openedAt = System.nanoTime();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completePending = new AtomicBoolean();
+        /** 진행 중인 send의 시작 시각 (nanoTime, 0이면 전송 중 아님) */
+        private volatile long sendStartedAt;
+        private Thread sendingThread;
+
+        private Subscriber(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private synchronized void beginSend() {
+            sendingThread = Thread.currentThread();
+            sendStartedAt = System.nanoTime();
+        }
+
+        private synchronized void endSend() {
+            sendStartedAt = 0;
+            sendingThread = null;
+            // 전송이 끝난 뒤 도착한 인터럽트가 풀 스레드의 다음 작업으로 번지지 않게 지운다
+            Thread.interrupted();
+        }
+
+        /**
+         * 감시가 본 그 send가 아직 진행 중일 때만 전송 스레드를 인터럽트한다. (이미 다른 연결을 보내는 스레드는 건드리지 않음)
+         */
+        private synchronized void interruptSend(long startedAt) {
+            if (sendStartedAt == startedAt && sendingThread != null) {
+                sendingThread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mycard.api.service;
+
+import com.mycard.api.dto.point.PointBalanceAuditResponse;
+import com.mycard.api.entity.PointBalance;
+import com.mycard.api.entity.PointBalanceSnapshot;
+import com.mycard.api.repository.PointBalanceRepository;
+import com.mycard.api.repository.PointBalanceSnapshotRepository;
+import com.mycard.api.repository.PointLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 포인트 잔액 스냅샷 서비스
+ * 전체 원장을 재생하지 않고 "최근 스냅샷 + 이후 원장 합계"만으로 잔액을 검증한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointBalanceSnapshotService {
+
+    private static final long USER_ID_BATCH = 10_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointBalanceSnapshotRepository snapshotRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+
+    /**
+     * 전체 사용자 잔액 스냅샷 생성.
+     * user_id 구간별 INSERT ... SELECT 로 나누어 실행해 한 번에 잠기는 point_balance 행 수를 제한한다.
+     *
+     * @return 생성된 스냅샷 수
+     */
+    public long takeSnapshots() {
+        LocalDateTime snapshotAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Long maxUserId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(user_id), 0) FROM point_balance", Long.class);
+        if (maxUserId == null || maxUserId == 0) {
+            return 0;
+        }
+
+        long created = 0;
+        for (long from = 0; from < maxUserId; from += USER_ID_BATCH) {
+            created += jdbcTemplate.update(
+                    "INSERT IGNORE INTO point_balance_snapshots (user_id, balance, last_ledger_id, snapshot_at) "
+                            + "SELECT pb.user_id, pb.balance, "
+                            + "COALESCE((SELECT MAX(pl.id) FROM point_ledger pl WHERE pl.user_id = pb.user_id), 0), ? "
+                            + "FROM point_balance pb WHERE pb.user_id > ? AND pb.user_id <= ?",
+                    snapshotAt, from, from + USER_ID_BATCH);
+        }
+        log.info("포인트 잔액 스냅샷 생성 완료 - snapshotAt={}, count={}", snapshotAt, created);
+        return created;
+    }
+
+    /**
+     * 최근 스냅샷 기준 잔액 검증
+     */
+    @Transactional(readOnly = true)
+    public PointBalanceAuditResponse auditBalance(Long userId) {
+        long currentBalance = pointBalanceRepository.findByUserId(userId)
+                .map(PointBalance::getBalance)
+                .orElse(0L);
+
+        PointBalanceSnapshot snapshot = snapshotRepository.findFirstByUserIdOrderBySnapshotAtDesc(userId)
+                .orElse(null);
+        long snapshotBalance = snapshot != null ? snapshot.getBalance() : 0L;
+        long lastLedgerId = snapshot != null ? snapshot.getLastLedgerId() : 0L;
+
+        long delta = pointLedgerRepository.sumAmountByUserIdAfterId(userId, lastLedgerId);
+        long expected = snapshotBalance + delta;
+
+        return PointBalanceAuditResponse.builder()
+                .userId(userId)
+                .currentBalance(currentBalance)
+                .snapshotBalance(snapshot != null ? snapshotBalance : null)
+                .snapshotAt(snapshot != null ? snapshot.getSnapshotAt() : null)
+                .lastSnapshotLedgerId(lastLedgerId)
+                .ledgerDeltaSinceSnapshot(delta)
+                .expectedBalance(expected)
+                .consistent(expected == currentBalance)
+                .build();
+    }
+}
@@ -0,0 +1,555 @@
+package com.mycard.api.service;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycard.api.dto.point.PointLedgerResponse;
+import com.mycard.api.entity.PointLedger;
+import com.mycard.api.entity.PointLedgerArchiveIndex;
+import com.mycard.api.entity.PointLedgerArchiveSegment;
+import com.mycard.api.repository.PointLedgerArchiveIndexRepository;
+import com.mycard.api.repository.PointLedgerArchiveSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 포인트 원장 월별 파티션 관리 및 콜드 아카이브
+ * - 핫 보관 기간이 지난 월을 gzip NDJSON 세그먼트로 내보내고 SHA-256 체크섬을 기록한 뒤 핫 파티션에서 제거한다.
+ * - 세그먼트는 사용자 ID 순으로 정렬되며 {@value #LINES_PER_BLOCK}줄마다 독립 gzip 멤버로 끊어 기록하고,
+ *   각 멤버의 시작 오프셋을 .idx 파일에 남겨 특정 사용자 구간만 읽을 수 있게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerArchiveService {
+
+    private static final String TABLE_NAME = "point_ledger";
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int LINES_PER_BLOCK = 2048;
+    private static final int PURGE_BATCH_SIZE = 5000;
+    private static final long STALE_WRITING_HOURS = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final PointLedgerArchiveSegmentRepository segmentRepository;
+    private final PointLedgerArchiveIndexRepository indexRepository;
+
+    private final Map<Long, long[][]> blockIndexCache = new ConcurrentHashMap<>();
+
+    @Value("${app.archive.base-path:/var/lib/mycard/archive}")
+    private String archiveBasePath;
+
+    @Value("${app.points.ledger.hot-retention-months:24}")
+    private int hotRetentionMonths;
+
+    @Value("${app.points.ledger.future-partitions:3}")
+    private int futurePartitions;
+
+    // ===================== 파티션 관리 =====================
+
+    /**
+     * 현재 월부터 future-partitions 개월 뒤까지의 월 파티션을 pmax 분할로 미리 만들어 둔다.
+     * 파티셔닝되지 않은 환경(V44 미적용)에서는 아무것도 하지 않는다.
+     */
+    public int ensureFuturePartitions() {
+        Set<String> partitions = listPartitions();
+        if (partitions.isEmpty() || !partitions.contains(MAX_PARTITION)) {
+            return 0;
+        }
+
+        YearMonth current = YearMonth.now();
+        YearMonth next = partitions.stream()
+                .map(this::parsePartitionMonth)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .map(latest -> latest.plusMonths(1))
+                .orElse(current);
+        YearMonth last = current.plusMonths(futurePartitions);
+
+        int created = 0;
+        for (YearMonth month = next; !month.isAfter(last); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + "PARTITION " + partitionName(month) + " VALUES LESS THAN (TO_DAYS('" + month.plusMonths(1).atDay(1) + "')), "
+                    + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+            created++;
+            log.info("포인트 원장 파티션 추가 - partition={}", partitionName(month));
+        }
+        return created;
+    }
+
+    // ===================== 아카이브 =====================
+
+    /**
+     * 핫 보관 기간이 지난 월을 세그먼트 파일로 내보내고 핫 파티션에서 제거한다.
+     *
+     * @return 이번 실행에서 PURGED 처리된 세그먼트 수
+     */
+    public int archiveExpiredMonths() {
+        int purged = 0;
+
+        // 이전 실행이 SEALED 이후 중단된 세그먼트는 삭제 단계부터 재개
+        for (PointLedgerArchiveSegment sealed : segmentRepository.findByStatus(PointLedgerArchiveSegment.SegmentStatus.SEALED)) {
+            purgeHotRows(sealed);
+            purged++;
+        }
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM " + TABLE_NAME, LocalDateTime.class);
+        if (oldest == null) {
+            return purged;
+        }
+
+        YearMonth cutoff = YearMonth.now().minusMonths(hotRetentionMonths);
+        for (YearMonth month = YearMonth.from(oldest); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            PointLedgerArchiveSegment segment = claimSegment(month);
+            if (segment == null) {
+                continue;
+            }
+            try {
+                if (writeAndSeal(segment)) {
+                    purgeHotRows(segment);
+                    purged++;
+                }
+            } catch (IOException | UncheckedIOException e) {
+                log.error("포인트 원장 아카이브 실패 - period={}", month, e);
+                return purged;
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * 아카이브 세그먼트에서 beforeId보다 작은 원장을 최신순으로 최대 limit 건 읽는다. (키셋 페이징)
+     */
+    public List<PointLedgerResponse> readArchived(Long userId, PointLedger.TransactionType type, long beforeId, int limit) {
+        Set<PointLedgerArchiveSegment> segments = new LinkedHashSet<>();
+        for (PointLedgerArchiveIndex entry : indexRepository.findPurgedByUserId(userId)) {
+            if (type == null || entry.getEntryType() == type) {
+                segments.add(entry.getSegment());
+            }
+        }
+
+        List<PointLedgerResponse> result = new ArrayList<>(limit);
+        for (PointLedgerArchiveSegment segment : segments) {
+            if (result.size() >= limit) {
+                break;
+            }
+            List<ArchivedLedgerEntry> rows = readUserRows(segment, userId, type);
+            for (int i = rows.size() - 1; i >= 0 && result.size() < limit; i--) {
+                if (rows.get(i).id() < beforeId) {
+                    result.add(rows.get(i).toResponse());
+                }
+            }
+        }
+        return result;
+    }
+
+    // ===================== 내부 구현 =====================
+
+    private PointLedgerArchiveSegment claimSegment(YearMonth month) {
+        Optional<PointLedgerArchiveSegment> existing = segmentRepository.findByPeriodStart(month.atDay(1));
+        if (existing.isPresent()) {
+            PointLedgerArchiveSegment segment = existing.get();
+            boolean stale = segment.getStatus() == PointLedgerArchiveSegment.SegmentStatus.WRITING
+                    && segment.getCreatedAt().isBefore(LocalDateTime.now().minusHours(STALE_WRITING_HOURS));
+            if (!stale) {
+                return null;
+            }
+            log.warn("중단된 아카이브 세그먼트를 재작성합니다 - period={}", month);
+            indexRepository.deleteBySegmentId(segment.getId());
+            return segment;
+        }
+
+        try {
+            return segmentRepository.saveAndFlush(new PointLedgerArchiveSegment(month, segmentFileName(month)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 월을 선점함
+            return null;
+        }
+    }
+
+    private boolean writeAndSeal(PointLedgerArchiveSegment segment) throws IOException {
+        YearMonth month = segment.getPeriod();
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        Path target = segmentPath(segment);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        SegmentWriter writer = new SegmentWriter(temp);
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        "SELECT id, user_id, entry_type, amount, balance_after, ref_type, ref_id, memo, created_at "
+                                + "FROM " + TABLE_NAME + " WHERE created_at >= ? AND created_at < ? ORDER BY user_id, id",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                // MySQL Connector/J 스트리밍 모드 (행 단위 전송)
+                ps.setFetchSize(Integer.MIN_VALUE);
+                ps.setTimestamp(1, Timestamp.valueOf(from));
+                ps.setTimestamp(2, Timestamp.valueOf(to));
+                return ps;
+            }, rs -> {
+                writer.append(new ArchivedLedgerEntry(
+                        rs.getLong("user_id"),
+                        rs.getLong("id"),
+                        rs.getString("entry_type"),
+                        rs.getLong("amount"),
+                        rs.getLong("balance_after"),
+                        rs.getString("ref_type"),
+                        rs.getObject("ref_id", Long.class),
+                        rs.getString("memo"),
+                        rs.getTimestamp("created_at").toLocalDateTime()));
+            });
+            writer.close();
+        } catch (RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+
+        Long hotCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE created_at >= ? AND created_at < ?",
+                Long.class, from, to);
+        if (hotCount == null || hotCount != writer.rowCount) {
+            Files.deleteIfExists(temp);
+            throw new IOException("아카이브 건수 불일치 - period=" + month + ", written=" + writer.rowCount + ", hot=" + hotCount);
+        }
+
+        if (writer.rowCount == 0) {
+            Files.deleteIfExists(temp);
+            segmentRepository.delete(segment);
+            return false;
+        }
+
+        String checksum = publish(writer, target);
+        indexRepository.insertFromHotRange(segment.getId(), from, to);
+        segment.seal(writer.rowCount, Files.size(target), checksum);
+        segmentRepository.save(segment);
+        log.info("포인트 원장 세그먼트 봉인 - period={}, rows={}, bytes={}", month, writer.rowCount, segment.getSizeBytes());
+        return true;
+    }
+
+    /**
+     * 블록 인덱스를 쓰고 임시 파일을 세그먼트 경로로 옮긴 뒤, 디스크에 기록된 파일을 다시 읽어 체크섬이 일치할 때만 돌려준다.
+     */
+    String publish(SegmentWriter writer, Path target) throws IOException {
+        Files.write(blockIndexPath(target), writer.blockIndexLines(), StandardCharsets.UTF_8);
+        Files.move(writer.path, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        String checksum = writer.checksum();
+        Files.writeString(target.resolveSibling(target.getFileName() + ".sha256"),
+                checksum + "  " + target.getFileName() + "\n", StandardCharsets.UTF_8);
+
+        if (!checksum.equals(sha256Of(target))) {
+            throw new IOException("아카이브 체크섬 불일치 - file=" + target.getFileName());
+        }
+        return checksum;
+    }
+
+    private void purgeHotRows(PointLedgerArchiveSegment segment) {
+        YearMonth month = segment.getPeriod();
+        String partition = partitionName(month);
+
+        if (listPartitions().contains(partition)) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DROP PARTITION " + partition);
+        } else {
+            // p_legacy처럼 여러 달을 담은 파티션이거나 비파티션 테이블이면 배치 삭제
+            LocalDateTime from = month.atDay(1).atStartOfDay();
+            LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update("DELETE FROM " + TABLE_NAME
+                        + " WHERE created_at >= ? AND created_at < ? LIMIT " + PURGE_BATCH_SIZE, from, to);
+            } while (deleted == PURGE_BATCH_SIZE);
+        }
+
+        segment.markPurged();
+        segmentRepository.save(segment);
+        log.info("포인트 원장 핫 데이터 삭제 완료 - period={}", month);
+    }
+
+    List<ArchivedLedgerEntry> readUserRows(PointLedgerArchiveSegment segment, Long userId,
+                                           PointLedger.TransactionType type) {
+        Path path = segmentPath(segment);
+        long startOffset = findBlockOffset(segment, userId);
+        String typeName = type != null ? type.name() : null;
+
+        List<ArchivedLedgerEntry> rows = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            channel.position(startOffset);
+            // GZIPInputStream은 이어지는 gzip 멤버를 자동으로 계속 읽고, 멤버마다 CRC32를 검사한다.
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Channels.newInputStream(channel), 64 * 1024), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    long lineUserId = ArchivedLedgerEntry.peekUserId(line);
+                    if (lineUserId < userId) {
+                        continue;
+                    }
+                    if (lineUserId > userId) {
+                        break;
+                    }
+                    ArchivedLedgerEntry row = objectMapper.readValue(line, ArchivedLedgerEntry.class);
+                    if (typeName == null || typeName.equals(row.entryType())) {
+                        rows.add(row);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("포인트 원장 세그먼트 읽기 실패 - period={}", segment.getPeriod(), e);
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    long findBlockOffset(PointLedgerArchiveSegment segment, Long userId) {
+        long[][] blocks = blockIndexCache.computeIfAbsent(segment.getId(), id -> loadBlockIndex(segment));
+        // 첫 사용자 ID가 userId보다 작은 마지막 블록부터 읽어야 해당 사용자의 첫 행을 놓치지 않는다.
+        long offset = 0;
+        for (long[] block : blocks) {
+            if (block[0] >= userId) {
+                break;
+            }
+            offset = block[1];
+        }
+        return offset;
+    }
+
+    private long[][] loadBlockIndex(PointLedgerArchiveSegment segment) {
+        Path indexPath = blockIndexPath(segmentPath(segment));
+        if (!Files.exists(indexPath)) {
+            return new long[0][];
+        }
+        try {
+            return Files.readAllLines(indexPath, StandardCharsets.UTF_8).stream()
+                    .filter(line -> !line.isBlank())
+                    .map(line -> line.split("\t"))
+                    .map(parts -> new long[]{Long.parseLong(parts[0]), Long.parseLong(parts[1])})
+                    .toArray(long[][]::new);
+        } catch (IOException e) {
+            log.warn("세그먼트 블록 인덱스를 읽지 못해 처음부터 스캔합니다 - period={}", segment.getPeriod(), e);
+            return new long[0][];
+        }
+    }
+
+    private Set<String> listPartitions() {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT partition_name FROM information_schema.partitions "
+                        + "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL",
+                String.class, TABLE_NAME));
+    }
+
+    private YearMonth parsePartitionMonth(String partition) {
+        if (partition == null || !partition.matches("p\\d{6}")) {
+            return null;
+        }
+        return YearMonth.parse(partition.substring(1), PARTITION_SUFFIX);
+    }
+
+    private String partitionName(YearMonth month) {
+        return "p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private String segmentFileName(YearMonth month) {
+        return "point-ledger-" + month + ".ndjson.gz";
+    }
+
+    Path segmentPath(PointLedgerArchiveSegment segment) {
+        return Paths.get(archiveBasePath).toAbsolutePath().normalize()
+                .resolve("point-ledger")
+                .resolve(String.valueOf(segment.getPeriodStart().getYear()))
+                .resolve(segment.getFileName());
+    }
+
+    private Path blockIndexPath(Path segmentPath) {
+        return segmentPath.resolveSibling(segmentPath.getFileName() + ".idx");
+    }
+
+    static String sha256Of(Path path) throws IOException {
+        MessageDigest digest = newSha256();
+        try (InputStream in = new DigestInputStream(new BufferedInputStream(Files.newInputStream(path)), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 세그먼트 한 줄 (userId를 첫 필드로 두어 JSON 파싱 없이 사용자 구간을 판별한다)
+     */
+    @JsonPropertyOrder({"userId", "id", "entryType", "amount", "balanceAfter", "refType", "refId", "memo", "createdAt"})
+    record ArchivedLedgerEntry(Long userId, Long id, String entryType, Long amount, Long balanceAfter,
+                               String refType, Long refId, String memo, LocalDateTime createdAt) {
+
+        private static final String USER_ID_PREFIX = "{\"userId\":";
+
+        static long peekUserId(String line) {
+            int end = USER_ID_PREFIX.length();
+            while (end < line.length() && Character.isDigit(line.charAt(end))) {
+                end++;
+            }
+            return Long.parseLong(line, USER_ID_PREFIX.length(), end, 10);
+        }
+
+        PointLedgerResponse toResponse() {
+            return PointLedgerResponse.builder()
+                    .id(id)
+                    .transactionType(PointLedger.TransactionType.valueOf(entryType))
+                    .amount(java.math.BigDecimal.valueOf(amount))
+                    .balanceAfter(java.math.BigDecimal.valueOf(balanceAfter))
+                    .description(memo)
+                    .createdAt(createdAt)
+                    .build();
+        }
+    }
+
+    /**
+     * 블록 단위 gzip 멤버로 세그먼트를 기록하면서 압축 바이트의 SHA-256을 함께 계산한다.
+     */
+    final class SegmentWriter {
+
+        private final Path path;
+        private final MessageDigest digest = newSha256();
+        private final CountingOutputStream out;
+        private final ByteArrayOutputStream block = new ByteArrayOutputStream(256 * 1024);
+        private final List<String> blockIndex = new ArrayList<>();
+        private long blockFirstUserId;
+        private int linesInBlock;
+        private long rowCount;
+
+        SegmentWriter(Path path) throws IOException {
+            this.path = path;
+            this.out = new CountingOutputStream(new DigestOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                            StandardOpenOption.WRITE), 256 * 1024), digest));
+        }
+
+        void append(ArchivedLedgerEntry entry) {
+            try {
+                if (linesInBlock == 0) {
+                    blockFirstUserId = entry.userId();
+                }
+                block.write(objectMapper.writeValueAsBytes(entry));
+                block.write('\n');
+                linesInBlock++;
+                rowCount++;
+                if (linesInBlock >= LINES_PER_BLOCK) {
+                    flushBlock();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() throws IOException {
+            flushBlock();
+            out.flush();
+            out.close();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+        }
+
+        void abort() {
+            try {
+                out.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("임시 세그먼트 정리 실패 - path={}", path, e);
+            }
+        }
+
+        List<String> blockIndexLines() {
+            return blockIndex;
+        }
+
+        String checksum() {
+            return HexFormat.of().formatHex(digest.digest());
+        }
+
+        private void flushBlock() throws IOException {
+            if (linesInBlock == 0) {
+                return;
+            }
+            blockIndex.add(blockFirstUserId + "\t" + out.count);
+            // 블록마다 독립 gzip 멤버로 기록 (close 시 Deflater 해제, 하위 스트림은 유지)
+            try (GZIPOutputStream gzip = new GZIPOutputStream(new NonClosingOutputStream(out))) {
+                block.writeTo(gzip);
+            }
+            block.reset();
+            linesInBlock = 0;
+        }
+    }
+
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
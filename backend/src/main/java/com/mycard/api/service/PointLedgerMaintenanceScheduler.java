@@ -0,0 +1,48 @@
+package com.mycard.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 포인트 원장 유지보수 배치
+ * - 매일: 다음 몇 달치 월 파티션 선생성
+ * - 매월 1일: 잔액 스냅샷 -> 보관 기간 경과 월 아카이브 (스냅샷이 먼저 있어야 아카이브 후에도 핫 데이터만으로 감사 가능)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointLedgerMaintenanceScheduler {
+
+    private final PointLedgerArchiveService pointLedgerArchiveService;
+    private final PointBalanceSnapshotService pointBalanceSnapshotService;
+
+    @Scheduled(cron = "${app.points.ledger.partition-cron:0 10 3 * * *}")
+    public void ensurePartitions() {
+        try {
+            pointLedgerArchiveService.ensureFuturePartitions();
+        } catch (Exception e) {
+            log.error("포인트 원장 파티션 생성 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.points.ledger.snapshot-cron:0 30 3 1 * *}")
+    public void takeBalanceSnapshots() {
+        try {
+            pointBalanceSnapshotService.takeSnapshots();
+        } catch (Exception e) {
+            log.error("포인트 잔액 스냅샷 생성 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.points.ledger.archive-cron:0 30 4 1 * *}")
+    public void archiveExpiredMonths() {
+        try {
+            int archived = pointLedgerArchiveService.archiveExpiredMonths();
+            log.info("포인트 원장 아카이브 완료 - segments={}", archived);
+        } catch (Exception e) {
+            log.error("포인트 원장 아카이브 실패", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.PointPolicy;
+import com.mycard.api.entity.PolicyVersion;
+import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.repository.PointPolicyRepository;
+import com.mycard.api.repository.PolicyVersionRepository;
+import com.mycard.api.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 포인트 정책 메모리 스냅샷
+ * - 변경 불가 스냅샷을 AtomicReference로 교체하므로 읽기 경로는 DB 조회 없이 항상 일관된 정책을 본다.
+ * - 정책 변경 트랜잭션은 policy_versions 버전을 올리고, 커밋 직후 로컬 스냅샷을 다시 적재한다.
+ * - 다른 노드는 버전 행만 주기적으로 확인하여 몇 초 안에 새 정책을 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointPolicyCache {
+
+    private final PointPolicyRepository pointPolicyRepository;
+    private final PolicyVersionRepository policyVersionRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    /**
+     * 현재 스냅샷 (활성 정책이 없으면 policyId가 null인 빈 스냅샷)
+     */
+    public Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : reload();
+    }
+
+    /**
+     * 현재 활성 정책 스냅샷 (활성 정책이 없으면 예외)
+     */
+    public Snapshot activePolicy() {
+        Snapshot snapshot = snapshot();
+        if (!snapshot.isPresent()) {
+            throw new BadRequestException("포인트 정책을 찾을 수 없습니다.");
+        }
+        return snapshot;
+    }
+
+    /**
+     * 정책 변경 트랜잭션 안에서 호출한다. 버전을 올리고 커밋 후 스냅샷을 교체한다.
+     */
+    public void publishChange() {
+        policyVersionRepository.bump(PolicyVersion.POINT_POLICY);
+        AfterCommit.run(this::reload);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("포인트 정책 스냅샷 초기 적재 실패 (첫 조회 시 재시도)", e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 올린 버전을 감지하면 다시 적재한다. (PK 단건 조회)
+     */
+    @Scheduled(fixedDelayString = "${app.points.policy-refresh-ms:2000}")
+    public void refreshIfStale() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            long version = policyVersionRepository.findVersion(PolicyVersion.POINT_POLICY).orElse(0L);
+            if (version != snapshot.version()) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("포인트 정책 버전 확인 실패", e);
+        }
+    }
+
+    /**
+     * 버전을 먼저 읽고 정책을 읽는다. 그 사이 변경이 커밋되어도 다음 확인에서 버전 차이로 다시 적재된다.
+     */
+    public synchronized Snapshot reload() {
+        // afterCommit 단계에서도 원 트랜잭션에 참여하지 않도록 별도 트랜잭션으로 읽는다
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        Snapshot snapshot = template.execute(status -> {
+            long version = policyVersionRepository.findVersion(PolicyVersion.POINT_POLICY).orElse(0L);
+            return pointPolicyRepository.findFirstByEnabledTrueOrderByUpdatedAtDesc()
+                    .map(policy -> Snapshot.of(version, policy))
+                    .orElseGet(() -> Snapshot.empty(version));
+        });
+        Snapshot previous = current.getAndSet(snapshot);
+        if (previous == null || previous.version() != snapshot.version()) {
+            log.info("포인트 정책 스냅샷 적재 - version={}, policyId={}", snapshot.version(), snapshot.policyId());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 변경 불가 정책 스냅샷
+     */
+    public record Snapshot(long version,
+                           Long policyId,
+                           String policyName,
+                           BigDecimal feeRate,
+                           long dailyWithdrawalLimitPoints,
+                           long minWithdrawPoints,
+                           long maxWithdrawPoints,
+                           LocalDateTime policyUpdatedAt) {
+
+        static Snapshot of(long version, PointPolicy policy) {
+            return new Snapshot(version, policy.getId(), policy.getPolicyName(), policy.getFeeRate(),
+                    policy.getDailyWithdrawalLimitPoints(), policy.getMinWithdrawPoints(),
+                    policy.getMaxWithdrawPoints(), policy.getUpdatedAt());
+        }
+
+        static Snapshot empty(long version) {
+            return new Snapshot(version, null, null, BigDecimal.ZERO, 0L, 0L, 0L, null);
+        }
+
+        public boolean isPresent() {
+            return policyId != null;
+        }
+
+        /**
+         * PointPolicy.getPolicyValue 와 동일한 정책 키 매핑
+         */
+        public BigDecimal valueOf(String policyKey) {
+            if ("DAILY_WITHDRAWAL_LIMIT".equals(policyKey)) {
+                return BigDecimal.valueOf(dailyWithdrawalLimitPoints);
+            }
+            if ("MIN_WITHDRAWAL_POINTS".equals(policyKey)) {
+                return BigDecimal.valueOf(minWithdrawPoints);
+            }
+            if ("MAX_WITHDRAWAL_POINTS".equals(policyKey)) {
+                return BigDecimal.valueOf(maxWithdrawPoints);
+            }
+            return feeRate;
+        }
+    }
+}
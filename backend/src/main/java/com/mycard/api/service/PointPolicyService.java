@@ -2,8 +2,10 @@ package com.mycard.api.service;
 
 import com.mycard.api.dto.PointPolicyResponse;
 import com.mycard.api.entity.PointPolicy;
+import com.mycard.api.exception.BadRequestException;
 import com.mycard.api.exception.ResourceNotFoundException;
 import com.mycard.api.repository.PointPolicyRepository;
+import com.mycard.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,8 @@ import java.util.stream.Collectors;
 public class PointPolicyService {
 
     private final PointPolicyRepository policyRepository;
+    private final PointPolicyCache pointPolicyCache;
+    private final UserRepository userRepository;
 
     /**
      * 전체 정책 목록 조회
@@ -43,12 +47,37 @@ public class PointPolicyService {
     }
 
     /**
-     * 정책 키로 조회
+     * 정책 키로 조회 (메모리 스냅샷, DB 조회 없음)
      */
     public BigDecimal getPolicyValue(String policyKey) {
-        return policyRepository.findByPolicyKeyAndIsActiveTrue(policyKey)
-                .map(PointPolicy::getPolicyValue)
-                .orElse(null);
+        PointPolicyCache.Snapshot snapshot = pointPolicyCache.snapshot();
+        return snapshot.isPresent() ? snapshot.valueOf(policyKey) : null;
+    }
+
+    /**
+     * 현재 활성 정책 스냅샷
+     */
+    public PointPolicyCache.Snapshot getActiveSnapshot() {
+        return pointPolicyCache.activePolicy();
+    }
+
+    /**
+     * 활성 정책의 수수료율/일일 한도 변경
+     */
+    @Transactional
+    public void updateActivePolicy(BigDecimal feeRate, Long dailyWithdrawalLimitPoints, Long adminId) {
+        PointPolicy policy = policyRepository.findFirstByEnabledTrueOrderByUpdatedAtDesc()
+                .orElseThrow(() -> new BadRequestException("포인트 정책을 찾을 수 없습니다."));
+
+        if (feeRate != null) {
+            policy.setFeeRate(feeRate);
+        }
+        if (dailyWithdrawalLimitPoints != null) {
+            policy.setDailyWithdrawalLimitPoints(dailyWithdrawalLimitPoints);
+        }
+        policy.setUpdatedBy(userRepository.getReferenceById(adminId));
+        policyRepository.save(policy);
+        pointPolicyCache.publishChange();
     }
 
     /**
@@ -60,6 +89,7 @@ public class PointPolicyService {
                 .orElseThrow(() -> new ResourceNotFoundException("포인트 정책", policyId));
 
         policy.updateValue(newValue);
+        pointPolicyCache.publishChange();
         return toResponse(policy);
     }
 
@@ -76,6 +106,7 @@ public class PointPolicyService {
         } else {
             policy.activate();
         }
+        pointPolicyCache.publishChange();
         return toResponse(policy);
     }
 
@@ -8,6 +8,7 @@ import com.mycard.api.repository.*;
 import com.mycard.api.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,19 +17,26 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
+    public static final int MAX_LEDGER_PAGE_SIZE = 100;
+
     private final PointBalanceRepository pointBalanceRepository;
     private final PointLedgerRepository pointLedgerRepository;
     private final PointWithdrawalRepository pointWithdrawalRepository;
-    private final PointPolicyRepository pointPolicyRepository;
+    private final PointPolicyCache pointPolicyCache;
     private final UserRepository userRepository;
     private final UserBankAccountRepository bankAccountRepository;
     private final BankAccountLedgerService bankAccountLedgerService;
     private final AuditService auditService;
+    private final PointLedgerArchiveService pointLedgerArchiveService;
 
     @Transactional(readOnly = true)
     public PointBalanceResponse getBalance(UserPrincipal currentUser) {
@@ -43,18 +51,38 @@ public class PointService {
                 .build();
     }
 
+    /**
+     * 포인트 내역 키셋 페이지 (최신순, cursor = 이전 페이지 마지막 ID)
+     * 핫 파티션 결과로 페이지가 채워지지 않으면 아카이브 세그먼트에서 이어서 채운다.
+     * ID는 입력 순서대로 발급되고 아카이브된 월은 항상 핫 데이터보다 과거이므로 ID 내림차순이 그대로 유지된다.
+     */
     @Transactional(readOnly = true)
-    public Page<PointLedgerResponse> getLedger(UserPrincipal currentUser, Pageable pageable) {
-        return pointLedgerRepository.findByUserId(currentUser.getId(), pageable)
-                .map(this::toResponse);
-    }
+    public Map<String, Object> getLedger(UserPrincipal currentUser, PointLedger.TransactionType type,
+            Long cursor, int size) {
+        Long userId = currentUser.getId();
+        int pageSize = Math.max(1, Math.min(size, MAX_LEDGER_PAGE_SIZE));
+        long beforeId = cursor != null ? cursor : Long.MAX_VALUE;
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 읽는다
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PointLedger> hot = type != null
+                ? pointLedgerRepository.findPageByUserIdAndTransactionType(userId, type, beforeId, limit)
+                : pointLedgerRepository.findPageByUserId(userId, beforeId, limit);
+
+        List<PointLedgerResponse> rows = new ArrayList<>(hot.size());
+        hot.forEach(ledger -> rows.add(toResponse(ledger)));
+        if (rows.size() <= pageSize) {
+            long archiveBeforeId = rows.isEmpty() ? beforeId : rows.get(rows.size() - 1).getId();
+            rows.addAll(pointLedgerArchiveService.readArchived(userId, type, archiveBeforeId, pageSize + 1 - rows.size()));
+        }
 
-    @Transactional(readOnly = true)
-    public Page<PointLedgerResponse> getLedgerByType(UserPrincipal currentUser,
-            PointLedger.TransactionType type,
-            Pageable pageable) {
-        return pointLedgerRepository.findByUserIdAndTransactionType(currentUser.getId(), type, pageable)
-                .map(this::toResponse);
+        boolean hasNext = rows.size() > pageSize;
+        List<PointLedgerResponse> content = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("content", content);
+        response.put("size", pageSize);
+        response.put("hasNext", hasNext);
+        response.put("nextCursor", hasNext ? content.get(content.size() - 1).getId() : null);
+        return response;
     }
 
     @Transactional
@@ -76,14 +104,13 @@ public class PointService {
             throw new BadRequestException("인증되지 않은 계좌입니다.");
         }
 
-        // Get active policy
-        PointPolicy policy = pointPolicyRepository.findFirstByEnabledTrueOrderByUpdatedAtDesc()
-                .orElseThrow(() -> new BadRequestException("포인트 정책을 찾을 수 없습니다."));
+        // Get active policy (in-memory snapshot, no DB query)
+        PointPolicyCache.Snapshot policy = pointPolicyCache.activePolicy();
 
-        BigDecimal feeRate = policy.getFeeRate();
-        BigDecimal dailyLimit = BigDecimal.valueOf(policy.getDailyWithdrawalLimitPoints());
-        BigDecimal minPoints = BigDecimal.valueOf(policy.getMinWithdrawPoints());
-        BigDecimal maxPoints = BigDecimal.valueOf(policy.getMaxWithdrawPoints());
+        BigDecimal feeRate = policy.feeRate();
+        BigDecimal dailyLimit = BigDecimal.valueOf(policy.dailyWithdrawalLimitPoints());
+        BigDecimal minPoints = BigDecimal.valueOf(policy.minWithdrawPoints());
+        BigDecimal maxPoints = BigDecimal.valueOf(policy.maxWithdrawPoints());
 
         // Check minimum points
         if (request.getPoints().compareTo(minPoints) < 0) {
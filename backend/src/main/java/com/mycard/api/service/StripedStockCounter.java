@@ -0,0 +1,119 @@
+package com.mycard.api.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스트라이프 재고 카운터
+ * - 남은 재고를 여러 셀에 나눠 두고 스레드마다 다른 셀에서 CAS로 차감하므로, 인기 쿠폰에 구매가 몰려도 한 변수에서 경합하지 않는다.
+ * - 셀 하나로 부족할 때만 전체 셀을 모아 다시 나누는 느린 경로(synchronized)를 탄다.
+ * - 재고가 0이 되면 soldOut 플래그를 세워 이후 요청은 volatile 읽기 한 번으로 거절한다.
+ */
+public class StripedStockCounter {
+
+    /** 셀 간격 (long 16개 = 128바이트, 인접 셀이 같은 캐시 라인에 놓이지 않게 한다) */
+    private static final int PAD = 16;
+
+    private final int mask;
+    private final AtomicLongArray cells;
+    private volatile boolean soldOut;
+
+    public StripedStockCounter(long initialStock) {
+        this(initialStock, Runtime.getRuntime().availableProcessors());
+    }
+
+    StripedStockCounter(long initialStock, int parallelism) {
+        int stripes = Integer.highestOneBit(Math.max(1, Math.min(parallelism, 64)) * 2 - 1);
+        this.mask = stripes - 1;
+        this.cells = new AtomicLongArray(stripes * PAD);
+        distribute(Math.max(0, initialStock));
+    }
+
+    /**
+     * quantity만큼 재고를 예약한다. 재고가 부족하면 false.
+     */
+    public boolean tryReserve(int quantity) {
+        if (soldOut) {
+            return false;
+        }
+        int start = probe();
+        for (int i = 0; i <= mask; i++) {
+            int index = ((start + i) & mask) * PAD;
+            long current;
+            while ((current = cells.get(index)) >= quantity) {
+                if (cells.compareAndSet(index, current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+        return reserveSlow(quantity);
+    }
+
+    /**
+     * 예약했던 재고를 되돌린다. (구매 트랜잭션 롤백 시)
+     */
+    public synchronized void release(int quantity) {
+        cells.addAndGet(probe() * PAD, quantity);
+        soldOut = false;
+    }
+
+    /**
+     * 한정 수량 변경분을 반영한다. 줄어든 만큼 남은 재고가 없으면 0에서 멈춘다.
+     */
+    public synchronized void adjust(long delta) {
+        distribute(Math.max(0, drain() + delta));
+    }
+
+    /**
+     * 남은 재고를 모두 꺼내 0으로 만든다. (임대분 반납 시)
+     */
+    public synchronized long takeAll() {
+        long total = drain();
+        distribute(0);
+        return total;
+    }
+
+    public long remaining() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(i * PAD);
+        }
+        return sum;
+    }
+
+    public boolean isSoldOut() {
+        return soldOut;
+    }
+
+    private synchronized boolean reserveSlow(int quantity) {
+        long total = drain();
+        boolean reserved = total >= quantity;
+        if (reserved) {
+            total -= quantity;
+        }
+        distribute(total);
+        return reserved;
+    }
+
+    private long drain() {
+        long total = 0;
+        for (int i = 0; i <= mask; i++) {
+            total += cells.getAndSet(i * PAD, 0);
+        }
+        return total;
+    }
+
+    private void distribute(long total) {
+        int stripes = mask + 1;
+        long share = total / stripes;
+        long extra = total % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.addAndGet(i * PAD, share + (i < extra ? 1 : 0));
+        }
+        soldOut = total == 0;
+    }
+
+    private int probe() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+    }
+}
@@ -0,0 +1,228 @@
+package com.mycard.api.service;
+
+import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.util.ShardedPaths;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 평면 업로드 경로 -> 2단계 해시 디렉터리 온라인 이전
+ * - 이전 방식 첨부({base-path}/{UUID_파일명})는 내용 주소 blob 저장소로 복사해 들이고, 첨부 행을 갱신한 뒤 커밋되면 원본을 지운다.
+ * - 이벤트 이미지(events/{파일명})는 events/ab/cd/{파일명}으로 링크(불가하면 복사)하고 image_url을 바꾼다.
+ *   캐시된 페이지가 옛 URL을 참조할 수 있어 원본은 남겨 두며, 참조가 사라진 원본은 UploadOrphanReconciler가 격리한다.
+ *
+ * 서비스 중에 실행하므로 id 순 배치로 나눠 처리하고, 배치 사이에 쉬어 요청 I/O를 밀어내지 않게 한다.
+ * 행 단위로 커밋하므로 중간에 멈춰도 다시 실행하면 남은 행부터 이어서 처리한다.
+ */
+@Slf4j
+@Service
+public class UploadLayoutMigrationService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AttachmentBlobStore blobStore;
+    private final Path eventsDir;
+    private final int batchSize;
+    private final long pauseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public UploadLayoutMigrationService(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        AttachmentBlobStore blobStore,
+                                        @Value("${app.upload.base-path:/var/lib/mycard/uploads}") String uploadBasePath,
+                                        @Value("${app.upload.layout.migration-batch-size:200}") int batchSize,
+                                        @Value("${app.upload.layout.migration-pause-ms:200}") long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.blobStore = blobStore;
+        this.eventsDir = Paths.get(uploadBasePath, "events").toAbsolutePath().normalize();
+        this.batchSize = Math.max(1, batchSize);
+        this.pauseMs = pauseMs;
+    }
+
+    /**
+     * @param attachmentsMigrated blob으로 옮긴 첨부 수
+     * @param attachmentBytes     옮긴 첨부 용량
+     * @param attachmentsMissing  디스크에 원본이 없는 첨부 수
+     * @param attachmentsSkipped  체크섬 불일치/동시 변경/입출력 오류로 건너뛴 첨부 수
+     * @param eventImagesMigrated 새 경로로 옮긴 이벤트 이미지 수
+     * @param eventImagesMissing  디스크에 원본이 없는 이벤트 이미지 수
+     */
+    public record MigrationReport(int attachmentsMigrated, long attachmentBytes, int attachmentsMissing,
+                                  int attachmentsSkipped, int eventImagesMigrated, int eventImagesMissing) {
+    }
+
+    private enum Outcome { MIGRATED, MISSING, SKIPPED }
+
+    private record LegacyAttachment(long id, String storageDir, String checksum) {
+    }
+
+    private record EventImage(long id, String imageUrl) {
+    }
+
+    public MigrationReport migrate() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BadRequestException("업로드 경로 이전이 이미 진행 중입니다.");
+        }
+        try {
+            int migrated = 0, missing = 0, skipped = 0;
+            long bytes = 0;
+            long lastId = 0;
+            List<LegacyAttachment> batch;
+            do {
+                batch = jdbcTemplate.query(
+                        "SELECT id, storage_dir, checksum_sha256 FROM attachments "
+                                + "WHERE id > ? AND (checksum_sha256 IS NULL OR checksum_sha256 <> stored_filename) "
+                                + "ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new LegacyAttachment(rs.getLong(1), rs.getString(2), rs.getString(3)),
+                        lastId, batchSize);
+                for (LegacyAttachment attachment : batch) {
+                    lastId = attachment.id();
+                    Path source = Paths.get(attachment.storageDir());
+                    long size = sizeOf(source);
+                    switch (size < 0 ? Outcome.MISSING : migrateAttachment(attachment, source)) {
+                        case MIGRATED -> {
+                            migrated++;
+                            bytes += size;
+                        }
+                        case MISSING -> missing++;
+                        case SKIPPED -> skipped++;
+                    }
+                }
+                pause(batch.size());
+            } while (batch.size() == batchSize);
+
+            int eventsMigrated = 0, eventsMissing = 0;
+            lastId = 0;
+            List<EventImage> images;
+            do {
+                images = jdbcTemplate.query(
+                        "SELECT id, image_url FROM events WHERE id > ? AND image_url LIKE ? ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new EventImage(rs.getLong(1), rs.getString(2)),
+                        lastId, ImageUploadService.EVENT_IMAGE_URL_PREFIX + "%", batchSize);
+                for (EventImage image : images) {
+                    lastId = image.id();
+                    switch (migrateEventImage(image)) {
+                        case MIGRATED -> eventsMigrated++;
+                        case MISSING -> eventsMissing++;
+                        case SKIPPED -> { }
+                    }
+                }
+                pause(images.size());
+            } while (images.size() == batchSize);
+
+            MigrationReport report = new MigrationReport(migrated, bytes, missing, skipped, eventsMigrated, eventsMissing);
+            log.info("업로드 경로 이전 완료: {}", report);
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Outcome migrateAttachment(LegacyAttachment attachment, Path source) {
+        Outcome outcome;
+        try {
+            outcome = transactionTemplate.execute(status -> {
+                AttachmentBlobStore.StoredBlob blob;
+                try {
+                    blob = blobStore.adopt(source);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (attachment.checksum() != null && !attachment.checksum().equalsIgnoreCase(blob.sha256())) {
+                    log.warn("첨부 체크섬 불일치로 이전 제외: attachmentId={}", attachment.id());
+                    status.setRollbackOnly();
+                    return Outcome.SKIPPED;
+                }
+                // 이전 중 삭제/변경된 행은 건드리지 않는다. (롤백 시 blob 파일만 남으면 정리 배치가 격리)
+                int updated = jdbcTemplate.update(
+                        "UPDATE attachments SET stored_filename = ?, storage_dir = ?, checksum_sha256 = ? "
+                                + "WHERE id = ? AND storage_dir = ?",
+                        blob.sha256(), blob.path().toString(), blob.sha256(), attachment.id(), attachment.storageDir());
+                if (updated == 0) {
+                    status.setRollbackOnly();
+                    return Outcome.SKIPPED;
+                }
+                return Outcome.MIGRATED;
+            });
+        } catch (RuntimeException e) {
+            log.warn("첨부 이전 실패: attachmentId={}", attachment.id(), e);
+            return Outcome.SKIPPED;
+        }
+
+        if (outcome == Outcome.MIGRATED) {
+            try {
+                Files.deleteIfExists(source);
+            } catch (IOException e) {
+                log.warn("이전된 첨부 원본 삭제 실패: {}", source, e);
+            }
+        }
+        return outcome;
+    }
+
+    private Outcome migrateEventImage(EventImage image) {
+        String filename = image.imageUrl().substring(ImageUploadService.EVENT_IMAGE_URL_PREFIX.length());
+        if (filename.isEmpty() || filename.contains("/")) {
+            return Outcome.SKIPPED;
+        }
+        Path source = eventsDir.resolve(filename).normalize();
+        if (!source.startsWith(eventsDir) || !Files.isRegularFile(source)) {
+            return Outcome.MISSING;
+        }
+        Path target = ShardedPaths.resolve(eventsDir, filename);
+        try {
+            Files.createDirectories(target.getParent());
+            linkOrCopy(source, target);
+        } catch (IOException e) {
+            log.warn("이벤트 이미지 이전 실패: eventId={}", image.id(), e);
+            return Outcome.SKIPPED;
+        }
+        int updated = jdbcTemplate.update("UPDATE events SET image_url = ? WHERE id = ? AND image_url = ?",
+                ImageUploadService.EVENT_IMAGE_URL_PREFIX + ShardedPaths.relative(filename),
+                image.id(), image.imageUrl());
+        return updated == 1 ? Outcome.MIGRATED : Outcome.SKIPPED;
+    }
+
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (FileAlreadyExistsException e) {
+            // 이전 실행에서 이미 만들어 둔 경우
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(source, target);
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.isRegularFile(path) ? Files.size(path) : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private void pause(int processed) {
+        if (processed == 0 || pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.mycard.api.service;
+
+import com.mycard.api.exception.BadRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 업로드/blob 경로의 고아 파일 정리
+ * 디스크를 최상위 디렉터리 단위로 나눠 제한된 풀에서 병렬로 훑고, DB가 참조하지 않는 파일을 격리 경로로 옮긴다.
+ * - 참조 기준: attachments.stored_filename, file_blobs.sha256, events.image_url (이미지 축소본은 원본 참조를 따른다)
+ * - 유예 시간 안에 수정된 파일은 커밋 전 업로드일 수 있어 건너뛴다. (blob tmp의 오래된 .part 파일은 고아로 본다)
+ * - 초당 파일 수 상한으로 디스크 I/O를 조절해 요청 처리와 경쟁하지 않게 한다.
+ * 격리 파일은 {quarantine-path}/{yyyyMMdd}/{uploads|blobs}/{상대 경로}에 보관 기간만큼 두었다가 지우며,
+ * 잘못 격리된 파일은 같은 상대 경로로 되돌리면 복구된다.
+ */
+@Slf4j
+@Service
+public class UploadOrphanReconciler {
+
+    private static final DateTimeFormatter RUN_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String UPLOAD_URL_PREFIX = "/api/uploads/";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path uploadRoot;
+    private final Path blobRoot;
+    private final Path quarantineRoot;
+    private final Duration grace;
+    private final int retentionDays;
+    private final int parallelism;
+    private final int filesPerSecond;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter quarantinedBytesCounter;
+    private final Counter reclaimedBytesCounter;
+
+    public UploadOrphanReconciler(JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.upload.base-path:/var/lib/mycard/uploads}") String uploadBasePath,
+                                  @Value("${app.upload.blobs.base-path:/var/lib/mycard/blobs}") String blobBasePath,
+                                  @Value("${app.upload.layout.quarantine-path:/var/lib/mycard/quarantine}") String quarantinePath,
+                                  @Value("${app.upload.layout.orphan-grace-hours:24}") long graceHours,
+                                  @Value("${app.upload.layout.quarantine-retention-days:14}") int retentionDays,
+                                  @Value("${app.upload.layout.reconcile-parallelism:2}") int parallelism,
+                                  @Value("${app.upload.layout.reconcile-files-per-second:500}") int filesPerSecond,
+                                  @Value("${app.upload.layout.reconcile-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.uploadRoot = Paths.get(uploadBasePath).toAbsolutePath().normalize();
+        this.blobRoot = Paths.get(blobBasePath).toAbsolutePath().normalize();
+        this.quarantineRoot = Paths.get(quarantinePath).toAbsolutePath().normalize();
+        this.grace = Duration.ofHours(graceHours);
+        this.retentionDays = retentionDays;
+        this.parallelism = Math.max(1, parallelism);
+        this.filesPerSecond = filesPerSecond;
+        this.batchSize = Math.max(1, batchSize);
+        this.quarantinedBytesCounter = meterRegistry.counter("upload.orphan.quarantined.bytes");
+        this.reclaimedBytesCounter = meterRegistry.counter("upload.orphan.reclaimed.bytes");
+    }
+
+    /**
+     * @param scannedFiles   훑은 파일 수
+     * @param orphanFiles    참조가 없는 파일 수 (dryRun이 아니면 격리됨)
+     * @param orphanBytes    참조가 없는 파일 용량
+     * @param purgedFiles    보관 기간이 지나 삭제한 격리 파일 수
+     * @param reclaimedBytes 격리 파일 삭제로 회수한 용량
+     */
+    public record ReconcileReport(boolean dryRun, long scannedFiles, long orphanFiles, long orphanBytes,
+                                  long purgedFiles, long reclaimedBytes, long elapsedMs) {
+    }
+
+    @Scheduled(cron = "${app.upload.layout.reconcile-cron:0 0 5 * * SUN}")
+    public void scheduledReconcile() {
+        try {
+            reconcile(false);
+        } catch (Exception e) {
+            log.error("업로드 고아 파일 정리 실패", e);
+        }
+    }
+
+    public ReconcileReport reconcile(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new BadRequestException("업로드 고아 파일 정리가 이미 진행 중입니다.");
+        }
+        long started = System.currentTimeMillis();
+        try {
+            Scan scan = new Scan(dryRun, Instant.now().minus(grace), LocalDate.now().format(RUN_DATE),
+                    loadReferencedUrlPaths(), new Throttle(filesPerSecond));
+
+            ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+            try {
+                List<Future<?>> tasks = new ArrayList<>();
+                submitTree(pool, tasks, scan, "uploads", uploadRoot);
+                submitTree(pool, tasks, scan, "blobs", blobRoot);
+                for (Future<?> task : tasks) {
+                    task.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("업로드 고아 파일 정리가 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("업로드 고아 파일 정리 실패", e.getCause());
+            } finally {
+                pool.shutdownNow();
+            }
+
+            Purged purged = dryRun ? new Purged(0, 0) : purgeQuarantine();
+            if (!dryRun) {
+                quarantinedBytesCounter.increment(scan.orphanBytes.sum());
+                reclaimedBytesCounter.increment(purged.bytes());
+            }
+            ReconcileReport report = new ReconcileReport(dryRun, scan.scanned.sum(), scan.orphans.sum(),
+                    scan.orphanBytes.sum(), purged.files(), purged.bytes(), System.currentTimeMillis() - started);
+            log.info("업로드 고아 파일 정리 완료: {}", report);
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 루트 바로 아래 파일은 한 작업으로, 하위 디렉터리(샤드)는 디렉터리마다 한 작업으로 나눈다.
+     */
+    private void submitTree(ExecutorService pool, List<Future<?>> tasks, Scan scan, String scope, Path root) {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        tasks.add(pool.submit(() -> walk(scan, scope, root, root, 1)));
+        try (Stream<Path> children = Files.list(root)) {
+            children.filter(Files::isDirectory)
+                    .filter(dir -> !isExcluded(dir, root))
+                    .forEach(dir -> tasks.add(pool.submit(() -> walk(scan, scope, root, dir, Integer.MAX_VALUE))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void walk(Scan scan, String scope, Path root, Path start, int maxDepth) {
+        List<Candidate> batch = new ArrayList<>(batchSize);
+        try {
+            Files.walkFileTree(start, EnumSet.noneOf(FileVisitOption.class), maxDepth,
+                    new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                            return isExcluded(dir, root) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                            if (!attrs.isRegularFile()) {
+                                return FileVisitResult.CONTINUE;
+                            }
+                            scan.throttle.acquire();
+                            scan.scanned.increment();
+                            if (attrs.lastModifiedTime().toInstant().isBefore(scan.cutoff)) {
+                                batch.add(new Candidate(file, relativize(root, file), attrs.size()));
+                                if (batch.size() >= batchSize) {
+                                    settle(scan, scope, batch);
+                                    batch.clear();
+                                }
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException e) {
+                            // 순회 중 지워진 파일 등은 건너뛴다
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+            settle(scan, scope, batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 후보 묶음의 참조 여부를 한 번에 조회하고, 참조가 없는 파일을 격리한다.
+     */
+    private void settle(Scan scan, String scope, List<Candidate> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Set<String> referenced = findReferencedNames(batch.stream().map(Candidate::name).distinct().toList());
+        for (Candidate candidate : batch) {
+            if (referenced.contains(candidate.name()) || scan.urlPaths.contains(candidate.relative())
+                    || scan.urlStems.contains(EventImageDerivativeService.originalStem(candidate.relative()))) {
+                continue;
+            }
+            scan.orphans.increment();
+            scan.orphanBytes.add(candidate.size());
+            if (!scan.dryRun) {
+                quarantine(scan.runDate, scope, candidate);
+            }
+        }
+    }
+
+    private Set<String> findReferencedNames(List<String> names) {
+        String placeholders = String.join(",", Collections.nCopies(names.size(), "?"));
+        Object[] args = new Object[names.size() * 2];
+        for (int i = 0; i < names.size(); i++) {
+            args[i] = names.get(i);
+            args[names.size() + i] = names.get(i);
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT stored_filename FROM attachments WHERE stored_filename IN (" + placeholders + ") "
+                        + "UNION SELECT sha256 FROM file_blobs WHERE sha256 IN (" + placeholders + ")",
+                String.class, args));
+    }
+
+    /**
+     * 공개 경로(/api/uploads/...)로 참조되는 파일의 업로드 루트 기준 상대 경로
+     */
+    private Set<String> loadReferencedUrlPaths() {
+        Set<String> paths = new HashSet<>();
+        for (String url : jdbcTemplate.queryForList(
+                "SELECT image_url FROM events WHERE image_url LIKE '" + UPLOAD_URL_PREFIX + "%'", String.class)) {
+            paths.add(url.substring(UPLOAD_URL_PREFIX.length()));
+        }
+        return paths;
+    }
+
+    private void quarantine(String runDate, String scope, Candidate candidate) {
+        Path target = quarantineRoot.resolve(runDate).resolve(scope).resolve(candidate.relative());
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(candidate.path(), target);
+        } catch (NoSuchFileException e) {
+            // 순회 이후 삭제됨
+        } catch (IOException e) {
+            log.warn("고아 파일 격리 실패: {}", candidate.path(), e);
+        }
+    }
+
+    record Purged(long files, long bytes) {
+    }
+
+    /**
+     * 보관 기간이 지난 격리 디렉터리를 지운다.
+     */
+    Purged purgeQuarantine() {
+        long[] purged = new long[2];
+        if (!Files.isDirectory(quarantineRoot)) {
+            return new Purged(0, 0);
+        }
+        LocalDate expiry = LocalDate.now().minusDays(retentionDays);
+        try (Stream<Path> runs = Files.list(quarantineRoot)) {
+            for (Path run : runs.filter(Files::isDirectory).toList()) {
+                LocalDate runDate;
+                try {
+                    runDate = LocalDate.parse(run.getFileName().toString(), RUN_DATE);
+                } catch (DateTimeParseException e) {
+                    continue;
+                }
+                if (runDate.isBefore(expiry)) {
+                    deleteTree(run, purged);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("격리 파일 삭제 실패: {}", quarantineRoot, e);
+        }
+        return new Purged(purged[0], purged[1]);
+    }
+
+    private static void deleteTree(Path dir, long[] purged) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                purged[0]++;
+                purged[1] += attrs.size();
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path d, IOException e) throws IOException {
+                Files.delete(d);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * 다른 루트(격리/blob/업로드 경로)가 현재 루트 아래에 설정된 경우 그 하위는 훑지 않는다.
+     */
+    private boolean isExcluded(Path dir, Path root) {
+        return !dir.equals(root) && (dir.equals(quarantineRoot) || dir.equals(blobRoot) || dir.equals(uploadRoot));
+    }
+
+    private static String relativize(Path root, Path file) {
+        return root.relativize(file).toString().replace('\\', '/');
+    }
+
+    private record Candidate(Path path, String relative, long size) {
+        String name() {
+            return path.getFileName().toString();
+        }
+    }
+
+    /**
+     * 한 번의 정리 실행 상태 (작업 스레드 간 공유)
+     */
+    private static final class Scan {
+        final boolean dryRun;
+        final Instant cutoff;
+        final String runDate;
+        final Set<String> urlPaths;
+        final Set<String> urlStems;
+        final Throttle throttle;
+        final LongAdder scanned = new LongAdder();
+        final LongAdder orphans = new LongAdder();
+        final LongAdder orphanBytes = new LongAdder();
+
+        Scan(boolean dryRun, Instant cutoff, String runDate, Set<String> urlPaths, Throttle throttle) {
+            this.dryRun = dryRun;
+            this.cutoff = cutoff;
+            this.runDate = runDate;
+            this.urlPaths = urlPaths;
+            this.urlStems = new HashSet<>();
+            for (String path : urlPaths) {
+                int dot = path.lastIndexOf('.');
+                urlStems.add(dot > path.lastIndexOf('/') ? path.substring(0, dot) : path);
+            }
+            this.throttle = throttle;
+        }
+    }
+
+    /**
+     * 작업 스레드 전체에 걸친 초당 파일 수 상한 (0 이하이면 제한 없음)
+     */
+    static final class Throttle {
+        private final long intervalNanos;
+        private long next;
+
+        Throttle(int perSecond) {
+            this.intervalNanos = perSecond > 0 ? 1_000_000_000L / perSecond : 0;
+        }
+
+        void acquire() {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(next, now);
+                next = slot + intervalNanos;
+                waitNanos = slot - now;
+            }
+            if (waitNanos > 0) {
+                try {
+                    Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
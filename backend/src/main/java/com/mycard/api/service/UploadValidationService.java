@@ -6,11 +6,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,12 +27,37 @@ public class UploadValidationService {
             "js", "jar", "war", "class", "sh", "ps1", "vbs"
     );
 
+    /**
+     * 확장자별 파일 시그니처(매직 바이트). 목록에 없는 확장자는 시그니처를 검사하지 않는다.
+     */
+    private static final Map<String, Predicate<byte[]>> SIGNATURES = Map.ofEntries(
+            Map.entry("pdf", head -> startsWith(head, 0, "%PDF-".getBytes(StandardCharsets.US_ASCII))),
+            Map.entry("png", head -> startsWith(head, 0, new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A})),
+            Map.entry("jpg", head -> startsWith(head, 0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})),
+            Map.entry("jpeg", head -> startsWith(head, 0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})),
+            Map.entry("gif", head -> startsWith(head, 0, "GIF87a".getBytes(StandardCharsets.US_ASCII))
+                    || startsWith(head, 0, "GIF89a".getBytes(StandardCharsets.US_ASCII))),
+            Map.entry("webp", head -> startsWith(head, 0, "RIFF".getBytes(StandardCharsets.US_ASCII))
+                    && startsWith(head, 8, "WEBP".getBytes(StandardCharsets.US_ASCII))),
+            // doc/xls: OLE2 복합 문서, docx/xlsx: ZIP 컨테이너
+            Map.entry("doc", UploadValidationService::isOle2),
+            Map.entry("xls", UploadValidationService::isOle2),
+            Map.entry("docx", UploadValidationService::isZip),
+            Map.entry("xlsx", UploadValidationService::isZip)
+    );
+
+    /** 시그니처 검사에 필요한 앞부분 바이트 수 */
+    public static final int SIGNATURE_LENGTH = 16;
+
     @Value("${app.upload.allowed-extensions}")
     private String allowedExtensions;
 
     @Value("${app.upload.max-file-size}")
     private long maxFileSize;
 
+    @Value("${app.upload.chunked.max-file-size:104857600}")
+    private long maxChunkedFileSize;
+
     public String validateDefaultUpload(MultipartFile file) {
         return validate(file, getConfiguredAllowedExtensions(), false);
     }
@@ -38,6 +66,30 @@ public class UploadValidationService {
         return validate(file, IMAGE_EXTENSIONS, true);
     }
 
+    /**
+     * 분할 업로드 세션 생성 시 검증 (본문이 아직 없으므로 파일명/형식/선언 크기만 본다)
+     * 내용 시그니처는 첫 청크가 도착했을 때 validateSignature로 검사한다.
+     */
+    public String validateChunkedUpload(String filename, String contentType, long size) {
+        if (size <= 0) {
+            throw new BadRequestException("업로드할 파일이 없습니다.");
+        }
+        if (size > maxChunkedFileSize) {
+            throw new BadRequestException("파일 크기가 허용 범위를 초과했습니다.");
+        }
+        return validateName(filename, contentType, getConfiguredAllowedExtensions(), false);
+    }
+
+    /**
+     * 파일 앞부분(SIGNATURE_LENGTH 바이트, 파일이 더 짧으면 전체)이 확장자의 시그니처와 맞는지 검사한다.
+     */
+    public void validateSignature(String extension, byte[] head) {
+        Predicate<byte[]> signature = SIGNATURES.get(extension);
+        if (signature != null && !signature.test(head)) {
+            throw new BadRequestException("파일 내용이 확장자와 일치하지 않습니다.");
+        }
+    }
+
     public String extractExtension(String filename) {
         int lastDotIndex = filename.lastIndexOf('.');
         if (lastDotIndex == -1 || lastDotIndex == filename.length() - 1) {
@@ -55,7 +107,11 @@ public class UploadValidationService {
             throw new BadRequestException("파일 크기가 허용 범위를 초과했습니다.");
         }
 
-        String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
+        return validateName(file.getOriginalFilename(), file.getContentType(), allowedExtensions, imageOnly);
+    }
+
+    private String validateName(String filename, String contentType, Set<String> allowedExtensions, boolean imageOnly) {
+        String originalFilename = filename != null ? StringUtils.cleanPath(filename) : null;
         if (!StringUtils.hasText(originalFilename)) {
             throw new BadRequestException("파일명이 올바르지 않습니다.");
         }
@@ -76,7 +132,6 @@ public class UploadValidationService {
 
         validateDoubleExtension(normalizedFilename);
 
-        String contentType = file.getContentType();
         if (!StringUtils.hasText(contentType)) {
             throw new BadRequestException("파일 형식을 확인할 수 없습니다.");
         }
@@ -104,6 +159,27 @@ public class UploadValidationService {
         }
     }
 
+    private static boolean isOle2(byte[] head) {
+        return startsWith(head, 0, new byte[]{(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0,
+                (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1});
+    }
+
+    private static boolean isZip(byte[] head) {
+        return startsWith(head, 0, new byte[]{'P', 'K', 0x03, 0x04});
+    }
+
+    private static boolean startsWith(byte[] head, int offset, byte[] signature) {
+        if (head.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (head[offset + i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Set<String> getConfiguredAllowedExtensions() {
         return Arrays.stream(allowedExtensions.split(","))
                 .map(String::trim)
@@ -24,6 +24,7 @@ public class UserAdminService {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AdminMetricsService adminMetricsService;
 
     public Page<UserAdminResponse> getUsers(Pageable pageable) {
         return userRepository.findAll(pageable).map(this::toResponse);
@@ -46,6 +47,7 @@ public class UserAdminService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
 
+        boolean wasLocked = user.getLocked();
         if (request.getEnabled() != null) {
             if (request.getEnabled()) {
                 user.enable();
@@ -62,6 +64,7 @@ public class UserAdminService {
             }
         }
 
+        adminMetricsService.transition(AdminMetricsService.Metric.LOCKED_USERS, wasLocked, user.getLocked());
         refreshTokenRepository.revokeAllUserTokens(user.getId(), LocalDateTime.now());
         return toResponse(user);
     }
@@ -70,7 +73,9 @@ public class UserAdminService {
     public void unlockUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+        boolean wasLocked = user.getLocked();
         user.unlock();
+        adminMetricsService.transition(AdminMetricsService.Metric.LOCKED_USERS, wasLocked, user.getLocked());
         refreshTokenRepository.revokeAllUserTokens(user.getId(), LocalDateTime.now());
     }
 
@@ -79,6 +84,7 @@ public class UserAdminService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
 
+        boolean wasLocked = user.getLocked();
         if ("LOCKED".equals(state)) {
             user.lock();
         } else if ("INACTIVE".equals(state)) {
@@ -92,6 +98,7 @@ public class UserAdminService {
         }
 
         userRepository.save(user);
+        adminMetricsService.transition(AdminMetricsService.Metric.LOCKED_USERS, wasLocked, user.getLocked());
         refreshTokenRepository.revokeAllUserTokens(user.getId(), LocalDateTime.now());
         return user;
     }
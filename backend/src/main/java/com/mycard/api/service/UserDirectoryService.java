@@ -0,0 +1,225 @@
+package com.mycard.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycard.api.entity.AuditLog;
+import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.util.MaskingUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자/운영자 회원 디렉터리
+ * 회원 ID 내림차순 키셋 페이징(cursor = 이전 페이지 마지막 ID)으로 필요한 행만 읽고, 개인정보는 행 단위로 마스킹한다.
+ * 내보내기도 같은 키셋 배치를 반복하며 바로 응답 스트림에 쓰므로 전체 회원 수와 무관하게 메모리가 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDirectoryService {
+
+    public static final int MAX_PAGE_SIZE = 200;
+    private static final int EXPORT_BATCH_SIZE = 1000;
+    private static final String[] CSV_COLUMNS =
+            {"id", "name", "email", "phone", "status", "roles", "lastLoginAt", "createdAt"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditService auditService;
+
+    /**
+     * 검색 조건 (모두 선택)
+     *
+     * @param status        ACTIVE, LOCKED, INACTIVE, WITHDRAWAL_PENDING, WITHDRAWN
+     * @param locked        잠금 여부
+     * @param lastLoginFrom 마지막 로그인 시작일 (포함)
+     * @param lastLoginTo   마지막 로그인 종료일 (포함)
+     * @param role          역할 이름 (USER, OPERATOR, REVIEW_ADMIN, MASTER_ADMIN)
+     * @param keyword       이메일/이름 앞부분 일치
+     */
+    public record Filter(String status, Boolean locked, LocalDate lastLoginFrom, LocalDate lastLoginTo,
+                         String role, String keyword) {
+    }
+
+    public Map<String, Object> getPage(Filter filter, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 읽는다
+        List<Map<String, Object>> rows = fetch(filter, cursor, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<Map<String, Object>> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("content", content);
+        response.put("size", pageSize);
+        response.put("hasNext", hasNext);
+        response.put("nextCursor", hasNext ? content.get(content.size() - 1).get("id") : null);
+        return response;
+    }
+
+    /**
+     * 조건에 맞는 회원 전체를 마스킹하여 NDJSON 또는 CSV로 쓴다.
+     *
+     * @return 기록한 행 수
+     */
+    public long export(Filter filter, String format, OutputStream out) throws IOException {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (csv) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM
+            writer.write('\uFEFF');
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write("\r\n");
+        }
+
+        long written = 0;
+        Long cursor = null;
+        List<Map<String, Object>> batch;
+        do {
+            batch = fetch(filter, cursor, EXPORT_BATCH_SIZE);
+            for (Map<String, Object> row : batch) {
+                if (csv) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            }
+            writer.flush();
+            written += batch.size();
+            if (!batch.isEmpty()) {
+                cursor = (Long) batch.get(batch.size() - 1).get("id");
+            }
+        } while (batch.size() == EXPORT_BATCH_SIZE);
+
+        auditService.log(AuditLog.ActionType.EXPORT, "User", null,
+                "회원 목록 내보내기: format=" + (csv ? "csv" : "ndjson") + ", rows=" + written + ", filter=" + filter);
+        log.info("[Admin-Users] 회원 목록 내보내기 - format={}, rows={}", csv ? "csv" : "ndjson", written);
+        return written;
+    }
+
+    private List<Map<String, Object>> fetch(Filter filter, Long cursor, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT u.id, u.email, u.name, u.phone, u.status, u.last_login_at, u.created_at, "
+                        + "(SELECT GROUP_CONCAT(r.name ORDER BY r.name) FROM user_roles ur JOIN roles r ON r.id = ur.role_id "
+                        + " WHERE ur.user_id = u.id) AS roles "
+                        + "FROM users u WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+
+        if (filter.status() != null && !filter.status().isBlank()) {
+            sql.append(" AND u.status = ?");
+            args.add(toStoredStatus(filter.status()));
+        }
+        if (filter.locked() != null) {
+            sql.append(filter.locked() ? " AND u.status = 'LOCKED'" : " AND u.status <> 'LOCKED'");
+        }
+        // 기간 조건은 idx_users_last_login_at으로 범위를 줄일 뿐 id 순서는 주지 않는다 (정렬은 PK 역순 스캔 또는 filesort)
+        if (filter.lastLoginFrom() != null) {
+            sql.append(" AND u.last_login_at >= ?");
+            args.add(filter.lastLoginFrom().atStartOfDay());
+        }
+        if (filter.lastLoginTo() != null) {
+            sql.append(" AND u.last_login_at < ?");
+            args.add(filter.lastLoginTo().plusDays(1).atStartOfDay());
+        }
+        if (filter.role() != null && !filter.role().isBlank()) {
+            sql.append(" AND EXISTS (SELECT 1 FROM user_roles fr JOIN roles frn ON frn.id = fr.role_id "
+                    + "WHERE fr.user_id = u.id AND frn.name = ?)");
+            args.add(filter.role().trim().toUpperCase());
+        }
+        if (filter.keyword() != null && !filter.keyword().isBlank()) {
+            String prefix = escapeLike(filter.keyword().trim()) + "%";
+            sql.append(" AND (u.email LIKE ? OR u.name LIKE ?)");
+            args.add(prefix);
+            args.add(prefix);
+        }
+        if (cursor != null) {
+            sql.append(" AND u.id < ?");
+            args.add(cursor);
+        }
+        sql.append(" ORDER BY u.id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toMaskedRow(rs), args.toArray());
+    }
+
+    private Map<String, Object> toMaskedRow(ResultSet rs) throws SQLException {
+        String name = rs.getString("name");
+        String email = rs.getString("email");
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", rs.getLong("id"));
+        row.put("name", MaskingUtils.maskName(name != null ? name : email));
+        row.put("email", MaskingUtils.maskEmail(email));
+        row.put("phone", MaskingUtils.maskPhone(rs.getString("phone")));
+        row.put("status", toDisplayStatus(rs.getString("status")));
+        row.put("roles", rs.getString("roles"));
+        row.put("lastLoginAt", toLocalDateTime(rs.getTimestamp("last_login_at")));
+        row.put("createdAt", toLocalDateTime(rs.getTimestamp("created_at")));
+        return row;
+    }
+
+    /**
+     * 화면 상태값 (DISABLED는 INACTIVE로 표시)
+     */
+    private static String toDisplayStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        return "DISABLED".equalsIgnoreCase(status) ? "INACTIVE" : status.toUpperCase();
+    }
+
+    private static String toStoredStatus(String status) {
+        String value = status.trim().toUpperCase();
+        return switch (value) {
+            case "INACTIVE", "DISABLED" -> "DISABLED";
+            case "ACTIVE", "LOCKED", "WITHDRAWAL_PENDING", "WITHDRAWN" -> value;
+            default -> throw new BadRequestException("지원하지 않는 회원 상태입니다: " + status);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static void writeCsvRow(Writer writer, Map<String, Object> row) throws IOException {
+        for (int i = 0; i < CSV_COLUMNS.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = row.get(CSV_COLUMNS[i]);
+            writer.write(csvEscape(value != null ? value.toString() : ""));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvEscape(String value) {
+        // 스프레드시트 수식 실행 방지
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,17 @@
+package com.mycard.api.service;
+
+import java.util.Map;
+
+/**
+ * 사용자 실시간 알림 이벤트
+ * 알림을 만든 트랜잭션이 커밋된 뒤에만 SSE 구독자에게 전달된다. (NotificationStreamRegistry)
+ *
+ * @param userId 수신자 ID
+ * @param type   SSE event 이름 (message, application-status)
+ * @param data   클라이언트로 보낼 본문 (JSON 직렬화)
+ */
+public record UserNotificationEvent(Long userId, String type, Map<String, Object> data) {
+
+    public static final String TYPE_MESSAGE = "message";
+    public static final String TYPE_APPLICATION_STATUS = "application-status";
+}
@@ -0,0 +1,48 @@
+package com.mycard.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 2단계 해시 디렉터리 배치: {root}/ab/cd/{파일명}
+ * 한 디렉터리에 파일이 수십만 개 쌓여 목록/조회가 느려지는 것을 막는다. (디렉터리당 최대 65,536분의 1)
+ */
+public class ShardedPaths {
+
+    private ShardedPaths() {
+    }
+
+    /**
+     * 파일명의 SHA-256 앞 4자리로 하위 디렉터리를 정한다. (UUID 외 파일명도 고르게 분산)
+     */
+    public static Path resolve(Path root, String filename) {
+        return resolve(root, hashOf(filename), filename);
+    }
+
+    /**
+     * 이미 해시인 키(예: 내용 SHA-256)의 앞 4자리로 하위 디렉터리를 정한다.
+     */
+    public static Path resolve(Path root, String hexKey, String filename) {
+        return root.resolve(hexKey.substring(0, 2)).resolve(hexKey.substring(2, 4)).resolve(filename);
+    }
+
+    /**
+     * root 기준 "ab/cd/{파일명}" 형태의 상대 경로 (URL 조합용)
+     */
+    public static String relative(String filename) {
+        String hash = hashOf(filename);
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + filename;
+    }
+
+    private static String hashOf(String filename) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(filename.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
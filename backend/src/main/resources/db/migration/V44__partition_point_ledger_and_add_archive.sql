@@ -0,0 +1,127 @@
+-- [V44] point_ledger 월별 RANGE 파티셔닝 + 포인트 잔액 스냅샷 + 원장 아카이브 세그먼트 메타데이터
+
+-- 1) 파티션 테이블은 외래키를 지원하지 않으므로 point_ledger의 FK를 모두 제거한다.
+SET @drop_point_ledger_fks = (
+    SELECT IFNULL(
+        CONCAT('ALTER TABLE point_ledger ',
+               GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', constraint_name, '`') SEPARATOR ', ')),
+        'SELECT 1'
+    )
+    FROM information_schema.table_constraints
+    WHERE table_schema = DATABASE()
+      AND table_name = 'point_ledger'
+      AND constraint_type = 'FOREIGN KEY'
+);
+PREPARE stmt FROM @drop_point_ledger_fks;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) 모든 UNIQUE 키에 파티션 컬럼이 포함되어야 하므로 PK를 (id, created_at)으로 변경한다.
+SET @rebuild_point_ledger_pk = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.key_column_usage
+            WHERE table_schema = DATABASE()
+              AND table_name = 'point_ledger'
+              AND constraint_name = 'PRIMARY'
+              AND column_name = 'created_at'
+        ),
+        'SELECT 1',
+        'ALTER TABLE point_ledger DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)'
+    )
+);
+PREPARE stmt FROM @rebuild_point_ledger_pk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3) 아카이브 대상 월 탐색용 인덱스
+SET @add_point_ledger_created_idx = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'point_ledger'
+              AND index_name = 'idx_point_ledger_created'
+        ),
+        'SELECT 1',
+        'ALTER TABLE point_ledger ADD KEY idx_point_ledger_created (created_at)'
+    )
+);
+PREPARE stmt FROM @add_point_ledger_created_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 4) 월별 RANGE 파티셔닝 (이후 월 파티션은 PointLedgerMaintenanceScheduler가 pmax를 분할하여 추가)
+SET @partition_point_ledger = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.partitions
+            WHERE table_schema = DATABASE()
+              AND table_name = 'point_ledger'
+              AND partition_name IS NOT NULL
+        ),
+        'SELECT 1',
+        'ALTER TABLE point_ledger PARTITION BY RANGE (TO_DAYS(created_at)) (
+            PARTITION p_legacy VALUES LESS THAN (TO_DAYS(''2026-01-01'')),
+            PARTITION p202601 VALUES LESS THAN (TO_DAYS(''2026-02-01'')),
+            PARTITION p202602 VALUES LESS THAN (TO_DAYS(''2026-03-01'')),
+            PARTITION p202603 VALUES LESS THAN (TO_DAYS(''2026-04-01'')),
+            PARTITION p202604 VALUES LESS THAN (TO_DAYS(''2026-05-01'')),
+            PARTITION p202605 VALUES LESS THAN (TO_DAYS(''2026-06-01'')),
+            PARTITION p202606 VALUES LESS THAN (TO_DAYS(''2026-07-01'')),
+            PARTITION p202607 VALUES LESS THAN (TO_DAYS(''2026-08-01'')),
+            PARTITION p202608 VALUES LESS THAN (TO_DAYS(''2026-09-01'')),
+            PARTITION p202609 VALUES LESS THAN (TO_DAYS(''2026-10-01'')),
+            PARTITION p202610 VALUES LESS THAN (TO_DAYS(''2026-11-01'')),
+            PARTITION p202611 VALUES LESS THAN (TO_DAYS(''2026-12-01'')),
+            PARTITION p202612 VALUES LESS THAN (TO_DAYS(''2027-01-01'')),
+            PARTITION pmax VALUES LESS THAN MAXVALUE
+        )'
+    )
+);
+PREPARE stmt FROM @partition_point_ledger;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 5) 사용자별 포인트 잔액 스냅샷 (스냅샷 잔액 + 이후 원장 합계 = 현재 잔액)
+CREATE TABLE IF NOT EXISTS point_balance_snapshots (
+  id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  user_id BIGINT UNSIGNED NOT NULL,
+  balance BIGINT NOT NULL,
+  last_ledger_id BIGINT UNSIGNED NOT NULL DEFAULT 0,
+  snapshot_at DATETIME NOT NULL,
+  UNIQUE KEY uk_point_balance_snapshots_user_time (user_id, snapshot_at),
+  KEY idx_point_balance_snapshots_time (snapshot_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 6) 아카이브 세그먼트 (월 단위 gzip NDJSON 파일)
+CREATE TABLE IF NOT EXISTS point_ledger_archive_segments (
+  id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  period_start DATE NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'WRITING',
+  file_name VARCHAR(255) NOT NULL,
+  row_count BIGINT NOT NULL DEFAULT 0,
+  size_bytes BIGINT NOT NULL DEFAULT 0,
+  sha256 CHAR(64) NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  sealed_at DATETIME NULL,
+  purged_at DATETIME NULL,
+  UNIQUE KEY uk_point_ledger_archive_segments_period (period_start),
+  CONSTRAINT chk_point_ledger_archive_segments_status CHECK (status IN ('WRITING','SEALED','PURGED'))
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 7) 세그먼트별 사용자/유형 건수 인덱스 (아카이브 조회 시 세그먼트 건너뛰기 및 전체 건수 계산용)
+CREATE TABLE IF NOT EXISTS point_ledger_archive_index (
+  id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  segment_id BIGINT UNSIGNED NOT NULL,
+  user_id BIGINT UNSIGNED NOT NULL,
+  entry_type VARCHAR(20) NOT NULL,
+  row_count BIGINT NOT NULL,
+  UNIQUE KEY uk_point_ledger_archive_index_user (user_id, segment_id, entry_type),
+  KEY idx_point_ledger_archive_index_segment (segment_id),
+  CONSTRAINT fk_point_ledger_archive_index_segment FOREIGN KEY (segment_id)
+    REFERENCES point_ledger_archive_segments(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
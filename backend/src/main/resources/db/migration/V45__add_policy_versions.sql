@@ -0,0 +1,9 @@
+-- [V45] 정책 버전 테이블
+-- 정책 변경 시 같은 트랜잭션에서 version을 올리고, 각 노드는 이 행만 주기적으로 읽어 메모리 스냅샷을 갱신한다.
+CREATE TABLE IF NOT EXISTS policy_versions (
+  name VARCHAR(50) NOT NULL PRIMARY KEY,
+  version BIGINT NOT NULL DEFAULT 1,
+  updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT IGNORE INTO policy_versions (name, version) VALUES ('POINT_POLICY', 1);
@@ -0,0 +1,38 @@
+-- [V46] user_coupons 대량 발급 지원
+-- 1) IDENTITY 대신 테이블 기반 pooled ID 할당 (Hibernate JDBC 배치 INSERT 가능)
+CREATE TABLE IF NOT EXISTS id_sequences (
+  sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+  next_val BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 기존 최대 ID 이후 블록부터 할당되도록 할당 크기(1000)만큼 여유를 두고 시작값을 설정
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'user_coupons', COALESCE(MAX(id), 0) + 1001 FROM user_coupons;
+
+-- 2) 중복 PIN 재발급 후 UNIQUE 제약 추가
+UPDATE user_coupons
+SET pin_code = UPPER(SUBSTRING(REPLACE(UUID(), '-', ''), 1, 16))
+WHERE id IN (
+    SELECT id FROM (
+        SELECT id, ROW_NUMBER() OVER (PARTITION BY pin_code ORDER BY id) AS rn
+        FROM user_coupons
+    ) dup
+    WHERE dup.rn > 1
+);
+
+SET @add_user_coupons_pin_uk = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'user_coupons'
+              AND index_name = 'uk_user_coupons_pin'
+        ),
+        'SELECT 1',
+        'ALTER TABLE user_coupons ADD UNIQUE KEY uk_user_coupons_pin (pin_code)'
+    )
+);
+PREPARE stmt FROM @add_user_coupons_pin_uk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
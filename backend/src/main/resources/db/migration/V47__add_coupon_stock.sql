@@ -0,0 +1,29 @@
+-- [V47] 한정 수량 쿠폰 재고
+-- stock_limit NULL = 무제한. sold_count는 coupon_stock_journal을 비동기로 접어 넣은 누적 판매량이다.
+-- 현재 판매량 = sold_count + SUM(coupon_stock_journal.quantity)
+
+SET @add_coupon_stock_limit = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'coupon_catalog'
+              AND column_name = 'stock_limit'
+        ),
+        'SELECT 1',
+        'ALTER TABLE coupon_catalog ADD COLUMN stock_limit BIGINT NULL AFTER active, ADD COLUMN sold_count BIGINT NOT NULL DEFAULT 0 AFTER stock_limit'
+    )
+);
+PREPARE stmt FROM @add_coupon_stock_limit;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 구매 트랜잭션과 함께 커밋되는 판매 기록 (append-only, 카탈로그 행 잠금 없음)
+CREATE TABLE IF NOT EXISTS coupon_stock_journal (
+  id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  coupon_id BIGINT UNSIGNED NOT NULL,
+  quantity INT NOT NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  KEY idx_coupon_stock_journal_coupon (coupon_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
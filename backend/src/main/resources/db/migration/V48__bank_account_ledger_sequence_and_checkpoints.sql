@@ -0,0 +1,94 @@
+-- [V48] 은행 계좌 원장 append-only 전환
+-- 계좌별 단조 증가 seq(user_bank_accounts.last_seq를 원자적으로 증가시켜 발급) + 주기적 잔액 체크포인트
+
+-- 1) 거래 seq 컬럼
+SET @add_bank_tx_seq = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'bank_account_transactions'
+              AND column_name = 'seq'
+        ),
+        'SELECT 1',
+        'ALTER TABLE bank_account_transactions ADD COLUMN seq BIGINT NOT NULL DEFAULT 0 AFTER bank_account_id'
+    )
+);
+PREPARE stmt FROM @add_bank_tx_seq;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) 기존 거래에 seq 부여 + balance_after를 누적 합계로 다시 계산 (V28 백필은 거래별 금액만 넣었다)
+UPDATE bank_account_transactions t
+JOIN (
+    SELECT id,
+           ROW_NUMBER() OVER w AS rn,
+           SUM(CASE WHEN transaction_type = 'WITHDRAWAL' THEN -amount ELSE amount END) OVER w AS running_balance
+    FROM bank_account_transactions
+    WINDOW w AS (PARTITION BY bank_account_id ORDER BY created_at, id)
+) r ON r.id = t.id
+SET t.seq = r.rn,
+    t.balance_after = r.running_balance
+WHERE t.seq = 0;
+
+SET @add_bank_tx_seq_uk = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'bank_account_transactions'
+              AND index_name = 'uk_bank_account_transactions_seq'
+        ),
+        'SELECT 1',
+        'ALTER TABLE bank_account_transactions ADD UNIQUE KEY uk_bank_account_transactions_seq (bank_account_id, seq)'
+    )
+);
+PREPARE stmt FROM @add_bank_tx_seq_uk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3) 계좌별 마지막 seq
+SET @add_bank_account_last_seq = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'user_bank_accounts'
+              AND column_name = 'last_seq'
+        ),
+        'SELECT 1',
+        'ALTER TABLE user_bank_accounts ADD COLUMN last_seq BIGINT NOT NULL DEFAULT 0 AFTER current_balance'
+    )
+);
+PREPARE stmt FROM @add_bank_account_last_seq;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+UPDATE user_bank_accounts uba
+JOIN (
+    SELECT bank_account_id, MAX(seq) AS max_seq
+    FROM bank_account_transactions
+    GROUP BY bank_account_id
+) tx ON tx.bank_account_id = uba.id
+SET uba.last_seq = tx.max_seq;
+
+-- 4) 잔액 체크포인트 (체크포인트 잔액 + 이후 seq 거래 합계 = 해당 시점 잔액)
+CREATE TABLE IF NOT EXISTS bank_account_balance_checkpoints (
+  id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  bank_account_id BIGINT UNSIGNED NOT NULL,
+  seq BIGINT NOT NULL,
+  balance DECIMAL(12,2) NOT NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  UNIQUE KEY uk_bank_account_balance_checkpoints_seq (bank_account_id, seq),
+  KEY idx_bank_account_balance_checkpoints_time (bank_account_id, created_at),
+  CONSTRAINT fk_bank_account_balance_checkpoints_account FOREIGN KEY (bank_account_id)
+    REFERENCES user_bank_accounts(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT IGNORE INTO bank_account_balance_checkpoints (bank_account_id, seq, balance)
+SELECT id, last_seq, current_balance
+FROM user_bank_accounts
+WHERE last_seq > 0;
@@ -0,0 +1,61 @@
+-- [V49] 세그먼트 대상 브로드캐스트 메시지 (발송 시 수신자별 행을 만들지 않고 조회 시 합친다)
+
+CREATE TABLE IF NOT EXISTS broadcast_messages (
+  id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  sender_id BIGINT UNSIGNED NOT NULL,
+  segment_type VARCHAR(20) NOT NULL,
+  segment_value VARCHAR(100) NULL,
+  title VARCHAR(200) NULL,
+  content TEXT NOT NULL,
+  recipient_count BIGINT NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  KEY idx_broadcast_messages_segment (segment_type, segment_value, id),
+  CONSTRAINT chk_broadcast_messages_segment CHECK (segment_type IN ('ALL','ACTIVE_CARD','CARD_PRODUCT','USER_LIST')),
+  CONSTRAINT fk_broadcast_messages_sender FOREIGN KEY (sender_id) REFERENCES users(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- USER_LIST 세그먼트 수신자 (업로드한 ID 파일)
+CREATE TABLE IF NOT EXISTS broadcast_message_recipients (
+  broadcast_id BIGINT UNSIGNED NOT NULL,
+  user_id BIGINT UNSIGNED NOT NULL,
+  PRIMARY KEY (broadcast_id, user_id),
+  KEY idx_broadcast_message_recipients_user (user_id, broadcast_id),
+  CONSTRAINT fk_broadcast_message_recipients_broadcast FOREIGN KEY (broadcast_id)
+    REFERENCES broadcast_messages(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 사용자별 읽음 워터마크: broadcast_read_id 이하 브로드캐스트는 모두 읽음
+CREATE TABLE IF NOT EXISTS message_read_watermarks (
+  user_id BIGINT UNSIGNED PRIMARY KEY,
+  broadcast_read_id BIGINT UNSIGNED NOT NULL DEFAULT 0,
+  updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  CONSTRAINT fk_message_read_watermarks_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 워터마크 위에서 개별로 읽은 브로드캐스트 (모두 읽음 처리 시 정리)
+CREATE TABLE IF NOT EXISTS broadcast_message_reads (
+  user_id BIGINT UNSIGNED NOT NULL,
+  broadcast_id BIGINT UNSIGNED NOT NULL,
+  read_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (user_id, broadcast_id),
+  CONSTRAINT fk_broadcast_message_reads_broadcast FOREIGN KEY (broadcast_id)
+    REFERENCES broadcast_messages(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 직접 메시지 미읽음 건수를 인덱스 범위만으로 세기 위한 인덱스
+SET @add_msg_to_read_idx = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'messages'
+              AND index_name = 'idx_msg_to_read'
+        ),
+        'SELECT 1',
+        'ALTER TABLE messages ADD KEY idx_msg_to_read (to_user_id, read_at)'
+    )
+);
+PREPARE stmt FROM @add_msg_to_read_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,15 @@
+-- [V50] 사용자별 미읽음 직접 메시지 카운터 (알림 배지 = PK 단건 조회)
+-- 메시지 발송/읽음/모두 읽음/삭제와 같은 트랜잭션에서 증감하고, MessageCounterReconciler가 주기적으로 보정한다.
+
+CREATE TABLE IF NOT EXISTS user_message_counters (
+  user_id BIGINT UNSIGNED PRIMARY KEY,
+  unread_count BIGINT NOT NULL DEFAULT 0,
+  updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  CONSTRAINT fk_user_message_counters_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT IGNORE INTO user_message_counters (user_id, unread_count)
+SELECT to_user_id, COUNT(*)
+FROM messages
+WHERE read_at IS NULL
+GROUP BY to_user_id;
@@ -0,0 +1,38 @@
+-- [V51] 관리자 대시보드 운영 지표 스냅샷
+-- 각 노드는 서비스 쓰기 경로에서 지표 증감분을 메모리에 모았다가 주기적으로 이 테이블에 더하고,
+-- 합산 값을 다시 읽어 메모리에서 응답한다. (재시작 시 이 값에서 시작, AdminMetricsService)
+
+CREATE TABLE IF NOT EXISTS admin_metric_snapshots (
+  metric_key VARCHAR(50) PRIMARY KEY,
+  metric_value BIGINT NOT NULL DEFAULT 0,
+  updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+INSERT IGNORE INTO admin_metric_snapshots (metric_key, metric_value)
+SELECT 'LOCKED_USERS', COUNT(*) FROM users WHERE status = 'LOCKED'
+UNION ALL
+SELECT 'PENDING_DOCUMENTS', COUNT(*) FROM documents WHERE status IN ('SUBMITTED', 'UNDER_REVIEW')
+UNION ALL
+SELECT 'OPEN_INQUIRIES', COUNT(*) FROM inquiries WHERE status IN ('OPEN', 'ASSIGNED')
+UNION ALL
+SELECT 'PENDING_CARD_APPLICATIONS', COUNT(*) FROM card_applications WHERE status IN ('PENDING', 'REVIEWING')
+UNION ALL
+SELECT 'UNREAD_MESSAGES', COUNT(*) FROM messages WHERE read_at IS NULL;
+
+-- 대시보드 '오늘 문의' 범위 집계 및 최근 문의 목록용
+SET @add_idx_inq_created = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'inquiries'
+              AND index_name = 'idx_inq_created'
+        ),
+        'SELECT 1',
+        'ALTER TABLE inquiries ADD INDEX idx_inq_created (created_at)'
+    )
+);
+PREPARE stmt FROM @add_idx_inq_created;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,56 @@
+-- [V52] 관리자/운영자 회원 디렉터리 조회 인덱스
+-- 디렉터리는 회원 ID 내림차순 키셋 페이징이므로 필터 컬럼 뒤에 id를 붙여 정렬까지 인덱스로 해결한다.
+--   상태/잠금 필터          -> (status, id)
+--   마지막 로그인 기간 필터  -> (last_login_at, id)
+--   역할 필터 (EXISTS)      -> user_roles (role_id, user_id)
+
+SET @add_idx_users_status_id = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'users'
+              AND index_name = 'idx_users_status_id'
+        ),
+        'SELECT 1',
+        'ALTER TABLE users ADD INDEX idx_users_status_id (status, id)'
+    )
+);
+PREPARE stmt FROM @add_idx_users_status_id;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_idx_users_last_login_id = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'users'
+              AND index_name = 'idx_users_last_login_id'
+        ),
+        'SELECT 1',
+        'ALTER TABLE users ADD INDEX idx_users_last_login_id (last_login_at, id)'
+    )
+);
+PREPARE stmt FROM @add_idx_users_last_login_id;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_idx_user_roles_role_user = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'user_roles'
+              AND index_name = 'idx_user_roles_role_user'
+        ),
+        'SELECT 1',
+        'ALTER TABLE user_roles ADD INDEX idx_user_roles_role_user (role_id, user_id)'
+    )
+);
+PREPARE stmt FROM @add_idx_user_roles_role_user;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,127 @@
+-- [V53] audit_logs 검색 인덱스 + 월별 RANGE 파티셔닝
+-- 검색은 넘어온 조건만으로 WHERE 절을 만들고 (조건 컬럼, created_at) 복합 인덱스로 필터와 최신순 정렬을 함께 해결한다.
+--   행위자 필터          -> (actor_id, created_at)          idx_audit_actor_time (V1)
+--   대상 필터            -> (target_type, target_id, created_at)
+--   액션 필터            -> (action, created_at)
+-- 조회 기간이 항상 주어지므로 파티션 프루닝으로 해당 월 파티션만 읽는다.
+
+-- 1) 파티션 테이블은 외래키를 지원하지 않으므로 audit_logs의 FK를 모두 제거한다.
+SET @drop_audit_logs_fks = (
+    SELECT IFNULL(
+        CONCAT('ALTER TABLE audit_logs ',
+               GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', constraint_name, '`') SEPARATOR ', ')),
+        'SELECT 1'
+    )
+    FROM information_schema.table_constraints
+    WHERE table_schema = DATABASE()
+      AND table_name = 'audit_logs'
+      AND constraint_type = 'FOREIGN KEY'
+);
+PREPARE stmt FROM @drop_audit_logs_fks;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) 모든 UNIQUE 키에 파티션 컬럼이 포함되어야 하므로 PK를 (id, created_at)으로 변경한다.
+SET @rebuild_audit_logs_pk = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.key_column_usage
+            WHERE table_schema = DATABASE()
+              AND table_name = 'audit_logs'
+              AND constraint_name = 'PRIMARY'
+              AND column_name = 'created_at'
+        ),
+        'SELECT 1',
+        'ALTER TABLE audit_logs DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)'
+    )
+);
+PREPARE stmt FROM @rebuild_audit_logs_pk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3) 대상 검색 인덱스에 created_at을 붙인다. (기존 (target_type, target_id) 인덱스는 새 인덱스의 접두어라 제거)
+SET @add_idx_audit_target_time = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'audit_logs'
+              AND index_name = 'idx_audit_target_time'
+        ),
+        'SELECT 1',
+        'ALTER TABLE audit_logs ADD INDEX idx_audit_target_time (target_type, target_id, created_at)'
+    )
+);
+PREPARE stmt FROM @add_idx_audit_target_time;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @drop_idx_audit_target = (
+    SELECT IF(
+        NOT EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'audit_logs'
+              AND index_name = 'idx_audit_target'
+        ),
+        'SELECT 1',
+        'ALTER TABLE audit_logs DROP INDEX idx_audit_target'
+    )
+);
+PREPARE stmt FROM @drop_idx_audit_target;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 4) 액션 검색 인덱스
+SET @add_idx_audit_action_time = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'audit_logs'
+              AND index_name = 'idx_audit_action_time'
+        ),
+        'SELECT 1',
+        'ALTER TABLE audit_logs ADD INDEX idx_audit_action_time (action, created_at)'
+    )
+);
+PREPARE stmt FROM @add_idx_audit_action_time;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 5) 월별 RANGE 파티셔닝 (이후 월 파티션 추가와 보관 기간 경과 파티션 삭제는 AuditLogMaintenanceScheduler가 수행)
+SET @partition_audit_logs = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.partitions
+            WHERE table_schema = DATABASE()
+              AND table_name = 'audit_logs'
+              AND partition_name IS NOT NULL
+        ),
+        'SELECT 1',
+        'ALTER TABLE audit_logs PARTITION BY RANGE (TO_DAYS(created_at)) (
+            PARTITION p_legacy VALUES LESS THAN (TO_DAYS(''2026-01-01'')),
+            PARTITION p202601 VALUES LESS THAN (TO_DAYS(''2026-02-01'')),
+            PARTITION p202602 VALUES LESS THAN (TO_DAYS(''2026-03-01'')),
+            PARTITION p202603 VALUES LESS THAN (TO_DAYS(''2026-04-01'')),
+            PARTITION p202604 VALUES LESS THAN (TO_DAYS(''2026-05-01'')),
+            PARTITION p202605 VALUES LESS THAN (TO_DAYS(''2026-06-01'')),
+            PARTITION p202606 VALUES LESS THAN (TO_DAYS(''2026-07-01'')),
+            PARTITION p202607 VALUES LESS THAN (TO_DAYS(''2026-08-01'')),
+            PARTITION p202608 VALUES LESS THAN (TO_DAYS(''2026-09-01'')),
+            PARTITION p202609 VALUES LESS THAN (TO_DAYS(''2026-10-01'')),
+            PARTITION p202610 VALUES LESS THAN (TO_DAYS(''2026-11-01'')),
+            PARTITION p202611 VALUES LESS THAN (TO_DAYS(''2026-12-01'')),
+            PARTITION p202612 VALUES LESS THAN (TO_DAYS(''2027-01-01'')),
+            PARTITION pmax VALUES LESS THAN MAXVALUE
+        )'
+    )
+);
+PREPARE stmt FROM @partition_audit_logs;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,23 @@
+-- [V54] 감사로그 아카이브 세그먼트 메타데이터
+-- 핫 보관 기간이 지난 월은 gzip NDJSON 세그먼트 파일로 옮기고, 세그먼트별 min/max 값으로
+-- 아카이브 조회 시 조건에 걸릴 수 없는 세그먼트를 파일을 열지 않고 건너뛴다.
+CREATE TABLE IF NOT EXISTS audit_log_archive_segments (
+  id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  period_start DATE NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'WRITING',
+  file_name VARCHAR(255) NOT NULL,
+  row_count BIGINT NOT NULL DEFAULT 0,
+  size_bytes BIGINT NOT NULL DEFAULT 0,
+  sha256 CHAR(64) NULL,
+  min_created_at DATETIME NULL,
+  max_created_at DATETIME NULL,
+  min_actor_id BIGINT UNSIGNED NULL,
+  max_actor_id BIGINT UNSIGNED NULL,
+  min_target_type VARCHAR(40) NULL,
+  max_target_type VARCHAR(40) NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  sealed_at DATETIME NULL,
+  purged_at DATETIME NULL,
+  UNIQUE KEY uk_audit_log_archive_segments_period (period_start),
+  CONSTRAINT chk_audit_log_archive_segments_status CHECK (status IN ('WRITING','SEALED','PURGED'))
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
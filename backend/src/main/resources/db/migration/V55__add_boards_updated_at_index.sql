@@ -0,0 +1,19 @@
+-- [V55] 게시판 검색 인덱스 증분 동기화용 인덱스
+-- 각 노드의 메모리 검색 인덱스가 다른 노드에서 수정된 게시글을 updated_at 기준으로 주기적으로 다시 읽는다.
+
+SET @add_idx_boards_updated_at = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'boards'
+              AND index_name = 'idx_boards_updated_at'
+        ),
+        'SELECT 1',
+        'ALTER TABLE boards ADD INDEX idx_boards_updated_at (updated_at)'
+    )
+);
+PREPARE stmt FROM @add_idx_boards_updated_at;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,33 @@
+-- [V56] 비공개 게시글 열람 허용 대상을 쉼표 구분 이름 문자열(boards.allowed_users)에서 board_acl 행으로 정규화
+-- 열람 권한 확인은 (board_id, user_id) PK 조회, 사용자별 열람 가능 글 조회는 (user_id, board_id) 인덱스를 쓴다.
+-- boards.allowed_users 컬럼은 롤백 대비로 남겨 두며 더 이상 쓰지 않는다.
+
+CREATE TABLE IF NOT EXISTS board_acl (
+  board_id BIGINT NOT NULL,
+  user_id BIGINT UNSIGNED NOT NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (board_id, user_id),
+  KEY idx_board_acl_user (user_id, board_id),
+  CONSTRAINT fk_board_acl_board FOREIGN KEY (board_id) REFERENCES boards(id) ON DELETE CASCADE,
+  CONSTRAINT fk_board_acl_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 기존 문자열을 이름 단위로 나눠 같은 이름의 회원에게 권한을 준다. (기존 이름 일치 규칙과 동일한 열람 범위)
+INSERT IGNORE INTO board_acl (board_id, user_id)
+WITH RECURSIVE allowed_names (board_id, name, rest) AS (
+    SELECT id,
+           TRIM(SUBSTRING_INDEX(allowed_users, ',', 1)),
+           SUBSTRING(allowed_users, CHAR_LENGTH(SUBSTRING_INDEX(allowed_users, ',', 1)) + 2)
+    FROM boards
+    WHERE allowed_users IS NOT NULL AND allowed_users <> ''
+    UNION ALL
+    SELECT board_id,
+           TRIM(SUBSTRING_INDEX(rest, ',', 1)),
+           SUBSTRING(rest, CHAR_LENGTH(SUBSTRING_INDEX(rest, ',', 1)) + 2)
+    FROM allowed_names
+    WHERE rest <> ''
+)
+SELECT a.board_id, u.id
+FROM allowed_names a
+JOIN users u ON u.name = a.name
+WHERE a.name <> '';
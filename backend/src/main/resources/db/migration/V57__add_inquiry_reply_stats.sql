@@ -0,0 +1,93 @@
+-- [V57] 문의 답변 통계 비정규화
+-- 목록/대시보드가 문의마다 답변 컬렉션과 담당자를 지연 로딩하지 않도록 답변 수, 상담원 답변 여부, 최근 답변 시각을 inquiries에 보관한다.
+-- 이후 값은 InquiryService.addReply에서 함께 갱신된다.
+
+SET @add_inq_reply_count = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'inquiries'
+              AND column_name = 'reply_count'
+        ),
+        'SELECT 1',
+        'ALTER TABLE inquiries ADD COLUMN reply_count INT NOT NULL DEFAULT 0'
+    )
+);
+PREPARE stmt FROM @add_inq_reply_count;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_inq_has_staff_reply = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'inquiries'
+              AND column_name = 'has_staff_reply'
+        ),
+        'SELECT 1',
+        'ALTER TABLE inquiries ADD COLUMN has_staff_reply TINYINT(1) NOT NULL DEFAULT 0'
+    )
+);
+PREPARE stmt FROM @add_inq_has_staff_reply;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_inq_last_reply_at = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'inquiries'
+              AND column_name = 'last_reply_at'
+        ),
+        'SELECT 1',
+        'ALTER TABLE inquiries ADD COLUMN last_reply_at DATETIME NULL'
+    )
+);
+PREPARE stmt FROM @add_inq_last_reply_at;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @add_inq_last_staff_reply_at = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'inquiries'
+              AND column_name = 'last_staff_reply_at'
+        ),
+        'SELECT 1',
+        'ALTER TABLE inquiries ADD COLUMN last_staff_reply_at DATETIME NULL'
+    )
+);
+PREPARE stmt FROM @add_inq_last_staff_reply_at;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 기존 답변 집계 (상담원 답변 여부는 작성자 권한 기준)
+UPDATE inquiries i
+JOIN (
+    SELECT r.inquiry_id,
+           COUNT(*) AS reply_count,
+           MAX(r.created_at) AS last_reply_at,
+           MAX(CASE WHEN s.user_id IS NOT NULL THEN r.created_at END) AS last_staff_reply_at
+    FROM inquiry_replies r
+    LEFT JOIN (
+        SELECT DISTINCT ur.user_id
+        FROM user_roles ur
+        JOIN roles ro ON ro.id = ur.role_id
+        WHERE ro.name IN ('OPERATOR', 'MASTER_ADMIN', 'REVIEW_ADMIN')
+    ) s ON s.user_id = r.actor_id
+    GROUP BY r.inquiry_id
+) agg ON agg.inquiry_id = i.id
+SET i.reply_count = agg.reply_count,
+    i.has_staff_reply = agg.last_staff_reply_at IS NOT NULL,
+    i.last_reply_at = agg.last_reply_at,
+    i.last_staff_reply_at = agg.last_staff_reply_at,
+    i.updated_at = i.updated_at;
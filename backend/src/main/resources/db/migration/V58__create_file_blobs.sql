@@ -0,0 +1,30 @@
+-- [V58] 첨부파일 내용 주소(SHA-256) 저장소
+-- 같은 내용의 업로드는 blob 하나를 공유하고, attachments.checksum_sha256으로 참조한다.
+-- ref_count는 업로드/삭제 시 증감하고, 문의/문서/메시지 삭제의 FK CASCADE로 빠진 참조는 수거 배치가 attachments 기준으로 다시 센다.
+-- last_referenced_at은 업로드 시에만 갱신하며, 수거 배치는 유예 시간이 지난 ref_count = 0 blob만 지운다.
+
+CREATE TABLE IF NOT EXISTS file_blobs (
+  sha256 CHAR(64) NOT NULL PRIMARY KEY,
+  size_bytes BIGINT UNSIGNED NOT NULL,
+  ref_count INT NOT NULL DEFAULT 0,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  last_referenced_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  KEY idx_file_blobs_unreferenced (ref_count, last_referenced_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+SET @add_idx_attach_checksum = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'attachments'
+              AND index_name = 'idx_attach_checksum'
+        ),
+        'SELECT 1',
+        'ALTER TABLE attachments ADD INDEX idx_attach_checksum (checksum_sha256)'
+    )
+);
+PREPARE stmt FROM @add_idx_attach_checksum;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,18 @@
+-- [V59] 업로드 경로 고아 파일 정리 배치가 디스크 파일명 묶음을 attachments.stored_filename IN (...)으로 조회한다.
+
+SET @add_idx_attach_stored_filename = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'attachments'
+              AND index_name = 'idx_attach_stored_filename'
+        ),
+        'SELECT 1',
+        'ALTER TABLE attachments ADD INDEX idx_attach_stored_filename (stored_filename)'
+    )
+);
+PREPARE stmt FROM @add_idx_attach_stored_filename;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,26 @@
+-- [V60] 이어받기 가능한 분할 업로드 세션
+-- 청크는 blob 임시 경로의 미리 할당한 파일(temp_path)에 직접 쓰고, 수신 여부는 received_chunks 비트맵(청크당 1비트)으로 남긴다.
+-- 확정(COMPLETED) 시 파일은 내용 주소 저장소로 옮겨지고 문서(document_id)/첨부에 연결된다.
+
+CREATE TABLE IF NOT EXISTS upload_sessions (
+  id BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+  user_id BIGINT UNSIGNED NOT NULL,
+  original_filename VARCHAR(255) NOT NULL,
+  content_type VARCHAR(120) NOT NULL,
+  doc_type VARCHAR(30) NOT NULL DEFAULT 'OTHER',
+  total_size BIGINT UNSIGNED NOT NULL,
+  chunk_size INT NOT NULL,
+  chunk_count INT NOT NULL,
+  received_chunks VARBINARY(1024) NOT NULL,
+  received_count INT NOT NULL DEFAULT 0,
+  expected_sha256 CHAR(64) NULL,
+  temp_path VARCHAR(500) NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'UPLOADING',
+  document_id BIGINT UNSIGNED NULL,
+  expires_at DATETIME NOT NULL,
+  created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at DATETIME NULL,
+  KEY idx_upload_sessions_user (user_id),
+  KEY idx_upload_sessions_expiry (status, expires_at),
+  CONSTRAINT fk_upload_sessions_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
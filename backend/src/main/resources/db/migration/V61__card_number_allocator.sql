@@ -0,0 +1,37 @@
+-- [V61] 카드번호 블록 할당
+-- 1) BIN별 순열 키와 블록 최고 수위 (노드는 next_block을 올려 blockSize개 순번을 예약)
+CREATE TABLE IF NOT EXISTS card_number_ranges (
+  bin CHAR(6) NOT NULL PRIMARY KEY,
+  scramble_key BIGINT NOT NULL,
+  next_block BIGINT NOT NULL DEFAULT 0
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 2) 블록 예약 이력 (어느 노드가 어떤 블록을 가져갔는지)
+CREATE TABLE IF NOT EXISTS card_number_blocks (
+  bin CHAR(6) NOT NULL,
+  block_no BIGINT NOT NULL,
+  node_id VARCHAR(100) NOT NULL,
+  reserved_at DATETIME NOT NULL,
+  PRIMARY KEY (bin, block_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+-- 3) 카드번호 UNIQUE 제약 (기존 데이터에 중복이 있으면 건너뛰고 수동 정리 후 재적용)
+SET @add_cards_pan_uk = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'cards'
+              AND index_name = 'uk_cards_masked_pan'
+        )
+        OR EXISTS(
+            SELECT 1 FROM cards GROUP BY masked_pan HAVING COUNT(*) > 1
+        ),
+        'SELECT 1',
+        'ALTER TABLE cards ADD UNIQUE KEY uk_cards_masked_pan (masked_pan)'
+    )
+);
+PREPARE stmt FROM @add_cards_pan_uk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
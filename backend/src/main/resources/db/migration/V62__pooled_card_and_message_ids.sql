@@ -0,0 +1,9 @@
+-- [V62] 카드 신청 일괄 심사 지원
+-- cards / messages ID를 IDENTITY 대신 테이블 기반 pooled ID로 할당 (Hibernate JDBC 배치 INSERT 가능)
+-- 기존 최대 ID 이후 블록부터 할당되도록 할당 크기(1000)만큼 여유를 두고 시작값을 설정
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'cards', COALESCE(MAX(id), 0) + 1001 FROM cards;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'messages', COALESCE(MAX(id), 0) + 1001 FROM messages;
+
@@ -0,0 +1,19 @@
+-- [V63] 포인트 내역 키셋 페이징 인덱스
+-- /points/ledger는 (user_id = ? AND id < cursor) ORDER BY id DESC로 읽는다.
+-- 기존 idx_point_ledger_user_time(user_id, created_at)은 id 순서를 보장하지 않아 정렬이 필요하므로 (user_id, id)를 둔다.
+SET @add_point_ledger_user_id_idx = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'point_ledger'
+              AND index_name = 'idx_point_ledger_user_id'
+        ),
+        'SELECT 1',
+        'ALTER TABLE point_ledger ADD KEY idx_point_ledger_user_id (user_id, id)'
+    )
+);
+PREPARE stmt FROM @add_point_ledger_user_id_idx;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
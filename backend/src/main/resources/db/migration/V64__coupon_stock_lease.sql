@@ -0,0 +1,25 @@
+-- [V64] 한정 수량 쿠폰 노드별 재고 임대
+-- 각 API 노드는 stock_leased를 원자적으로 늘려 받은 수량 안에서만 메모리 카운터로 판매한다.
+-- 모든 노드의 임대 합계가 stock_limit을 넘지 않으므로 노드 수와 무관하게 한정 수량이 지켜진다.
+SET @add_coupon_stock_leased = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'coupon_catalog'
+              AND column_name = 'stock_leased'
+        ),
+        'SELECT 1',
+        'ALTER TABLE coupon_catalog ADD COLUMN stock_leased BIGINT NOT NULL DEFAULT 0 AFTER sold_count'
+    )
+);
+PREPARE stmt FROM @add_coupon_stock_leased;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 이미 팔린 수량은 임대된 것으로 본다 (정산분 + 미정산 저널)
+UPDATE coupon_catalog c
+SET c.stock_leased = c.sold_count + COALESCE(
+        (SELECT SUM(j.quantity) FROM coupon_stock_journal j WHERE j.coupon_id = c.id), 0)
+WHERE c.stock_limit IS NOT NULL;
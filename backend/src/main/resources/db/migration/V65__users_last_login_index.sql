@@ -0,0 +1,23 @@
+-- [V65] 마지막 로그인 기간 필터 인덱스 정정
+-- V52의 (last_login_at, id)는 last_login_at 범위 조건 뒤에서 id 순서를 보장하지 못한다.
+-- (범위 안에서는 last_login_at 순으로 정렬되므로 ORDER BY id DESC 키셋은 인덱스 순서로 읽을 수 없다)
+-- 이 인덱스의 역할은 기간 필터로 읽을 행을 줄이는 것뿐이고, InnoDB 보조 인덱스에는 PK(id)가 이미 붙으므로
+-- 뒤의 id 컬럼은 의미가 없다. 이름과 정의를 실제 용도에 맞춘다.
+-- 기간 필터 조회는 옵티마이저가 (1) 이 인덱스로 범위를 읽고 id 정렬(filesort), 또는 (2) PK 역순으로 읽으며 기간을 거르는
+-- 두 계획 중 고른다. 정렬까지 인덱스로 해결되는 것은 상태 필터 (status, id)뿐이다.
+SET @fix_idx_users_last_login = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE()
+              AND table_name = 'users'
+              AND index_name = 'idx_users_last_login_id'
+        ),
+        'ALTER TABLE users DROP INDEX idx_users_last_login_id, ADD INDEX idx_users_last_login_at (last_login_at), ALGORITHM=INPLACE, LOCK=NONE',
+        'SELECT 1'
+    )
+);
+PREPARE stmt FROM @fix_idx_users_last_login;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
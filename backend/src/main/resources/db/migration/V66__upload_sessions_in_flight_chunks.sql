@@ -0,0 +1,20 @@
+-- [V66] 분할 업로드 청크 쓰기 선점
+-- 청크를 쓰기 전에 세션 행 잠금 안에서 in_flight_chunks 비트를 세우고, 기록(또는 실패) 후 지운다.
+-- 같은 청크를 두 요청이 동시에 쓰지 않으며, 전송 중인 청크가 있으면 확정(임시 파일 -> blob 이동)을 거절한다.
+-- in_flight_since(마지막 선점 시각)가 쓰기 제한 시간보다 오래되면 남은 비트는 중단된 요청의 것으로 보고 무시한다.
+SET @add_upload_in_flight = (
+    SELECT IF(
+        EXISTS(
+            SELECT 1
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE()
+              AND table_name = 'upload_sessions'
+              AND column_name = 'in_flight_chunks'
+        ),
+        'SELECT 1',
+        'ALTER TABLE upload_sessions ADD COLUMN in_flight_chunks VARBINARY(1024) NULL AFTER received_count, ADD COLUMN in_flight_since DATETIME NULL AFTER in_flight_chunks'
+    )
+);
+PREPARE stmt FROM @add_upload_in_flight;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
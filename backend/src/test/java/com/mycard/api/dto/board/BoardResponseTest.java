@@ -14,13 +14,12 @@ class BoardResponseTest {
                 .title("<script>alert(1)</script>")
                 .content("<img src=x onerror=alert(1)>content")
                 .authorName("<b>admin</b>")
-                .allowedUsers("<i>user</i>")
                 .answer("<svg onload=alert(1)>answer</svg>")
                 .answerAuthorName("<u>operator</u>")
                 .isPrivate(false)
                 .build();
 
-        BoardResponse response = BoardResponse.from(board);
+        BoardResponse response = BoardResponse.from(board, "<i>user</i>");
 
         assertThat(response.getTitle()).isEqualTo("&lt;script&gt;alert(1)&lt;/script&gt;");
         assertThat(response.getContent()).isEqualTo("&lt;img src=x onerror=alert(1)&gt;content");
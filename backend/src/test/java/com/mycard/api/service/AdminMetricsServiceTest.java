@@ -0,0 +1,68 @@
+package com.mycard.api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdminMetricsServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AdminMetricsService adminMetricsService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deltaIsAppliedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        adminMetricsService.adjust(AdminMetricsService.Metric.OPEN_INQUIRIES, 1);
+        adminMetricsService.transition(AdminMetricsService.Metric.LOCKED_USERS, false, true);
+
+        assertThat(adminMetricsService.get(AdminMetricsService.Metric.OPEN_INQUIRIES)).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(adminMetricsService.get(AdminMetricsService.Metric.OPEN_INQUIRIES)).isEqualTo(1);
+        assertThat(adminMetricsService.get(AdminMetricsService.Metric.LOCKED_USERS)).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackDeltaIsDiscarded() {
+        TransactionSynchronizationManager.initSynchronization();
+        adminMetricsService.adjust(AdminMetricsService.Metric.PENDING_DOCUMENTS, 3);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(adminMetricsService.get(AdminMetricsService.Metric.PENDING_DOCUMENTS)).isZero();
+    }
+
+    @Test
+    void flushAddsLocalDeltaToSnapshotTable() {
+        adminMetricsService.adjust(AdminMetricsService.Metric.UNREAD_MESSAGES, 5);
+        adminMetricsService.adjust(AdminMetricsService.Metric.UNREAD_MESSAGES, -2);
+
+        adminMetricsService.flush();
+
+        verify(jdbcTemplate).update(
+                "UPDATE admin_metric_snapshots SET metric_value = metric_value + ? WHERE metric_key = ?",
+                3L, "UNREAD_MESSAGES");
+    }
+}
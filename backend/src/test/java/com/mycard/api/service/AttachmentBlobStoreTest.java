@@ -0,0 +1,74 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.Attachment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AttachmentBlobStoreTest {
+
+    @TempDir
+    Path blobDir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private AttachmentBlobStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new AttachmentBlobStore(jdbcTemplate, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+                blobDir.toString(), 60);
+    }
+
+    @Test
+    void identicalUploadsShareOneFanOutBlob() throws Exception {
+        byte[] scan = "신분증 스캔".getBytes(StandardCharsets.UTF_8);
+        // 첫 업로드는 INSERT(1), 두 번째는 ON DUPLICATE KEY UPDATE(2)
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1, 2);
+
+        AttachmentBlobStore.StoredBlob first = store.store(new MockMultipartFile("file", "id.png", "image/png", scan));
+        AttachmentBlobStore.StoredBlob second = store.store(new MockMultipartFile("file", "id-again.png", "image/png", scan));
+
+        assertThat(second.sha256()).isEqualTo(first.sha256());
+        assertThat(first.deduplicated()).isFalse();
+        assertThat(second.deduplicated()).isTrue();
+        assertThat(first.path()).isEqualTo(blobDir.resolve(first.sha256().substring(0, 2))
+                .resolve(first.sha256().substring(2, 4)).resolve(first.sha256()));
+        assertThat(Files.readAllBytes(first.path())).isEqualTo(scan);
+        try (var temps = Files.list(blobDir.resolve("tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+        assertThat(store.dedupeRatio()).isEqualTo(2.0);
+    }
+
+    @Test
+    void discardingBlobAttachmentOnlyReleasesReference() throws Exception {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+        AttachmentBlobStore.StoredBlob blob = store.store(
+                new MockMultipartFile("file", "income.pdf", "application/pdf", new byte[]{1, 2, 3}));
+        Attachment attachment = blob.toAttachment(null, "income.pdf", "application/pdf");
+
+        store.discard(attachment);
+
+        assertThat(store.isBlob(attachment)).isTrue();
+        assertThat(Files.exists(blob.path())).isTrue();
+        verify(jdbcTemplate).update(
+                eq("UPDATE file_blobs SET ref_count = ref_count - 1 WHERE sha256 = ? AND ref_count > 0"),
+                eq(blob.sha256()));
+    }
+}
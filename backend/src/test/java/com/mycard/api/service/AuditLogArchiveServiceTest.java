@@ -0,0 +1,112 @@
+package com.mycard.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycard.api.entity.AuditLogArchiveSegment;
+import com.mycard.api.repository.AuditLogArchiveSegmentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditLogArchiveServiceTest {
+
+    @TempDir
+    Path archiveDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final AuditLogArchiveSegmentRepository segmentRepository = mock(AuditLogArchiveSegmentRepository.class);
+    private AuditLogArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AuditLogArchiveService(mock(JdbcTemplate.class), objectMapper, segmentRepository,
+                mock(AuditLogPartitionService.class), archiveDir.toString(), 12, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void scanSkipsSegmentsOutsideMinMaxAndMergesNewestFirst() throws Exception {
+        AuditLogArchiveSegment january = segment(YearMonth.of(2025, 1), List.of(
+                entry(1L, 7L, "User", LocalDateTime.of(2025, 1, 3, 9, 0)),
+                entry(2L, 8L, "User", LocalDateTime.of(2025, 1, 5, 9, 0)),
+                entry(3L, 7L, "Card", LocalDateTime.of(2025, 1, 9, 9, 0))));
+        AuditLogArchiveSegment february = segment(YearMonth.of(2025, 2), List.of(
+                entry(4L, 7L, "User", LocalDateTime.of(2025, 2, 1, 9, 0))));
+        AuditLogArchiveSegment march = segment(YearMonth.of(2025, 3), List.of(
+                entry(5L, 90L, "User", LocalDateTime.of(2025, 3, 1, 9, 0))));
+        when(segmentRepository.findByStatusInOrderByPeriodStartDesc(any())).thenReturn(List.of(march, february, january));
+
+        AuditLogArchiveService.ScanResult result = service.scan(
+                new AuditLogArchiveService.ArchiveQuery(7L, "User", null, null, null, null, 10));
+
+        assertThat(result.skippedSegments()).isEqualTo(1);
+        assertThat(result.scannedSegments()).isEqualTo(2);
+        assertThat(result.content()).extracting(AuditLogArchiveService.ArchivedAuditEntry::id).containsExactly(4L, 1L);
+        assertThat(result.corruptSegments()).isEmpty();
+    }
+
+    @Test
+    void segmentWithMismatchedChecksumIsReportedAndExcluded() throws Exception {
+        AuditLogArchiveSegment segment = segment(YearMonth.of(2025, 1), List.of(
+                entry(1L, 7L, "User", LocalDateTime.of(2025, 1, 3, 9, 0))));
+        segment.setSha256("0".repeat(64));
+        when(segmentRepository.findByStatusInOrderByPeriodStartDesc(any())).thenReturn(List.of(segment));
+
+        AuditLogArchiveService.ScanResult result = service.scan(
+                new AuditLogArchiveService.ArchiveQuery(null, null, null, null, null, null, 10));
+
+        assertThat(result.content()).isEmpty();
+        assertThat(result.corruptSegments()).containsExactly(YearMonth.of(2025, 1));
+    }
+
+    private AuditLogArchiveSegment segment(YearMonth month, List<AuditLogArchiveService.ArchivedAuditEntry> rows)
+            throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (AuditLogArchiveService.ArchivedAuditEntry row : rows) {
+                gzip.write(objectMapper.writeValueAsBytes(row));
+                gzip.write('\n');
+            }
+        }
+        AuditLogArchiveSegment segment = new AuditLogArchiveSegment(month, "audit-logs-" + month + ".ndjson.gz");
+        Path file = archiveDir.resolve("audit-logs").resolve(String.valueOf(month.getYear())).resolve(segment.getFileName());
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytes.toByteArray());
+
+        segment.setMinCreatedAt(rows.get(0).createdAt());
+        segment.setMaxCreatedAt(rows.get(rows.size() - 1).createdAt());
+        segment.setMinActorId(rows.stream().mapToLong(AuditLogArchiveService.ArchivedAuditEntry::actorId).min().orElseThrow());
+        segment.setMaxActorId(rows.stream().mapToLong(AuditLogArchiveService.ArchivedAuditEntry::actorId).max().orElseThrow());
+        segment.setMinTargetType(rows.stream().map(AuditLogArchiveService.ArchivedAuditEntry::targetType).sorted().findFirst().orElseThrow());
+        segment.setMaxTargetType(rows.stream().map(AuditLogArchiveService.ArchivedAuditEntry::targetType).sorted().reduce((a, b) -> b).orElseThrow());
+        segment.seal(rows.size(), bytes.size(),
+                HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes.toByteArray())));
+        return segment;
+    }
+
+    private static AuditLogArchiveService.ArchivedAuditEntry entry(Long id, Long actorId, String targetType, LocalDateTime at) {
+        return new AuditLogArchiveService.ArchivedAuditEntry(id, actorId, "USER", "UPDATE", targetType, id,
+                null, null, null, null, at);
+    }
+}
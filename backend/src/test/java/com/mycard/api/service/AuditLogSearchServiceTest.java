@@ -0,0 +1,58 @@
+package com.mycard.api.service;
+
+import com.mycard.api.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AuditLogSearchServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private final AuditLogSearchService service = new AuditLogSearchService(mock(JdbcTemplate.class));
+
+    @Test
+    void onlySuppliedFiltersBecomePredicates() {
+        AuditLogSearchService.Query query = service.plan(
+                new AuditLogSearchService.Criteria(7L, null, null, " ", null, null), NOW);
+
+        assertThat(query.index()).isEqualTo("idx_audit_actor_time");
+        assertThat(query.where()).isEqualTo(" WHERE actor_id = ? AND created_at >= ? AND created_at < ?");
+        assertThat(query.where()).doesNotContain("IS NULL");
+        assertThat(query.args()).containsExactly(7L, NOW.minusDays(90), NOW);
+    }
+
+    @Test
+    void fullTargetFilterUsesTargetIndex() {
+        AuditLogSearchService.Query query = service.plan(
+                new AuditLogSearchService.Criteria(7L, "CardApplication", 3L, "update", null, null), NOW);
+
+        assertThat(query.index()).isEqualTo("idx_audit_target_time");
+        assertThat(query.where()).startsWith(" WHERE target_type = ? AND target_id = ? AND actor_id = ? AND action = ?");
+        assertThat(query.args()).startsWith("CardApplication", 3L, 7L, "UPDATE");
+    }
+
+    @Test
+    void noFiltersScansTimeIndexWithinDefaultRange() {
+        AuditLogSearchService.Query query = service.plan(
+                new AuditLogSearchService.Criteria(null, null, null, null, null, null), NOW);
+
+        assertThat(query.index()).isEqualTo("idx_audit_time");
+        assertThat(query.where()).isEqualTo(" WHERE created_at >= ? AND created_at < ?");
+    }
+
+    @Test
+    void rejectsInvertedOrOversizedRange() {
+        assertThatThrownBy(() -> service.plan(
+                new AuditLogSearchService.Criteria(null, null, null, null, NOW, NOW.minusDays(1)), NOW))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> service.plan(
+                new AuditLogSearchService.Criteria(null, null, null, null, NOW.minusYears(3), NOW), NOW))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
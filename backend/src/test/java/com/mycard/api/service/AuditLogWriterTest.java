@@ -0,0 +1,171 @@
+package com.mycard.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditLogWriterTest {
+
+    @TempDir
+    Path spillDir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shutdownFlushesBufferedEntriesAsOneBatch() {
+        AuditLogWriter writer = writer(16, AuditLogWriter.Backpressure.SPILL);
+        for (int i = 0; i < 5; i++) {
+            writer.enqueue(entry(i));
+        }
+        assertThat(meterRegistry.get("audit.writer.queue.size").gauge().value()).isEqualTo(5);
+
+        writer.shutdown();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(5);
+        assertThat(writer.getQueueSize()).isZero();
+    }
+
+    @Test
+    void fullBufferSpillsToFileAndReplaysLater() throws Exception {
+        AuditLogWriter writer = writer(2, AuditLogWriter.Backpressure.SPILL);
+        for (int i = 0; i < 5; i++) {
+            writer.enqueue(entry(i));
+        }
+
+        Path spillFile = spillDir.resolve("audit-spill.ndjson");
+        assertThat(Files.readAllLines(spillFile)).hasSize(3);
+        assertThat(meterRegistry.get("audit.writer.spilled").counter().count()).isEqualTo(3);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+        writer.replaySpill();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        assertThat(spillFile).doesNotExist();
+    }
+
+    @Test
+    void failedBatchIsSpilledInsteadOfLost() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new CannotGetJdbcConnectionException("down"));
+        AuditLogWriter writer = writer(16, AuditLogWriter.Backpressure.BLOCK);
+        writer.enqueue(entry(1));
+        writer.enqueue(entry(2));
+
+        writer.shutdown();
+
+        assertThat(Files.readAllLines(spillDir.resolve("audit-spill.ndjson"))).hasSize(2);
+        assertThat(meterRegistry.get("audit.writer.failed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void poisonRowIsDeadLetteredWhileTheRestOfTheBatchIsWritten() throws Exception {
+        List<Object> writtenIds = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            if (rows.stream().anyMatch(row -> Long.valueOf(2L).equals(row[4]))) {
+                throw new DataIntegrityViolationException("Data too long for column 'diff_json'");
+            }
+            rows.forEach(row -> writtenIds.add(row[4]));
+            return new int[rows.size()];
+        });
+        AuditLogWriter writer = writer(16, AuditLogWriter.Backpressure.SPILL);
+        for (long i = 1; i <= 3; i++) {
+            writer.enqueue(entry(i));
+        }
+
+        writer.shutdown();
+
+        // 배치 실패 후 행 단위 재기록: 문제 행만 dead-letter, 나머지는 기록, 재기록 대상(적재 파일)에는 남지 않는다
+        assertThat(writtenIds).containsExactly(1L, 3L);
+        List<String> deadLetters = Files.readAllLines(spillDir.resolve("audit-dead-letter.ndjson"));
+        assertThat(deadLetters).hasSize(1);
+        assertThat(objectMapper.readValue(deadLetters.get(0), AuditLogWriter.Entry.class).targetId()).isEqualTo(2L);
+        assertThat(spillDir.resolve("audit-spill.ndjson")).doesNotExist();
+        assertThat(meterRegistry.get("audit.writer.dead_lettered").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void interruptedReplayResumesFromCheckpoint() throws Exception {
+        AuditLogWriter writer = new AuditLogWriter(jdbcTemplate, objectMapper, meterRegistry, 16, 2, 50,
+                AuditLogWriter.Backpressure.SPILL, 10, spillDir.toString(), 0);
+        List<String> lines = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            lines.add(objectMapper.writeValueAsString(entry(i)));
+        }
+        Files.write(spillDir.resolve("audit-spill.ndjson"), lines);
+
+        // 첫 배치(1, 2)는 기록되고 두 번째 배치에서 DB가 끊긴다
+        List<Object> writtenIds = new ArrayList<>();
+        boolean[] down = {false};
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            if (down[0]) {
+                throw new CannotGetJdbcConnectionException("down");
+            }
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> writtenIds.add(row[4]));
+            down[0] = true;
+            return new int[rows.size()];
+        });
+        writer.replaySpill();
+
+        assertThat(writtenIds).containsExactly(1L, 2L);
+        assertThat(Files.readString(spillDir.resolve("audit-spill.ndjson.replaying.offset"))).isEqualTo("4");
+        assertThat(Files.readAllLines(spillDir.resolve("audit-spill.ndjson"))).hasSize(2);
+
+        // 복구 후: 남은 5번 행, 그 다음 주기에 다시 적재된 3, 4번 행 - 이미 기록된 행은 다시 기록하지 않는다
+        down[0] = false;
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> rows = invocation.getArgument(1);
+            rows.forEach(row -> writtenIds.add(row[4]));
+            return new int[rows.size()];
+        });
+        writer.replaySpill();
+        writer.replaySpill();
+
+        assertThat(writtenIds).containsExactly(1L, 2L, 5L, 3L, 4L);
+        assertThat(spillDir.resolve("audit-spill.ndjson.replaying")).doesNotExist();
+        assertThat(spillDir.resolve("audit-spill.ndjson.replaying.offset")).doesNotExist();
+        assertThat(spillDir.resolve("audit-spill.ndjson")).doesNotExist();
+    }
+
+    private AuditLogWriter writer(int capacity, AuditLogWriter.Backpressure backpressure) {
+        // start()를 호출하지 않아 버퍼가 소비되지 않는 상태로 검증한다
+        return new AuditLogWriter(jdbcTemplate, objectMapper, meterRegistry, capacity, 100, 50,
+                backpressure, 10, spillDir.toString(), 0);
+    }
+
+    private AuditLogWriter.Entry entry(long targetId) {
+        return new AuditLogWriter.Entry(1L, "ROLE_USER", "UPDATE", "Point", targetId,
+                null, "req-" + targetId, "127.0.0.1", "JUnit", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,141 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.BankAccountTransaction;
+import com.mycard.api.entity.User;
+import com.mycard.api.entity.UserBankAccount;
+import com.mycard.api.repository.BankAccountBalanceCheckpointRepository;
+import com.mycard.api.repository.BankAccountTransactionRepository;
+import com.mycard.api.repository.UserBankAccountRepository;
+import com.mycard.api.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 계좌에 여러 스레드가 동시에 입금해도 잔액 갱신이 유실되지 않고 seq가 빈틈없이 발급되는지 확인한다.
+ * 기본 test 작업은 8스레드 x 25건으로 확인하고, 1,600건 동시 입금은 ./gradlew benchmark로 실행한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:bank-ledger;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "app.bank.ledger.checkpoint-interval=50"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(BankAccountLedgerService.class)
+class BankAccountLedgerConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BankAccountLedgerConcurrencyTest.class);
+
+    @Autowired
+    private BankAccountLedgerService ledgerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserBankAccountRepository accountRepository;
+
+    @Autowired
+    private BankAccountTransactionRepository transactionRepository;
+
+    @Autowired
+    private BankAccountBalanceCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentDepositsDoNotLoseUpdates() throws Exception {
+        runConcurrentDeposits(8, 25);
+    }
+
+    @Tag("benchmark")
+    @Test
+    void concurrentDepositsDoNotLoseUpdatesAtScale() throws Exception {
+        runConcurrentDeposits(16, 100);
+    }
+
+    private void runConcurrentDeposits(int threads, int depositsPerThread) throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Long accountId = tx.execute(status -> {
+            String email = "ledger-" + threads + "x" + depositsPerThread + "@mycard.local";
+            User user = userRepository.save(new User(email, "hash", "원장"));
+            return accountRepository.save(new UserBankAccount(user, "004", "KB국민", "12345678901234", "원장")).getId();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        long started = System.nanoTime();
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < depositsPerThread; i++) {
+                        tx.executeWithoutResult(status -> {
+                            // 각 트랜잭션이 잠그지 않은 엔티티를 읽는다 (기존 lost update 재현 조건)
+                            UserBankAccount account = accountRepository.findById(accountId).orElseThrow();
+                            ledgerService.deposit(account, null, BigDecimal.ONE, "동시 입금");
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        int total = threads * depositsPerThread;
+        log.info("[bank-ledger] threads={} deposits={} elapsed={}ms", threads, total, elapsedMillis);
+
+        UserBankAccount account = accountRepository.findById(accountId).orElseThrow();
+        assertThat(account.getCurrentBalance()).isEqualByComparingTo(BigDecimal.valueOf(total));
+        assertThat(account.getLastSeq()).isEqualTo(total);
+
+        List<Long> seqs = transactionRepository.findAll().stream()
+                .filter(transaction -> transaction.getBankAccount().getId().equals(accountId))
+                .map(BankAccountTransaction::getSeq)
+                .sorted()
+                .toList();
+        assertThat(seqs).hasSize(total);
+        for (int i = 0; i < total; i++) {
+            assertThat(seqs.get(i)).isEqualTo(i + 1L);
+        }
+        assertThat(checkpointRepository.findAll().stream()
+                .filter(checkpoint -> checkpoint.getBankAccountId().equals(accountId)))
+                .hasSize(total / 50);
+        assertThat(ledgerService.getBalanceAt(accountId, LocalDateTime.now().plusSeconds(1)))
+                .isEqualByComparingTo(BigDecimal.valueOf(total));
+    }
+}
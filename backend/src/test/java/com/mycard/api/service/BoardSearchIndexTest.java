@@ -0,0 +1,58 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BoardSearchIndexTest {
+
+    private final BoardSearchIndex index = new BoardSearchIndex(mock(JdbcTemplate.class));
+
+    @BeforeEach
+    void setUp() {
+        // 빈 테이블 스캔으로 초기 구축
+        index.warmUp();
+    }
+
+    @Test
+    void ranksTitleMatchesAboveContentAndRequiresContiguousTerm() {
+        index.put(board(1L, "카드 발급 문의", "발급이 늦어요", false), Set.of());
+        index.put(board(2L, "배송 문의", "카드 발급 기간이 궁금합니다", false), Set.of());
+        index.put(board(3L, "급발진", "카드발", false), Set.of());
+
+        BoardSearchIndex.SearchResult result = index.search("카드 발급", null, doc -> true, 0, 10);
+
+        assertThat(result.ids()).containsExactly(1L, 2L);
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    void appliesVisibilityBeforePagingAndReflectsUpdatesAndDeletes() {
+        index.put(board(1L, "공개 문의", "내용", false), Set.of());
+        index.put(board(2L, "비공개 문의", "내용", true), Set.of(7L));
+        index.put(board(3L, "다른 문의", "내용", false), Set.of());
+
+        BoardSearchIndex.SearchResult page = index.search("문의", null, doc -> !doc.isPrivate(), 0, 1);
+        assertThat(page.ids()).containsExactly(3L);
+        assertThat(page.total()).isEqualTo(2);
+        assertThat(index.search("비공개", null, doc -> doc.allowedUserIds().contains(7L), 0, 10).ids())
+                .containsExactly(2L);
+
+        index.put(board(3L, "제목 변경", "내용", false), Set.of());
+        index.remove(1L);
+
+        assertThat(index.search("문의", null, doc -> true, 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("변경", null, doc -> true, 0, 10).ids()).containsExactly(3L);
+    }
+
+    private static Board board(Long id, String title, String content, boolean isPrivate) {
+        return Board.builder().id(id).title(title).content(content).authorName("홍길동")
+                .category("사이트 문의").isPrivate(isPrivate).build();
+    }
+}
@@ -3,14 +3,22 @@ package com.mycard.api.service;
 import com.mycard.api.dto.board.BoardRequest;
 import com.mycard.api.dto.board.BoardResponse;
 import com.mycard.api.entity.Board;
+import com.mycard.api.entity.BoardAcl;
 import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.repository.BoardAclRepository;
 import com.mycard.api.repository.BoardRepository;
+import com.mycard.api.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -26,16 +34,29 @@ class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private BoardAclRepository boardAclRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BoardSearchIndex boardSearchIndex;
+
     @InjectMocks
     private BoardService boardService;
 
     @Test
-    void findAllAllowsSpecialCharactersInKeywordWhenUsingBoundParameters() {
-        when(boardRepository.searchPublic(any(), any())).thenReturn(java.util.List.of());
+    void findAllPassesRawKeywordToIndexAndLoadsOnlyPageIds() {
+        Board board = Board.builder().id(3L).title("제목").content("내용").authorName("홍길동").build();
+        when(boardSearchIndex.search(eq("' OR 1=1 # )"), eq(null), any(), eq(0L), eq(20)))
+                .thenReturn(new BoardSearchIndex.SearchResult(List.of(3L), 1));
+        when(boardRepository.findAllById(List.of(3L))).thenReturn(List.of(board));
 
-        assertThat(boardService.findAll("' OR 1=1 # )", "전체", null)).isEmpty();
+        Page<BoardResponse> page = boardService.findAll("' OR 1=1 # )", "전체", null, PageRequest.of(0, 20));
 
-        verify(boardRepository).searchPublic(eq("' OR 1=1 # )"), eq(null));
+        assertThat(page.getContent()).extracting(BoardResponse::getId).containsExactly(3L);
+        assertThat(page.getTotalElements()).isEqualTo(1);
     }
 
     @Test
@@ -48,6 +69,7 @@ class BoardServiceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void createUsesValidatedValuesAndRepositorySave() {
         BoardRequest request = BoardRequest.builder()
                 .title("  문의 제목  ")
@@ -57,6 +79,8 @@ class BoardServiceTest {
                 .isPrivate(true)
                 .build();
 
+        when(userRepository.findIdAndNameByFullNameIn(List.of("김철수", "이영희"))).thenReturn(List.of(
+                new Object[]{11L, "김철수"}, new Object[]{12L, "이영희"}, new Object[]{13L, "김철수"}));
         when(boardRepository.save(any(Board.class))).thenAnswer(invocation -> {
             Board board = invocation.getArgument(0);
             board.setId(1L);
@@ -69,13 +93,36 @@ class BoardServiceTest {
         verify(boardRepository).save(boardCaptor.capture());
 
         Board savedBoard = boardCaptor.getValue();
+        verify(boardSearchIndex).put(savedBoard, Set.of(11L, 12L, 13L));
+        ArgumentCaptor<List<BoardAcl>> aclCaptor = ArgumentCaptor.forClass(List.class);
+        verify(boardAclRepository).saveAll(aclCaptor.capture());
+        assertThat(aclCaptor.getValue()).extracting(BoardAcl::getBoardId).containsOnly(1L);
+        assertThat(aclCaptor.getValue()).extracting(BoardAcl::getUserId).containsExactlyInAnyOrder(11L, 12L, 13L);
         assertThat(savedBoard.getTitle()).isEqualTo("문의 제목");
         assertThat(savedBoard.getContent()).isEqualTo("문의 내용");
         assertThat(savedBoard.getCategory()).isEqualTo("사이트 문의");
-        assertThat(savedBoard.getAllowedUsers()).isEqualTo("김철수,이영희");
         assertThat(savedBoard.isPrivate()).isTrue();
 
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getAuthorName()).isEqualTo("홍길동");
     }
+
+    @Test
+    void createRejectsUnknownAllowedUser() {
+        BoardRequest request = BoardRequest.builder()
+                .title("문의 제목")
+                .content("문의 내용")
+                .category("사이트 문의")
+                .allowedUsers("김철수,없는사람")
+                .isPrivate(true)
+                .build();
+        when(userRepository.findIdAndNameByFullNameIn(List.of("김철수", "없는사람")))
+                .thenReturn(List.<Object[]>of(new Object[]{11L, "김철수"}));
+
+        assertThatThrownBy(() -> boardService.create(request, "홍길동"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("없는사람");
+
+        verifyNoInteractions(boardRepository, boardAclRepository, boardSearchIndex);
+    }
 }
@@ -0,0 +1,40 @@
+package com.mycard.api.service;
+
+import com.mycard.api.dto.CardApplicationBulkDecisionRequest;
+import com.mycard.api.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CardApplicationBulkDecisionServiceTest {
+
+    private final CardApplicationService cardApplicationService = mock(CardApplicationService.class);
+    private final CardApplicationBulkDecisionService service =
+            new CardApplicationBulkDecisionService(cardApplicationService, 200, 1, 10000, 60);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void onlySubmittingAdminCanReadJob() {
+        when(cardApplicationService.decideChunk(anyList(), any(), anyLong(), any(), any())).thenReturn(List.of());
+        CardApplicationBulkDecisionService.JobSnapshot job = service.submit(1L, new CardApplicationBulkDecisionRequest(
+                "START_REVIEW", List.of(10L, 11L), null, null, null));
+
+        assertThat(service.get(1L, job.jobId(), false).total()).isEqualTo(2);
+        // 다른 관리자에게는 작업 ID를 알아도 진행 상황/신청별 결과가 보이지 않는다
+        assertThatThrownBy(() -> service.get(2L, job.jobId(), true))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,191 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.Card;
+import com.mycard.api.entity.CardApplication;
+import com.mycard.api.entity.Document;
+import com.mycard.api.entity.Message;
+import com.mycard.api.entity.User;
+import com.mycard.api.repository.AttachmentRepository;
+import com.mycard.api.repository.BroadcastMessageRepository;
+import com.mycard.api.repository.CardApplicationRepository;
+import com.mycard.api.repository.CardRepository;
+import com.mycard.api.repository.DocumentRepository;
+import com.mycard.api.repository.MessageRepository;
+import com.mycard.api.repository.UserMessageCounterRepository;
+import com.mycard.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 일괄 심사 청크 하나의 문장 수가 청크 크기와 무관한지(카드/메시지 배치 INSERT, 서류 집합 UPDATE) 고정한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:card-application-bulk;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CardApplicationBulkDecisionTest {
+
+    @Autowired
+    private CardApplicationRepository cardApplicationRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private UserMessageCounterRepository userMessageCounterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CardApplicationService cardApplicationService;
+    private User reviewer;
+    private final List<Long> applicationIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS card_number_ranges (bin CHAR(6) PRIMARY KEY, scramble_key BIGINT NOT NULL, next_block BIGINT NOT NULL)");
+        // 운영 스키마(V50)처럼 updated_at 기본값을 둔다 (ddl-auto 스키마에는 없음)
+        jdbcTemplate.execute("ALTER TABLE user_message_counters ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS card_number_blocks (bin CHAR(6), block_no BIGINT, node_id VARCHAR(100), reserved_at TIMESTAMP, PRIMARY KEY (bin, block_no))");
+
+        AdminMetricsService adminMetricsService = mock(AdminMetricsService.class);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        MessageService messageService = new MessageService(messageRepository, mock(BroadcastMessageRepository.class),
+                userRepository, cardRepository, cardApplicationRepository, userMessageCounterRepository,
+                eventPublisher, adminMetricsService, jdbcTemplate);
+        CardNumberAllocator allocator = new CardNumberAllocator(jdbcTemplate, transactionManager, 1000, "test",
+                "453210", "542591", "941000");
+        cardApplicationService = new CardApplicationService(cardApplicationRepository, cardRepository, userRepository,
+                null, documentRepository, attachmentRepository, messageService, null, null, null,
+                eventPublisher, adminMetricsService, allocator);
+
+        reviewer = userRepository.save(new User("reviewer@mycard.local", "hash", "심사자"));
+        for (int i = 0; i < 40; i++) {
+            User applicant = userRepository.save(new User("applicant" + i + "@mycard.local", "hash", "신청자" + i));
+            CardApplication application = new CardApplication();
+            application.setUser(applicant);
+            application.setFullName("신청자" + i);
+            application.setSsn("900101-1234567");
+            application.setPhone("010-1234-5678");
+            application.setEmail(applicant.getEmail());
+            application.setAddress("서울시 중구");
+            application.setEmploymentType(CardApplication.EmploymentType.EMPLOYED);
+            application.setAnnualIncome("5000");
+            application.setCardType(i % 2 == 0 ? "VISA" : "MASTERCARD");
+            application.setCardProduct("플래티넘");
+            application.setRequestedCreditLimit(BigDecimal.valueOf(300 + i));
+            entityManager.persist(application);
+            applicationIds.add(application.getId());
+
+            Document document = new Document(applicant, Document.DocumentType.INCOME_PROOF, "소득 증빙");
+            document.setCardApplication(application);
+            entityManager.persist(document);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void approveChunksRunTheSameStatementsRegardlessOfSize() {
+        // ID 블록(카드/메시지)과 카드번호 블록을 먼저 예약해 둔다
+        List<CardApplicationService.BulkItemResult> warmUp = approve(applicationIds.subList(0, 5)).results;
+        assertThat(warmUp).allMatch(CardApplicationService.BulkItemResult::success);
+
+        Counted small = approve(applicationIds.subList(5, 15));
+        Counted large = approve(applicationIds.subList(15, 40));
+        assertThat(large.statements).isEqualTo(small.statements);
+
+        entityManager.clear();
+        List<CardApplication> approved = cardApplicationRepository.findAllById(applicationIds);
+        assertThat(approved).allSatisfy(application -> {
+            assertThat(application.getStatus()).isEqualTo(CardApplication.ApplicationStatus.APPROVED);
+            assertThat(application.getApprovedCreditLimit()).isEqualTo(application.getRequestedCreditLimit());
+            assertThat(application.getIssuedCard()).isNotNull();
+        });
+        List<Card> cards = cardRepository.findAll();
+        assertThat(cards).hasSize(40);
+        assertThat(cards).extracting(Card::getCardNumber).doesNotHaveDuplicates();
+        assertThat(documentRepository.findAll()).extracting(Document::getStatus)
+                .containsOnly(Document.DocumentStatus.APPROVED);
+        assertThat(messageRepository.findAll()).hasSize(40)
+                .extracting(Message::getTitle).containsOnly("카드 신청이 승인되었습니다.");
+        Long anyApplicant = approved.get(0).getUser().getId();
+        assertThat(userMessageCounterRepository.findUnreadCount(anyApplicant)).contains(1L);
+
+        // 이미 처리된 신청과 없는 신청은 항목 결과로 실패를 돌려준다
+        List<CardApplicationService.BulkItemResult> again = cardApplicationService.decideChunk(
+                List.of(applicationIds.get(0), -1L), CardApplicationService.BulkDecision.REJECT, reviewer.getId(), null, "중복");
+        assertThat(again).extracting(CardApplicationService.BulkItemResult::success).containsOnly(false);
+        assertThat(again).extracting(CardApplicationService.BulkItemResult::error)
+                .containsExactly("대기중 또는 심사중 상태의 신청만 거절할 수 있습니다.", "신청 정보를 찾을 수 없습니다.");
+    }
+
+    private Counted approve(List<Long> ids) {
+        return count(() -> cardApplicationService.decideChunk(ids, CardApplicationService.BulkDecision.APPROVE,
+                reviewer.getId(), null, null));
+    }
+
+    private Counted count(Supplier<List<CardApplicationService.BulkItemResult>> chunk) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+
+        List<CardApplicationService.BulkItemResult> results = chunk.get();
+        entityManager.flush();
+
+        assertThat(results).allMatch(CardApplicationService.BulkItemResult::success);
+        return new Counted(results, statistics.getPrepareStatementCount());
+    }
+
+    private record Counted(List<CardApplicationService.BulkItemResult> results, long statements) {
+    }
+}
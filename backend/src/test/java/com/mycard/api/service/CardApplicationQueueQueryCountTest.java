@@ -0,0 +1,155 @@
+package com.mycard.api.service;
+
+import com.mycard.api.dto.CardApplicationResponse;
+import com.mycard.api.entity.Attachment;
+import com.mycard.api.entity.CardApplication;
+import com.mycard.api.entity.Document;
+import com.mycard.api.entity.User;
+import com.mycard.api.repository.AttachmentRepository;
+import com.mycard.api.repository.CardApplicationRepository;
+import com.mycard.api.repository.DocumentRepository;
+import com.mycard.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카드 신청 심사 큐 한 페이지가 신청/서류/첨부 건수와 무관하게 고정된 횟수(목록 + 건수 + 서류 + 첨부)로 끝나고,
+ * 신청 엔티티(암호화 컬럼)를 로딩하지 않는지 고정한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:card-application-queue;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CardApplicationQueueQueryCountTest {
+
+    @Autowired
+    private CardApplicationRepository cardApplicationRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AttachmentRepository attachmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CardApplicationService cardApplicationService;
+
+    @BeforeEach
+    void setUp() {
+        cardApplicationService = new CardApplicationService(cardApplicationRepository, null, userRepository, null,
+                documentRepository, attachmentRepository, null, null, null, null, null, null, null);
+
+        User reviewer = userRepository.save(new User("reviewer@mycard.local", "hash", "심사자"));
+        for (int i = 0; i < 6; i++) {
+            User applicant = userRepository.save(new User("applicant" + i + "@mycard.local", "hash", "신청자" + i));
+            CardApplication application = application(applicant, i);
+            if (i % 3 == 2) {
+                application.setStatus(CardApplication.ApplicationStatus.REJECTED);
+                application.setReviewedBy(reviewer);
+            }
+            entityManager.persist(application);
+
+            // 신청마다 서류 수를 다르게 (0~2건, 서류당 첨부 2건)
+            for (int d = 0; d < i % 3; d++) {
+                Document document = new Document(applicant, Document.DocumentType.INCOME_PROOF, "증빙 " + d);
+                document.setCardApplication(application);
+                entityManager.persist(document);
+                for (int a = 0; a < 2; a++) {
+                    Attachment attachment = new Attachment(applicant, "proof-" + i + "-" + d + "-" + a + ".pdf",
+                            "stored-" + i + "-" + d + "-" + a, "blobs", "application/pdf", 10L);
+                    document.addAttachment(attachment);
+                    entityManager.persist(attachment);
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void everyQueuePageRunsConstantStatements() {
+        Page<CardApplicationResponse> first = countStatements(
+                () -> cardApplicationService.getAllApplications(PageRequest.of(0, 4)), 4);
+        assertThat(first.getTotalElements()).isEqualTo(6);
+        assertThat(first.getContent()).hasSize(4)
+                .allSatisfy(row -> {
+                    assertThat(row.getMaskedSsn()).isNull();
+                    assertThat(row.getAnnualIncome()).isNull();
+                    assertThat(row.getUserEmail()).isNotNull();
+                });
+        assertThat(first.getContent())
+                .flatExtracting(CardApplicationResponse::getEvidenceDocuments)
+                .allSatisfy(document -> assertThat(document.getFileName()).endsWith("-0.pdf"));
+
+        // 마지막 페이지는 Spring Data가 건수 조회를 생략한다
+        Page<CardApplicationResponse> second = countStatements(
+                () -> cardApplicationService.getAllApplications(PageRequest.of(1, 4)), 3);
+        assertThat(second.getContent()).hasSize(2);
+
+        Page<CardApplicationResponse> rejected = countStatements(
+                () -> cardApplicationService.getApplicationsByStatus("rejected", PageRequest.of(0, 1)), 4);
+        assertThat(rejected.getTotalElements()).isEqualTo(2);
+        assertThat(rejected.getContent()).hasSize(1)
+                .allSatisfy(row -> {
+                    assertThat(row.getReviewerName()).isEqualTo("심사자");
+                    assertThat(row.getEvidenceDocuments()).hasSize(2);
+                });
+    }
+
+    private <T> T countStatements(Supplier<T> query, long expected) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+
+        T result = query.get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        assertThat(statistics.getEntityStatistics(CardApplication.class.getName()).getLoadCount()).isZero();
+        return result;
+    }
+
+    private static CardApplication application(User applicant, int index) {
+        CardApplication application = new CardApplication();
+        application.setUser(applicant);
+        application.setFullName("신청자" + index);
+        application.setSsn("900101-1234567");
+        application.setPhone("010-1234-567" + index);
+        application.setEmail(applicant.getEmail());
+        application.setAddress("서울시 중구");
+        application.setEmploymentType(CardApplication.EmploymentType.EMPLOYED);
+        application.setAnnualIncome("5000");
+        application.setCardType("VISA");
+        application.setCardProduct("플래티넘");
+        application.setRequestedCreditLimit(BigDecimal.valueOf(500));
+        return application;
+    }
+}
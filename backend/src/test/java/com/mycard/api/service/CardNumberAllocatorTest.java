@@ -0,0 +1,137 @@
+package com.mycard.api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CardNumberAllocatorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:card-number;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("CREATE TABLE card_number_ranges (bin CHAR(6) PRIMARY KEY, scramble_key BIGINT NOT NULL, next_block BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE card_number_blocks (bin CHAR(6), block_no BIGINT, node_id VARCHAR(100), reserved_at TIMESTAMP, PRIMARY KEY (bin, block_no))");
+        jdbcTemplate.execute("CREATE TABLE cards (id BIGINT AUTO_INCREMENT PRIMARY KEY, masked_pan VARCHAR(25) NOT NULL UNIQUE)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void nodesHandOutUniqueLuhnValidNumbersFromDisjointBlocks() throws Exception {
+        CardNumberAllocator nodeA = allocator("node-a");
+        CardNumberAllocator nodeB = allocator("node-b");
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            CardNumberAllocator node = i % 2 == 0 ? nodeA : nodeB;
+            Callable<List<String>> task = () -> {
+                List<String> numbers = new ArrayList<>();
+                for (int n = 0; n < 250; n++) {
+                    numbers.addAll(node.next("VISA", 3));
+                }
+                return numbers;
+            };
+            futures.add(executor.submit(task));
+        }
+        Set<String> issued = new HashSet<>();
+        for (Future<List<String>> future : futures) {
+            for (String number : future.get()) {
+                assertThat(issued.add(number)).as("중복 번호 %s", number).isTrue();
+                assertThat(number).matches("4532-10\\d{2}-\\d{4}-\\d{4}");
+                assertThat(luhnValid(number)).isTrue();
+            }
+        }
+        executor.shutdown();
+        assertThat(issued).hasSize(6000);
+
+        // 블록 최고 수위만 기록되고, 블록마다 한 노드만 가진다
+        Long nextBlock = jdbcTemplate.queryForObject(
+                "SELECT next_block FROM card_number_ranges WHERE bin = '453210'", Long.class);
+        Integer blockRows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM card_number_blocks", Integer.class);
+        assertThat(blockRows).isEqualTo(nextBlock.intValue());
+        assertThat(nextBlock).isBetween(60L, 62L);
+
+        // 순번을 그대로 쓰지 않고 섞는다
+        List<String> first = allocator("node-c").next("MASTERCARD", 20);
+        assertThat(first).allMatch(number -> number.startsWith("5425-91"));
+        assertThat(first).doesNotHaveDuplicates()
+                .isNotEqualTo(first.stream().sorted().toList());
+    }
+
+    @Test
+    void skipsNumbersAlreadyIssuedBeforeTheAllocator() {
+        jdbcTemplate.update("INSERT INTO card_number_ranges (bin, scramble_key, next_block) VALUES ('941000', 7, 0)");
+        CardNumberAllocator.Permutation permutation = new CardNumberAllocator.Permutation(7);
+        String legacy = CardNumberAllocator.format("941000", permutation.apply(0));
+        jdbcTemplate.update("INSERT INTO cards (masked_pan) VALUES (?)", legacy);
+
+        List<String> numbers = allocator("node-a").next("LOCAL", 100);
+
+        assertThat(numbers).doesNotContain(legacy)
+                .contains(CardNumberAllocator.format("941000", permutation.apply(1)));
+        for (String number : numbers) {
+            jdbcTemplate.update("INSERT INTO cards (masked_pan) VALUES (?)", number);
+        }
+    }
+
+    @Test
+    void permutationIsABijectionOverASample() {
+        CardNumberAllocator.Permutation permutation = new CardNumberAllocator.Permutation(123456789L);
+        Set<Long> seen = new HashSet<>();
+        for (long sequence = 0; sequence < 200_000; sequence++) {
+            long account = permutation.apply(sequence);
+            assertThat(account).isBetween(0L, CardNumberAllocator.ACCOUNT_SPACE - 1);
+            assertThat(seen.add(account)).isTrue();
+        }
+        assertThat(CardNumberAllocator.luhnCheckDigit("453210123456789")).isEqualTo(
+                (10 - luhnSum("4532101234567890") % 10) % 10);
+    }
+
+    private CardNumberAllocator allocator(String nodeId) {
+        return new CardNumberAllocator(jdbcTemplate, transactionManager, 100, nodeId,
+                "453210", "542591", "941000");
+    }
+
+    private static boolean luhnValid(String number) {
+        return luhnSum(number.replace("-", "")) % 10 == 0;
+    }
+
+    private static int luhnSum(String digits) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int digit = digits.charAt(digits.length() - 1 - i) - '0';
+            if (i % 2 == 1) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+        }
+        return sum;
+    }
+}
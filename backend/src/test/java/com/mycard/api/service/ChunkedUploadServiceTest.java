@@ -0,0 +1,296 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.Attachment;
+import com.mycard.api.entity.Document;
+import com.mycard.api.entity.UploadSession;
+import com.mycard.api.entity.User;
+import com.mycard.api.exception.BadRequestException;
+import com.mycard.api.repository.AttachmentRepository;
+import com.mycard.api.repository.DocumentRepository;
+import com.mycard.api.repository.UploadSessionRepository;
+import com.mycard.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChunkedUploadServiceTest {
+
+    private static final int CHUNK_SIZE = 8;
+
+    @TempDir
+    Path blobDir;
+
+    private final UploadSessionRepository uploadSessionRepository = mock(UploadSessionRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final DocumentRepository documentRepository = mock(DocumentRepository.class);
+    private final AttachmentRepository attachmentRepository = mock(AttachmentRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private ChunkedUploadService service;
+    private UploadSession saved;
+
+    @BeforeEach
+    void setUp() {
+        UploadValidationService validation = new UploadValidationService();
+        ReflectionTestUtils.setField(validation, "allowedExtensions", "pdf,png");
+        ReflectionTestUtils.setField(validation, "maxFileSize", 10L);
+        ReflectionTestUtils.setField(validation, "maxChunkedFileSize", 1024L);
+
+        AttachmentBlobStore blobStore = new AttachmentBlobStore(jdbcTemplate, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), blobDir.toString(), 60);
+        service = new ChunkedUploadService(uploadSessionRepository, userRepository, documentRepository,
+                attachmentRepository, validation, blobStore, mock(AdminMetricsService.class),
+                new RowLockTransactionManager(), CHUNK_SIZE, 12, 600);
+
+        User user = new User("user7@mycard.local", "hash", "사용자");
+        ReflectionTestUtils.setField(user, "id", 7L);
+        when(userRepository.getReferenceById(7L)).thenReturn(user);
+        when(uploadSessionRepository.save(any(UploadSession.class))).thenAnswer(invocation -> {
+            saved = invocation.getArgument(0);
+            saved.setId(1L);
+            return saved;
+        });
+        when(uploadSessionRepository.findById(1L)).thenAnswer(invocation -> Optional.of(saved));
+        when(uploadSessionRepository.findByIdForUpdate(1L)).thenAnswer(invocation -> Optional.of(saved));
+        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+    }
+
+    @Test
+    void chunksArriveOutOfOrderAndCompleteIntoBlob() throws Exception {
+        byte[] content = "%PDF-1.7 chunked upload body".getBytes();
+        UploadSession session = service.create(7L, new ChunkedUploadService.CreateCommand(
+                "statement.pdf", "application/pdf", content.length, sha256(content), "income_proof"));
+        Path temp = Paths.get(session.getTempPath());
+        assertThat(session.getChunkCount()).isEqualTo(4);
+        assertThat(Files.size(temp)).isEqualTo(content.length);
+
+        for (int index : new int[]{3, 1, 0, 2}) {
+            send(index, chunk(content, index));
+        }
+        // 응답 유실 후 재전송은 무시된다
+        send(1, chunk(content, 1));
+
+        assertThat(saved.getReceivedIndexes()).containsExactly(0, 1, 2, 3);
+        Attachment attachment = service.complete(7L, 1L);
+
+        assertThat(attachment.getChecksum()).isEqualTo(sha256(content));
+        assertThat(Files.readAllBytes(Paths.get(attachment.getFilePath()))).isEqualTo(content);
+        assertThat(attachment.getDocument().getDocumentType()).isEqualTo(Document.DocumentType.INCOME_PROOF);
+        assertThat(saved.getStatus()).isEqualTo(UploadSession.SessionStatus.COMPLETED);
+        assertThat(temp).doesNotExist();
+    }
+
+    @Test
+    void failureAfterTempFileIsMovedAbortsSession() throws Exception {
+        byte[] content = "%PDF-1.7 chunked".getBytes();
+        UploadSession session = service.create(7L, new ChunkedUploadService.CreateCommand(
+                "statement.pdf", "application/pdf", content.length, null, null));
+        send(0, chunk(content, 0));
+        send(1, chunk(content, 1));
+        when(attachmentRepository.save(any(Attachment.class))).thenThrow(new IllegalStateException("insert failed"));
+
+        // 임시 파일은 이미 blob으로 옮겨져 재시도할 수 없으므로 UPLOADING에 남지 않고 닫힌다
+        assertThatThrownBy(() -> service.complete(7L, 1L))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("다시 업로드");
+        assertThat(Paths.get(session.getTempPath())).doesNotExist();
+        assertThat(saved.getStatus()).isEqualTo(UploadSession.SessionStatus.ABORTED);
+    }
+
+    @Test
+    void duplicateChunkInFlightBlocksSecondWriterAndCompletion() throws Exception {
+        byte[] content = "%PDF-1.7 chunked".getBytes();
+        UploadSession session = service.create(7L, new ChunkedUploadService.CreateCommand(
+                "statement.pdf", "application/pdf", content.length, sha256(content), null));
+        send(0, chunk(content, 0));
+
+        // 첫 요청은 청크 1을 선점하고 본문 중간에서 멈춘다
+        byte[] chunk = chunk(content, 1);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<UploadSession> slow = executor.submit(() -> service.writeChunk(7L, 1L, 1, chunk.length, sha256(chunk),
+                    new PausingInputStream(chunk, 4, reading, resume)));
+            assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 같은 청크의 재전송은 쓰지 않고 거절되며, 전송 중에는 확정(blob 이동)도 거절된다
+            byte[] garbage = "XXXXXXXX".getBytes();
+            assertThatThrownBy(() -> service.writeChunk(7L, 1L, 1, garbage.length, sha256(garbage),
+                    new ByteArrayInputStream(garbage)))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("전송 중");
+            assertThatThrownBy(() -> service.complete(7L, 1L))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining("전송 중인 청크");
+            assertThat(Paths.get(session.getTempPath())).exists();
+
+            resume.countDown();
+            slow.get(5, TimeUnit.SECONDS);
+        } finally {
+            resume.countDown();
+            executor.shutdownNow();
+        }
+
+        Attachment attachment = service.complete(7L, 1L);
+        assertThat(Files.readAllBytes(Paths.get(attachment.getFilePath()))).isEqualTo(content);
+        assertThat(saved.hasChunksInFlight(LocalDateTime.now().minusHours(1))).isFalse();
+    }
+
+    @Test
+    void staleClaimFromAbandonedRequestDoesNotBlockRetry() throws Exception {
+        byte[] content = "%PDF-1.7 chunked".getBytes();
+        service.create(7L, new ChunkedUploadService.CreateCommand(
+                "statement.pdf", "application/pdf", content.length, null, null));
+        // 프로세스가 죽어 풀리지 않은 선점
+        saved.claimChunk(1, LocalDateTime.now().minusHours(1), LocalDateTime.now().minusHours(2));
+
+        send(0, chunk(content, 0));
+        send(1, chunk(content, 1));
+
+        assertThat(saved.getReceivedIndexes()).containsExactly(0, 1);
+    }
+
+    @Test
+    void firstChunkNotMatchingExtensionSignatureAbortsSession() throws Exception {
+        byte[] content = "MZ\u0090\u0000 not really a pdf".getBytes();
+        UploadSession session = service.create(7L, new ChunkedUploadService.CreateCommand(
+                "statement.pdf", "application/pdf", content.length, null, null));
+
+        assertThatThrownBy(() -> send(0, chunk(content, 0)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("확장자");
+        assertThat(saved.getStatus()).isEqualTo(UploadSession.SessionStatus.ABORTED);
+        assertThat(Paths.get(session.getTempPath())).doesNotExist();
+    }
+
+    @Test
+    void chunkWithWrongChecksumIsNotRecorded() throws Exception {
+        byte[] content = "%PDF-1.7 chunked".getBytes();
+        service.create(7L, new ChunkedUploadService.CreateCommand(
+                "statement.pdf", "application/pdf", content.length, null, null));
+
+        byte[] chunk = chunk(content, 1);
+        assertThatThrownBy(() -> service.writeChunk(7L, 1L, 1, chunk.length, sha256(new byte[]{1}),
+                new ByteArrayInputStream(chunk)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("체크섬");
+        assertThat(saved.getReceivedCount()).isZero();
+        assertThat(saved.getStatus()).isEqualTo(UploadSession.SessionStatus.UPLOADING);
+    }
+
+    private void send(int index, byte[] chunk) throws Exception {
+        service.writeChunk(7L, 1L, index, chunk.length, sha256(chunk), new ByteArrayInputStream(chunk));
+    }
+
+    private static byte[] chunk(byte[] content, int index) {
+        return Arrays.copyOfRange(content, index * CHUNK_SIZE, Math.min(content.length, (index + 1) * CHUNK_SIZE));
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    /**
+     * 세션 행 잠금 대용 - 트랜잭션 하나씩만 실행되게 직렬화한다
+     */
+    private static final class RowLockTransactionManager implements PlatformTransactionManager {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            lock.lock();
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            lock.unlock();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * pauseAt 바이트를 넘긴 뒤 resume까지 멈추는 요청 본문
+     */
+    private static final class PausingInputStream extends InputStream {
+
+        private final byte[] bytes;
+        private final int pauseAt;
+        private final CountDownLatch reading;
+        private final CountDownLatch resume;
+        private int position;
+
+        private PausingInputStream(byte[] bytes, int pauseAt, CountDownLatch reading, CountDownLatch resume) {
+            this.bytes = bytes;
+            this.pauseAt = pauseAt;
+            this.reading = reading;
+            this.resume = resume;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (position >= bytes.length) {
+                return -1;
+            }
+            if (position == pauseAt) {
+                reading.countDown();
+                try {
+                    resume.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            int limit = position < pauseAt ? pauseAt : bytes.length;
+            int count = Math.min(length, limit - position);
+            System.arraycopy(bytes, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.User;
+import com.mycard.api.entity.UserCoupon;
+import com.mycard.api.repository.UserCouponRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구매 수량(1~1000)별 쿠폰 발급 비용 벤치마크.
+ * pooled ID + JDBC 배치 덕분에 DB 문장 수가 수량과 무관하게 상수로 유지되는지 확인하고 소요 시간을 로그로 남긴다.
+ * 기본 test 작업에서는 제외되며 ./gradlew benchmark로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(CouponPinPool.class)
+class CouponIssuanceBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponIssuanceBenchmarkTest.class);
+
+    private static final long MAX_STATEMENTS_PER_PURCHASE = 4;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponPinPool couponPinPool;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("bench@mycard.local", "hash", "벤치마크");
+        entityManager.persist(user);
+        // 첫 ID 블록 할당은 측정에서 제외
+        entityManager.persist(new UserCoupon(user, 1L, LocalDateTime.now(), LocalDateTime.now().plusYears(1),
+                couponPinPool.take(1).get(0)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest(name = "quantity={0}")
+    @ValueSource(ints = {1, 10, 100, 500, 1000})
+    void issuingCouponsUsesConstantNumberOfStatements(int quantity) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        User userRef = entityManager.getReference(User.class, user.getId());
+        LocalDateTime now = LocalDateTime.now();
+
+        long started = System.nanoTime();
+        List<String> pins = couponPinPool.take(quantity);
+        List<UserCoupon> coupons = pins.stream()
+                .map(pin -> new UserCoupon(userRef, 1L, now, now.plusYears(1), pin))
+                .toList();
+        userCouponRepository.saveAll(coupons);
+        entityManager.flush();
+        long elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+        long statements = statistics.getPrepareStatementCount();
+        log.info("[coupon-issuance] quantity={} statements={} elapsed={}us", quantity, statements, elapsedMicros);
+
+        assertThat(new HashSet<>(pins)).hasSize(quantity);
+        assertThat(statements).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PURCHASE);
+        assertThat(userCouponRepository.count()).isEqualTo(quantity + 1L);
+    }
+}
@@ -0,0 +1,172 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.CouponCatalog;
+import com.mycard.api.repository.CouponCatalogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 노드(캐시 인스턴스 2개)가 같은 DB에서 한정 수량 쿠폰을 동시에 팔아도 합계가 stock_limit을 넘지 않는지 고정한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:coupon-stock-lease;MODE=MySQL;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CouponStockLeaseTest {
+
+    private static final long COUPON_ID = 7001L;
+    private static final long STOCK_LIMIT = 1_000;
+    private static final int THREADS_PER_NODE = 4;
+
+    @Autowired
+    private CouponCatalogRepository couponCatalogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // H2 IDENTITY가 동시 INSERT에서 같은 값을 내주는 경우가 있어 저널 ID는 테스트가 직접 매긴다
+    private final AtomicLong journalId = new AtomicLong();
+
+    private CouponCatalogCache nodeA;
+    private CouponCatalogCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM coupon_stock_journal");
+        jdbcTemplate.update("DELETE FROM coupon_catalog");
+        CouponCatalog catalog = new CouponCatalog(COUPON_ID, 100L, true);
+        catalog.setStockLimit(STOCK_LIMIT);
+        couponCatalogRepository.save(catalog);
+
+        nodeA = node();
+        nodeB = node();
+    }
+
+    @Test
+    void twoNodesNeverSellMoreThanTheLimit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_PER_NODE * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS_PER_NODE * 2; t++) {
+                CouponCatalogCache node = t % 2 == 0 ? nodeA : nodeB;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int sold = 0;
+                    for (int i = 0; i < 400; i++) {
+                        if (purchase(node, i % 10 == 9)) {
+                            sold++;
+                        }
+                    }
+                    return sold;
+                }));
+            }
+            start.countDown();
+            int sold = 0;
+            for (Future<Integer> result : results) {
+                sold += result.get(60, TimeUnit.SECONDS);
+            }
+
+            // 롤백된 예약은 임대분으로 돌아가 다시 팔리므로 정확히 한정 수량만큼 팔린다
+            assertThat(sold).isEqualTo(STOCK_LIMIT);
+            assertThat(soldInDb()).isEqualTo(STOCK_LIMIT);
+            assertThat(leased()).isEqualTo(STOCK_LIMIT);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(purchase(nodeA, false)).isFalse();
+        assertThat(purchase(nodeB, false)).isFalse();
+
+        // 한정 수량을 늘리면 두 노드가 늘어난 만큼만 더 판다
+        jdbcTemplate.update("UPDATE coupon_catalog SET stock_limit = ? WHERE id = ?", STOCK_LIMIT + 30, COUPON_ID);
+        nodeA.reload();
+        nodeB.reload();
+        int extra = 0;
+        for (int i = 0; i < 40; i++) {
+            extra += purchase(i % 2 == 0 ? nodeA : nodeB, false) ? 1 : 0;
+        }
+        assertThat(extra).isEqualTo(30);
+        assertThat(soldInDb()).isEqualTo(STOCK_LIMIT + 30);
+    }
+
+    @Test
+    void unsoldLeasesAreReturnedOnShutdownAndLimitChange() {
+        assertThat(purchase(nodeA, false)).isTrue();
+        // 남은 1,000건의 1/10 상한인 lease-size(50)만큼 임대
+        assertThat(leased()).isEqualTo(50);
+
+        nodeA.returnLeases();
+        assertThat(leased()).isEqualTo(1);
+
+        assertThat(purchase(nodeB, false)).isTrue();
+        jdbcTemplate.update("UPDATE coupon_catalog SET stock_limit = ? WHERE id = ?", 500L, COUPON_ID);
+        nodeB.reload();
+        assertThat(leased()).isEqualTo(2);
+    }
+
+    private boolean purchase(CouponCatalogCache node, boolean rollback) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Boolean reserved = template.execute(status -> {
+            CouponCatalogCache.Item item = node.find(COUPON_ID).orElseThrow();
+            if (!node.reserve(item, 1)) {
+                return false;
+            }
+            if (rollback) {
+                status.setRollbackOnly();
+                return false;
+            }
+            jdbcTemplate.update("INSERT INTO coupon_stock_journal (id, coupon_id, quantity, created_at) "
+                    + "VALUES (?, ?, 1, CURRENT_TIMESTAMP)", journalId.incrementAndGet(), COUPON_ID);
+            return true;
+        });
+        return Boolean.TRUE.equals(reserved);
+    }
+
+    private long soldInDb() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM coupon_stock_journal WHERE coupon_id = ?", Long.class, COUPON_ID);
+    }
+
+    private long leased() {
+        return jdbcTemplate.queryForObject(
+                "SELECT stock_leased FROM coupon_catalog WHERE id = ?", Long.class, COUPON_ID);
+    }
+
+    private CouponCatalogCache node() {
+        CouponCatalogCache node = new CouponCatalogCache(couponCatalogRepository, transactionManager, jdbcTemplate);
+        ReflectionTestUtils.setField(node, "leaseSize", 50);
+        node.reload();
+        return node;
+    }
+}
@@ -0,0 +1,164 @@
+package com.mycard.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 목록 한 페이지(기본 20건)의 이미지 전송량 벤치마크.
+ * - original: 업로드 원본(1920x1080 JPEG 16장 + 1600x800 PNG 배너 4장)을 그대로 내려 줄 때
+ * - w640: 목록 카드가 요청하는 ?w=640 파생본을 내려 줄 때
+ * 두 경우의 바이트 합계와 이미지당 파생본 생성 시간을 로그로 남긴다.
+ * 고해상도 이미지 20장을 인코딩하므로 기본 test 작업에서는 제외되며 ./gradlew benchmark로 실행한다.
+ */
+@Tag("benchmark")
+class EventImageBytesBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EventImageBytesBenchmarkTest.class);
+
+    private static final int PAGE_SIZE = 20;
+
+    @TempDir
+    Path uploadDir;
+
+    private EventImageDerivativeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EventImageDerivativeService(new SimpleMeterRegistry(), uploadDir.toString(),
+                "320,640,1280", 40_000_000, 0.82f, 2, 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void listVariantsCutBytesPerEventsPage() throws Exception {
+        Random random = new Random(42);
+        List<String> images = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            boolean banner = i % 5 == 4;
+            String relative = String.format("%02x/%02x/event-%02d.%s", i, i, i, banner ? "png" : "jpg");
+            Path file = uploadDir.resolve("events").resolve(relative);
+            Files.createDirectories(file.getParent());
+            if (banner) {
+                ImageIO.write(banner(1600, 800, random), "png", file.toFile());
+            } else {
+                writeJpeg(photo(1920, 1080, random), file, 0.92f);
+            }
+            images.add(relative);
+        }
+
+        // 파생본 생성 전에는 원본을 짧은 캐시로 내려 준다
+        assertThat(service.resolve(images.get(0), 640).immutable()).isFalse();
+
+        long started = System.nanoTime();
+        for (String relative : images) {
+            service.generate(uploadDir.resolve("events").resolve(relative));
+        }
+        long generateMs = (System.nanoTime() - started) / 1_000_000;
+
+        long originalBytes = 0;
+        long listBytes = 0;
+        for (String relative : images) {
+            EventImageDerivativeService.Variant original = service.resolve(relative, null);
+            EventImageDerivativeService.Variant card = service.resolve(relative, 640);
+            assertThat(card.immutable()).isTrue();
+            assertThat(card.path().getFileName().toString()).contains(".w640.");
+            assertThat(ImageIO.read(card.path().toFile()).getWidth()).isEqualTo(640);
+            originalBytes += Files.size(original.path());
+            listBytes += Files.size(card.path());
+        }
+
+        // 가장 가까운 큰 폭을 고르고, 설정된 폭보다 크면 원본을 내려 준다
+        assertThat(service.resolve(images.get(0), 500).path().getFileName().toString()).endsWith(".w640.jpg");
+        assertThat(service.resolve(images.get(0), 5000).path().getFileName().toString()).isEqualTo("event-00.jpg");
+
+        log.info("[events-page] images={} original={}KB w640={}KB reduction={}x generate={}ms/image",
+                PAGE_SIZE, originalBytes / 1024, listBytes / 1024,
+                String.format("%.1f", (double) originalBytes / listBytes), generateMs / PAGE_SIZE);
+        assertThat(listBytes * 3).isLessThan(originalBytes);
+    }
+
+    /**
+     * 사진과 비슷하게 압축되도록 그라데이션 위에 도형과 노이즈를 얹는다.
+     */
+    private static BufferedImage photo(int width, int height, Random random) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)),
+                width, height, new Color(random.nextInt(0xFFFFFF))));
+        graphics.fillRect(0, 0, width, height);
+        for (int i = 0; i < 60; i++) {
+            graphics.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256), 120));
+            graphics.fillOval(random.nextInt(width), random.nextInt(height), 50 + random.nextInt(400), 50 + random.nextInt(300));
+        }
+        graphics.dispose();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                int noise = random.nextInt(25) - 12;
+                int r = clamp(((rgb >> 16) & 0xFF) + noise);
+                int g = clamp(((rgb >> 8) & 0xFF) + noise);
+                int b = clamp((rgb & 0xFF) + noise);
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+
+    private static BufferedImage banner(int width, int height, Random random) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)),
+                width, 0, new Color(random.nextInt(0xFFFFFF))));
+        graphics.fillRoundRect(0, 0, width, height, 80, 80);
+        for (int i = 0; i < 30; i++) {
+            graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+            graphics.fillRect(random.nextInt(width), random.nextInt(height), 20 + random.nextInt(200), 20 + random.nextInt(120));
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path path, float quality) throws Exception {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(path.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+}
@@ -0,0 +1,130 @@
+package com.mycard.api.service;
+
+import com.mycard.api.controller.EventImageController;
+import com.mycard.api.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class EventImageDerivativeServiceTest {
+
+    private static final String IMAGE = "ab/cd/event.png";
+
+    @TempDir
+    Path uploadDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventImageDerivativeService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 원본 폭(500)은 두 설정 폭 사이
+        service = new EventImageDerivativeService(meterRegistry, uploadDir.toString(), "640,320", 1_000_000, 0.82f, 1, 10);
+        writePng(IMAGE, 500, 250);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void requestedWidthPicksSmallestConfiguredWidthNotBelowIt() {
+        assertThat(service.closestWidth(100)).isEqualTo(320);
+        assertThat(service.closestWidth(320)).isEqualTo(320);
+        assertThat(service.closestWidth(400)).isEqualTo(640);
+        assertThat(service.closestWidth(2000)).isNull();
+
+        // 설정 폭보다 크면 원본이 최종 파일이다
+        EventImageDerivativeService.Variant above = service.resolve(IMAGE, 2000);
+        assertThat(above.path()).isEqualTo(events(IMAGE));
+        assertThat(above.immutable()).isTrue();
+    }
+
+    @Test
+    void originalIsServedWithShortCacheUntilVariantExists() throws Exception {
+        EventImageController controller = new EventImageController(service);
+
+        ResponseEntity<Resource> pending = controller.getImage("ab", "cd", "event.png", 300);
+        assertThat(pending.getHeaders().getCacheControl()).isEqualTo("max-age=60, public");
+        assertThat(pending.getBody().getFile().toPath()).isEqualTo(events(IMAGE));
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> Files.isRegularFile(events("ab/cd/event.w320.png")));
+
+        ResponseEntity<Resource> ready = controller.getImage("ab", "cd", "event.png", 300);
+        assertThat(ready.getHeaders().getCacheControl()).contains("immutable").contains("max-age=31536000");
+        assertThat(service.resolve(IMAGE, 300).path()).isEqualTo(events("ab/cd/event.w320.png"));
+    }
+
+    @Test
+    void widthAboveOriginalIsLinkedInsteadOfUpscaled() throws Exception {
+        service.generate(events(IMAGE));
+
+        Path narrow = events("ab/cd/event.w320.png");
+        Path wide = events("ab/cd/event.w640.png");
+        assertThat(ImageIO.read(narrow.toFile()).getWidth()).isEqualTo(320);
+        assertThat(Files.isSameFile(wide, events(IMAGE))).isTrue();
+        assertThat(ImageIO.read(wide.toFile()).getWidth()).isEqualTo(500);
+    }
+
+    @Test
+    void pathsOutsideEventsDirectoryAreRejected() throws Exception {
+        Files.writeString(uploadDir.resolve("secret.png"), "not an event image");
+
+        assertThatThrownBy(() -> service.resolve("../secret.png", null))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.resolve("ab/../../secret.png", 320))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.resolve("ab/cd/missing.png", 320))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void unproducibleOriginalIsNotQueuedAgain() throws Exception {
+        writePng("ab/cd/huge.png", 2000, 1000);
+        Files.createDirectories(events("ab/cd"));
+        Files.writeString(events("ab/cd/broken.png"), "not a png");
+
+        for (String image : new String[]{"ab/cd/huge.png", "ab/cd/broken.png"}) {
+            assertThat(service.resolve(image, 320).immutable()).isFalse();
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> failed() == 2);
+
+        // 이후 공개 요청은 원본을 짧은 캐시로 내려 줄 뿐 작업을 다시 맡기지 않는다
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.resolve("ab/cd/huge.png", 320).path()).isEqualTo(events("ab/cd/huge.png"));
+            service.resolve("ab/cd/broken.png", 640);
+        }
+        await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(1)).until(() -> failed() == 2);
+        assertThat(meterRegistry.get("event.image.derivatives.generated").counter().count()).isZero();
+    }
+
+    private double failed() {
+        return meterRegistry.get("event.image.derivatives.failed").counter().count();
+    }
+
+    private Path events(String relative) {
+        return uploadDir.resolve("events").resolve(relative).toAbsolutePath().normalize();
+    }
+
+    private void writePng(String relative, int width, int height) throws Exception {
+        Path file = events(relative);
+        Files.createDirectories(file.getParent());
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", file.toFile());
+    }
+}
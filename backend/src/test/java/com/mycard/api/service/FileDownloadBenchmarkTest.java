@@ -0,0 +1,116 @@
+package com.mycard.api.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.UrlResource;
+import org.springframework.util.StreamUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10MB 첨부파일 다운로드 처리량 벤치마크 (루프백 소켓).
+ * - legacy: UrlResource 스트림 -> 소켓 OutputStream 복사 (ResourceHttpMessageConverter 경로)
+ * - transferTo: FileChannel.transferTo -> SocketChannel (Tomcat sendfile과 같은 커널 zero-copy 경로)
+ * 두 경로가 같은 바이트 수를 보내는지 확인하고 처리량을 로그로 남긴다. (./gradlew benchmark로 실행)
+ */
+@Tag("benchmark")
+class FileDownloadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FileDownloadBenchmarkTest.class);
+
+    private static final int FILE_SIZE = 10 * 1024 * 1024;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void transferToMatchesLegacyPathAndReportsThroughput() throws Exception {
+        Path file = dir.resolve("attachment.bin");
+        byte[] content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        Files.write(file, content);
+
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try (ServerSocketChannel server = ServerSocketChannel.open().bind(new InetSocketAddress("127.0.0.1", 0))) {
+            double legacy = measure(server, reader, "legacy", socket -> {
+                OutputStream out = Channels.newOutputStream(socket);
+                try (InputStream in = new UrlResource(file.toUri()).getInputStream()) {
+                    return StreamUtils.copy(in, out);
+                }
+            });
+            double transferTo = measure(server, reader, "transferTo", socket -> {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    long sent = 0;
+                    while (sent < FILE_SIZE) {
+                        sent += channel.transferTo(sent, FILE_SIZE - sent, socket);
+                    }
+                    return sent;
+                }
+            });
+            log.info("[file-download] size=10MB legacy={}MB/s transferTo={}MB/s ratio={}",
+                    Math.round(legacy), Math.round(transferTo), String.format("%.2f", transferTo / legacy));
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+
+    private double measure(ServerSocketChannel server, ExecutorService reader, String label, Sender sender)
+            throws Exception {
+        long totalNanos = 0;
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel accepted = server.accept()) {
+                Future<Long> received = reader.submit(() -> drain(client));
+                long started = System.nanoTime();
+                long sent = sender.send(accepted);
+                accepted.shutdownOutput();
+                long bytes = received.get();
+                long elapsed = System.nanoTime() - started;
+
+                assertThat(sent).as(label).isEqualTo(FILE_SIZE);
+                assertThat(bytes).as(label).isEqualTo(FILE_SIZE);
+                if (i >= WARMUP) {
+                    totalNanos += elapsed;
+                }
+            }
+        }
+        return (double) FILE_SIZE * ITERATIONS / (1024 * 1024) / (totalNanos / 1e9);
+    }
+
+    private static long drain(SocketChannel channel) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+        long total = 0;
+        int read;
+        while ((read = channel.read(buffer)) >= 0) {
+            total += read;
+            buffer.clear();
+        }
+        return total;
+    }
+
+    @FunctionalInterface
+    private interface Sender {
+        long send(SocketChannel socket) throws Exception;
+    }
+}
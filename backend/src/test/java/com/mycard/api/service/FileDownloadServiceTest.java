@@ -0,0 +1,94 @@
+package com.mycard.api.service;
+
+import com.mycard.api.entity.Attachment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileDownloadServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private final FileDownloadService service = new FileDownloadService();
+    private Attachment attachment;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = uploadDir.resolve("stored.txt");
+        Files.writeString(file, "0123456789abcdef");
+        attachment = new Attachment(null, "명세서.txt", "stored.txt", file.toString(), "text/plain", 16L);
+        attachment.setId(7L);
+    }
+
+    @Test
+    void servesRequestedRangeAsPartialContent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/7/download");
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        service.send(attachment, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-15/16");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo("abcdef");
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    void revalidationWithCurrentEtagReturnsNotModifiedWithoutBody() throws Exception {
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        service.send(attachment, new MockHttpServletRequest("GET", "/files/7/download"), first);
+        assertThat(first.getContentAsByteArray()).hasSize(16);
+
+        MockHttpServletRequest revalidate = new MockHttpServletRequest("GET", "/files/7/download");
+        revalidate.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        service.send(attachment, revalidate, second);
+
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void staleIfRangeFallsBackToFullBodyAndBadRangeIsRejected() throws Exception {
+        MockHttpServletRequest stale = new MockHttpServletRequest("GET", "/files/7/download");
+        stale.addHeader(HttpHeaders.RANGE, "bytes=0-3");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"old-etag\"");
+        MockHttpServletResponse full = new MockHttpServletResponse();
+        service.send(attachment, stale, full);
+        assertThat(full.getStatus()).isEqualTo(200);
+        assertThat(full.getContentAsByteArray()).hasSize(16);
+
+        MockHttpServletRequest beyond = new MockHttpServletRequest("GET", "/files/7/download");
+        beyond.addHeader(HttpHeaders.RANGE, "bytes=16-20");
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        service.send(attachment, beyond, rejected);
+        assertThat(rejected.getStatus()).isEqualTo(416);
+        assertThat(rejected.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */16");
+    }
+
+    @Test
+    void sendfileCapableConnectorGetsFileRegionInsteadOfBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/files/7/download");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=-4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        service.send(attachment, request, response);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(12L);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(16L);
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,69 @@
+package com.mycard.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InquiryAutoAssignmentServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private InquiryAutoAssignmentService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new InquiryAutoAssignmentService(jdbcTemplate, mock(AuditService.class), new SimpleMeterRegistry(),
+                true, 240, 60, Set.of("CARD"), 2, 10);
+    }
+
+    @Test
+    void assignsMostUrgentInquiryToLeastLoadedOperatorUntilSaturated() {
+        LocalDateTime now = LocalDateTime.now();
+        service.reset(Map.of(1L, 2, 2L, 0, 3L, 1), List.of(
+                service.toPending(10L, "GENERAL", now.minusMinutes(90)),
+                service.toPending(11L, "CARD", now.minusMinutes(5)),
+                service.toPending(12L, "GENERAL", now.minusMinutes(10)),
+                service.toPending(13L, "GENERAL", now.minusMinutes(1))));
+        List<Object[]> claims = new ArrayList<>();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            claims.add(new Object[]{invocation.getArgument(1), invocation.getArgument(2)});
+            return 1;
+        });
+
+        service.assignPending();
+
+        // CARD(SLA 60분)가 먼저, 이후 마감 순 / 부하가 같으면 더 오래전에 배정받은 상담원
+        assertThat(claims).extracting(claim -> claim[1]).containsExactly(11L, 10L, 12L);
+        assertThat(claims).extracting(claim -> claim[0]).containsExactly(2L, 3L, 2L);
+        // 모든 상담원이 max-load(2)에 도달해 13번은 대기
+        assertThat(service.queueDepth()).isEqualTo(1);
+        assertThat(service.currentLoad(1L)).isEqualTo(2);
+        assertThat(service.currentLoad(2L)).isEqualTo(2);
+        assertThat(service.currentLoad(3L)).isEqualTo(2);
+    }
+
+    @Test
+    void conflictingClaimRestoresLoadAndClosedInquiryFreesCapacity() {
+        service.reset(Map.of(1L, 2), List.of(service.toPending(10L, "GENERAL", LocalDateTime.now())));
+        service.onClosed(99L, 1L);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(0);
+
+        service.assignPending();
+
+        assertThat(service.queueDepth()).isZero();
+        assertThat(service.currentLoad(1L)).isEqualTo(1);
+        assertThat(service.stats()).containsEntry("queueDepth", 0);
+    }
+}
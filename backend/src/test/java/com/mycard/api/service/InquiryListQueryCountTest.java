@@ -0,0 +1,132 @@
+package com.mycard.api.service;
+
+import com.mycard.api.dto.inquiry.InquiryListResponse;
+import com.mycard.api.entity.Inquiry;
+import com.mycard.api.entity.InquiryReply;
+import com.mycard.api.entity.User;
+import com.mycard.api.repository.InquiryRepository;
+import com.mycard.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문의 목록 한 페이지가 답변 수와 무관하게 내용 조회 1회 + 건수 조회 1회로 끝나는지 고정한다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:inquiry-list;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class InquiryListQueryCountTest {
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User customer;
+    private User operator;
+
+    @BeforeEach
+    void setUp() {
+        customer = userRepository.save(new User("customer@mycard.local", "hash", "고객"));
+        operator = userRepository.save(new User("operator@mycard.local", "hash", "상담원"));
+
+        for (int i = 0; i < 5; i++) {
+            Inquiry inquiry = new Inquiry(customer, Inquiry.InquiryCategory.CARD, "문의 " + i, "내용");
+            if (i % 2 == 0) {
+                inquiry.setAssignedOperator(operator);
+            }
+            entityManager.persist(inquiry);
+            for (int r = 0; r < 3; r++) {
+                InquiryReply reply = new InquiryReply(inquiry, r == 0 ? customer : operator, "답변 " + r, r > 0);
+                LocalDateTime repliedAt = inquiry.addReply(reply);
+                entityManager.persist(reply);
+                inquiryRepository.recordReply(inquiry.getId(), repliedAt, r > 0);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void everyListPageRunsExactlyTwoStatements() {
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        Page<InquiryListResponse> all = countStatements(() -> inquiryRepository.findAllList(pageable), 2);
+        assertThat(all.getTotalElements()).isEqualTo(5);
+        assertThat(all.getContent()).hasSize(2)
+                .allSatisfy(row -> {
+                    assertThat(row.getUserName()).isEqualTo("고객");
+                    assertThat(row.getReplyCount()).isEqualTo(3);
+                    assertThat(row.isHasStaffReply()).isTrue();
+                    assertThat(row.getLastReplyAt()).isNotNull();
+                });
+
+        Page<InquiryListResponse> mine = countStatements(
+                () -> inquiryRepository.findListByUserId(customer.getId(), pageable), 2);
+        assertThat(mine.getTotalElements()).isEqualTo(5);
+
+        Page<InquiryListResponse> assigned = countStatements(
+                () -> inquiryRepository.findListByAssignedOperatorId(operator.getId(), pageable), 2);
+        assertThat(assigned.getTotalElements()).isEqualTo(3);
+        assertThat(assigned.getContent()).extracting(InquiryListResponse::getAssignee).containsOnly("상담원");
+    }
+
+    @Test
+    void staleEntityFlushDoesNotOverwriteReplyStats() {
+        Long inquiryId = inquiryRepository.findAll().get(0).getId();
+        Inquiry stale = inquiryRepository.findById(inquiryId).orElseThrow();
+        assertThat(stale.getReplyCount()).isEqualTo(3);
+
+        // 다른 트랜잭션이 먼저 답변을 등록한 뒤, 이 영속 객체가 다른 변경과 함께 flush되어도 건수는 유지된다
+        inquiryRepository.recordReply(inquiryId, LocalDateTime.now(), false);
+        stale.setTitle("제목 변경");
+        entityManager.flush();
+        entityManager.clear();
+
+        Inquiry reloaded = inquiryRepository.findById(inquiryId).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("제목 변경");
+        assertThat(reloaded.getReplyCount()).isEqualTo(4);
+        assertThat(reloaded.isHasStaffReply()).isTrue();
+    }
+
+    private <T> T countStatements(Supplier<T> query, long expected) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManager.clear();
+        statistics.clear();
+
+        T result = query.get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+}
@@ -0,0 +1,157 @@
+package com.mycard.api.service;
+
+import com.mycard.api.dto.MessageResponse;
+import com.mycard.api.entity.BroadcastMessage;
+import com.mycard.api.entity.Message;
+import com.mycard.api.entity.User;
+import com.mycard.api.repository.BroadcastMessageRepository;
+import com.mycard.api.repository.CardApplicationRepository;
+import com.mycard.api.repository.CardRepository;
+import com.mycard.api.repository.MessageRepository;
+import com.mycard.api.repository.UserMessageCounterRepository;
+import com.mycard.api.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MessageServiceTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private BroadcastMessageRepository broadcastMessageRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private CardApplicationRepository cardApplicationRepository;
+
+    @Mock
+    private UserMessageCounterRepository userMessageCounterRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AdminMetricsService adminMetricsService;
+
+    @InjectMocks
+    private MessageService messageService;
+
+    @Test
+    void sendIncrementsRecipientCounterAndPublishesNotification() {
+        Message message = new Message(user(1L), user(7L), Message.MessageType.SYSTEM, "제목", "내용");
+        when(messageRepository.save(message)).thenReturn(message);
+
+        messageService.send(message);
+
+        verify(userMessageCounterRepository).increment(7L, 1);
+        verify(adminMetricsService).adjust(AdminMetricsService.Metric.UNREAD_MESSAGES, 1);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof UserNotificationEvent e
+                && e.userId().equals(7L) && e.type().equals(UserNotificationEvent.TYPE_MESSAGE)));
+    }
+
+    @Test
+    void readingUnreadMessageDecrementsCounterOnce() {
+        Message message = new Message(user(1L), user(7L), Message.MessageType.SYSTEM, "제목", "내용");
+        when(messageRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(message));
+
+        messageService.getMessage(10L, 7L);
+        messageService.getMessage(10L, 7L);
+
+        verify(userMessageCounterRepository).decrement(7L, 1);
+    }
+
+    @Test
+    void markAllAsReadDecrementsByMarkedRows() {
+        when(messageRepository.markAllAsReadByUserId(7L)).thenReturn(3);
+
+        messageService.markAllAsRead(7L);
+
+        verify(userMessageCounterRepository).decrement(7L, 3);
+    }
+
+    @Test
+    void deletingReadMessageLeavesCounter() {
+        Message message = new Message(user(1L), user(7L), Message.MessageType.SYSTEM, "제목", "내용");
+        message.markAsRead();
+        when(messageRepository.findByIdForUpdate(10L)).thenReturn(Optional.of(message));
+
+        messageService.deleteMessage(10L, 7L);
+
+        verify(userMessageCounterRepository, never()).decrement(anyLong(), anyLong());
+        verify(messageRepository).delete(message);
+    }
+
+    @Test
+    void unreadCountIsCounterLookupWhenNoNewBroadcasts() {
+        when(userMessageCounterRepository.findUnreadCount(7L)).thenReturn(Optional.of(4L));
+        when(broadcastMessageRepository.findWatermark(7L)).thenReturn(Optional.of(12L));
+        when(broadcastMessageRepository.findMaxId()).thenReturn(12L);
+
+        assertThat(messageService.getUnreadCount(7L)).isEqualTo(4L);
+
+        verify(messageRepository, never()).countByUserIdAndIsReadFalse(anyLong());
+        verifyNoInteractions(userRepository, cardRepository, cardApplicationRepository);
+    }
+
+    @Test
+    void readingBroadcastRecordsReadAboveWatermarkWithoutTouchingMessages() {
+        User user = user(7L);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(broadcastMessageRepository.findWatermark(7L)).thenReturn(Optional.of(12L));
+        when(broadcastMessageRepository.findVisibleById(eq(30L), eq(7L), any(), anyBoolean(), any()))
+                .thenReturn(Optional.of(broadcast(30L)));
+        when(broadcastMessageRepository.findVisibleById(eq(10L), eq(7L), any(), anyBoolean(), any()))
+                .thenReturn(Optional.of(broadcast(10L)));
+
+        MessageResponse unread = messageService.getBroadcast(30L, 7L);
+        MessageResponse alreadyRead = messageService.getBroadcast(10L, 7L);
+
+        assertThat(unread.getSource()).isEqualTo("BROADCAST");
+        assertThat(unread.getId()).isEqualTo(30L);
+        assertThat(unread.getIsRead()).isTrue();
+        assertThat(alreadyRead.getIsRead()).isTrue();
+        // 워터마크(12) 위의 브로드캐스트만 개별 읽음 기록을 남긴다
+        verify(broadcastMessageRepository).insertRead(7L, 30L);
+        verify(broadcastMessageRepository, never()).insertRead(7L, 10L);
+        // 같은 번호의 개별 메시지를 읽음 처리하지 않는다
+        verify(messageRepository, never()).findByIdForUpdate(anyLong());
+        verifyNoInteractions(userMessageCounterRepository);
+    }
+
+    private BroadcastMessage broadcast(Long id) {
+        BroadcastMessage broadcast = new BroadcastMessage(user(1L), BroadcastMessage.SegmentType.ALL, null, "공지", "내용");
+        ReflectionTestUtils.setField(broadcast, "id", id);
+        return broadcast;
+    }
+
+    private User user(Long id) {
+        User user = new User("user" + id + "@mycard.local", "hash", "사용자");
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
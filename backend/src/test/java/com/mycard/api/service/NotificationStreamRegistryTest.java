@@ -0,0 +1,180 @@
+package com.mycard.api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.awaitility.Awaitility.await;
+
+class NotificationStreamRegistryTest {
+
+    private final List<NotificationStreamRegistry> registries = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        registries.forEach(NotificationStreamRegistry::shutdown);
+    }
+
+    @Test
+    void oldestConnectionIsClosedWhenUserExceedsLimit() {
+        NotificationStreamRegistry registry = registry(4, 1, 5_000L);
+        registry.subscribe(1L);
+        registry.subscribe(1L);
+        registry.subscribe(1L);
+        registry.subscribe(2L);
+
+        assertThat(registry.getConnectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void notificationsForUnknownUserAreIgnored() {
+        NotificationStreamRegistry registry = registry(4, 1, 5_000L);
+        registry.subscribe(1L);
+
+        assertThatCode(() -> registry.onNotification(
+                new UserNotificationEvent(99L, UserNotificationEvent.TYPE_MESSAGE, Map.of("id", 1L))))
+                .doesNotThrowAnyException();
+        assertThat(registry.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void notificationsReachEveryConnectionOfTheUserInOrder() {
+        List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+        NotificationStreamRegistry registry = registry(4, 2, 5_000L, () -> {
+            RecordingEmitter emitter = new RecordingEmitter(null);
+            emitters.add(emitter);
+            return emitter;
+        });
+        registry.subscribe(1L);
+        registry.subscribe(1L);
+        registry.subscribe(2L);
+
+        for (long id = 1; id <= 3; id++) {
+            registry.onNotification(new UserNotificationEvent(1L, UserNotificationEvent.TYPE_MESSAGE, Map.of("id", id)));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(emitters.get(0).events).containsExactly("connected", "message:1", "message:2", "message:3");
+            assertThat(emitters.get(1).events).containsExactly("connected", "message:1", "message:2", "message:3");
+            assertThat(emitters.get(2).events).containsExactly("connected");
+        });
+    }
+
+    @Test
+    void stalledSendIsEvictedSoOtherUsersKeepReceiving() throws Exception {
+        CountDownLatch never = new CountDownLatch(1);
+        List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+        // 전송 스레드 1개: 막힌 연결을 끊지 않으면 사용자 2의 이벤트는 영영 나가지 않는다
+        NotificationStreamRegistry registry = registry(4, 1, 100L, () -> {
+            RecordingEmitter emitter = new RecordingEmitter(emitters.isEmpty() ? never : null);
+            emitters.add(emitter);
+            return emitter;
+        });
+        registry.subscribe(1L);
+        registry.subscribe(2L);
+        registry.onNotification(new UserNotificationEvent(2L, UserNotificationEvent.TYPE_MESSAGE, Map.of("id", 7L)));
+
+        RecordingEmitter stalled = emitters.get(0);
+        RecordingEmitter healthy = emitters.get(1);
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            registry.evictStalledSenders();
+            assertThat(healthy.events).containsExactly("connected", "message:7");
+        });
+        assertThat(stalled.interrupted).isTrue();
+        await().atMost(Duration.ofSeconds(5)).until(() -> stalled.completed);
+        assertThat(registry.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void overflowingBufferClosesConnectionWithoutBlockingThePublisher() {
+        CountDownLatch never = new CountDownLatch(1);
+        List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+        NotificationStreamRegistry registry = registry(2, 1, 60_000L, () -> {
+            RecordingEmitter emitter = new RecordingEmitter(never);
+            emitters.add(emitter);
+            return emitter;
+        });
+        registry.subscribe(1L);
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitters.get(0).sending);
+
+        // 전송이 막힌 채 버퍼(2건)를 넘기면 발행 스레드는 기다리지 않고 연결만 끊는다
+        for (long id = 1; id <= 3; id++) {
+            registry.onNotification(new UserNotificationEvent(1L, UserNotificationEvent.TYPE_MESSAGE, Map.of("id", id)));
+        }
+        assertThat(registry.getConnectionCount()).isZero();
+
+        never.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitters.get(0).completed);
+        assertThat(emitters.get(0).events).containsExactly("connected");
+    }
+
+    private NotificationStreamRegistry registry(int bufferSize, int senderThreads, long sendTimeoutMs) {
+        return registry(bufferSize, senderThreads, sendTimeoutMs, null);
+    }
+
+    private NotificationStreamRegistry registry(int bufferSize, int senderThreads, long sendTimeoutMs,
+                                                Supplier<SseEmitter> emitters) {
+        NotificationStreamRegistry registry = emitters == null
+                ? new NotificationStreamRegistry(60_000L, bufferSize, 2, senderThreads, sendTimeoutMs)
+                : new NotificationStreamRegistry(60_000L, bufferSize, 2, senderThreads, sendTimeoutMs) {
+                    @Override
+                    SseEmitter createEmitter() {
+                        return emitters.get();
+                    }
+                };
+        registries.add(registry);
+        return registry;
+    }
+
+    /**
+     * 보낸 이벤트를 "이름[:id]"로 기록하는 emitter. gate가 있으면 열릴 때까지(또는 인터럽트까지) send가 막힌다.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch gate;
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean sending;
+        private volatile boolean interrupted;
+        private volatile boolean completed;
+
+        private RecordingEmitter(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending = true;
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    throw new IOException("send interrupted", e);
+                }
+            }
+            List<Object> parts = builder.build().stream().map(part -> part.getData()).toList();
+            String frame = parts.get(0).toString();
+            if (!frame.startsWith("event:")) {
+                return;
+            }
+            String name = frame.substring("event:".length(), frame.indexOf('\n'));
+            Object payload = parts.size() > 1 ? parts.get(1) : null;
+            events.add(payload instanceof Map<?, ?> map && map.containsKey("id") ? name + ":" + map.get("id") : name);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.mycard.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mycard.api.dto.point.PointLedgerResponse;
+import com.mycard.api.entity.PointLedger;
+import com.mycard.api.entity.PointLedgerArchiveIndex;
+import com.mycard.api.entity.PointLedgerArchiveSegment;
+import com.mycard.api.repository.PointLedgerArchiveIndexRepository;
+import com.mycard.api.repository.PointLedgerArchiveSegmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세그먼트 기록 → 체크섬 검증 → 블록 오프셋 조회 → 키셋 읽기까지 파일 왕복을 고정한다.
+ */
+class PointLedgerArchiveServiceTest {
+
+    private static final int USERS = 5;
+    private static final int ROWS_PER_USER = 1500;
+
+    @TempDir
+    Path archiveDir;
+
+    private final PointLedgerArchiveIndexRepository indexRepository = mock(PointLedgerArchiveIndexRepository.class);
+    private PointLedgerArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        service = new PointLedgerArchiveService(mock(JdbcTemplate.class), objectMapper,
+                mock(PointLedgerArchiveSegmentRepository.class), indexRepository);
+        ReflectionTestUtils.setField(service, "archiveBasePath", archiveDir.toString());
+    }
+
+    @Test
+    void segmentRoundTripsThroughChecksumAndBlockIndex() throws Exception {
+        PointLedgerArchiveSegment segment = segment(1L, YearMonth.of(2023, 1));
+        long[] nextId = {1};
+        String checksum = write(segment, nextId);
+
+        // 기록한 체크섬 = 디스크 파일의 SHA-256 = .sha256 사이드카
+        Path file = service.segmentPath(segment);
+        assertThat(checksum).isEqualTo(PointLedgerArchiveService.sha256Of(file));
+        assertThat(Files.readString(file.resolveSibling(file.getFileName() + ".sha256"), StandardCharsets.UTF_8))
+                .startsWith(checksum + "  " + file.getFileName());
+
+        // 사용자 3의 첫 행(3000번째)은 두 번째 블록에 있으므로 그 블록의 gzip 멤버 시작점부터 읽는다
+        long offset = service.findBlockOffset(segment, 3L);
+        assertThat(offset).isPositive();
+        assertThat(service.findBlockOffset(segment, 1L)).isZero();
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            raf.seek(offset);
+            assertThat(raf.read()).isEqualTo(0x1f);
+            assertThat(raf.read()).isEqualTo(0x8b);
+        }
+
+        List<PointLedgerArchiveService.ArchivedLedgerEntry> rows = service.readUserRows(segment, 3L, null);
+        assertThat(rows).hasSize(ROWS_PER_USER)
+                .allMatch(row -> row.userId() == 3L)
+                .isSortedAccordingTo((a, b) -> Long.compare(a.id(), b.id()));
+        assertThat(service.readUserRows(segment, 3L, PointLedger.TransactionType.SPEND))
+                .hasSize(ROWS_PER_USER / 2);
+
+        // 압축 바이트가 하나라도 바뀌면 gzip CRC 검사에서 읽기가 실패한다
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(offset + 40);
+            int original = raf.read();
+            raf.seek(offset + 40);
+            raf.write(original ^ 0xff);
+        }
+        assertThat(PointLedgerArchiveService.sha256Of(file)).isNotEqualTo(checksum);
+        assertThatThrownBy(() -> service.readUserRows(segment, 3L, null)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void readArchivedPagesNewestFirstAcrossSegmentsByCursor() throws Exception {
+        long[] nextId = {1};
+        PointLedgerArchiveSegment older = segment(1L, YearMonth.of(2023, 1));
+        write(older, nextId);
+        PointLedgerArchiveSegment newer = segment(2L, YearMonth.of(2023, 2));
+        write(newer, nextId);
+        List<PointLedgerArchiveIndex> entries = List.of(
+                index(newer, PointLedger.TransactionType.EARN), index(newer, PointLedger.TransactionType.SPEND),
+                index(older, PointLedger.TransactionType.EARN), index(older, PointLedger.TransactionType.SPEND));
+        when(indexRepository.findPurgedByUserId(2L)).thenReturn(entries);
+
+        List<Long> ids = new ArrayList<>();
+        long cursor = Long.MAX_VALUE;
+        List<PointLedgerResponse> page;
+        do {
+            page = service.readArchived(2L, null, cursor, 400);
+            page.forEach(row -> ids.add(row.getId()));
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 400);
+
+        assertThat(ids).hasSize(ROWS_PER_USER * 2).doesNotHaveDuplicates()
+                .isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(service.readArchived(2L, PointLedger.TransactionType.EARN, Long.MAX_VALUE, 10))
+                .extracting(PointLedgerResponse::getTransactionType)
+                .containsOnly(PointLedger.TransactionType.EARN);
+    }
+
+    private String write(PointLedgerArchiveSegment segment, long[] nextId) throws Exception {
+        Path target = service.segmentPath(segment);
+        Files.createDirectories(target.getParent());
+        PointLedgerArchiveService.SegmentWriter writer =
+                service.new SegmentWriter(target.resolveSibling(target.getFileName() + ".tmp"));
+        LocalDateTime createdAt = segment.getPeriodStart().atStartOfDay();
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (int i = 0; i < ROWS_PER_USER; i++) {
+                String type = (i % 2 == 0 ? PointLedger.TransactionType.EARN : PointLedger.TransactionType.SPEND).name();
+                writer.append(new PointLedgerArchiveService.ArchivedLedgerEntry(userId, nextId[0]++, type, 10L,
+                        100L + i, "TEST", null, "적립 " + i, createdAt.plusMinutes(i)));
+            }
+        }
+        writer.close();
+        return service.publish(writer, target);
+    }
+
+    private static PointLedgerArchiveSegment segment(Long id, YearMonth month) {
+        PointLedgerArchiveSegment segment = new PointLedgerArchiveSegment(month, "point-ledger-" + month + ".ndjson.gz");
+        ReflectionTestUtils.setField(segment, "id", id);
+        return segment;
+    }
+
+    private static PointLedgerArchiveIndex index(PointLedgerArchiveSegment segment, PointLedger.TransactionType type) {
+        PointLedgerArchiveIndex index = mock(PointLedgerArchiveIndex.class);
+        when(index.getSegment()).thenReturn(segment);
+        when(index.getEntryType()).thenReturn(type);
+        return index;
+    }
+}
@@ -0,0 +1,194 @@
+package com.mycard.api.service;
+
+import com.mycard.api.dto.point.PointConversionRequest;
+import com.mycard.api.dto.point.PointWithdrawalResponse;
+import com.mycard.api.entity.PointBalance;
+import com.mycard.api.entity.PointPolicy;
+import com.mycard.api.entity.PolicyVersion;
+import com.mycard.api.entity.UserBankAccount;
+import com.mycard.api.repository.PointBalanceRepository;
+import com.mycard.api.repository.PointLedgerRepository;
+import com.mycard.api.repository.PointPolicyRepository;
+import com.mycard.api.repository.PointWithdrawalRepository;
+import com.mycard.api.repository.PolicyVersionRepository;
+import com.mycard.api.repository.UserBankAccountRepository;
+import com.mycard.api.repository.UserRepository;
+import com.mycard.api.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 포인트 정책 스냅샷
+ * 트랜잭션 매니저는 동기화만 지원하는 빈 구현이라 afterCommit 콜백이 실제 커밋 순서대로 호출된다.
+ */
+class PointPolicyCacheTest {
+
+    private final PointPolicyRepository pointPolicyRepository = mock(PointPolicyRepository.class);
+    private final PolicyVersionRepository policyVersionRepository = mock(PolicyVersionRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final AbstractPlatformTransactionManager transactionManager = new SynchronizingTransactionManager();
+    private final AtomicLong version = new AtomicLong(1);
+    private final PointPolicy policy = new PointPolicy();
+
+    private PointPolicyCache cache;
+    private PointPolicyService policyService;
+
+    @BeforeEach
+    void setUp() {
+        policy.setId(1L);
+        policy.setPolicyName("기본 정책");
+        policy.setPolicyKey("CONVERSION_FEE_RATE");
+        policy.setFeeRate(new BigDecimal("0.0100"));
+        policy.setDailyWithdrawalLimitPoints(50000L);
+
+        // 정책 행이 하나뿐인 테이블: 조회는 항상 현재 상태를 돌려준다
+        when(policyVersionRepository.findVersion(PolicyVersion.POINT_POLICY))
+                .thenAnswer(invocation -> Optional.of(version.get()));
+        when(policyVersionRepository.bump(PolicyVersion.POINT_POLICY))
+                .thenAnswer(invocation -> {
+                    version.incrementAndGet();
+                    return 1;
+                });
+        when(pointPolicyRepository.findFirstByEnabledTrueOrderByUpdatedAtDesc())
+                .thenAnswer(invocation -> policy.getIsActive() ? Optional.of(policy) : Optional.empty());
+        when(pointPolicyRepository.findById(1L)).thenAnswer(invocation -> Optional.of(policy));
+
+        cache = new PointPolicyCache(pointPolicyRepository, policyVersionRepository, transactionManager);
+        policyService = new PointPolicyService(pointPolicyRepository, cache, userRepository);
+        cache.warmUp();
+    }
+
+    @Test
+    void convertToMoneyReadsPolicyFromSnapshotOnly() {
+        PointBalanceRepository pointBalanceRepository = mock(PointBalanceRepository.class);
+        PointWithdrawalRepository pointWithdrawalRepository = mock(PointWithdrawalRepository.class);
+        UserBankAccountRepository bankAccountRepository = mock(UserBankAccountRepository.class);
+        PointService pointService = new PointService(pointBalanceRepository, mock(PointLedgerRepository.class),
+                pointWithdrawalRepository, cache, userRepository, bankAccountRepository,
+                mock(BankAccountLedgerService.class), mock(AuditService.class), mock(PointLedgerArchiveService.class));
+
+        UserBankAccount account = new UserBankAccount();
+        account.setIsVerified(true);
+        account.setBankName("마이은행");
+        account.setAccountNumberMasked("110-***-1234");
+        when(bankAccountRepository.findByUserIdAndIsDefaultTrue(7L)).thenReturn(Optional.of(account));
+        when(pointWithdrawalRepository.sumDailyWithdrawalAmount(anyLong(), any())).thenReturn(BigDecimal.ZERO);
+        PointBalance balance = new PointBalance(null);
+        balance.setBalance(20000L);
+        when(pointBalanceRepository.findByUserIdForUpdate(7L)).thenReturn(Optional.of(balance));
+        clearInvocations(pointPolicyRepository);
+
+        PointConversionRequest request = new PointConversionRequest();
+        request.setPoints(new BigDecimal("5000"));
+        UserPrincipal user = new UserPrincipal(7L, "user", "pw", "user@mycard.local", "사용자",
+                true, false, null, false, List.of());
+        PointWithdrawalResponse first = pointService.convertToMoney(user, request);
+        pointService.convertToMoney(user, request);
+
+        assertThat(first.getCashAmount()).isEqualByComparingTo("4950");
+        assertThat(balance.getBalance()).isEqualTo(10000L);
+        verifyNoInteractions(pointPolicyRepository);
+    }
+
+    @Test
+    void updatePolicyInstallsNewSnapshotAfterCommit() {
+        assertPublishedAfterCommit(service -> service.updatePolicy(1L, new BigDecimal("0.0300")));
+
+        assertThat(cache.snapshot().feeRate()).isEqualByComparingTo("0.0300");
+    }
+
+    @Test
+    void togglePolicyStatusInstallsNewSnapshotAfterCommit() {
+        assertPublishedAfterCommit(service -> service.togglePolicyStatus(1L));
+
+        // 비활성화로 활성 정책이 없어진 것도 스냅샷에 반영된다
+        assertThat(cache.snapshot().isPresent()).isFalse();
+    }
+
+    @Test
+    void updateActivePolicyInstallsNewSnapshotAfterCommit() {
+        assertPublishedAfterCommit(service -> service.updateActivePolicy(new BigDecimal("0.0200"), 80000L, 99L));
+
+        assertThat(cache.snapshot().feeRate()).isEqualByComparingTo("0.0200");
+        assertThat(cache.snapshot().dailyWithdrawalLimitPoints()).isEqualTo(80000L);
+    }
+
+    @Test
+    void refreshReloadsOnlyWhenVersionRowDiffers() {
+        clearInvocations(pointPolicyRepository);
+
+        cache.refreshIfStale();
+        cache.refreshIfStale();
+        verifyNoInteractions(pointPolicyRepository);
+        assertThat(cache.snapshot().version()).isEqualTo(1L);
+
+        // 다른 노드가 정책을 바꾸고 버전을 올린 경우
+        policy.setFeeRate(new BigDecimal("0.0500"));
+        version.set(2);
+        cache.refreshIfStale();
+        cache.refreshIfStale();
+
+        verify(pointPolicyRepository, times(1)).findFirstByEnabledTrueOrderByUpdatedAtDesc();
+        assertThat(cache.snapshot().version()).isEqualTo(2L);
+        assertThat(cache.snapshot().feeRate()).isEqualByComparingTo("0.0500");
+    }
+
+    /**
+     * 변경을 트랜잭션 안에서 실행하고, 커밋 전에는 이전 스냅샷이 유지되다가 커밋 후 새 버전으로 바뀌는지 확인한다.
+     */
+    private void assertPublishedAfterCommit(Consumer<PointPolicyService> change) {
+        PointPolicyCache.Snapshot before = cache.snapshot();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            change.accept(policyService);
+            assertThat(cache.snapshot()).isSameAs(before);
+        });
+
+        verify(policyVersionRepository).bump(PolicyVersion.POINT_POLICY);
+        assertThat(cache.snapshot()).isNotSameAs(before);
+        assertThat(cache.snapshot().version()).isEqualTo(2L);
+    }
+
+    /**
+     * 자원 없이 트랜잭션 동기화만 수행하는 매니저
+     */
+    private static final class SynchronizingTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
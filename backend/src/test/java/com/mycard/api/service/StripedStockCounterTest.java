@@ -0,0 +1,77 @@
+package com.mycard.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedStockCounterTest {
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        StripedStockCounter counter = new StripedStockCounter(1_000, 8);
+        int threads = 16;
+        int attemptsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int reserved = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (counter.tryReserve(1)) {
+                            reserved++;
+                        }
+                    }
+                    return reserved;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(total).isEqualTo(1_000);
+            assertThat(counter.remaining()).isZero();
+            assertThat(counter.isSoldOut()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reservationLargerThanOneStripeGathersStock() {
+        StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+        assertThat(counter.tryReserve(9)).isTrue();
+        assertThat(counter.tryReserve(2)).isFalse();
+        assertThat(counter.remaining()).isEqualTo(1);
+    }
+
+    @Test
+    void releaseAndAdjustReopenSoldOutStock() {
+        StripedStockCounter counter = new StripedStockCounter(2, 4);
+        assertThat(counter.tryReserve(2)).isTrue();
+        assertThat(counter.tryReserve(1)).isFalse();
+        assertThat(counter.isSoldOut()).isTrue();
+
+        counter.release(1);
+        assertThat(counter.tryReserve(1)).isTrue();
+
+        counter.adjust(5);
+        assertThat(counter.remaining()).isEqualTo(5);
+        counter.adjust(-10);
+        assertThat(counter.remaining()).isZero();
+        assertThat(counter.isSoldOut()).isTrue();
+    }
+}
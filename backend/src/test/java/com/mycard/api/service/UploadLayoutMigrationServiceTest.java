@@ -0,0 +1,228 @@
+package com.mycard.api.service;
+
+import com.mycard.api.util.ShardedPaths;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 평면 경로 -> 해시 디렉터리 이전
+ * attachments/events 테이블은 JdbcTemplate 목 위의 간단한 메모리 테이블로 흉내 내어 재실행 시 남은 행만 다시 조회되는지까지 확인한다.
+ */
+class UploadLayoutMigrationServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final Map<Long, AttachmentRow> attachments = new TreeMap<>();
+    private final Map<Long, String> events = new TreeMap<>();
+    private final List<Long> attachmentUpdates = new ArrayList<>();
+    private final List<Long> eventUpdates = new ArrayList<>();
+    private Long racedAttachmentId;
+    private boolean eventsUnavailable;
+
+    private Path uploads;
+    private Path blobs;
+    private UploadLayoutMigrationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        uploads = dir.resolve("uploads");
+        blobs = dir.resolve("blobs");
+        Files.createDirectories(uploads.resolve("events"));
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        AttachmentBlobStore blobStore = new AttachmentBlobStore(jdbcTemplate, transactionManager,
+                new SimpleMeterRegistry(), blobs.toString(), 60);
+        service = new UploadLayoutMigrationService(jdbcTemplate, transactionManager, blobStore,
+                uploads.toString(), 2, 0);
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+                .thenAnswer(invocation -> select(invocation.getArgument(0), invocation.getArgument(1),
+                        (Object[]) invocation.getRawArguments()[2]));
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenAnswer(invocation -> update(invocation.getArgument(0), (Object[]) invocation.getRawArguments()[1]));
+    }
+
+    @Test
+    void adoptsLegacyAttachmentsAndLinksEventImages() throws Exception {
+        byte[] statement = "legacy statement".getBytes();
+        Path adopted = legacyFile("1111_statement.pdf", statement);
+        Path mismatched = legacyFile("2222_id.png", "id card".getBytes());
+        Path raced = legacyFile("3333_proof.pdf", "income proof".getBytes());
+        attachments.put(1L, new AttachmentRow("1111_statement.pdf", adopted.toString(), sha256(statement)));
+        attachments.put(2L, new AttachmentRow("2222_id.png", mismatched.toString(), "0".repeat(64)));
+        attachments.put(3L, new AttachmentRow("3333_proof.pdf", raced.toString(), null));
+        attachments.put(4L, new AttachmentRow("4444_gone.pdf", uploads.resolve("4444_gone.pdf").toString(), null));
+        racedAttachmentId = 3L;
+
+        Path banner = Files.write(uploads.resolve("events/banner.png"), "banner".getBytes());
+        events.put(10L, ImageUploadService.EVENT_IMAGE_URL_PREFIX + "banner.png");
+        events.put(11L, ImageUploadService.EVENT_IMAGE_URL_PREFIX + "missing.png");
+
+        UploadLayoutMigrationService.MigrationReport report = service.migrate();
+
+        assertThat(report).isEqualTo(new UploadLayoutMigrationService.MigrationReport(
+                1, statement.length, 1, 2, 1, 1));
+
+        // 받아들인 첨부: 행이 blob을 가리키고 원본은 커밋 후 삭제
+        String sha = sha256(statement);
+        AttachmentRow row = attachments.get(1L);
+        assertThat(row.storedFilename).isEqualTo(sha);
+        assertThat(row.checksum).isEqualTo(sha);
+        assertThat(Path.of(row.storageDir)).isEqualTo(ShardedPaths.resolve(blobs.toAbsolutePath().normalize(), sha, sha));
+        assertThat(Files.readAllBytes(Path.of(row.storageDir))).isEqualTo(statement);
+        assertThat(adopted).doesNotExist();
+
+        // 체크섬 불일치, 동시 변경(updated == 0)은 행과 원본을 그대로 둔다
+        assertThat(mismatched).exists();
+        assertThat(attachments.get(2L).storedFilename).isEqualTo("2222_id.png");
+        assertThat(raced).exists();
+        assertThat(attachments.get(3L).storedFilename).isEqualTo("3333_proof.pdf");
+
+        // 이벤트 이미지: 해시 디렉터리로 링크하고 URL을 바꾸며, 캐시된 옛 URL을 위해 원본은 남긴다
+        String relative = ShardedPaths.relative("banner.png");
+        assertThat(events.get(10L)).isEqualTo(ImageUploadService.EVENT_IMAGE_URL_PREFIX + relative);
+        assertThat(uploads.resolve("events").resolve(relative)).hasContent("banner");
+        assertThat(banner).exists();
+        assertThat(events.get(11L)).endsWith("/missing.png");
+    }
+
+    @Test
+    void rerunAfterInterruptionResumesWithoutRedoingMigratedRows() throws Exception {
+        for (long id = 1; id <= 3; id++) {
+            byte[] content = ("attachment " + id).getBytes();
+            attachments.put(id, new AttachmentRow(id + "_doc.pdf", legacyFile(id + "_doc.pdf", content).toString(),
+                    sha256(content)));
+        }
+        Files.write(uploads.resolve("events/banner.png"), "banner".getBytes());
+        events.put(10L, ImageUploadService.EVENT_IMAGE_URL_PREFIX + "banner.png");
+
+        // 첨부를 모두 옮긴 뒤 이벤트 단계에서 멈춘다
+        eventsUnavailable = true;
+        assertThatThrownBy(service::migrate).isInstanceOf(QueryTimeoutException.class);
+        assertThat(attachmentUpdates).containsExactly(1L, 2L, 3L);
+
+        eventsUnavailable = false;
+        UploadLayoutMigrationService.MigrationReport resumed = service.migrate();
+
+        assertThat(resumed).isEqualTo(new UploadLayoutMigrationService.MigrationReport(0, 0, 0, 0, 1, 0));
+        assertThat(attachmentUpdates).containsExactly(1L, 2L, 3L);
+        assertThat(eventUpdates).containsExactly(10L);
+
+        // 한 번 더 실행해도 바뀌는 행이 없다 (이미 해시 경로인 image_url은 건너뜀)
+        assertThat(service.migrate()).isEqualTo(new UploadLayoutMigrationService.MigrationReport(0, 0, 0, 0, 0, 0));
+        assertThat(eventUpdates).containsExactly(10L);
+    }
+
+    private List<Object> select(String sql, RowMapper<?> mapper, Object[] args) throws Exception {
+        List<Object> rows = new ArrayList<>();
+        long lastId = ((Number) args[0]).longValue();
+        if (sql.contains("FROM attachments")) {
+            int limit = ((Number) args[1]).intValue();
+            for (Map.Entry<Long, AttachmentRow> entry : attachments.entrySet()) {
+                AttachmentRow row = entry.getValue();
+                boolean legacy = row.checksum == null || !row.checksum.equals(row.storedFilename);
+                if (entry.getKey() > lastId && legacy && rows.size() < limit) {
+                    rows.add(mapper.mapRow(resultSet(entry.getKey(), row.storageDir, row.checksum), rows.size()));
+                }
+            }
+        } else if (sql.contains("FROM events")) {
+            if (eventsUnavailable) {
+                throw new QueryTimeoutException("events");
+            }
+            String prefix = ((String) args[1]).replace("%", "");
+            int limit = ((Number) args[2]).intValue();
+            for (Map.Entry<Long, String> entry : events.entrySet()) {
+                if (entry.getKey() > lastId && entry.getValue().startsWith(prefix) && rows.size() < limit) {
+                    rows.add(mapper.mapRow(resultSet(entry.getKey(), entry.getValue(), null), rows.size()));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private int update(String sql, Object[] args) {
+        if (sql.startsWith("UPDATE attachments")) {
+            long id = ((Number) args[3]).longValue();
+            AttachmentRow row = attachments.get(id);
+            if (racedAttachmentId != null && racedAttachmentId == id) {
+                // 이전 도중 다른 요청이 파일을 바꿔 저장 경로가 달라진 경우
+                row.storageDir = uploads.resolve("replaced.pdf").toString();
+            }
+            if (!row.storageDir.equals(args[4])) {
+                return 0;
+            }
+            row.storedFilename = (String) args[0];
+            row.storageDir = (String) args[1];
+            row.checksum = (String) args[2];
+            attachmentUpdates.add(id);
+            return 1;
+        }
+        if (sql.startsWith("UPDATE events")) {
+            long id = ((Number) args[1]).longValue();
+            if (!events.get(id).equals(args[2])) {
+                return 0;
+            }
+            events.put(id, (String) args[0]);
+            eventUpdates.add(id);
+            return 1;
+        }
+        // file_blobs 참조 수 증가 (신규 INSERT)
+        return 1;
+    }
+
+    private static ResultSet resultSet(long id, String second, String third) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(id);
+        when(rs.getString(2)).thenReturn(second);
+        when(rs.getString(3)).thenReturn(third);
+        return rs;
+    }
+
+    private Path legacyFile(String name, byte[] content) throws Exception {
+        return Files.write(uploads.resolve(name), content);
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    private static final class AttachmentRow {
+        private String storedFilename;
+        private String storageDir;
+        private String checksum;
+
+        private AttachmentRow(String storedFilename, String storageDir, String checksum) {
+            this.storedFilename = storedFilename;
+            this.storageDir = storageDir;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.mycard.api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UploadOrphanReconcilerTest {
+
+    @TempDir
+    Path dir;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private Path uploads;
+    private Path blobs;
+    private Path quarantine;
+    private UploadOrphanReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        uploads = dir.resolve("uploads");
+        blobs = dir.resolve("blobs");
+        quarantine = dir.resolve("quarantine");
+        reconciler = new UploadOrphanReconciler(jdbcTemplate, new SimpleMeterRegistry(), uploads.toString(),
+                blobs.toString(), quarantine.toString(), 24, 14, 2, 0, 2);
+    }
+
+    @Test
+    void quarantinesUnreferencedFilesOlderThanGrace() throws Exception {
+        String sha = "ab" + "c".repeat(62);
+        Path legacy = file(uploads.resolve("1111_card.pdf"), 10, true);
+        Path legacyOrphan = file(uploads.resolve("2222_left.pdf"), 20, true);
+        Path freshOrphan = file(uploads.resolve("3333_inflight.pdf"), 30, false);
+        Path eventImage = file(uploads.resolve("events/12/34/keep.png"), 40, true);
+        Path eventOrphan = file(uploads.resolve("events/56/78/gone.png"), 50, true);
+        Path blob = file(blobs.resolve("ab/cc/" + sha), 60, true);
+        Path abandonedTemp = file(blobs.resolve("tmp/upload-1.part"), 70, true);
+
+        when(jdbcTemplate.queryForList(startsWith("SELECT image_url"), eq(String.class)))
+                .thenReturn(List.of("/api/uploads/events/12/34/keep.png"));
+        when(jdbcTemplate.queryForList(startsWith("SELECT stored_filename"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of("1111_card.pdf", sha));
+
+        UploadOrphanReconciler.ReconcileReport report = reconciler.reconcile(false);
+
+        assertThat(report.scannedFiles()).isEqualTo(7);
+        assertThat(report.orphanFiles()).isEqualTo(3);
+        assertThat(report.orphanBytes()).isEqualTo(20 + 50 + 70);
+        assertThat(legacy).exists();
+        assertThat(freshOrphan).exists();
+        assertThat(eventImage).exists();
+        assertThat(blob).exists();
+        assertThat(legacyOrphan).doesNotExist();
+        assertThat(eventOrphan).doesNotExist();
+        assertThat(abandonedTemp).doesNotExist();
+
+        Path run = quarantine.resolve(LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE));
+        assertThat(run.resolve("uploads/2222_left.pdf")).hasSize(20);
+        assertThat(run.resolve("uploads/events/56/78/gone.png")).exists();
+        assertThat(run.resolve("blobs/tmp/upload-1.part")).exists();
+    }
+
+    @Test
+    void dryRunReportsWithoutMovingFiles() throws Exception {
+        Path orphan = file(uploads.resolve("2222_left.pdf"), 20, true);
+        when(jdbcTemplate.queryForList(startsWith("SELECT stored_filename"), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of());
+
+        UploadOrphanReconciler.ReconcileReport report = reconciler.reconcile(true);
+
+        assertThat(report.orphanFiles()).isEqualTo(1);
+        assertThat(orphan).exists();
+        assertThat(quarantine).doesNotExist();
+    }
+
+    @Test
+    void purgeDeletesExpiredQuarantineRunsAndReportsReclaimedBytes() throws Exception {
+        file(quarantine.resolve("20200101/uploads/old.pdf"), 100, true);
+        file(quarantine.resolve("20200101/blobs/ab/cd/old"), 28, true);
+        Path recent = file(quarantine.resolve(LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "/uploads/new.pdf"),
+                5, true);
+
+        UploadOrphanReconciler.Purged purged = reconciler.purgeQuarantine();
+
+        assertThat(purged.files()).isEqualTo(2);
+        assertThat(purged.bytes()).isEqualTo(128);
+        assertThat(quarantine.resolve("20200101")).doesNotExist();
+        assertThat(recent).exists();
+    }
+
+    private static Path file(Path path, int size, boolean old) throws Exception {
+        Files.createDirectories(path.getParent());
+        Files.write(path, new byte[size]);
+        if (old) {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        }
+        return path;
+    }
+}
@@ -0,0 +1,227 @@
+package com.mycard.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycard.api.entity.AuditLog;
+import com.mycard.api.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserDirectoryServiceTest {
+
+    private static final String ORDER = " ORDER BY u.id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final AuditService auditService = mock(AuditService.class);
+    private final List<String> sqls = new ArrayList<>();
+    private final List<List<Object>> argLists = new ArrayList<>();
+    /** 회원 ID 1..userCount (키셋 조건을 흉내 내어 ID 내림차순으로 돌려준다) */
+    private int userCount;
+    private UserDirectoryService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        service = new UserDirectoryService(jdbcTemplate, new ObjectMapper().registerModule(new JavaTimeModule()),
+                auditService);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            Object[] args = (Object[]) invocation.getRawArguments()[2];
+            sqls.add(sql);
+            argLists.add(List.of(args));
+            return users(sql, args, invocation.getArgument(1));
+        });
+    }
+
+    @Test
+    void firstPageReadsOneExtraRowAndReturnsCursor() {
+        userCount = 30;
+
+        Map<String, Object> page = service.getPage(filter(null, null, null, null, null, null), null, 10);
+
+        assertThat(sqls.get(0)).endsWith("FROM users u WHERE 1 = 1" + ORDER);
+        assertThat(argLists.get(0)).containsExactly(11);
+        assertThat(page.get("hasNext")).isEqualTo(true);
+        assertThat(page.get("nextCursor")).isEqualTo(21L);
+        assertThat((List<?>) page.get("content")).hasSize(10);
+    }
+
+    @Test
+    void cursorContinuesBelowLastIdAndLastPageHasNoCursor() {
+        userCount = 30;
+
+        Map<String, Object> page = service.getPage(filter(null, null, null, null, null, null), 5L, 10);
+
+        assertThat(sqls.get(0)).endsWith(" AND u.id < ?" + ORDER);
+        assertThat(argLists.get(0)).containsExactly(5L, 11);
+        assertThat(page.get("hasNext")).isEqualTo(false);
+        assertThat(page.get("nextCursor")).isNull();
+        assertThat((List<?>) page.get("content")).hasSize(4);
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        service.getPage(filter(null, null, null, null, null, null), null, 10_000);
+        service.getPage(filter(null, null, null, null, null, null), null, 0);
+
+        assertThat(argLists.get(0)).containsExactly(UserDirectoryService.MAX_PAGE_SIZE + 1);
+        assertThat(argLists.get(1)).containsExactly(2);
+    }
+
+    @Test
+    void eachFilterAddsItsConditionAndArguments() {
+        service.getPage(filter("inactive", null, null, null, null, null), null, 10);
+        assertThat(sqls.get(0)).contains("WHERE 1 = 1 AND u.status = ?" + ORDER);
+        assertThat(argLists.get(0)).containsExactly("DISABLED", 11);
+
+        service.getPage(filter(null, true, null, null, null, null), null, 10);
+        service.getPage(filter(null, false, null, null, null, null), null, 10);
+        assertThat(sqls.get(1)).contains("WHERE 1 = 1 AND u.status = 'LOCKED'" + ORDER);
+        assertThat(sqls.get(2)).contains("WHERE 1 = 1 AND u.status <> 'LOCKED'" + ORDER);
+        assertThat(argLists.get(1)).containsExactly(11);
+
+        // 종료일은 그날 끝까지 포함한다 (다음 날 0시 미만)
+        service.getPage(filter(null, null, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), null, null), null, 10);
+        assertThat(sqls.get(3)).contains("WHERE 1 = 1 AND u.last_login_at >= ? AND u.last_login_at < ?" + ORDER);
+        assertThat(argLists.get(3)).containsExactly(
+                LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 2, 1, 0, 0), 11);
+
+        service.getPage(filter(null, null, null, null, " review_admin ", null), null, 10);
+        assertThat(sqls.get(4)).contains("WHERE 1 = 1 AND EXISTS (SELECT 1 FROM user_roles fr JOIN roles frn "
+                + "ON frn.id = fr.role_id WHERE fr.user_id = u.id AND frn.name = ?)" + ORDER);
+        assertThat(argLists.get(4)).containsExactly("REVIEW_ADMIN", 11);
+
+        // 앞부분 일치 - 입력한 %, _, \ 는 와일드카드가 아닌 글자로 찾는다
+        service.getPage(filter(null, null, null, null, null, " 50%_off\\ "), null, 10);
+        assertThat(sqls.get(5)).contains("WHERE 1 = 1 AND (u.email LIKE ? OR u.name LIKE ?)" + ORDER);
+        assertThat(argLists.get(5)).containsExactly("50\\%\\_off\\\\%", "50\\%\\_off\\\\%", 11);
+    }
+
+    @Test
+    void combinedFiltersKeepTheirOrderBeforeTheCursor() {
+        service.getPage(filter("active", false, LocalDate.of(2026, 3, 1), null, "user", "kim"), 900L, 20);
+
+        assertThat(sqls.get(0)).contains("WHERE 1 = 1 AND u.status = ? AND u.status <> 'LOCKED' "
+                + "AND u.last_login_at >= ? AND EXISTS (SELECT 1 FROM user_roles fr JOIN roles frn "
+                + "ON frn.id = fr.role_id WHERE fr.user_id = u.id AND frn.name = ?) "
+                + "AND (u.email LIKE ? OR u.name LIKE ?) AND u.id < ?" + ORDER);
+        assertThat(argLists.get(0)).containsExactly(
+                "ACTIVE", LocalDateTime.of(2026, 3, 1, 0, 0), "USER", "kim%", "kim%", 900L, 21);
+    }
+
+    @Test
+    void unknownStatusIsRejected() {
+        assertThatThrownBy(() -> service.getPage(filter("deleted", null, null, null, null, null), null, 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rowsArePersonalDataMasked() {
+        userCount = 1;
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> row = ((List<Map<String, Object>>) service.getPage(
+                filter(null, null, null, null, null, null), null, 10).get("content")).get(0);
+
+        assertThat(row.get("name")).isEqualTo("홍*동1");
+        assertThat(row.get("email")).isEqualTo("us**@mycard.local");
+        assertThat(row.get("phone")).isEqualTo("010-1234-****");
+        assertThat(row.get("status")).isEqualTo("INACTIVE");
+        assertThat(row.get("roles")).isEqualTo("USER");
+    }
+
+    @Test
+    void exportStreamsEveryBatchAndAuditsOnce() throws Exception {
+        userCount = 2345;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = service.export(filter(null, null, null, null, null, null), "ndjson", out);
+
+        assertThat(written).isEqualTo(2345);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2345);
+        assertThat(lines[0]).contains("\"id\":2345").contains("us**@mycard.local");
+        assertThat(lines[2344]).contains("\"id\":1,");
+        // 1000건씩 키셋으로 이어 읽는다 (마지막 배치가 1000건 미만이면 끝)
+        assertThat(argLists).containsExactly(List.of(1000), List.of(1346L, 1000), List.of(346L, 1000));
+        verify(auditService).log(eq(AuditLog.ActionType.EXPORT), eq("User"), isNull(), contains("rows=2345"));
+    }
+
+    @Test
+    void csvExportWritesBomHeaderAndMaskedRows() throws Exception {
+        userCount = 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(filter(null, null, null, null, null, null), "csv", out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0]).isEqualTo("﻿id,name,email,phone,status,roles,lastLoginAt,createdAt");
+        assertThat(lines[1]).startsWith("2,홍*동2,us**@mycard.local,010-1234-****,INACTIVE,USER,");
+        assertThat(lines).hasSize(3);
+        verify(auditService).log(eq(AuditLog.ActionType.EXPORT), eq("User"), isNull(), contains("format=csv"));
+    }
+
+    @Test
+    void csvEscapeQuotesDelimitersAndNeutralizesFormulas() {
+        assertThat(UserDirectoryService.csvEscape("홍*동")).isEqualTo("홍*동");
+        assertThat(UserDirectoryService.csvEscape("USER,OPERATOR")).isEqualTo("\"USER,OPERATOR\"");
+        assertThat(UserDirectoryService.csvEscape("a\"b")).isEqualTo("\"a\"\"b\"");
+        assertThat(UserDirectoryService.csvEscape("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+    }
+
+    private static UserDirectoryService.Filter filter(String status, Boolean locked, LocalDate from, LocalDate to,
+                                                      String role, String keyword) {
+        return new UserDirectoryService.Filter(status, locked, from, to, role, keyword);
+    }
+
+    private List<Object> users(String sql, Object[] args, RowMapper<?> mapper) throws Exception {
+        long below = sql.contains("u.id < ?") ? (Long) args[args.length - 2] : Long.MAX_VALUE;
+        int limit = (Integer) args[args.length - 1];
+        long[] current = new long[1];
+        ResultSet rs = user(current);
+        List<Object> rows = new ArrayList<>();
+        for (long id = Math.min(userCount, below - 1); id >= 1 && rows.size() < limit; id--) {
+            current[0] = id;
+            rows.add(mapper.mapRow(rs, rows.size()));
+        }
+        return rows;
+    }
+
+    /**
+     * current[0]번 회원 행을 가리키는 ResultSet
+     */
+    private static ResultSet user(long[] current) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenAnswer(invocation -> current[0]);
+        when(rs.getString("name")).thenAnswer(invocation -> "홍길동" + current[0]);
+        when(rs.getString("email")).thenAnswer(invocation -> "user" + current[0] + "@mycard.local");
+        when(rs.getString("phone")).thenReturn("010-1234-5678");
+        when(rs.getString("status")).thenReturn("DISABLED");
+        when(rs.getString("roles")).thenReturn("USER");
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(LocalDateTime.of(2026, 1, 1, 9, 0)));
+        return rs;
+    }
+}
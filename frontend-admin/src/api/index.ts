@@ -1,5 +1,5 @@
 import { adminApiClient } from './client';
-import type { AuditLog, CardApplication, LoanDetail, LoanListItem, Paged, QueueItem } from '@/types';
+import type { AuditLog, CardApplication, LoanDetail, LoanListItem, Paged, QueueItem, UserDirectoryPage, UserDirectoryParams } from '@/types';
 
 export const adminApi = {
   dashboard: () => adminApiClient.get('/admin/dashboard').then((r) => r.data),
@@ -31,7 +31,12 @@ export const adminApi = {
   },
   sendMessage: (payload: { userId: string; content: string }) => adminApiClient.post('/admin/messages', payload),
   messages: () => adminApiClient.get('/admin/messages').then((r) => r.data),
-  users: () => adminApiClient.get('/admin/users').then((r) => r.data),
+  /** 사용자 디렉터리 (키셋 페이징: 다음 페이지는 nextCursor를 cursor로 전달) */
+  users: (params?: UserDirectoryParams) =>
+    adminApiClient.get<UserDirectoryPage>('/admin/users', { params }).then((r) => r.data),
+  /** 운영자용 사용자 디렉터리 (응답 형식은 users와 동일) */
+  operatorUsers: (params?: UserDirectoryParams) =>
+    adminApiClient.get<UserDirectoryPage>('/operator/users', { params }).then((r) => r.data),
   updateUserState: (userId: number, state: string) => adminApiClient.patch(`/admin/users/${userId}/state`, { state }),
   grantPoints: (userId: number, payload: { points: number; reason: string }, secondaryPassword: string) =>
     adminApiClient.post(`/admin/users/${userId}/points/grant`, payload, { params: { secondaryPassword } }).then((r) => r.data),
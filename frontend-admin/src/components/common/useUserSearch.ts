@@ -0,0 +1,39 @@
+import { useEffect, useState } from 'react';
+import { useQuery } from '@tanstack/react-query';
+import type { DirectoryUser, UserDirectoryPage, UserDirectoryParams } from '@/types';
+
+const SEARCH_SIZE = 20;
+const DEBOUNCE_MS = 300;
+
+/**
+ * 사용자 선택 Autocomplete용 서버 검색.
+ * 회원 디렉터리는 키셋 페이지라 첫 페이지만 받아서는 전체 회원을 고를 수 없으므로,
+ * 입력한 이메일/이름 앞부분(keyword)으로 서버에서 찾아 상위 SEARCH_SIZE건만 후보로 보여준다.
+ */
+export const useUserSearch = (
+  queryKey: string,
+  search: (params: UserDirectoryParams) => Promise<UserDirectoryPage>
+) => {
+  const [input, setInput] = useState('');
+  const [keyword, setKeyword] = useState('');
+
+  useEffect(() => {
+    const timer = setTimeout(() => setKeyword(input.trim()), DEBOUNCE_MS);
+    return () => clearTimeout(timer);
+  }, [input]);
+
+  const { data, isFetching } = useQuery({
+    queryKey: [queryKey, keyword],
+    queryFn: () => search({ keyword, size: SEARCH_SIZE }),
+    enabled: keyword.length > 0,
+    staleTime: 30_000,
+  });
+
+  return {
+    options: (keyword ? data?.content : undefined) ?? ([] as DirectoryUser[]),
+    loading: isFetching,
+    hasMore: data?.hasNext ?? false,
+    onInputChange: (_: unknown, value: string) => setInput(value),
+    noOptionsText: keyword ? '검색 결과가 없습니다' : '이메일 또는 이름을 입력하세요',
+  };
+};
@@ -1,11 +1,12 @@
 import { useState, useEffect } from 'react';
 import { Box, Button, Card, CardContent, Dialog, DialogActions, DialogContent, DialogTitle, Paper, Table, TableBody, TableCell, TableContainer, TableHead, TableRow, TextField, Typography, Tabs, Tab, FormControl, InputLabel, Select, MenuItem, Autocomplete } from '@mui/material';
-import { useQuery } from '@tanstack/react-query';
 import { adminApiClient } from '@/api/client';
 import { adminApi } from '@/api';
 import { maskName } from '@shared/masking';
 import { useAdminAuth } from '@/contexts/AdminAuthContext';
 import { sanitizeBoardInput, toSafePlainText } from '@/utils/safeHtml';
+import { useUserSearch } from '@/components/common/useUserSearch';
+import type { DirectoryUser } from '@/types';
 
 interface Board {
     id: number;
@@ -36,14 +37,13 @@ export const AdminInquiryBoardPage = () => {
 
     const [formData, setFormData] = useState({ title: '', content: '', category: '사이트 문의', allowedUsers: '', isPrivate: false });
 
-    const { data: usersData } = useQuery({
-        queryKey: ['admin-users'],
-        queryFn: () => adminApi.users(),
-    });
+    // 열람 허용 대상자는 서버 검색으로 고르고, 고른 사용자는 검색어가 바뀌어도 유지한다
+    const [allowedUserOptions, setAllowedUserOptions] = useState<DirectoryUser[]>([]);
+    const userSearch = useUserSearch('operator-user-search', adminApi.operatorUsers);
 
     const fetchBoards = async () => {
-        const res = await adminApiClient.get('/board', { params: { keyword: searchQuery, category: categoryTab } });
-        setBoards(res.data);
+        const res = await adminApiClient.get('/board', { params: { keyword: searchQuery, category: categoryTab, size: 100 } });
+        setBoards(res.data.content ?? []);
     };
 
     useEffect(() => {
@@ -63,6 +63,7 @@ export const AdminInquiryBoardPage = () => {
         await adminApiClient.post('/board', payload);
         setOpenForm(false);
         setFormData({ title: '', content: '', category: '사이트 문의', allowedUsers: '', isPrivate: false });
+        setAllowedUserOptions([]);
         fetchBoards();
     };
 
@@ -196,11 +197,17 @@ export const AdminInquiryBoardPage = () => {
                     <Autocomplete
                         multiple
                         size="small"
-                        options={usersData || []}
-                        getOptionLabel={(option: any) => `${option.name} (${option.email.split('@')[0]})`}
-                        value={(usersData || []).filter((u: any) => formData.allowedUsers.split(',').filter(Boolean).includes(u.name))}
+                        options={userSearch.options}
+                        loading={userSearch.loading}
+                        filterOptions={(options) => options}
+                        onInputChange={userSearch.onInputChange}
+                        noOptionsText={userSearch.noOptionsText}
+                        getOptionLabel={(option: DirectoryUser) => `${option.name} (${option.email.split('@')[0]})`}
+                        isOptionEqualToValue={(option, value) => option.id === value.id}
+                        value={allowedUserOptions}
                         onChange={(_, newValue) => {
-                            setFormData({ ...formData, allowedUsers: newValue.map((v: any) => v.name).join(',') });
+                            setAllowedUserOptions(newValue);
+                            setFormData({ ...formData, allowedUsers: newValue.map((v) => v.name).join(',') });
                         }}
                         renderInput={(params) => (
                             <TextField
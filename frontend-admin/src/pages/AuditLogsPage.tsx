@@ -17,7 +17,7 @@ export const AuditLogsPage = () => {
   const { data, isLoading, error } = useQuery({
     queryKey: ['audit-logs', action, actor, page],
     queryFn: async () => {
-      return await adminApi.auditLogs({ action, actor, page, size: PAGE_SIZE });
+      return await adminApi.auditLogs({ action, actorId: actor || undefined, page, size: PAGE_SIZE });
     },
   });
 
@@ -37,9 +37,9 @@ export const AuditLogsPage = () => {
           size="small"
         />
         <TextField
-          label="Actor"
+          label="Actor ID"
           value={actor}
-          onChange={(e) => { setActor(e.target.value); setPage(0); }}
+          onChange={(e) => { setActor(e.target.value.replace(/\D/g, '')); setPage(0); }}
           size="small"
         />
       </Stack>
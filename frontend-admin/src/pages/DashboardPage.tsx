@@ -10,6 +10,7 @@ interface DashboardData {
   pendingDocuments?: number;
   unreadMessages?: number;
   lockedUsers?: number;
+  pendingCardApplications?: number;
   recentInquiries?: { id: number; title: string; status: string; assignee?: string; createdAt: string }[];
   // Operator dashboard fields
   unassignedInquiries?: number;
@@ -112,7 +113,9 @@ export const AdminDashboardPage = () => {
   // ADMIN용 대시보드
   const stats = [
     ['오늘 문의', data.todayInquiries ?? 0],
+    ['처리 중 문의', data.openInquiries ?? 0],
     ['문서 대기', data.pendingDocuments ?? 0],
+    ['카드 신청 대기', data.pendingCardApplications ?? 0],
     ['미처리 메시지', data.unreadMessages ?? 0],
     ['잠금 사용자', data.lockedUsers ?? 0],
   ];
@@ -124,7 +127,7 @@ export const AdminDashboardPage = () => {
       </Typography>
       <Grid container spacing={2} sx={{ mb: 2 }}>
         {stats.map(([title, value]) => (
-          <Grid item xs={12} md={3} key={String(title)}>
+          <Grid item xs={12} sm={4} md={2} key={String(title)}>
             <Card>
               <CardContent>
                 <Typography color="text.secondary">{title}</Typography>
@@ -11,6 +11,8 @@ import { adminApi } from '@/api';
 import { AdminTable } from '@/components/common/AdminTable';
 import { useAdminSnackbar } from '@/contexts/SnackbarContext';
 import { formatDateTime } from '@/utils/dateUtils';
+import { useUserSearch } from '@/components/common/useUserSearch';
+import type { DirectoryUser } from '@/types';
 
 const schema = z.object({
   userId: z.string().min(1, '수신 사용자를 선택하세요.'),
@@ -27,28 +29,14 @@ interface Message {
   sentAt: string;
 }
 
-interface User {
-  id: number;
-  name: string;
-  email: string;
-}
-
 export const MessagesPage = () => {
   const { show } = useAdminSnackbar();
   const queryClient = useQueryClient();
   const [selectedMessage, setSelectedMessage] = useState<Message | null>(null);
 
-  const { data: usersData } = useQuery<{ content: User[] } | User[]>({
-    queryKey: ['admin-users-for-messages'],
-    queryFn: async () => {
-      return await adminApi.users();
-    },
-  });
-
-  // Page 응답 또는 배열 처리
-  const users: User[] = Array.isArray(usersData) 
-    ? usersData 
-    : (usersData as { content: User[] })?.content || [];
+  // 수신자는 서버 검색(이메일/이름 앞부분)으로 고른다 - 디렉터리 첫 페이지에 없는 회원도 선택 가능
+  const [selectedUser, setSelectedUser] = useState<DirectoryUser | null>(null);
+  const userSearch = useUserSearch('admin-user-search', adminApi.users);
 
   const { data, isLoading, error } = useQuery<Message[]>({
     queryKey: ['admin-messages'],
@@ -70,17 +58,16 @@ export const MessagesPage = () => {
       await adminApi.sendMessage(value);
       show('메시지가 발송되었습니다.', 'success');
       reset();
+      setSelectedUser(null);
       queryClient.invalidateQueries({ queryKey: ['admin-messages'] });
     } catch {
       show('메시지 발송에 실패했습니다.', 'error');
     }
   };
 
-  // 사용자 ID로 이름 찾기
-  const getUserName = (userId: string) => {
-    const user = users.find(u => u.id.toString() === userId);
-    return user ? `${user.name} (${user.email})` : `ID: ${userId}`;
-  };
+  // 수신자 표시 (목록 응답의 이름, 없으면 ID)
+  const getUserName = (message: Message) =>
+    message.userName ? message.userName : `ID: ${message.userId}`;
 
   return (
     <Box>
@@ -96,10 +83,16 @@ export const MessagesPage = () => {
                 control={control}
                 render={({ field }) => (
                   <Autocomplete
-                    options={users}
+                    options={userSearch.options}
+                    loading={userSearch.loading}
+                    filterOptions={(options) => options}
+                    onInputChange={userSearch.onInputChange}
                     getOptionLabel={(option) => `${option.name} (${option.email})`}
-                    value={users.find(u => u.id.toString() === field.value) || null}
-                    onChange={(_, newValue) => field.onChange(newValue?.id.toString() || '')}
+                    value={field.value && selectedUser?.id.toString() === field.value ? selectedUser : null}
+                    onChange={(_, newValue) => {
+                      setSelectedUser(newValue);
+                      field.onChange(newValue?.id.toString() || '');
+                    }}
                     renderInput={(params) => (
                       <TextField
                         {...params}
@@ -110,7 +103,7 @@ export const MessagesPage = () => {
                       />
                     )}
                     isOptionEqualToValue={(option, value) => option.id === value.id}
-                    noOptionsText="사용자가 없습니다"
+                    noOptionsText={userSearch.noOptionsText}
                   />
                 )}
               />
@@ -153,7 +146,7 @@ export const MessagesPage = () => {
               flex: 1,
               renderCell: (params) => (
                 <Typography variant="body2">
-                  {getUserName(params.row.userId)}
+                  {getUserName(params.row)}
                 </Typography>
               )
             },
@@ -202,7 +195,7 @@ export const MessagesPage = () => {
           {selectedMessage && (
             <Box sx={{ pt: 1 }}>
               <Typography variant="body2" color="text.secondary" sx={{ mb: 1 }}>
-                수신자: {getUserName(selectedMessage.userId)}
+                수신자: {getUserName(selectedMessage)}
               </Typography>
               <Typography variant="body2" color="text.secondary" sx={{ mb: 2 }}>
                 발송일시: {formatDateTime(selectedMessage.sentAt)}
@@ -1,4 +1,4 @@
-import { Box, Button, Chip, CircularProgress, Stack, Typography, Dialog, DialogTitle, DialogContent, DialogActions, TextField } from '@mui/material';
+import { Box, Button, Chip, CircularProgress, MenuItem, Stack, Typography, Dialog, DialogTitle, DialogContent, DialogActions, TextField } from '@mui/material';
 import { useState } from 'react';
 import { useMutation, useQuery, useQueryClient } from '@tanstack/react-query';
 import { adminApi } from '@/api';
@@ -17,6 +17,14 @@ interface User {
   lastLoginAt?: string;
 }
 
+interface UserDirectoryPage {
+  content: User[];
+  hasNext: boolean;
+  nextCursor?: number | null;
+}
+
+const PAGE_SIZE = 50;
+
 const getStatusInfo = (status: string) => {
   switch (status) {
     case 'ACTIVE':
@@ -45,10 +53,16 @@ export const UsersPage = () => {
   const [secondAuthOpen, setSecondAuthOpen] = useState(false);
   const [pendingAction, setPendingAction] = useState<'grant'|'revoke'|null>(null);
 
-  const { data, isLoading, error } = useQuery({
-    queryKey: ['admin-users'],
-    queryFn: () => adminApi.users(),
+  const [statusFilter, setStatusFilter] = useState('');
+  // 키셋 페이징: 지나온 페이지의 cursor를 쌓아 이전 페이지로 돌아간다
+  const [cursors, setCursors] = useState<(number | undefined)[]>([undefined]);
+  const cursor = cursors[cursors.length - 1];
+
+  const { data, isLoading, error } = useQuery<UserDirectoryPage>({
+    queryKey: ['admin-users', statusFilter, cursor],
+    queryFn: () => adminApi.users({ status: statusFilter || undefined, cursor, size: PAGE_SIZE }),
   });
+  const rows = data?.content ?? [];
 
   const updateState = async (id: number, state: string) => {
     try {
@@ -184,13 +198,42 @@ export const UsersPage = () => {
           {INACTIVE_DAYS}일 미접속 비활성 처리
         </Button>
       </Stack>
-      {(!data || data.length === 0) ? (
+      <Stack direction="row" spacing={1} alignItems="center" sx={{ mb: 2 }}>
+        <TextField
+          select
+          size="small"
+          label="상태"
+          value={statusFilter}
+          onChange={(e) => {
+            setStatusFilter(e.target.value);
+            setCursors([undefined]);
+          }}
+          sx={{ minWidth: 140 }}
+        >
+          <MenuItem value="">전체</MenuItem>
+          <MenuItem value="ACTIVE">활성</MenuItem>
+          <MenuItem value="LOCKED">잠금</MenuItem>
+          <MenuItem value="INACTIVE">비활성</MenuItem>
+        </TextField>
+        <Box sx={{ flex: 1 }} />
+        <Button size="small" disabled={cursors.length <= 1} onClick={() => setCursors(cursors.slice(0, -1))}>
+          이전
+        </Button>
+        <Button
+          size="small"
+          disabled={!data?.hasNext}
+          onClick={() => data?.nextCursor && setCursors([...cursors, data.nextCursor])}
+        >
+          다음
+        </Button>
+      </Stack>
+      {rows.length === 0 ? (
         <Box sx={{ textAlign: 'center', py: 4 }}>
           <Typography color="text.secondary">등록된 사용자가 없습니다.</Typography>
         </Box>
       ) : (
         <AdminTable
-          rows={data}
+          rows={rows}
           getRowId={(row: { id: number }) => row.id}
           columns={[
             { field: 'name', headerName: '이름', flex: 1 },
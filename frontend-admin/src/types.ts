@@ -1,4 +1,4 @@
-import type { AuthUser, PageResponse } from '@shared/types';
+import type { AuthUser, CursorPage, PageResponse } from '@shared/types';
 
 export interface AdminLoginRequest {
   email: string;
@@ -82,6 +82,29 @@ export interface CardApplication {
 
 export type Paged<T> = PageResponse<T>;
 
+/** 회원 디렉터리 행 (/admin/users, /operator/users - 이름/이메일/연락처 마스킹) */
+export interface DirectoryUser {
+  id: number;
+  name: string;
+  email: string;
+  phone?: string | null;
+  status: string;
+  roles?: string | null;
+  lastLoginAt?: string | null;
+  createdAt?: string;
+}
+
+export type UserDirectoryParams = {
+  status?: string;
+  locked?: boolean;
+  role?: string;
+  keyword?: string;
+  cursor?: number;
+  size?: number;
+};
+
+export type UserDirectoryPage = CursorPage<DirectoryUser>;
+
 // 대출 (관리자 현황 - 백엔드 /loans API 동일)
 export type LoanType = 'CASH_ADVANCE' | 'CARD_LOAN';
 export type LoanStatus = 'REQUESTED' | 'APPROVED' | 'DISBURSED' | 'REPAID' | 'CANCELED';
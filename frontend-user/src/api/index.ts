@@ -4,6 +4,7 @@ import type {
   CardItem,
   CardApplication,
   CardApplicationRequest,
+  Cursored,
   DashboardSummary,
   DocumentItem,
   Inquiry,
@@ -51,8 +52,9 @@ export const cardsApi = {
 
 export const pointsApi = {
   balance: () => apiClient.get<{ totalPoints: number; availablePoints: number; expiringPoints: number; expiringDate: string | null }>('/points/balance').then((r) => r.data),
-  ledger: (params: Record<string, unknown>) =>
-    apiClient.get<Paged<PointLedger>>('/points/ledger', { params }).then((r) => r.data),
+  /** 포인트 내역 (키셋 페이징: 다음 페이지는 nextCursor를 cursor로 전달) */
+  ledger: (params: { type?: string; cursor?: number; size?: number }) =>
+    apiClient.get<Cursored<PointLedger>>('/points/ledger', { params }).then((r) => r.data),
   convert: (points: number, accountId?: number) =>
     apiClient.post('/points/convert', { points, accountId }).then((r) => r.data),
   withdrawals: (params: Record<string, unknown>) =>
@@ -141,7 +143,13 @@ export const notificationsApi = {
     const data = r.data as any;
     return data.content || data || [];
   }),
-  read: (id: number) => apiClient.get(`/messages/${id}`), // 상세 조회 시 읽음 처리됨
+  // 상세 조회 시 읽음 처리됨 (세그먼트 공지는 브로드캐스트 ID로 별도 경로)
+  read: (notification: Pick<NotificationItem, 'id' | 'source'>) =>
+    apiClient.get(
+      notification.source === 'BROADCAST'
+        ? `/messages/broadcasts/${notification.id}`
+        : `/messages/${notification.id}`,
+    ),
   markAllRead: () => apiClient.post('/messages/mark-all-read'),
   unreadCount: () => apiClient.get<{ count: number }>('/messages/unread-count').then((r) => r.data),
 };
@@ -0,0 +1,93 @@
+import { apiClient, tokenStorage } from './client';
+
+export type NotificationStreamEvent = 'connected' | 'message' | 'application-status';
+
+const RETRY_MIN_MS = 3000;
+const RETRY_MAX_MS = 30000;
+
+/**
+ * 알림 스트림(/notifications/stream) 구독.
+ * EventSource는 Authorization 헤더를 보낼 수 없어 fetch 스트림을 직접 읽는다.
+ * 연결이 끊기면(서버 타임아웃/버퍼 초과/전송 지연 종료 포함) 점점 늘어나는 간격으로 다시 연결하며,
+ * 재연결 직후 connected 이벤트를 받으면 호출자가 목록을 다시 조회해 끊긴 동안의 알림을 채운다.
+ * 반환 함수를 호출하면 구독을 끝낸다.
+ */
+export const subscribeNotificationStream = (
+  onEvent: (event: NotificationStreamEvent, data: unknown) => void
+): (() => void) => {
+  const controller = new AbortController();
+  let retryMs = RETRY_MIN_MS;
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const token = tokenStorage.getAccessToken();
+        const response = await fetch(`${apiClient.defaults.baseURL}/notifications/stream`, {
+          headers: {
+            Accept: 'text/event-stream',
+            ...(token ? { Authorization: `Bearer ${token}` } : {}),
+          },
+          credentials: apiClient.defaults.withCredentials ? 'include' : 'same-origin',
+          signal: controller.signal,
+        });
+        if (response.ok && response.body) {
+          retryMs = RETRY_MIN_MS;
+          await readEvents(response.body, onEvent);
+        }
+      } catch {
+        // 네트워크 오류 또는 구독 종료(abort)
+      }
+      if (controller.signal.aborted) {
+        return;
+      }
+      await new Promise((resolve) => setTimeout(resolve, retryMs));
+      retryMs = Math.min(retryMs * 2, RETRY_MAX_MS);
+    }
+  };
+
+  void connect();
+  return () => controller.abort();
+};
+
+/** text/event-stream 본문을 이벤트 단위(빈 줄 구분)로 잘라 전달한다. 주석(:ping) 라인은 건너뛴다. */
+const readEvents = async (
+  body: ReadableStream<Uint8Array>,
+  onEvent: (event: NotificationStreamEvent, data: unknown) => void
+) => {
+  const reader = body.getReader();
+  const decoder = new TextDecoder();
+  let buffer = '';
+  for (;;) {
+    const { done, value } = await reader.read();
+    if (done) {
+      return;
+    }
+    buffer += decoder.decode(value, { stream: true }).replace(/\r\n?/g, '\n');
+    let boundary: number;
+    while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+      const frame = buffer.slice(0, boundary);
+      buffer = buffer.slice(boundary + 2);
+
+      let name = 'message';
+      const dataLines: string[] = [];
+      for (const line of frame.split('\n')) {
+        if (line.startsWith('event:')) {
+          name = line.slice(6).trim();
+        } else if (line.startsWith('data:')) {
+          dataLines.push(line.slice(5).replace(/^ /, ''));
+        }
+      }
+      if (dataLines.length === 0) {
+        continue;
+      }
+      const raw = dataLines.join('\n');
+      let data: unknown = raw;
+      try {
+        data = JSON.parse(raw);
+      } catch {
+        // 문자열 데이터
+      }
+      onEvent(name as NotificationStreamEvent, data);
+    }
+  }
+};
@@ -28,11 +28,13 @@ import HomeIcon from '@mui/icons-material/Home';
 import LogoutIcon from '@mui/icons-material/Logout';
 import { useState, useEffect } from 'react';
 import { Link as RouterLink, Outlet, useLocation, useNavigate } from 'react-router-dom';
+import { useQueryClient } from '@tanstack/react-query';
 import { maskName } from '@shared/masking';
 import { userMenu } from '@shared/menu';
 import { useAuth } from '@/contexts/AuthContext';
 import { SecureKeypad } from '@/components/common/SecureKeypad';
 import { authApi } from '@/api';
+import { subscribeNotificationStream } from '@/api/notificationStream';
 import { ChatBot } from '@/components/common/ChatBot';
 import { isSecondAuthPassed, markSecondAuthPassed, secondAuthRequiredEventName } from '@/utils/secondAuth';
 
@@ -69,6 +71,7 @@ export const UserLayout = () => {
   const location = useLocation();
   const navigate = useNavigate();
   const { logout, user } = useAuth();
+  const queryClient = useQueryClient();
 
   const [isSecondAuthPassedState, setIsSecondAuthPassedState] = useState(() => isSecondAuthPassed());
   const [secondPwd, setSecondPwd] = useState('');
@@ -88,6 +91,19 @@ export const UserLayout = () => {
     return () => window.removeEventListener(secondAuthRequiredEventName, syncSecondAuthState);
   }, []);
 
+  // 실시간 알림: 새 알림/신청 상태 변경 시 관련 목록을 다시 조회하고, (재)연결 시에도 끊긴 동안의 알림을 채운다
+  const userId = user?.id;
+  useEffect(() => {
+    if (!userId) return;
+    return subscribeNotificationStream((event) => {
+      queryClient.invalidateQueries({ queryKey: ['notifications'] });
+      if (event === 'application-status') {
+        queryClient.invalidateQueries({ queryKey: ['card-applications-for-notifications'] });
+        queryClient.invalidateQueries({ queryKey: ['user-dashboard'] });
+      }
+    });
+  }, [userId, queryClient]);
+
   useEffect(() => {
     if (secondPwd.length === 6) {
       if (isSetupMode) {
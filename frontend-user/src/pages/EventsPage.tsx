@@ -91,7 +91,11 @@ export const EventsPage = () => {
     }
   };
 
-  const getEventImage = (event: Event, index: number) => {
+  // 업로드된 이벤트 이미지는 표시 폭에 맞는 축소본(?w=)을 받는다
+  const getEventImage = (event: Event, index: number, width = 640) => {
+    if (event.imageUrl?.startsWith('/api/uploads/events/')) {
+      return `${event.imageUrl}?w=${width}`;
+    }
     return event.imageUrl || DEFAULT_IMAGES[index % DEFAULT_IMAGES.length];
   };
 
@@ -234,7 +238,7 @@ export const EventsPage = () => {
               <CardMedia
                 component="img"
                 height="240"
-                image={getEventImage(selectedEvent, events.findIndex(e => e.id === selectedEvent.id))}
+                image={getEventImage(selectedEvent, events.findIndex(e => e.id === selectedEvent.id), 1280)}
                 alt={selectedEvent.title}
                 sx={{ objectFit: 'cover', borderRadius: 1, mb: 2 }}
               />
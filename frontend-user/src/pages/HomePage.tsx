@@ -254,7 +254,10 @@ export const HomePage = () => {
               {events.map((event, index) => {
                 const badgeLabel = event.status === 'ACTIVE' ? '진행중' : event.status === 'DRAFT' ? '예정' : '종료';
                 const badgeColor = event.status === 'ACTIVE' ? '#d32f2f' : event.status === 'DRAFT' ? '#1976d2' : '#999';
-                const imageUrl = event.imageUrl || DEFAULT_EVENT_IMAGES[index % DEFAULT_EVENT_IMAGES.length];
+                // 업로드된 이벤트 이미지는 카드 폭에 맞는 축소본(?w=)을 받는다
+                const imageUrl = event.imageUrl?.startsWith('/api/uploads/events/')
+                  ? `${event.imageUrl}?w=640`
+                  : event.imageUrl || DEFAULT_EVENT_IMAGES[index % DEFAULT_EVENT_IMAGES.length];
                 const startDate = new Date(event.startDate).toLocaleDateString('ko-KR');
                 const endDate = new Date(event.endDate).toLocaleDateString('ko-KR');
                 return (
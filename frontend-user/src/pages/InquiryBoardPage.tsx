@@ -57,8 +57,8 @@ export const InquiryBoardPage = () => {
     // 페이지 진입 시 2차 비밀번호 인증 여부는 글쓰기 시에 체크되므로 자동 모달 띄우기 제거
 
     const fetchBoards = async () => {
-        const res = await apiClient.get('/board', { params: { keyword: searchQuery, category: categoryTab } });
-        setBoards(res.data);
+        const res = await apiClient.get('/board', { params: { keyword: searchQuery, category: categoryTab, size: 100 } });
+        setBoards(res.data.content ?? []);
     };
 
     useEffect(() => {
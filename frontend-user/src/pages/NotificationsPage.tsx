@@ -96,7 +96,7 @@ export const NotificationsPage = () => {
     
     if (isUnread(notification)) {
       try {
-        await notificationsApi.read(notification.id);
+        await notificationsApi.read(notification);
         queryClient.invalidateQueries({ queryKey: ['notifications'] });
       } catch {
         // fallback data doesn't need API call
@@ -147,7 +147,7 @@ export const NotificationsPage = () => {
               const categoryInfo = getCategoryInfo(notification.category);
               return (
                 <Box
-                  key={notification.id}
+                  key={`${notification.source ?? 'DIRECT'}-${notification.id}`}
                   onClick={() => handleReadNotification(notification)}
                   sx={{
                     p: 2.5,
@@ -105,7 +105,7 @@ export const PointsPage = () => {
   // 포인트 내역 조회
   const { data: ledger, isLoading: ledgerLoading } = useQuery({
     queryKey: ['points-ledger'],
-    queryFn: () => pointsApi.ledger({ page: 0, size: 20 }).catch(() => ({ content: [], totalElements: 0 })),
+    queryFn: () => pointsApi.ledger({ size: 20 }).catch(() => ({ content: [], size: 20, hasNext: false, nextCursor: null })),
   });
 
   // 계좌 목록 조회
@@ -76,7 +76,11 @@ export const PublicEventsPage = () => {
 
   const events: Event[] = data ?? [];
 
-  const getEventImage = (event: Event, index: number) => {
+  // 업로드된 이벤트 이미지는 표시 폭에 맞는 축소본(?w=)을 받는다
+  const getEventImage = (event: Event, index: number, width = 640) => {
+    if (event.imageUrl?.startsWith('/api/uploads/events/')) {
+      return `${event.imageUrl}?w=${width}`;
+    }
     return event.imageUrl || EVENT_IMAGES[index % EVENT_IMAGES.length];
   };
 
@@ -265,7 +269,7 @@ export const PublicEventsPage = () => {
             <DialogContent>
               <Box
                 component="img"
-                src={getEventImage(selectedEvent, events.findIndex(e => e.id === selectedEvent.id))}
+                src={getEventImage(selectedEvent, events.findIndex(e => e.id === selectedEvent.id), 1280)}
                 alt={selectedEvent.title}
                 sx={{ width: '100%', height: 200, objectFit: 'cover', borderRadius: 1, mb: 2 }}
               />
@@ -1,4 +1,4 @@
-import type { AuthUser, PageResponse } from '@shared/types';
+import type { AuthUser, CursorPage, PageResponse } from '@shared/types';
 
 export interface ApiError {
   code: string;
@@ -117,7 +117,9 @@ export interface DocumentItem {
 }
 
 export interface NotificationItem {
+  /** source가 BROADCAST면 브로드캐스트 ID (개별 메시지 ID와 겹칠 수 있음) */
   id: number;
+  source?: 'DIRECT' | 'BROADCAST';
   category: string;
   title: string;
   content?: string;
@@ -191,6 +193,7 @@ export interface CardApplication {
 }
 
 export type Paged<T> = PageResponse<T>;
+export type Cursored<T> = CursorPage<T>;
 
 export type LoanType = 'CASH_ADVANCE' | 'CARD_LOAN';
 export type LoanStatus = 'REQUESTED' | 'APPROVED' | 'DISBURSED' | 'REPAID' | 'CANCELED';
@@ -20,3 +20,11 @@ export interface PageResponse<T> {
   number: number;
   size: number;
 }
+
+/** 키셋 페이지 (다음 페이지는 nextCursor를 cursor로 전달) */
+export interface CursorPage<T> {
+  content: T[];
+  size: number;
+  hasNext: boolean;
+  nextCursor: number | null;
+}
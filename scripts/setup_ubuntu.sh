@@ -212,7 +212,7 @@ User=mycard
 Group=mycard
 WorkingDirectory=/opt/mycard/backend
 Environment="JAVA_HOME=/usr/lib/jvm/java-21-openjdk-amd64"
-Environment="DB_URL=jdbc:mysql://localhost:3306/mycard?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul"
+Environment="DB_URL=jdbc:mysql://localhost:3306/mycard?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul&rewriteBatchedStatements=true"
 Environment="DB_USERNAME=mycard"
 Environment="DB_PASSWORD=mycard_password"
 Environment="JWT_SECRET=your-256-bit-secret-key-for-jwt-signing-must-be-at-least-32-chars-long"